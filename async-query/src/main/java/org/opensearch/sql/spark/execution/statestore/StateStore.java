@@ -9,8 +9,10 @@ import com.google.common.annotations.VisibleForTesting;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.io.IOUtils;
@@ -24,12 +26,10 @@ import org.opensearch.action.delete.DeleteResponse;
 import org.opensearch.action.get.GetRequest;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.index.IndexRequest;
-import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.support.WriteRequest;
 import org.opensearch.action.update.UpdateRequest;
-import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.action.ActionFuture;
 import org.opensearch.common.util.concurrent.ThreadContext;
@@ -75,6 +75,20 @@ public class StateStore {
 
   private final Client client;
   private final ClusterService clusterService;
+  private final List<StateTransitionListener> listeners = new CopyOnWriteArrayList<>();
+  private final StateWriteBatcher refreshingWrites =
+      new StateWriteBatcher(WriteRequest.RefreshPolicy.WAIT_UNTIL);
+  private final StateWriteBatcher nonRefreshingWrites =
+      new StateWriteBatcher(WriteRequest.RefreshPolicy.NONE);
+
+  /**
+   * Register a listener notified of the state transitions made through this store.
+   *
+   * @param listener state transition listener
+   */
+  public void addListener(StateTransitionListener listener) {
+    listeners.add(listener);
+  }
 
   @VisibleForTesting
   public <T extends StateModel> T create(
@@ -90,17 +104,19 @@ public class StateStore {
               .source(serializer.toXContent(st, ToXContent.EMPTY_PARAMS))
               .setIfSeqNo(getSeqNo(st))
               .setIfPrimaryTerm(getPrimaryTerm(st))
-              .create(true)
-              .setRefreshPolicy(WriteRequest.RefreshPolicy.WAIT_UNTIL);
+              .create(true);
       try (ThreadContext.StoredContext ignored =
           client.threadPool().getThreadContext().stashContext()) {
-        IndexResponse indexResponse = client.index(indexRequest).actionGet();
+        DocWriteResponse indexResponse = writeBatcher(st).write(client, indexRequest);
         if (indexResponse.getResult().equals(DocWriteResponse.Result.CREATED)) {
           LOG.debug("Successfully created doc. id: {}", st.getId());
-          return builder.of(
-              st,
-              XContentSerializerUtil.buildMetadata(
-                  indexResponse.getSeqNo(), indexResponse.getPrimaryTerm()));
+          T created =
+              builder.of(
+                  st,
+                  XContentSerializerUtil.buildMetadata(
+                      indexResponse.getSeqNo(), indexResponse.getPrimaryTerm()));
+          listeners.forEach(listener -> listener.onTransition(null, created));
+          return created;
         } else {
           throw new RuntimeException(
               String.format(
@@ -123,7 +139,8 @@ public class StateStore {
         createIndex(indexName);
         return Optional.empty();
       }
-      GetRequest getRequest = new GetRequest().index(indexName).id(sid).refresh(true);
+      // realtime get reads the latest write without waiting for a refresh
+      GetRequest getRequest = new GetRequest().index(indexName).id(sid).realtime(true);
       try (ThreadContext.StoredContext ignored =
           client.threadPool().getThreadContext().stashContext()) {
         GetResponse getResponse = client.get(getRequest).actionGet();
@@ -160,23 +177,34 @@ public class StateStore {
               .setIfSeqNo(getSeqNo(model))
               .setIfPrimaryTerm(getPrimaryTerm(model))
               .doc(serializer.toXContent(model, ToXContent.EMPTY_PARAMS))
-              .fetchSource(true)
-              .setRefreshPolicy(WriteRequest.RefreshPolicy.WAIT_UNTIL);
+              .fetchSource(true);
       try (ThreadContext.StoredContext ignored =
           client.threadPool().getThreadContext().stashContext()) {
-        UpdateResponse updateResponse = client.update(updateRequest).actionGet();
+        DocWriteResponse updateResponse = writeBatcher(st).write(client, updateRequest);
         LOG.debug("Successfully update doc. id: {}", st.getId());
-        return builder.of(
-            model,
-            state,
-            XContentSerializerUtil.buildMetadata(
-                updateResponse.getSeqNo(), updateResponse.getPrimaryTerm()));
+        T updated =
+            builder.of(
+                model,
+                state,
+                XContentSerializerUtil.buildMetadata(
+                    updateResponse.getSeqNo(), updateResponse.getPrimaryTerm()));
+        listeners.forEach(listener -> listener.onTransition(st, updated));
+        return updated;
       }
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
   }
 
+  /**
+   * Sessions, statements, flint index states and DML results are searched, by the REPL job, the
+   * lease and metric counts and the result reader, so their writes wait for a refresh. Query job
+   * metadata is only read by id with realtime gets, so its writes do not.
+   */
+  private StateWriteBatcher writeBatcher(StateModel model) {
+    return model instanceof AsyncQueryJobMetadata ? nonRefreshingWrites : refreshingWrites;
+  }
+
   private long getSeqNo(StateModel model) {
     return model.getMetadataItem("seqNo", Long.class).orElse(SequenceNumbers.UNASSIGNED_SEQ_NO);
   }
@@ -206,7 +234,11 @@ public class StateStore {
           client.threadPool().getThreadContext().stashContext()) {
         DeleteRequest deleteRequest = new DeleteRequest(indexName, sid);
         DeleteResponse deleteResponse = client.delete(deleteRequest).actionGet();
-        return deleteResponse.getResult() == DocWriteResponse.Result.DELETED;
+        boolean deleted = deleteResponse.getResult() == DocWriteResponse.Result.DELETED;
+        if (deleted) {
+          listeners.forEach(listener -> listener.onDelete(sid));
+        }
+        return deleted;
       }
     } catch (Exception e) {
       throw new RuntimeException(
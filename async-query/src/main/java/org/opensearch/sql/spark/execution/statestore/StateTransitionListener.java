@@ -0,0 +1,25 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.spark.execution.statestore;
+
+/** Listener of the state documents written by {@link StateStore}. */
+public interface StateTransitionListener {
+
+  /**
+   * Called after a state document is created or updated.
+   *
+   * @param previous model before the transition, or null if the document was created
+   * @param current model after the transition
+   */
+  void onTransition(StateModel previous, StateModel current);
+
+  /**
+   * Called after a state document is deleted.
+   *
+   * @param docId state document ID
+   */
+  default void onDelete(String docId) {}
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.spark.execution.statestore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.DocWriteResponse;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.support.WriteRequest;
+import org.opensearch.transport.client.Client;
+
+/**
+ * Sends the state document writes of concurrent callers in shared bulk requests. A caller finding
+ * no bulk in flight sends all the writes queued so far, including its own, while the callers
+ * arriving meanwhile wait and are sent together by the next one. A single writer is therefore not
+ * delayed, and concurrent writers share the round trip and, with a refresh policy, the refresh.
+ */
+@RequiredArgsConstructor
+class StateWriteBatcher {
+  static final int MAX_BULK_ACTIONS = 100;
+
+  private final WriteRequest.RefreshPolicy refreshPolicy;
+  private final Queue<PendingWrite> queue = new ConcurrentLinkedQueue<>();
+  private final Object lock = new Object();
+  private boolean flushing;
+
+  /**
+   * Write the document and wait for its response.
+   *
+   * @param client client to send the bulk request with
+   * @param request index or update request of a state document
+   * @return response of the request
+   */
+  DocWriteResponse write(Client client, DocWriteRequest<?> request) {
+    PendingWrite pending = new PendingWrite(request);
+    queue.add(pending);
+    while (!pending.response.isDone()) {
+      synchronized (lock) {
+        while (flushing && !pending.response.isDone()) {
+          try {
+            lock.wait();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for state write", e);
+          }
+        }
+        if (pending.response.isDone()) {
+          break;
+        }
+        flushing = true;
+      }
+      try {
+        flush(client);
+      } finally {
+        synchronized (lock) {
+          flushing = false;
+          lock.notifyAll();
+        }
+      }
+    }
+    try {
+      return pending.response.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new RuntimeException(e.getCause());
+    }
+  }
+
+  private void flush(Client client) {
+    List<PendingWrite> batch = new ArrayList<>();
+    BulkRequest bulkRequest = new BulkRequest().setRefreshPolicy(refreshPolicy);
+    PendingWrite next;
+    while (batch.size() < MAX_BULK_ACTIONS && (next = queue.poll()) != null) {
+      batch.add(next);
+      bulkRequest.add(next.request);
+    }
+    if (batch.isEmpty()) {
+      return;
+    }
+    BulkItemResponse[] items;
+    try {
+      BulkResponse bulkResponse = client.bulk(bulkRequest).actionGet();
+      items = bulkResponse.getItems();
+    } catch (RuntimeException e) {
+      batch.forEach(pending -> pending.response.completeExceptionally(e));
+      return;
+    }
+    for (int i = 0; i < batch.size(); i++) {
+      if (items[i].isFailed()) {
+        batch.get(i).response.completeExceptionally(items[i].getFailure().getCause());
+      } else {
+        batch.get(i).response.complete(items[i].getResponse());
+      }
+    }
+  }
+
+  @RequiredArgsConstructor
+  private static class PendingWrite {
+    private final DocWriteRequest<?> request;
+    private final CompletableFuture<DocWriteResponse> response = new CompletableFuture<>();
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.spark.leasemanager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.opensearch.sql.spark.execution.statestore.StateModel;
+import org.opensearch.sql.spark.execution.statestore.StateTransitionListener;
+
+/**
+ * In-memory count of active state documents, e.g. running sessions, for the lease checks. It is
+ * kept up to date from the transitions made through the state store of this node, and reconciled
+ * with a count search once the reconcile interval has passed, to pick up the transitions made
+ * elsewhere such as by the Spark job or another node.
+ */
+class ActiveCounter implements StateTransitionListener {
+  private final Supplier<Long> countSearch;
+  private final Predicate<StateModel> isActive;
+  private final long reconcileIntervalNanos;
+  private final LongSupplier nanoClock;
+  private final AtomicLong count = new AtomicLong();
+  private volatile boolean stale = true;
+  private volatile long reconciledAt;
+
+  ActiveCounter(
+      Supplier<Long> countSearch, Predicate<StateModel> isActive, Duration reconcileInterval) {
+    this(countSearch, isActive, reconcileInterval, System::nanoTime);
+  }
+
+  ActiveCounter(
+      Supplier<Long> countSearch,
+      Predicate<StateModel> isActive,
+      Duration reconcileInterval,
+      LongSupplier nanoClock) {
+    this.countSearch = countSearch;
+    this.isActive = isActive;
+    this.reconcileIntervalNanos = reconcileInterval.toNanos();
+    this.nanoClock = nanoClock;
+  }
+
+  /** Current count, searched again if it is stale. */
+  long get() {
+    if (needsReconcile()) {
+      reconcile();
+    }
+    return Math.max(0, count.get());
+  }
+
+  @Override
+  public void onTransition(StateModel previous, StateModel current) {
+    int delta = (isActive(current) ? 1 : 0) - (isActive(previous) ? 1 : 0);
+    if (delta != 0) {
+      count.addAndGet(delta);
+    }
+  }
+
+  /** The state of a deleted document is unknown, so search the count again on next use. */
+  @Override
+  public void onDelete(String docId) {
+    stale = true;
+  }
+
+  private boolean needsReconcile() {
+    return stale || nanoClock.getAsLong() - reconciledAt >= reconcileIntervalNanos;
+  }
+
+  private synchronized void reconcile() {
+    if (!needsReconcile()) {
+      return;
+    }
+    count.set(countSearch.get());
+    reconciledAt = nanoClock.getAsLong();
+    stale = false;
+  }
+
+  private boolean isActive(StateModel model) {
+    return model != null && isActive.test(model);
+  }
+}
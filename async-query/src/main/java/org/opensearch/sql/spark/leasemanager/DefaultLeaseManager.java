@@ -11,6 +11,7 @@ import static org.opensearch.sql.spark.execution.statestore.StateStore.ALL_DATAS
 import static org.opensearch.sql.spark.execution.statestore.StateStore.activeRefreshJobCount;
 import static org.opensearch.sql.spark.execution.statestore.StateStore.activeSessionsCount;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
@@ -18,7 +19,12 @@ import java.util.function.Predicate;
 import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.spark.dispatcher.model.JobType;
+import org.opensearch.sql.spark.execution.session.SessionModel;
+import org.opensearch.sql.spark.execution.session.SessionState;
+import org.opensearch.sql.spark.execution.session.SessionType;
 import org.opensearch.sql.spark.execution.statestore.StateStore;
+import org.opensearch.sql.spark.flint.FlintIndexState;
+import org.opensearch.sql.spark.flint.FlintIndexStateModel;
 import org.opensearch.sql.spark.leasemanager.model.LeaseRequest;
 
 /**
@@ -26,9 +32,13 @@ import org.opensearch.sql.spark.leasemanager.model.LeaseRequest;
  * <li>QueryHandler borrow lease before execute the query.
  * <li>LeaseManagerService check request against domain level concurrent limit.
  * <li>LeaseManagerService running on data node and check limit based on cluster settings.
+ * <li>Active counts are kept in memory from the state transitions and reconciled periodically.
  */
 public class DefaultLeaseManager implements LeaseManager {
 
+  /** Interval after which the active counts are searched again from the state index. */
+  static final Duration ACTIVE_COUNT_RECONCILE_INTERVAL = Duration.ofSeconds(10);
+
   private final List<Rule<LeaseRequest>> concurrentLimitRules;
   private final Settings settings;
   private final StateStore stateStore;
@@ -36,10 +46,27 @@ public class DefaultLeaseManager implements LeaseManager {
   public DefaultLeaseManager(Settings settings, StateStore stateStore) {
     this.settings = settings;
     this.stateStore = stateStore;
+    ActiveCounter activeSessions =
+        new ActiveCounter(
+            activeSessionsCount(stateStore, ALL_DATASOURCE),
+            model ->
+                model instanceof SessionModel session
+                    && session.getSessionType() == SessionType.INTERACTIVE
+                    && session.getSessionState() == SessionState.RUNNING,
+            ACTIVE_COUNT_RECONCILE_INTERVAL);
+    ActiveCounter activeRefreshJobs =
+        new ActiveCounter(
+            activeRefreshJobCount(stateStore, ALL_DATASOURCE),
+            model ->
+                model instanceof FlintIndexStateModel index
+                    && index.getIndexState() == FlintIndexState.REFRESHING,
+            ACTIVE_COUNT_RECONCILE_INTERVAL);
+    stateStore.addListener(activeSessions);
+    stateStore.addListener(activeRefreshJobs);
     this.concurrentLimitRules =
         Arrays.asList(
-            new ConcurrentSessionRule(settings, stateStore),
-            new ConcurrentRefreshJobRule(settings, stateStore));
+            new ConcurrentSessionRule(settings, activeSessions),
+            new ConcurrentRefreshJobRule(settings, activeRefreshJobs));
   }
 
   @Override
@@ -58,7 +85,7 @@ public class DefaultLeaseManager implements LeaseManager {
   @RequiredArgsConstructor
   public static class ConcurrentSessionRule implements Rule<LeaseRequest> {
     private final Settings settings;
-    private final StateStore stateStore;
+    private final ActiveCounter activeSessions;
 
     @Override
     public String description() {
@@ -71,7 +98,7 @@ public class DefaultLeaseManager implements LeaseManager {
       if (leaseRequest.getJobType() != JobType.INTERACTIVE) {
         return true;
       }
-      return activeSessionsCount(stateStore, ALL_DATASOURCE).get() < sessionMaxLimit();
+      return activeSessions.get() < sessionMaxLimit();
     }
 
     public int sessionMaxLimit() {
@@ -82,7 +109,7 @@ public class DefaultLeaseManager implements LeaseManager {
   @RequiredArgsConstructor
   public static class ConcurrentRefreshJobRule implements Rule<LeaseRequest> {
     private final Settings settings;
-    private final StateStore stateStore;
+    private final ActiveCounter activeRefreshJobs;
 
     @Override
     public String description() {
@@ -96,7 +123,7 @@ public class DefaultLeaseManager implements LeaseManager {
           && leaseRequest.getJobType() != JobType.STREAMING) {
         return true;
       }
-      return activeRefreshJobCount(stateStore, ALL_DATASOURCE).get() < refreshJobLimit();
+      return activeRefreshJobs.get() < refreshJobLimit();
     }
 
     public int refreshJobLimit() {
@@ -276,7 +276,6 @@ public class AsyncQueryExecutorServiceSpec extends OpenSearchIntegTestCase {
   protected AsyncQueryExecutorService createAsyncQueryExecutorService(
       EMRServerlessClientFactory emrServerlessClientFactory,
       JobExecutionResponseReader jobExecutionResponseReader) {
-    StateStore stateStore = new StateStore(client, clusterService);
     AsyncQueryJobMetadataStorageService asyncQueryJobMetadataStorageService =
         new OpenSearchAsyncQueryJobMetadataStorageService(
             stateStore, new AsyncQueryJobMetadataXContentSerializer());
@@ -0,0 +1,73 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.spark.execution.statestore;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.action.DocWriteResponse;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.support.WriteRequest;
+import org.opensearch.common.action.ActionFuture;
+import org.opensearch.transport.client.Client;
+
+@ExtendWith(MockitoExtension.class)
+class StateWriteBatcherTest {
+  @Mock private Client client;
+  @Mock private ActionFuture<BulkResponse> future;
+  @Mock private BulkResponse bulkResponse;
+  @Mock private BulkItemResponse item;
+  @Mock private DocWriteResponse response;
+
+  @Test
+  public void writeIsSentInBulkWithRefreshPolicy() {
+    when(client.bulk(any())).thenReturn(future);
+    when(future.actionGet()).thenReturn(bulkResponse);
+    when(bulkResponse.getItems()).thenReturn(new BulkItemResponse[] {item});
+    when(item.isFailed()).thenReturn(false);
+    when(item.<DocWriteResponse>getResponse()).thenReturn(response);
+    StateWriteBatcher batcher = new StateWriteBatcher(WriteRequest.RefreshPolicy.NONE);
+
+    IndexRequest request = new IndexRequest("index").id("id");
+    assertSame(response, batcher.write(client, request));
+
+    ArgumentCaptor<BulkRequest> captor = ArgumentCaptor.forClass(BulkRequest.class);
+    verify(client).bulk(captor.capture());
+    assertEquals(WriteRequest.RefreshPolicy.NONE, captor.getValue().getRefreshPolicy());
+    assertEquals(1, captor.getValue().requests().size());
+    assertSame(request, captor.getValue().requests().get(0));
+  }
+
+  @Test
+  public void failedItemThrowsItsCause() {
+    IllegalStateException conflict = new IllegalStateException("version conflict");
+    BulkItemResponse.Failure failure = new BulkItemResponse.Failure("index", "id", conflict);
+    when(client.bulk(any())).thenReturn(future);
+    when(future.actionGet()).thenReturn(bulkResponse);
+    when(bulkResponse.getItems()).thenReturn(new BulkItemResponse[] {item});
+    when(item.isFailed()).thenReturn(true);
+    when(item.getFailure()).thenReturn(failure);
+    StateWriteBatcher batcher = new StateWriteBatcher(WriteRequest.RefreshPolicy.WAIT_UNTIL);
+
+    assertSame(
+        conflict,
+        assertThrows(
+            IllegalStateException.class,
+            () -> batcher.write(client, new IndexRequest("index").id("id"))));
+  }
+}
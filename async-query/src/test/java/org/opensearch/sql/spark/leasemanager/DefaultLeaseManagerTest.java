@@ -6,16 +6,27 @@
 package org.opensearch.sql.spark.leasemanager;
 
 import static org.junit.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.spark.dispatcher.model.JobType;
+import org.opensearch.sql.spark.execution.session.SessionModel;
+import org.opensearch.sql.spark.execution.session.SessionState;
+import org.opensearch.sql.spark.execution.session.SessionType;
 import org.opensearch.sql.spark.execution.statestore.StateStore;
+import org.opensearch.sql.spark.execution.statestore.StateTransitionListener;
 import org.opensearch.sql.spark.leasemanager.model.LeaseRequest;
 
 @ExtendWith(MockitoExtension.class)
@@ -54,6 +65,69 @@ class DefaultLeaseManagerTest {
     defaultLeaseManager.borrow(getLeaseRequest(JobType.REFRESH));
   }
 
+  @Test
+  public void leaseManagerCountsSessionTransitions() {
+    when(stateStore.count(any(), any())).thenReturn(0L);
+    when(settings.getSettingValue(any())).thenReturn(1);
+    DefaultLeaseManager defaultLeaseManager = new DefaultLeaseManager(settings, stateStore);
+    StateTransitionListener activeSessions = listeners().get(0);
+
+    defaultLeaseManager.borrow(getLeaseRequest(JobType.INTERACTIVE));
+    activeSessions.onTransition(session(SessionState.NOT_STARTED), session(SessionState.RUNNING));
+    assertThrows(
+        ConcurrencyLimitExceededException.class,
+        () -> defaultLeaseManager.borrow(getLeaseRequest(JobType.INTERACTIVE)));
+
+    activeSessions.onTransition(session(SessionState.RUNNING), session(SessionState.DEAD));
+    defaultLeaseManager.borrow(getLeaseRequest(JobType.INTERACTIVE));
+    verify(stateStore, times(1)).count(any(), any());
+  }
+
+  @Test
+  public void leaseManagerSearchesCountAgainAfterDelete() {
+    when(stateStore.count(any(), any())).thenReturn(0L, 1L);
+    when(settings.getSettingValue(any())).thenReturn(1);
+    DefaultLeaseManager defaultLeaseManager = new DefaultLeaseManager(settings, stateStore);
+    StateTransitionListener activeSessions = listeners().get(0);
+
+    defaultLeaseManager.borrow(getLeaseRequest(JobType.INTERACTIVE));
+    activeSessions.onDelete("sessionId");
+    assertThrows(
+        ConcurrencyLimitExceededException.class,
+        () -> defaultLeaseManager.borrow(getLeaseRequest(JobType.INTERACTIVE)));
+    verify(stateStore, times(2)).count(any(), any());
+  }
+
+  @Test
+  public void activeCounterReconcilesAfterInterval() {
+    AtomicLong now = new AtomicLong();
+    AtomicLong searched = new AtomicLong(5);
+    ActiveCounter counter =
+        new ActiveCounter(searched::get, model -> true, Duration.ofSeconds(10), now::get);
+
+    assertEquals(5, counter.get());
+    searched.set(7);
+    now.set(Duration.ofSeconds(9).toNanos());
+    assertEquals(5, counter.get());
+    now.set(Duration.ofSeconds(10).toNanos());
+    assertEquals(7, counter.get());
+  }
+
+  private List<StateTransitionListener> listeners() {
+    ArgumentCaptor<StateTransitionListener> captor =
+        ArgumentCaptor.forClass(StateTransitionListener.class);
+    verify(stateStore, times(2)).addListener(captor.capture());
+    return captor.getAllValues();
+  }
+
+  private SessionModel session(SessionState state) {
+    return SessionModel.builder()
+        .sessionType(SessionType.INTERACTIVE)
+        .sessionId("sessionId")
+        .sessionState(state)
+        .build();
+  }
+
   private LeaseRequest getLeaseRequest(JobType jobType) {
     return new LeaseRequest(jobType, "mys3");
   }
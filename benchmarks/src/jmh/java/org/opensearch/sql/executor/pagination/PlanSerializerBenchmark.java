@@ -0,0 +1,201 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor.pagination;
+
+import static org.opensearch.index.query.QueryBuilders.boolQuery;
+import static org.opensearch.index.query.QueryBuilders.rangeQuery;
+import static org.opensearch.index.query.QueryBuilders.termQuery;
+
+import com.google.common.hash.HashCode;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.SortOrder;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.planner.SerializablePlan;
+import org.opensearch.sql.planner.physical.ProjectOperator;
+import org.opensearch.sql.storage.TableScanOperator;
+
+/**
+ * Compares the cursor encoding of {@link PlanSerializer}, which writes the plan tree explicitly,
+ * deflates it at the fastest level and base64url encodes it, with the legacy one, Java serialized,
+ * gzipped at the best compression and hex encoded. The cursor is a projection over a scan of a PIT
+ * search request with search_after, as paged queries produce. The encode benchmarks report the size
+ * of the cursor as the cursorChars counter.
+ */
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class PlanSerializerBenchmark {
+
+  /** Number of columns projected, and included in the search request. */
+  @Param({"5", "50"})
+  private int columns;
+
+  private final PlanSerializer planSerializer = new PlanSerializer(null);
+
+  private ProjectOperator plan;
+
+  private String cursor;
+
+  private String legacyCursor;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    List<String> names =
+        IntStream.range(0, columns).mapToObj(i -> "column" + i).collect(Collectors.toList());
+    List<NamedExpression> projectList =
+        names.stream()
+            .map(name -> DSL.named(name, DSL.ref(name, ExprCoreType.STRING)))
+            .collect(Collectors.toList());
+    SearchSourceBuilder request =
+        new SearchSourceBuilder()
+            .query(
+                boolQuery()
+                    .filter(rangeQuery("@timestamp").gte("2024-01-01T00:00:00.000Z"))
+                    .must(termQuery("status", 200)))
+            .size(100)
+            .sort("_doc", SortOrder.ASC)
+            .sort("_id", SortOrder.ASC)
+            .searchAfter(new Object[] {12345L, "Q2hhbmdlZCBpZA"})
+            .fetchSource(names.toArray(String[]::new), null);
+    plan = new ProjectOperator(new PagedScan(request.toString()), projectList, List.of());
+
+    cursor = planSerializer.serialize(plan);
+    legacyCursor = legacySerialize(plan);
+  }
+
+  @Benchmark
+  public String encode(CursorSize size) throws IOException {
+    String encoded = planSerializer.serialize(plan);
+    size.cursorChars = encoded.length();
+    return encoded;
+  }
+
+  @Benchmark
+  public String encodeLegacy(CursorSize size) throws IOException {
+    String encoded = legacySerialize(plan);
+    size.cursorChars = encoded.length();
+    return encoded;
+  }
+
+  @Benchmark
+  public Serializable decode() {
+    return planSerializer.deserialize(cursor);
+  }
+
+  @Benchmark
+  public Serializable decodeLegacy() throws IOException, ClassNotFoundException {
+    return legacyDeserialize(legacyCursor);
+  }
+
+  /** Encoding of the cursors before they were versioned. */
+  private static String legacySerialize(Serializable object) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    ObjectOutputStream objectOutput = new ObjectOutputStream(output);
+    objectOutput.writeObject(object);
+    objectOutput.flush();
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    GZIPOutputStream gzip =
+        new GZIPOutputStream(out) {
+          {
+            this.def.setLevel(Deflater.BEST_COMPRESSION);
+          }
+        };
+    gzip.write(output.toByteArray());
+    gzip.close();
+    return HashCode.fromBytes(out.toByteArray()).toString();
+  }
+
+  private static Serializable legacyDeserialize(String code)
+      throws IOException, ClassNotFoundException {
+    GZIPInputStream gzip =
+        new GZIPInputStream(new ByteArrayInputStream(HashCode.fromString(code).asBytes()));
+    ObjectInputStream objectInput =
+        new ObjectInputStream(new ByteArrayInputStream(gzip.readAllBytes()));
+    return (Serializable) objectInput.readObject();
+  }
+
+  /** Size of the cursors encoded, reported next to the time of the encode benchmarks. */
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class CursorSize {
+
+    /** Number of characters of the last cursor encoded, which is the same for every call. */
+    public long cursorChars;
+  }
+
+  /** Scan of a paged search request, serialized like the index scan of the OpenSearch storage. */
+  public static class PagedScan extends TableScanOperator implements SerializablePlan {
+
+    private String request;
+
+    public PagedScan(String request) {
+      this.request = request;
+    }
+
+    /** No-args constructor for deserialization. */
+    public PagedScan() {}
+
+    @Override
+    public String explain() {
+      return request;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return false;
+    }
+
+    @Override
+    public ExprValue next() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+      out.writeUTF(request);
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException {
+      request = in.readUTF();
+    }
+  }
+}
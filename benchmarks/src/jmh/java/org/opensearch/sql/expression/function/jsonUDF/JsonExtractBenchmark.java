@@ -0,0 +1,97 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.function.jsonUDF;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures extracting several fields from a nested log payload, either with one json_extract per
+ * field as evaluated before merging, or with a single json_extract_all over all the fields.
+ */
+@Warmup(iterations = 1)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class JsonExtractBenchmark {
+
+  private static final List<String> PATHS =
+      List.of(
+          "timestamp",
+          "level",
+          "service.name",
+          "http.request.method",
+          "http.response.status_code",
+          "trace.spans{0}.duration_ms",
+          "trace.spans{}.name",
+          "user.geo.country");
+
+  @Param({"4", "8"})
+  private int pathCount;
+
+  @Param({"8", "64"})
+  private int spanCount;
+
+  private String payload;
+
+  private Object[] extractAllArgs;
+
+  @Setup
+  public void setUp() {
+    StringBuilder spans = new StringBuilder();
+    for (int i = 0; i < spanCount; i++) {
+      if (i > 0) {
+        spans.append(',');
+      }
+      spans.append(
+          String.format(
+              "{\"name\":\"span-%d\",\"duration_ms\":%d,\"attributes\":{\"db\":\"orders\","
+                  + "\"rows\":%d,\"cached\":%b}}",
+              i, i * 3, i * 10, i % 2 == 0));
+    }
+    payload =
+        "{\"timestamp\":\"2024-05-01T12:00:00Z\",\"level\":\"ERROR\","
+            + "\"service\":{\"name\":\"checkout\",\"version\":\"1.4.2\"},"
+            + "\"http\":{\"request\":{\"method\":\"POST\",\"path\":\"/api/orders\","
+            + "\"headers\":{\"user-agent\":\"curl/8.0\",\"accept\":\"*/*\"}},"
+            + "\"response\":{\"status_code\":503,\"bytes\":1024}},"
+            + "\"trace\":{\"id\":\"4bf92f3577b34da6\",\"spans\":["
+            + spans
+            + "]},"
+            + "\"user\":{\"id\":42,\"geo\":{\"country\":\"NZ\",\"city\":\"Auckland\"}}}";
+    extractAllArgs = new Object[pathCount + 1];
+    extractAllArgs[0] = payload;
+    for (int i = 0; i < pathCount; i++) {
+      extractAllArgs[i + 1] = PATHS.get(i);
+    }
+  }
+
+  @Benchmark
+  public void extractPerPath(Blackhole blackhole) {
+    for (int i = 0; i < pathCount; i++) {
+      blackhole.consume(JsonExtractFunctionImpl.eval(payload, PATHS.get(i)));
+    }
+  }
+
+  @Benchmark
+  public void extractAllPaths(Blackhole blackhole) {
+    blackhole.consume(JsonExtractAllFunctionImpl.eval(extractAllArgs));
+  }
+}
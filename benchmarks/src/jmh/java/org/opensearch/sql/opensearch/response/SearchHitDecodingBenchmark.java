@@ -0,0 +1,122 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.response;
+
+import java.lang.reflect.Proxy;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.lucene.search.TotalHits;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.monitor.ResourceMonitor;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexEnumerator;
+
+/**
+ * Measures the time and, with the gc profiler, the allocation per row of turning search hits into
+ * rows: constructing the values of a document from its source, iterating the rows of a response,
+ * and reading the columns of each row through the Calcite enumerator of the index scan.
+ */
+@Warmup(iterations = 1)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class SearchHitDecodingBenchmark {
+
+  private static final int HITS = 1_000;
+
+  private static final ResourceMonitor HEALTHY =
+      new ResourceMonitor() {
+        @Override
+        public boolean isHealthy() {
+          return true;
+        }
+      };
+
+  @Param({"WIDE_LOGS", "NESTED_OBJECTS", "ARRAYS", "GEO_POINTS", "DATE_FORMATS"})
+  private SearchHitFixture fixture;
+
+  private OpenSearchExprValueFactory factory;
+
+  private List<String> fields;
+
+  private SearchHits hits;
+
+  private String[] sources;
+
+  @Setup
+  public void setUp() {
+    factory = fixture.valueFactory();
+    fields = fixture.fields();
+    hits = fixture.hits(HITS);
+    sources = new String[HITS];
+    for (int i = 0; i < HITS; i++) {
+      sources[i] = hits.getHits()[i].getSourceAsString();
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(HITS)
+  public void constructValue(Blackhole blackhole) {
+    for (String source : sources) {
+      blackhole.consume(factory.construct(source, false));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(HITS)
+  public void responseIterator(Blackhole blackhole) {
+    Iterator<ExprValue> rows = new OpenSearchResponse(hits, factory, fields).iterator();
+    while (rows.hasNext()) {
+      blackhole.consume(rows.next());
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(HITS)
+  public void enumeratorCurrent(Blackhole blackhole) {
+    OpenSearchIndexEnumerator enumerator =
+        new OpenSearchIndexEnumerator(singlePageClient(), fields, HITS, null, HEALTHY);
+    while (enumerator.moveNext()) {
+      blackhole.consume(enumerator.current());
+    }
+  }
+
+  /** Client serving the fixture as the first page of the search and nothing after it. */
+  private OpenSearchClient singlePageClient() {
+    SearchHits[] pages = {
+      hits, new SearchHits(new SearchHit[0], new TotalHits(0, TotalHits.Relation.EQUAL_TO), 0)
+    };
+    int[] page = {0};
+    return (OpenSearchClient)
+        Proxy.newProxyInstance(
+            OpenSearchClient.class.getClassLoader(),
+            new Class<?>[] {OpenSearchClient.class},
+            (proxy, method, args) ->
+                "search".equals(method.getName())
+                    ? new OpenSearchResponse(
+                        pages[Math.min(page[0]++, pages.length - 1)], factory, fields)
+                    : null);
+  }
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.response;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+
+/**
+ * Search hits shaped like the documents of typical indices, shared by the benchmarks that decode
+ * hits into rows and format rows into responses. The documents are generated from a fixed seed so
+ * every run decodes the same bytes.
+ */
+public enum SearchHitFixture {
+  /** Flat web access logs with many top level fields. */
+  WIDE_LOGS {
+    @Override
+    Map<String, Object> mapping() {
+      Map<String, Object> properties = new LinkedHashMap<>();
+      properties.put("@timestamp", Map.of("type", "date"));
+      properties.put("host", Map.of("type", "keyword"));
+      properties.put("clientip", Map.of("type", "ip"));
+      properties.put("message", Map.of("type", "text"));
+      properties.put("status", Map.of("type", "integer"));
+      properties.put("bytes", Map.of("type", "long"));
+      properties.put("latency", Map.of("type", "double"));
+      properties.put("cached", Map.of("type", "boolean"));
+      for (int i = 0; i < WIDE_EXTRA_FIELDS; i++) {
+        properties.put("label_" + i, Map.of("type", "keyword"));
+        properties.put("metric_" + i, Map.of("type", "long"));
+      }
+      return properties;
+    }
+
+    @Override
+    String document(Random random) {
+      StringBuilder source = new StringBuilder();
+      source
+          .append("{\"@timestamp\":\"2024-07-01T")
+          .append(twoDigits(random.nextInt(24)))
+          .append(':')
+          .append(twoDigits(random.nextInt(60)))
+          .append(":00Z\",\"host\":\"web-")
+          .append(random.nextInt(8))
+          .append("\",\"clientip\":\"10.0.")
+          .append(random.nextInt(16))
+          .append('.')
+          .append(random.nextInt(256))
+          .append("\",\"message\":\"GET /api/v1/items/")
+          .append(random.nextInt(100_000))
+          .append(" HTTP/1.1\",\"status\":")
+          .append(random.nextInt(10) == 0 ? 503 : 200)
+          .append(",\"bytes\":")
+          .append(random.nextInt(64 * 1024))
+          .append(",\"latency\":")
+          .append(random.nextDouble() * 1000)
+          .append(",\"cached\":")
+          .append(random.nextBoolean());
+      for (int i = 0; i < WIDE_EXTRA_FIELDS; i++) {
+        source.append(",\"label_").append(i).append("\":\"value-").append(random.nextInt(50));
+        source.append("\",\"metric_").append(i).append("\":").append(random.nextLong());
+      }
+      return source.append('}').toString();
+    }
+  },
+
+  /** Documents with objects nested a few levels deep. */
+  NESTED_OBJECTS {
+    @Override
+    Map<String, Object> mapping() {
+      return Map.of(
+          "user",
+          Map.of(
+              "properties",
+              Map.of(
+                  "id", Map.of("type", "long"),
+                  "name", Map.of("type", "keyword"),
+                  "address",
+                      Map.of(
+                          "properties",
+                          Map.of(
+                              "city", Map.of("type", "keyword"),
+                              "zip", Map.of("type", "keyword"))))),
+          "request",
+          Map.of(
+              "properties",
+              Map.of(
+                  "method", Map.of("type", "keyword"),
+                  "path", Map.of("type", "keyword"),
+                  "headers",
+                      Map.of(
+                          "properties",
+                          Map.of(
+                              "user_agent", Map.of("type", "text"),
+                              "content_length", Map.of("type", "integer"))))));
+    }
+
+    @Override
+    String document(Random random) {
+      return String.format(
+          "{\"user\":{\"id\":%d,\"name\":\"user-%d\",\"address\":{\"city\":\"city-%d\","
+              + "\"zip\":\"%05d\"}},\"request\":{\"method\":\"%s\",\"path\":\"/orders/%d\","
+              + "\"headers\":{\"user_agent\":\"Mozilla/5.0 (X11; Linux x86_64)\","
+              + "\"content_length\":%d}}}",
+          random.nextInt(1_000_000),
+          random.nextInt(1000),
+          random.nextInt(100),
+          random.nextInt(100_000),
+          random.nextBoolean() ? "GET" : "POST",
+          random.nextInt(100_000),
+          random.nextInt(4096));
+    }
+  },
+
+  /** Documents with arrays of values and of objects. */
+  ARRAYS {
+    @Override
+    Map<String, Object> mapping() {
+      return Map.of(
+          "tags", Map.of("type", "keyword"),
+          "samples", Map.of("type", "long"),
+          "events",
+              Map.of(
+                  "type",
+                  "nested",
+                  "properties",
+                  Map.of("name", Map.of("type", "keyword"), "value", Map.of("type", "double"))));
+    }
+
+    @Override
+    String document(Random random) {
+      StringBuilder source = new StringBuilder("{\"tags\":[");
+      for (int i = 0; i < 5; i++) {
+        source.append(i == 0 ? "" : ",").append("\"tag-").append(random.nextInt(20)).append('"');
+      }
+      source.append("],\"samples\":[");
+      for (int i = 0; i < 10; i++) {
+        source.append(i == 0 ? "" : ",").append(random.nextInt(10_000));
+      }
+      source.append("],\"events\":[");
+      for (int i = 0; i < 3; i++) {
+        source
+            .append(i == 0 ? "" : ",")
+            .append("{\"name\":\"event-")
+            .append(random.nextInt(10))
+            .append("\",\"value\":")
+            .append(random.nextDouble());
+        source.append('}');
+      }
+      return source.append("]}").toString();
+    }
+  },
+
+  /** Documents with geo points in both the object and the string notation. */
+  GEO_POINTS {
+    @Override
+    Map<String, Object> mapping() {
+      return Map.of(
+          "name", Map.of("type", "keyword"),
+          "location", Map.of("type", "geo_point"),
+          "destination", Map.of("type", "geo_point"));
+    }
+
+    @Override
+    String document(Random random) {
+      return String.format(
+          "{\"name\":\"place-%d\",\"location\":{\"lat\":%.6f,\"lon\":%.6f},"
+              + "\"destination\":\"%.6f,%.6f\"}",
+          random.nextInt(10_000),
+          random.nextDouble() * 180 - 90,
+          random.nextDouble() * 360 - 180,
+          random.nextDouble() * 180 - 90,
+          random.nextDouble() * 360 - 180);
+    }
+  },
+
+  /** Documents with dates in the default, epoch, custom and nanosecond formats. */
+  DATE_FORMATS {
+    @Override
+    Map<String, Object> mapping() {
+      return Map.of(
+          "created", Map.of("type", "date"),
+          "updated", Map.of("type", "date", "format", "epoch_millis"),
+          "logged", Map.of("type", "date", "format", "yyyy/MM/dd HH:mm:ss||epoch_millis"),
+          "observed", Map.of("type", "date_nanos"),
+          "day", Map.of("type", "date", "format", "strict_date"));
+    }
+
+    @Override
+    String document(Random random) {
+      long millis = 1_719_792_000_000L + random.nextInt(86_400_000);
+      return String.format(
+          "{\"created\":\"2024-07-01T%02d:%02d:%02d.%03dZ\",\"updated\":%d,"
+              + "\"logged\":\"2024/07/01 %02d:%02d:%02d\","
+              + "\"observed\":\"2024-07-01T10:15:30.%09dZ\",\"day\":\"2024-07-%02d\"}",
+          random.nextInt(24),
+          random.nextInt(60),
+          random.nextInt(60),
+          random.nextInt(1000),
+          millis,
+          random.nextInt(24),
+          random.nextInt(60),
+          random.nextInt(60),
+          random.nextInt(1_000_000_000),
+          1 + random.nextInt(31));
+    }
+  };
+
+  private static final int WIDE_EXTRA_FIELDS = 12;
+
+  /** Index mapping in the shape returned by the get mapping API, without the outer properties. */
+  abstract Map<String, Object> mapping();
+
+  /** Source of a document matching the mapping. */
+  abstract String document(Random random);
+
+  /** Types of the fields in the index mapping. */
+  public Map<String, OpenSearchDataType> typeMapping() {
+    return OpenSearchDataType.parseMapping(mapping());
+  }
+
+  /** Value factory decoding the documents of the fixture as the index scan does. */
+  public OpenSearchExprValueFactory valueFactory() {
+    return new OpenSearchExprValueFactory(typeMapping(), true);
+  }
+
+  /** Top level fields of the fixture, in the order of the mapping. */
+  public List<String> fields() {
+    return new ArrayList<>(typeMapping().keySet());
+  }
+
+  /** Result schema of the top level fields of the fixture. */
+  public ExecutionEngine.Schema schema() {
+    return new ExecutionEngine.Schema(
+        typeMapping().entrySet().stream()
+            .map(e -> new ExecutionEngine.Schema.Column(e.getKey(), null, e.getValue()))
+            .collect(Collectors.toList()));
+  }
+
+  /** Search hits of the given number of documents generated from a fixed seed. */
+  public SearchHits hits(int size) {
+    Random random = new Random(42);
+    SearchHit[] hits = new SearchHit[size];
+    for (int i = 0; i < size; i++) {
+      SearchHit hit = new SearchHit(i, String.valueOf(i), Map.of(), Map.of());
+      hit.sourceRef(new BytesArray(document(random)));
+      hit.score(1.0F);
+      hits[i] = hit;
+    }
+    return new SearchHits(hits, new TotalHits(size, TotalHits.Relation.EQUAL_TO), 1.0F);
+  }
+
+  private static String twoDigits(int value) {
+    return value < 10 ? "0" + value : String.valueOf(value);
+  }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.script;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.apache.calcite.DataContext;
+import org.apache.calcite.jdbc.JavaTypeFactoryImpl;
+import org.apache.calcite.linq4j.function.Function1;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.StructKind;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexExecutable;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opensearch.index.fielddata.ScriptDocValues;
+import org.opensearch.sql.calcite.utils.OpenSearchTypeFactory;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.opensearch.storage.script.core.CalciteScript;
+
+/**
+ * Measures documents per second of the compiled filter script for {@code abs(a - b) > 10}, either
+ * binding the data context and doc values once per leaf or rebuilding them for every document.
+ */
+@Warmup(iterations = 1)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class CalciteFilterScriptBenchmark {
+
+  private static final int DOC_COUNT = 10_000;
+
+  private Function1<DataContext, Object[]> function;
+
+  private List<String> docValueFields;
+
+  private DocValuesStub a;
+
+  private DocValuesStub b;
+
+  private Map<String, ScriptDocValues<?>> docProvider;
+
+  @Setup
+  public void setUp() {
+    RexBuilder rexBuilder = new RexBuilder(OpenSearchTypeFactory.TYPE_FACTORY);
+    RelDataType bigint = rexBuilder.getTypeFactory().createSqlType(SqlTypeName.BIGINT);
+    RelDataType rowType =
+        rexBuilder
+            .getTypeFactory()
+            .builder()
+            .kind(StructKind.FULLY_QUALIFIED)
+            .add("a", bigint)
+            .add("b", bigint)
+            .build();
+    RexNode condition =
+        rexBuilder.makeCall(
+            SqlStdOperatorTable.GREATER_THAN,
+            rexBuilder.makeCall(
+                SqlStdOperatorTable.ABS,
+                rexBuilder.makeCall(
+                    SqlStdOperatorTable.MINUS,
+                    rexBuilder.makeInputRef(bigint, 0),
+                    rexBuilder.makeInputRef(bigint, 1))),
+            rexBuilder.makeBigintLiteral(BigDecimal.TEN));
+    Map<String, ExprType> fieldTypes = Map.of("a", ExprCoreType.LONG, "b", ExprCoreType.LONG);
+    CalciteScriptEngine.ScriptInputGetter getter =
+        new CalciteScriptEngine.ScriptInputGetter(
+            new JavaTypeFactoryImpl(rexBuilder.getTypeFactory().getTypeSystem()),
+            rowType,
+            fieldTypes);
+    String code = CalciteScriptEngine.translate(rexBuilder, List.of(condition), getter, rowType);
+    function = new RexExecutable(code, "benchmark").getFunction();
+    docValueFields = getter.getDocValueFields();
+
+    Random random = new Random(0);
+    a = new DocValuesStub(random.longs(DOC_COUNT, 0, 100).toArray());
+    b = new DocValuesStub(random.longs(DOC_COUNT, 0, 100).toArray());
+    docProvider = Map.of("a", a, "b", b);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(DOC_COUNT)
+  public void perDocDataContext(Blackhole blackhole) {
+    for (int doc = 0; doc < DOC_COUNT; doc++) {
+      a.setNextDocId(doc);
+      b.setNextDocId(doc);
+      blackhole.consume(
+          new CalciteScript(function, Map.of(), docProvider, null, docValueFields).execute()[0]);
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(DOC_COUNT)
+  public void perLeafDataContext(Blackhole blackhole) {
+    a.setNextDocId(0);
+    b.setNextDocId(0);
+    CalciteScript script = new CalciteScript(function, Map.of(), docProvider, null, docValueFields);
+    for (int doc = 0; doc < DOC_COUNT; doc++) {
+      script.setDocument(doc);
+      blackhole.consume(script.execute()[0]);
+    }
+  }
+
+  /** Single valued long doc values backed by an array instead of a Lucene segment. */
+  private static class DocValuesStub extends ScriptDocValues<Long> {
+    private final long[] values;
+    private int docId;
+
+    DocValuesStub(long[] values) {
+      this.values = values;
+    }
+
+    @Override
+    public void setNextDocId(int docId) {
+      this.docId = docId;
+    }
+
+    @Override
+    public Long get(int index) {
+      return values[docId];
+    }
+
+    @Override
+    public int size() {
+      return 1;
+    }
+  }
+}
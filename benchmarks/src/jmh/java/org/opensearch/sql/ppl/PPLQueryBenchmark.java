@@ -0,0 +1,294 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.ppl;
+
+import static org.opensearch.sql.executor.QueryType.PPL;
+
+import com.google.common.collect.ImmutableList;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.apache.calcite.DataContext;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Linq4j;
+import org.apache.calcite.plan.RelTraitDef;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.rel.type.RelProtoDataType;
+import org.apache.calcite.schema.ScannableTable;
+import org.apache.calcite.schema.SchemaPlus;
+import org.apache.calcite.schema.impl.AbstractTable;
+import org.apache.calcite.sql.parser.SqlParser;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.tools.FrameworkConfig;
+import org.apache.calcite.tools.Frameworks;
+import org.apache.calcite.tools.Programs;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opensearch.sql.ast.statement.Query;
+import org.opensearch.sql.ast.tree.UnresolvedPlan;
+import org.opensearch.sql.calcite.CalcitePlanContext;
+import org.opensearch.sql.calcite.utils.CalciteToolsHelper.OpenSearchRelRunners;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.executor.OpenSearchTypeSystem;
+import org.opensearch.sql.executor.QueryService;
+import org.opensearch.sql.ppl.antlr.PPLSyntaxParser;
+import org.opensearch.sql.ppl.parser.AstBuilder;
+import org.opensearch.sql.ppl.parser.AstStatementBuilder;
+
+/**
+ * Runs a corpus of PPL queries end to end through the Calcite engine, against in-memory tables
+ * standing in for OpenSearch indices. Each phase is a benchmark of its own so that a regression is
+ * attributed to it: parsing the query into an AST, analyzing the AST into a logical plan, and
+ * optimizing, generating the code of and executing the plan. The gc profiler configured for the
+ * jmh task reports the allocation rate of each phase.
+ */
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class PPLQueryBenchmark {
+
+  private static final Map<String, String> QUERIES =
+      Map.of(
+          "filter",
+          "source=logs | where status >= 500 and bytes > 1000 | fields host, clientip, status",
+          "stats",
+          "source=logs | stats count(), avg(bytes) by host, status",
+          "eval",
+          "source=logs | eval kb = bytes / 1024, slow = if(status >= 500, 1, 0),"
+              + " tag = concat(host, '-', clientip) | where kb > 1 | fields kb, slow, tag",
+          "join",
+          "source=logs | join on logs.host = hosts.host hosts | stats count() by region",
+          "dedup",
+          "source=logs | dedup 2 clientip | fields clientip, status",
+          "rex",
+          "source=logs | rex field=message '\"level\":\"(?<level>[A-Z]+)\"'"
+              + " | stats count() by level",
+          "spath",
+          "source=logs | spath input=message output=service service.name"
+              + " | stats count() by service",
+          "timechart",
+          "source=logs | timechart span=1h count() by host");
+
+  private static final int QUERY_SIZE_LIMIT = 10000;
+
+  @Param({"filter", "stats", "eval", "join", "dedup", "rex", "spath", "timechart"})
+  private String query;
+
+  @Param({"10000"})
+  private int rows;
+
+  private final PPLSyntaxParser parser = new PPLSyntaxParser();
+
+  private final Settings settings = new BenchmarkSettings();
+
+  /** Planning of the query service, which does not depend on the engine it is built with. */
+  private final QueryService queryService = new QueryService(null, null, null);
+
+  private FrameworkConfig config;
+
+  private String queryText;
+
+  private UnresolvedPlan plan;
+
+  private CalcitePlanContext context;
+
+  private RelNode relNode;
+
+  @Setup
+  public void setUp() {
+    SchemaPlus schema = Frameworks.createRootSchema(true);
+    schema.add("logs", new LogsTable(rows));
+    schema.add("hosts", new HostsTable());
+    config =
+        Frameworks.newConfigBuilder()
+            .parserConfig(SqlParser.Config.DEFAULT)
+            .defaultSchema(schema)
+            .traitDefs((List<RelTraitDef>) null)
+            .programs(Programs.standard())
+            .typeSystem(OpenSearchTypeSystem.INSTANCE)
+            .build();
+    queryText = QUERIES.get(query);
+    plan = parse();
+  }
+
+  /** Running a plan closes the connection of its context, so each execution plans anew. */
+  @Setup(Level.Invocation)
+  public void setUpExecution() {
+    context = CalcitePlanContext.create(config, QUERY_SIZE_LIMIT, PPL);
+    relNode = analyze(context);
+  }
+
+  @Benchmark
+  public UnresolvedPlan parsePhase() {
+    return parse();
+  }
+
+  @Benchmark
+  public RelNode analyzePhase() {
+    return analyze(CalcitePlanContext.create(config, QUERY_SIZE_LIMIT, PPL));
+  }
+
+  @Benchmark
+  public void executePhase(Blackhole blackhole) throws SQLException {
+    try (PreparedStatement statement = OpenSearchRelRunners.run(context, relNode);
+        ResultSet resultSet = statement.executeQuery()) {
+      int columns = resultSet.getMetaData().getColumnCount();
+      while (resultSet.next()) {
+        for (int i = 1; i <= columns; i++) {
+          blackhole.consume(resultSet.getObject(i));
+        }
+      }
+    }
+  }
+
+  private UnresolvedPlan parse() {
+    AstStatementBuilder builder =
+        new AstStatementBuilder(
+            new AstBuilder(queryText, settings),
+            AstStatementBuilder.StatementBuilderContext.builder().build());
+    return ((Query) builder.visit(parser.parse(queryText))).getPlan();
+  }
+
+  /** Analyze the AST with the query service, as it does before execution. */
+  private RelNode analyze(CalcitePlanContext planContext) {
+    RelNode analyzed = queryService.analyze(plan, planContext);
+    return QueryService.convertToCalcitePlan(queryService.optimize(analyzed, planContext));
+  }
+
+  /** Settings enabling the Calcite engine with all the join types. */
+  private static class BenchmarkSettings extends Settings {
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getSettingValue(Key key) {
+      switch (key) {
+        case CALCITE_ENGINE_ENABLED:
+        case CALCITE_SUPPORT_ALL_JOIN_TYPES:
+        case PPL_SYNTAX_LEGACY_PREFERRED:
+          return (T) Boolean.TRUE;
+        case QUERY_SIZE_LIMIT:
+          return (T) Integer.valueOf(QUERY_SIZE_LIMIT);
+        default:
+          return null;
+      }
+    }
+
+    @Override
+    public List<?> getSettings() {
+      return List.of();
+    }
+  }
+
+  /** Web access logs with a JSON message, spread over a day across a few hosts. */
+  private static class LogsTable extends AbstractTable implements ScannableTable {
+    private static final String[] LEVELS = {"INFO", "WARN", "ERROR"};
+    private static final String[] SERVICES = {"checkout", "search", "login", "cart"};
+
+    private final ImmutableList<Object[]> data;
+
+    private LogsTable(int rows) {
+      Random random = new Random(42);
+      long start = Timestamp.valueOf("2024-07-01 00:00:00").getTime();
+      List<Object[]> generated = new ArrayList<>(rows);
+      for (int i = 0; i < rows; i++) {
+        generated.add(
+            new Object[] {
+              new Timestamp(start + random.nextInt(24 * 3600) * 1000L),
+              "web-" + random.nextInt(HostsTable.HOSTS),
+              "10.0." + random.nextInt(16) + "." + random.nextInt(64),
+              random.nextInt(10) == 0 ? 503 : 200,
+              (long) random.nextInt(64 * 1024),
+              String.format(
+                  "{\"level\":\"%s\",\"service\":{\"name\":\"%s\"},\"latency_ms\":%d}",
+                  LEVELS[random.nextInt(LEVELS.length)],
+                  SERVICES[random.nextInt(SERVICES.length)],
+                  random.nextInt(1000))
+            });
+      }
+      data = ImmutableList.copyOf(generated);
+    }
+
+    private final RelProtoDataType protoRowType =
+        factory ->
+            factory
+                .builder()
+                .add("@timestamp", SqlTypeName.TIMESTAMP)
+                .nullable(true)
+                .add("host", SqlTypeName.VARCHAR)
+                .nullable(true)
+                .add("clientip", SqlTypeName.VARCHAR)
+                .nullable(true)
+                .add("status", SqlTypeName.INTEGER)
+                .nullable(true)
+                .add("bytes", SqlTypeName.BIGINT)
+                .nullable(true)
+                .add("message", SqlTypeName.VARCHAR)
+                .nullable(true)
+                .build();
+
+    @Override
+    public Enumerable<Object[]> scan(DataContext root) {
+      return Linq4j.asEnumerable(data);
+    }
+
+    @Override
+    public RelDataType getRowType(RelDataTypeFactory typeFactory) {
+      return protoRowType.apply(typeFactory);
+    }
+  }
+
+  /** Region of each host the logs are joined with. */
+  private static class HostsTable extends AbstractTable implements ScannableTable {
+    private static final int HOSTS = 8;
+
+    private final ImmutableList<Object[]> data;
+
+    private HostsTable() {
+      List<Object[]> generated = new ArrayList<>(HOSTS);
+      for (int i = 0; i < HOSTS; i++) {
+        generated.add(new Object[] {"web-" + i, i % 2 == 0 ? "us-east" : "us-west"});
+      }
+      data = ImmutableList.copyOf(generated);
+    }
+
+    @Override
+    public Enumerable<Object[]> scan(DataContext root) {
+      return Linq4j.asEnumerable(data);
+    }
+
+    @Override
+    public RelDataType getRowType(RelDataTypeFactory typeFactory) {
+      return typeFactory
+          .builder()
+          .add("host", SqlTypeName.VARCHAR)
+          .nullable(true)
+          .add("region", SqlTypeName.VARCHAR)
+          .nullable(true)
+          .build();
+    }
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.protocol.response.format;
+
+import com.google.common.collect.ImmutableList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+import org.opensearch.sql.opensearch.response.SearchHitFixture;
+import org.opensearch.sql.protocol.response.QueryResult;
+
+/**
+ * Measures the time and, with the gc profiler, the allocation per row of formatting decoded search
+ * hits into the JDBC and CSV responses.
+ */
+@Warmup(iterations = 1)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class ResponseFormatterBenchmark {
+
+  private static final int ROWS = 1_000;
+
+  @Param({"WIDE_LOGS", "NESTED_OBJECTS", "ARRAYS", "GEO_POINTS", "DATE_FORMATS"})
+  private SearchHitFixture fixture;
+
+  private final JdbcResponseFormatter jdbcFormatter =
+      new JdbcResponseFormatter(JsonResponseFormatter.Style.COMPACT);
+
+  private final CsvResponseFormatter csvFormatter = new CsvResponseFormatter();
+
+  private QueryResult result;
+
+  @Setup
+  public void setUp() {
+    ImmutableList<ExprValue> rows =
+        ImmutableList.copyOf(
+            new OpenSearchResponse(fixture.hits(ROWS), fixture.valueFactory(), fixture.fields())
+                .iterator());
+    result = new QueryResult(fixture.schema(), rows);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROWS)
+  public String jdbc() {
+    return jdbcFormatter.format(result);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROWS)
+  public String csv() {
+    return csvFormatter.format(result);
+  }
+}
@@ -43,6 +43,8 @@ public abstract class Settings {
 
     /** Query Settings. */
     FIELD_TYPE_TOLERANCE("plugins.query.field_type_tolerance"),
+    QUERY_SCAN_SLICES("plugins.query.scan.slices"),
+    QUERY_SCAN_SHARD_ROUTING("plugins.query.scan.shard_routing.enabled"),
 
     /** Common Settings for SQL and PPL. */
     QUERY_MEMORY_LIMIT("plugins.query.memory_limit"),
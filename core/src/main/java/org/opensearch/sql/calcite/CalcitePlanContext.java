@@ -9,13 +9,17 @@ import static org.opensearch.sql.calcite.utils.OpenSearchTypeFactory.TYPE_FACTOR
 
 import java.sql.Connection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.Stack;
 import java.util.function.BiFunction;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.calcite.plan.Contexts;
+import org.apache.calcite.plan.RelOptCluster;
 import org.apache.calcite.rex.RexCorrelVariable;
 import org.apache.calcite.rex.RexLambdaRef;
 import org.apache.calcite.rex.RexNode;
@@ -39,6 +43,13 @@ public class CalcitePlanContext {
   /** This thread local variable is only used to skip script encoding in script pushdown. */
   public static final ThreadLocal<Boolean> skipEncoding = ThreadLocal.withInitial(() -> false);
 
+  /**
+   * The reasons why an operator of this query could not be pushed down, recorded while planning so
+   * that explain could show them. The context is registered in the planner context to be reachable
+   * from the scans, see {@link #unwrap(RelOptCluster)}.
+   */
+  @Getter private final Set<String> pushDownFallbacks = new LinkedHashSet<>();
+
   @Getter @Setter private boolean isResolvingJoinCondition = false;
   @Getter @Setter private boolean isResolvingSubquery = false;
   @Getter @Setter private boolean inCoalesceFunction = false;
@@ -61,7 +72,8 @@ public class CalcitePlanContext {
     this.querySizeLimit = querySizeLimit;
     this.queryType = queryType;
     this.connection = CalciteToolsHelper.connect(config, TYPE_FACTORY);
-    this.relBuilder = CalciteToolsHelper.create(config, TYPE_FACTORY, connection);
+    this.relBuilder =
+        CalciteToolsHelper.create(config, TYPE_FACTORY, connection, Contexts.of(this));
     this.rexBuilder = new ExtendedRexBuilder(relBuilder.getRexBuilder());
     this.functionProperties = new FunctionProperties(QueryType.PPL);
     this.rexLambdaRefMap = new HashMap<>();
@@ -105,6 +117,11 @@ public class CalcitePlanContext {
     return new CalcitePlanContext(config, querySizeLimit, queryType);
   }
 
+  /** Get the plan context which the planner of the cluster is created for, if any. */
+  public static Optional<CalcitePlanContext> unwrap(RelOptCluster cluster) {
+    return cluster.getPlanner().getContext().maybeUnwrap(CalcitePlanContext.class);
+  }
+
   public void putRexLambdaRefMap(Map<String, RexLambdaRef> candidateMap) {
     this.rexLambdaRefMap.putAll(candidateMap);
   }
@@ -124,6 +124,7 @@ import org.opensearch.sql.ast.tree.Trendline.TrendlineType;
 import org.opensearch.sql.ast.tree.UnresolvedPlan;
 import org.opensearch.sql.ast.tree.Values;
 import org.opensearch.sql.ast.tree.Window;
+import org.opensearch.sql.calcite.plan.LogicalConsecutiveDedup;
 import org.opensearch.sql.calcite.plan.OpenSearchConstants;
 import org.opensearch.sql.calcite.utils.BinUtils;
 import org.opensearch.sql.calcite.utils.JoinAndLookupUtils;
@@ -1232,13 +1233,12 @@ public class CalciteRelNodeVisitor extends AbstractNodeVisitor<RelNode, CalciteP
     if (allowedDuplication <= 0) {
       throw new IllegalArgumentException("Number of duplicate events must be greater than 0");
     }
-    if (consecutive) {
-      throw new UnsupportedOperationException("Consecutive deduplication is not supported");
-    }
     // Columns to deduplicate
     List<RexNode> dedupeFields =
         node.getFields().stream().map(f -> rexVisitor.analyze(f, context)).toList();
-    if (keepEmpty) {
+    if (consecutive) {
+      buildConsecutiveDedup(context, dedupeFields, allowedDuplication, keepEmpty);
+    } else if (keepEmpty) {
       buildDedupOrNull(context, dedupeFields, allowedDuplication);
     } else {
       buildDedupNotNull(context, dedupeFields, allowedDuplication);
@@ -1246,6 +1246,43 @@ public class CalciteRelNodeVisitor extends AbstractNodeVisitor<RelNode, CalciteP
     return context.relBuilder.peek();
   }
 
+  private static void buildConsecutiveDedup(
+      CalcitePlanContext context,
+      List<RexNode> dedupeFields,
+      Integer allowedDuplication,
+      Boolean keepEmpty) {
+    /*
+     * | dedup 2 a, b keepempty=false consecutive=true
+     * ConsecutiveDedup(keys=['a, 'b], allowedDuplication=n, keepEmpty=false)
+     * +- Filter (isnotnull('a) AND isnotnull('b))
+     *    +- ...
+     */
+    if (!keepEmpty) {
+      context.relBuilder.filter(
+          context.relBuilder.and(
+              dedupeFields.stream().map(context.relBuilder::isNotNull).toList()));
+    }
+    // Keys which are not plain input fields are projected first, and dropped after the dedup
+    int fieldCount = context.relBuilder.peek().getRowType().getFieldCount();
+    List<RexNode> computedKeys =
+        dedupeFields.stream().filter(field -> !(field instanceof RexInputRef)).toList();
+    if (!computedKeys.isEmpty()) {
+      context.relBuilder.projectPlus(computedKeys);
+    }
+    List<Integer> keys = new ArrayList<>();
+    int nextComputedKey = fieldCount;
+    for (RexNode field : dedupeFields) {
+      keys.add(field instanceof RexInputRef ref ? ref.getIndex() : nextComputedKey++);
+    }
+    RelNode dedup =
+        LogicalConsecutiveDedup.create(
+            context.relBuilder.build(), keys, allowedDuplication, keepEmpty);
+    context.relBuilder.push(dedup);
+    if (!computedKeys.isEmpty()) {
+      context.relBuilder.project(context.relBuilder.fields().subList(0, fieldCount));
+    }
+  }
+
   private static void buildDedupOrNull(
       CalcitePlanContext context, List<RexNode> dedupeFields, Integer allowedDuplication) {
     /*
@@ -0,0 +1,147 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.calcite.plan;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Objects;
+import lombok.Getter;
+import org.apache.calcite.adapter.enumerable.EnumerableRel;
+import org.apache.calcite.adapter.enumerable.EnumerableRelImplementor;
+import org.apache.calcite.adapter.enumerable.PhysType;
+import org.apache.calcite.adapter.enumerable.PhysTypeImpl;
+import org.apache.calcite.linq4j.AbstractEnumerable;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.function.Function1;
+import org.apache.calcite.linq4j.tree.BlockBuilder;
+import org.apache.calcite.linq4j.tree.Expression;
+import org.apache.calcite.linq4j.tree.Expressions;
+import org.apache.calcite.linq4j.tree.Types;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelWriter;
+import org.apache.calcite.rel.SingleRel;
+
+/**
+ * Implementation of {@link LogicalConsecutiveDedup} in enumerable convention. It streams the input
+ * and only keeps the key of the previous row and its seen times, so memory doesn't grow with the
+ * input.
+ */
+@Getter
+public class EnumerableConsecutiveDedup extends SingleRel implements EnumerableRel {
+  private static final Method DEDUP_METHOD =
+      Types.lookupMethod(
+          EnumerableConsecutiveDedup.class,
+          "dedup",
+          Enumerable.class,
+          Function1.class,
+          int.class,
+          int.class,
+          boolean.class);
+
+  private final List<Integer> keys;
+  private final int allowedDuplication;
+  private final boolean keepEmpty;
+
+  public EnumerableConsecutiveDedup(
+      RelOptCluster cluster,
+      RelTraitSet traitSet,
+      RelNode input,
+      List<Integer> keys,
+      int allowedDuplication,
+      boolean keepEmpty) {
+    super(cluster, traitSet, input);
+    this.keys = List.copyOf(keys);
+    this.allowedDuplication = allowedDuplication;
+    this.keepEmpty = keepEmpty;
+  }
+
+  @Override
+  public RelNode copy(RelTraitSet traitSet, List<RelNode> inputs) {
+    return new EnumerableConsecutiveDedup(
+        getCluster(), traitSet, sole(inputs), keys, allowedDuplication, keepEmpty);
+  }
+
+  @Override
+  public RelWriter explainTerms(RelWriter pw) {
+    return super.explainTerms(pw)
+        .item("keys", keys)
+        .item("allowedDuplication", allowedDuplication)
+        .item("keepEmpty", keepEmpty);
+  }
+
+  @Override
+  public Result implement(EnumerableRelImplementor implementor, Prefer pref) {
+    final BlockBuilder builder = new BlockBuilder();
+    final Result child = implementor.visitChild(this, 0, (EnumerableRel) getInput(), pref);
+    final Expression input = builder.append("input", child.block);
+    final PhysType physType =
+        PhysTypeImpl.of(implementor.getTypeFactory(), getRowType(), child.format);
+    builder.add(
+        Expressions.return_(
+            null,
+            Expressions.call(
+                DEDUP_METHOD,
+                input,
+                child.physType.generateAccessor(keys),
+                Expressions.constant(keys.size()),
+                Expressions.constant(allowedDuplication),
+                Expressions.constant(keepEmpty))));
+    return implementor.result(physType, builder.toBlock());
+  }
+
+  /**
+   * Dedup the consecutive rows of the input.
+   *
+   * @param input input rows
+   * @param keySelector key of a row, which is the value itself for a single key, or a list of the
+   *     values for multiple keys
+   * @param keyCount number of keys
+   * @param allowedDuplication max rows kept from a run of equal keys
+   * @param keepEmpty whether rows having a null key are kept
+   * @return deduped rows
+   */
+  public static <T> Enumerable<T> dedup(
+      Enumerable<T> input,
+      Function1<T, Object> keySelector,
+      int keyCount,
+      int allowedDuplication,
+      boolean keepEmpty) {
+    return new AbstractEnumerable<>() {
+      @Override
+      public Enumerator<T> enumerator() {
+        ConsecutiveRun run = new ConsecutiveRun();
+        return input
+            .where(
+                row -> {
+                  Object key = keySelector.apply(row);
+                  if (keyCount == 1 ? key == null : ((List<?>) key).contains(null)) {
+                    return keepEmpty;
+                  }
+                  return run.seenTimes(key) <= allowedDuplication;
+                })
+            .enumerator();
+      }
+    };
+  }
+
+  /** Key of the previous row and how many times it has been seen consecutively. */
+  private static class ConsecutiveRun {
+    private Object previousKey;
+    private int seenTimes = 0;
+
+    int seenTimes(Object key) {
+      if (seenTimes > 0 && Objects.equals(previousKey, key)) {
+        return ++seenTimes;
+      }
+      previousKey = key;
+      seenTimes = 1;
+      return seenTimes;
+    }
+  }
+}
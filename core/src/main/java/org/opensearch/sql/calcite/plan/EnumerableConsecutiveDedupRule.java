@@ -0,0 +1,42 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.calcite.plan;
+
+import org.apache.calcite.adapter.enumerable.EnumerableConvention;
+import org.apache.calcite.plan.Convention;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.convert.ConverterRule;
+
+/** Rule to convert a {@link LogicalConsecutiveDedup} to a {@link EnumerableConsecutiveDedup}. */
+public class EnumerableConsecutiveDedupRule extends ConverterRule {
+  /** Default configuration. */
+  public static final Config DEFAULT_CONFIG =
+      Config.INSTANCE
+          .withConversion(
+              LogicalConsecutiveDedup.class,
+              Convention.NONE,
+              EnumerableConvention.INSTANCE,
+              "EnumerableConsecutiveDedupRule")
+          .withRuleFactory(EnumerableConsecutiveDedupRule::new);
+
+  /** Creates an EnumerableConsecutiveDedupRule. */
+  protected EnumerableConsecutiveDedupRule(Config config) {
+    super(config);
+  }
+
+  @Override
+  public RelNode convert(RelNode rel) {
+    final LogicalConsecutiveDedup dedup = (LogicalConsecutiveDedup) rel;
+    final RelNode input = dedup.getInput();
+    return new EnumerableConsecutiveDedup(
+        dedup.getCluster(),
+        dedup.getTraitSet().replace(EnumerableConvention.INSTANCE),
+        convert(input, input.getTraitSet().replace(EnumerableConvention.INSTANCE)),
+        dedup.getKeys(),
+        dedup.getAllowedDuplication(),
+        dedup.isKeepEmpty());
+  }
+}
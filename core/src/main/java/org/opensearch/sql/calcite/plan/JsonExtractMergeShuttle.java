@@ -0,0 +1,110 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.calcite.plan;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelShuttleImpl;
+import org.apache.calcite.rel.logical.LogicalProject;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexShuttle;
+import org.apache.calcite.rex.RexVisitorImpl;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.opensearch.sql.expression.function.PPLBuiltinOperators;
+
+/**
+ * Merges the json_extract calls of a project which read different paths from the same JSON
+ * document, e.g. the fields of one spath command or several evals of json_extract. They are
+ * rewritten into items of a single json_extract_all call over all the paths, so the document is
+ * parsed once per row instead of once per path.
+ *
+ * <p>It runs as a shuttle before optimization rather than as a planner rule, because the merged
+ * project has the same cost as the original one and the planner would not prefer it.
+ */
+public class JsonExtractMergeShuttle extends RelShuttleImpl {
+
+  @Override
+  public RelNode visit(LogicalProject project) {
+    RelNode visited = super.visit(project);
+    if (!(visited instanceof LogicalProject merging)) {
+      return visited;
+    }
+    Map<RexNode, Set<String>> pathsByDocument = new LinkedHashMap<>();
+    RexVisitorImpl<Void> collector =
+        new RexVisitorImpl<>(true) {
+          @Override
+          public Void visitCall(RexCall call) {
+            if (isSinglePathExtract(call)) {
+              pathsByDocument
+                  .computeIfAbsent(call.getOperands().get(0), key -> new LinkedHashSet<>())
+                  .add(pathOf(call));
+            }
+            return super.visitCall(call);
+          }
+        };
+    merging.getProjects().forEach(expr -> expr.accept(collector));
+
+    RexBuilder rexBuilder = merging.getCluster().getRexBuilder();
+    Map<RexNode, RexNode> extractAllByDocument = new LinkedHashMap<>();
+    pathsByDocument.forEach(
+        (document, paths) -> {
+          if (paths.size() > 1) {
+            List<RexNode> operands = new ArrayList<>();
+            operands.add(document);
+            paths.forEach(path -> operands.add(rexBuilder.makeLiteral(path)));
+            extractAllByDocument.put(
+                document, rexBuilder.makeCall(PPLBuiltinOperators.JSON_EXTRACT_ALL, operands));
+          }
+        });
+    if (extractAllByDocument.isEmpty()) {
+      return merging;
+    }
+
+    RexShuttle replacer =
+        new RexShuttle() {
+          @Override
+          public RexNode visitCall(RexCall call) {
+            RexNode extractAll =
+                isSinglePathExtract(call)
+                    ? extractAllByDocument.get(call.getOperands().get(0))
+                    : null;
+            if (extractAll == null) {
+              return super.visitCall(call);
+            }
+            RexNode item =
+                rexBuilder.makeCall(
+                    SqlStdOperatorTable.ITEM, extractAll, rexBuilder.makeLiteral(pathOf(call)));
+            return item.getType().equals(call.getType())
+                ? item
+                : rexBuilder.makeCast(call.getType(), item, true);
+          }
+        };
+    return merging.copy(
+        merging.getTraitSet(),
+        merging.getInput(),
+        replacer.apply(merging.getProjects()),
+        merging.getRowType());
+  }
+
+  private static boolean isSinglePathExtract(RexCall call) {
+    return call.getOperator() == PPLBuiltinOperators.JSON_EXTRACT
+        && call.getOperands().size() == 2
+        && call.getOperands().get(1) instanceof RexLiteral literal
+        && literal.getValueAs(String.class) != null;
+  }
+
+  private static String pathOf(RexCall call) {
+    return ((RexLiteral) call.getOperands().get(1)).getValueAs(String.class);
+  }
+}
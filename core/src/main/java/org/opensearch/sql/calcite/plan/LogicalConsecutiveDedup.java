@@ -0,0 +1,68 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.calcite.plan;
+
+import java.util.List;
+import lombok.Getter;
+import org.apache.calcite.plan.Convention;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptPlanner;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelWriter;
+import org.apache.calcite.rel.SingleRel;
+
+/**
+ * Consecutive dedup logical plan. Among each run of consecutive rows with equal values of the keys,
+ * it keeps the first allowedDuplication rows. Rows having a null key are kept if keepEmpty is
+ * true, and don't break the run.
+ */
+@Getter
+public class LogicalConsecutiveDedup extends SingleRel {
+  private final List<Integer> keys;
+  private final int allowedDuplication;
+  private final boolean keepEmpty;
+
+  protected LogicalConsecutiveDedup(
+      RelOptCluster cluster,
+      RelTraitSet traitSet,
+      RelNode input,
+      List<Integer> keys,
+      int allowedDuplication,
+      boolean keepEmpty) {
+    super(cluster, traitSet, input);
+    this.keys = List.copyOf(keys);
+    this.allowedDuplication = allowedDuplication;
+    this.keepEmpty = keepEmpty;
+  }
+
+  public static LogicalConsecutiveDedup create(
+      RelNode input, List<Integer> keys, int allowedDuplication, boolean keepEmpty) {
+    RelOptCluster cluster = input.getCluster();
+    RelTraitSet traitSet = input.getTraitSet().replace(Convention.NONE);
+    return new LogicalConsecutiveDedup(
+        cluster, traitSet, input, keys, allowedDuplication, keepEmpty);
+  }
+
+  @Override
+  public RelNode copy(RelTraitSet traitSet, List<RelNode> inputs) {
+    return new LogicalConsecutiveDedup(
+        getCluster(), traitSet, sole(inputs), keys, allowedDuplication, keepEmpty);
+  }
+
+  @Override
+  public void register(RelOptPlanner planner) {
+    planner.addRule(EnumerableConsecutiveDedupRule.DEFAULT_CONFIG.toRule());
+  }
+
+  @Override
+  public RelWriter explainTerms(RelWriter pw) {
+    return super.explainTerms(pw)
+        .item("keys", keys)
+        .item("allowedDuplication", allowedDuplication)
+        .item("keepEmpty", keepEmpty);
+  }
+}
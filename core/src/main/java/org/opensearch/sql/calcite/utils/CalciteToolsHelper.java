@@ -105,10 +105,20 @@ public class CalciteToolsHelper {
   /** Create a RelBuilder with typeFactory */
   public static RelBuilder create(
       FrameworkConfig config, JavaTypeFactory typeFactory, Connection connection) {
+    return create(config, typeFactory, connection, Contexts.empty());
+  }
+
+  /** Create a RelBuilder with typeFactory, whose planner could be unwrapped to plannerContext */
+  public static RelBuilder create(
+      FrameworkConfig config,
+      JavaTypeFactory typeFactory,
+      Connection connection,
+      Context plannerContext) {
     return withPrepare(
         config,
         typeFactory,
         connection,
+        plannerContext,
         (cluster, relOptSchema, rootSchema, statement) ->
             new OpenSearchRelBuilder(config.getContext(), cluster, relOptSchema));
   }
@@ -137,6 +147,7 @@ public class CalciteToolsHelper {
       FrameworkConfig config,
       JavaTypeFactory typeFactory,
       Connection connection,
+      Context plannerContext,
       Frameworks.BasePrepareAction<R> action) {
     try {
       final Properties info = new Properties();
@@ -147,7 +158,8 @@ public class CalciteToolsHelper {
       }
       final CalciteServerStatement statement =
           connection.createStatement().unwrap(CalciteServerStatement.class);
-      return new OpenSearchPrepareImpl().perform(statement, config, typeFactory, action);
+      return new OpenSearchPrepareImpl().perform(
+          statement, config, typeFactory, plannerContext, action);
     } catch (Exception e) {
       throw new RuntimeException(e);
     }
@@ -201,12 +213,13 @@ public class CalciteToolsHelper {
   public static class OpenSearchPrepareImpl extends CalcitePrepareImpl {
     /**
      * Similar to {@link CalcitePrepareImpl#perform(CalciteServerStatement, FrameworkConfig,
-     * Frameworks.BasePrepareAction)}, but with a custom typeFactory.
+     * Frameworks.BasePrepareAction)}, but with a custom typeFactory and planner context.
      */
     public <R> R perform(
         CalciteServerStatement statement,
         FrameworkConfig config,
         JavaTypeFactory typeFactory,
+        Context plannerContext,
         Frameworks.BasePrepareAction<R> action) {
       final CalcitePrepare.Context prepareContext = statement.createPrepareContext();
       SchemaPlus defaultSchema = config.getDefaultSchema();
@@ -220,7 +233,9 @@ public class CalciteToolsHelper {
       final RexBuilder rexBuilder = new RexBuilder(typeFactory);
       final RelOptPlanner planner =
           createPlanner(
-              prepareContext, Contexts.of(prepareContext.config()), config.getCostFactory());
+              prepareContext,
+              Contexts.chain(Contexts.of(prepareContext.config()), plannerContext),
+              config.getCostFactory());
       registerCustomizedRules(planner);
       final RelOptCluster cluster = createCluster(planner, rexBuilder);
       return action.apply(cluster, catalogReader, prepareContext.getRootSchema().plus(), statement);
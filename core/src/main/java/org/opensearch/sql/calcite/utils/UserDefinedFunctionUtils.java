@@ -28,6 +28,7 @@ import org.apache.calcite.linq4j.tree.Expression;
 import org.apache.calcite.linq4j.tree.Expressions;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexLiteral;
 import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.schema.impl.AggregateFunctionImpl;
 import org.apache.calcite.sql.SqlAggFunction;
@@ -48,6 +49,7 @@ import org.opensearch.sql.executor.QueryType;
 import org.opensearch.sql.expression.function.FunctionProperties;
 import org.opensearch.sql.expression.function.ImplementorUDF;
 import org.opensearch.sql.expression.function.UDFOperandMetadata;
+import org.opensearch.sql.expression.parse.RegexCommonUtils.CompiledRegex;
 
 public class UserDefinedFunctionUtils {
   public static final RelDataType NULLABLE_DATE_UDT = TYPE_FACTORY.createUDT(EXPR_DATE, true);
@@ -150,6 +152,23 @@ public class UserDefinedFunctionUtils {
     return new FunctionProperties(instant, zoneId, QueryType.PPL);
   }
 
+  /**
+   * Translate a regex operand to a {@link CompiledRegex}. A literal pattern is compiled once per
+   * query, since the code generator hoists the deterministic constructor call into a static field.
+   * Other patterns are compiled per row through the shared pattern cache.
+   *
+   * @param operand the regex operand
+   * @param translated the translated regex operand
+   * @return expression of the CompiledRegex
+   */
+  public static Expression translateRegex(RexNode operand, Expression translated) {
+    if (operand instanceof RexLiteral literal && literal.getValueAs(String.class) != null) {
+      return Expressions.new_(
+          CompiledRegex.class, Expressions.constant(literal.getValueAs(String.class)));
+    }
+    return Expressions.call(CompiledRegex.class, "of", translated);
+  }
+
   /**
    * Convert java objects to ExprValue, so that the parameters fit the expr function signature. It
    * invokes ExprValueUtils.fromObjectValue to convert the java objects to ExprValue. Note that
@@ -35,6 +35,7 @@ import org.opensearch.sql.ast.tree.UnresolvedPlan;
 import org.opensearch.sql.calcite.CalcitePlanContext;
 import org.opensearch.sql.calcite.CalciteRelNodeVisitor;
 import org.opensearch.sql.calcite.OpenSearchSchema;
+import org.opensearch.sql.calcite.plan.JsonExtractMergeShuttle;
 import org.opensearch.sql.calcite.plan.LogicalSystemLimit;
 import org.opensearch.sql.calcite.plan.LogicalSystemLimit.SystemLimitType;
 import org.opensearch.sql.common.response.ResponseListener;
@@ -279,7 +280,12 @@ public class QueryService {
     }
   }
 
-  private Integer getQuerySizeLimit() {
+  /**
+   * Get the maximum number of rows returned by the execution of a plan.
+   *
+   * @return size limit, or null if it is not limited
+   */
+  public Integer getQuerySizeLimit() {
     return settings == null ? null : settings.getSettingValue(Key.QUERY_SIZE_LIMIT);
   }
 
@@ -310,9 +316,11 @@ public class QueryService {
    * are some differences in the topological structures or semantics between them.
    *
    * @param osPlan Logical Plan derived from OpenSearch PPL
+   * @return plan to be executed or explained by Calcite
    */
-  private static RelNode convertToCalcitePlan(RelNode osPlan) {
-    RelNode calcitePlan = osPlan;
+  public static RelNode convertToCalcitePlan(RelNode osPlan) {
+    // Parse each JSON document once for all the paths extracted from it
+    RelNode calcitePlan = osPlan.accept(new JsonExtractMergeShuttle());
     /* Calcite only ensures collation of the final result produced from the root sort operator.
      * While we expect that the collation can be preserved through the pipes over PPL, we need to
      * explicitly add a sort operator on top of the original plan
@@ -322,7 +330,7 @@ public class QueryService {
      */
     RelCollation collation = osPlan.getTraitSet().getCollation();
     if (!(osPlan instanceof Sort) && collation != RelCollations.EMPTY) {
-      calcitePlan = LogicalSort.create(osPlan, collation, null, null);
+      calcitePlan = LogicalSort.create(calcitePlan, collation, null, null);
     }
     return calcitePlan;
   }
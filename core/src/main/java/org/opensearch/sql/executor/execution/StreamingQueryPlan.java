@@ -18,7 +18,6 @@ import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.QueryId;
 import org.opensearch.sql.executor.QueryService;
 import org.opensearch.sql.executor.QueryType;
-import org.opensearch.sql.executor.streaming.DefaultMetadataLog;
 import org.opensearch.sql.executor.streaming.MicroBatchStreamingExecution;
 import org.opensearch.sql.executor.streaming.StreamingSource;
 import org.opensearch.sql.planner.logical.LogicalPlan;
@@ -30,6 +29,15 @@ public class StreamingQueryPlan extends QueryPlan {
 
   private static final Logger log = LogManager.getLogger(StreamingQueryPlan.class);
 
+  /** How late an event may arrive and still be aggregated into its time window. */
+  private static final long MAX_OUT_OF_ORDER_ALLOWED = TimeUnit.MINUTES.toMillis(1);
+
+  /** Name of the log of the offsets of each batch before it is processed. */
+  static final String OFFSET_LOG = "offsets";
+
+  /** Name of the log of the offsets of each batch after it is processed. */
+  static final String COMMITTED_LOG = "commits";
+
   private final ExecutionStrategy executionStrategy;
 
   private MicroBatchStreamingExecution streamingExecution;
@@ -57,8 +65,11 @@ public class StreamingQueryPlan extends QueryPlan {
               streamingSource,
               logicalPlan,
               queryService,
-              new DefaultMetadataLog<>(),
-              new DefaultMetadataLog<>());
+              // The logs of a durable source let the query resume from its latest batch
+              streamingSource.createMetadataLog(getQueryId(), OFFSET_LOG),
+              streamingSource.createMetadataLog(getQueryId(), COMMITTED_LOG),
+              MAX_OUT_OF_ORDER_ALLOWED,
+              listener);
       executionStrategy.execute(streamingExecution::execute);
     } catch (UnsupportedOperationException | IllegalArgumentException e) {
       listener.onFailure(e);
@@ -8,15 +8,24 @@ package org.opensearch.sql.executor.pagination;
 import com.google.common.hash.HashCode;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InvalidClassException;
 import java.io.NotSerializableException;
+import java.io.ObjectInput;
 import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
 import java.io.ObjectOutputStream;
+import java.io.OutputStream;
 import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.util.Base64;
 import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
 import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
 import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.exception.NoCursorException;
 import org.opensearch.sql.planner.SerializablePlan;
@@ -31,6 +40,17 @@ import org.opensearch.sql.storage.StorageEngine;
 public class PlanSerializer {
   public static final String CURSOR_PREFIX = "n:";
 
+  /** Version of the cursor encoding, incremented on incompatible changes. */
+  static final byte CURSOR_VERSION = 2;
+
+  /** Version of the cursors which Java serialize the whole plan tree, still decoded. */
+  static final byte JAVA_SERIALIZED_CURSOR_VERSION = 1;
+
+  /** Hex encoded gzip magic number, which starts the cursors of the legacy encoding. */
+  private static final String LEGACY_GZIP_MAGIC = "1f8b";
+
+  private static final Base64.Encoder BASE64_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
   private final StorageEngine engine;
 
   /** Converts a physical plan tree to a cursor. */
@@ -45,30 +65,26 @@ public class PlanSerializer {
   }
 
   /**
-   * Serializes and compresses the object.
+   * Serializes and compresses the object. The encoded data starts with the {@link #CURSOR_VERSION}
+   * byte, followed by the object written by {@link CursorOutputStream} and deflated at the fastest
+   * level, and is base64url encoded to be sent as is in URLs and JSON.
    *
    * @param object The object.
    * @return Encoded binary data.
    */
   protected String serialize(Serializable object) throws NotSerializableException {
     try {
-      ByteArrayOutputStream output = new ByteArrayOutputStream();
-      ObjectOutputStream objectOutput = new ObjectOutputStream(output);
-      objectOutput.writeObject(object);
-      objectOutput.flush();
-
       ByteArrayOutputStream out = new ByteArrayOutputStream();
-      // GZIP provides 35-45%, lzma from apache commons-compress has few % better compression
-      GZIPOutputStream gzip =
-          new GZIPOutputStream(out) {
-            {
-              this.def.setLevel(Deflater.BEST_COMPRESSION);
-            }
-          };
-      gzip.write(output.toByteArray());
-      gzip.close();
-
-      return HashCode.fromBytes(out.toByteArray()).toString();
+      out.write(CURSOR_VERSION);
+      // Cursors are encoded on every page, the best compression costs a lot more CPU for a few %
+      Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+      try (CursorOutputStream cursorOutput =
+          new CursorOutputStream(new DeflaterOutputStream(out, deflater))) {
+        cursorOutput.writeObject(object);
+      } finally {
+        deflater.end();
+      }
+      return BASE64_ENCODER.encodeToString(out.toByteArray());
     } catch (NotSerializableException e) {
       throw e;
     } catch (IOException e) {
@@ -77,23 +93,41 @@ public class PlanSerializer {
   }
 
   /**
-   * Decompresses and deserializes the binary data.
+   * Decompresses and deserializes the binary data. Cursors of the Java serialized versions, hex
+   * encoded gzip and {@link #JAVA_SERIALIZED_CURSOR_VERSION}, are still accepted for the cursors
+   * issued before an upgrade.
    *
    * @param code Encoded binary data.
    * @return An object.
    */
   protected Serializable deserialize(String code) {
-    try {
-      GZIPInputStream gzip =
-          new GZIPInputStream(new ByteArrayInputStream(HashCode.fromString(code).asBytes()));
-      ObjectInputStream objectInput =
-          new CursorDeserializationStream(new ByteArrayInputStream(gzip.readAllBytes()));
+    try (ObjectInput objectInput = decode(code)) {
       return (Serializable) objectInput.readObject();
     } catch (Exception e) {
       throw new IllegalStateException("Failed to deserialize object", e);
     }
   }
 
+  private ObjectInput decode(String code) throws IOException {
+    if (code.startsWith(LEGACY_GZIP_MAGIC)) {
+      return new CursorDeserializationStream(
+          new GZIPInputStream(new ByteArrayInputStream(HashCode.fromString(code).asBytes())));
+    }
+    byte[] bytes = Base64.getUrlDecoder().decode(code);
+    if (bytes.length == 0) {
+      throw new IllegalArgumentException("Unsupported cursor version");
+    }
+    InputStream in = new InflaterInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1));
+    switch (bytes[0]) {
+      case CURSOR_VERSION:
+        return new CursorInputStream(in);
+      case JAVA_SERIALIZED_CURSOR_VERSION:
+        return new CursorDeserializationStream(in);
+      default:
+        throw new IllegalArgumentException("Unsupported cursor version");
+    }
+  }
+
   /** Converts a cursor to a physical plan tree. */
   public PhysicalPlan convertToPlan(String cursor) {
     if (!cursor.startsWith(CURSOR_PREFIX)) {
@@ -114,7 +148,13 @@ public class PlanSerializer {
     return new CursorDeserializationStream(in);
   }
 
-  public class CursorDeserializationStream extends ObjectInputStream {
+  /** Input a cursor is decoded from, which gives the plans read access to the storage engine. */
+  public interface CursorInput extends ObjectInput {
+    StorageEngine getEngine();
+  }
+
+  /** Input of the Java serialized cursors. */
+  public class CursorDeserializationStream extends ObjectInputStream implements CursorInput {
     public CursorDeserializationStream(InputStream in) throws IOException {
       super(in);
     }
@@ -123,5 +163,93 @@ public class PlanSerializer {
     public Object resolveObject(Object obj) throws IOException {
       return obj.equals("engine") ? engine : obj;
     }
+
+    @Override
+    public StorageEngine getEngine() {
+      return engine;
+    }
+  }
+
+  /**
+   * Output of the cursors, which encodes the plan tree without Java serialization. A plan is
+   * written as its class name, followed by the state it writes in {@link
+   * SerializablePlan#writeExternal}, so the cursor carries only the plan shape and the state of
+   * each plan. Any other object, e.g. the expressions of a projection, is Java serialized on its
+   * own and written with its length.
+   */
+  static class CursorOutputStream extends DataOutputStream implements ObjectOutput {
+    static final byte NULL = 0;
+    static final byte PLAN = 1;
+    static final byte OBJECT = 2;
+
+    CursorOutputStream(OutputStream out) {
+      super(out);
+    }
+
+    @Override
+    public void writeObject(Object obj) throws IOException {
+      if (obj == null) {
+        writeByte(NULL);
+      } else if (obj instanceof SerializablePlan plan) {
+        writeByte(PLAN);
+        writeUTF(plan.getClass().getName());
+        plan.writeExternal(this);
+      } else {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutput = new ObjectOutputStream(bytes)) {
+          objectOutput.writeObject(obj);
+        }
+        writeByte(OBJECT);
+        writeInt(bytes.size());
+        bytes.writeTo(this);
+      }
+    }
+  }
+
+  /** Input of the cursors written by {@link CursorOutputStream}. */
+  class CursorInputStream extends DataInputStream implements CursorInput {
+    CursorInputStream(InputStream in) {
+      super(in);
+    }
+
+    @Override
+    public Object readObject() throws ClassNotFoundException, IOException {
+      byte tag = readByte();
+      switch (tag) {
+        case CursorOutputStream.NULL:
+          return null;
+        case CursorOutputStream.PLAN:
+          return readPlan();
+        case CursorOutputStream.OBJECT:
+          byte[] bytes = new byte[readInt()];
+          readFully(bytes);
+          try (ObjectInputStream objectInput =
+              new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return objectInput.readObject();
+          }
+        default:
+          throw new StreamCorruptedException("Unknown cursor object tag: " + tag);
+      }
+    }
+
+    private SerializablePlan readPlan() throws ClassNotFoundException, IOException {
+      Class<?> type = Class.forName(readUTF(), false, PlanSerializer.class.getClassLoader());
+      if (!SerializablePlan.class.isAssignableFrom(type)) {
+        throw new InvalidClassException(type.getName(), "not a serializable plan");
+      }
+      SerializablePlan plan;
+      try {
+        plan = (SerializablePlan) type.getConstructor().newInstance();
+      } catch (ReflectiveOperationException e) {
+        throw new InvalidClassException(type.getName(), "no public no-arg constructor");
+      }
+      plan.readExternal(this);
+      return plan;
+    }
+
+    @Override
+    public StorageEngine getEngine() {
+      return engine;
+    }
   }
 }
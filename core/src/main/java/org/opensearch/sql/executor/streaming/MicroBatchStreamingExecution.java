@@ -9,14 +9,17 @@
 package org.opensearch.sql.executor.streaming;
 
 import com.google.common.base.Preconditions;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.sql.common.response.ResponseListener;
+import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.QueryService;
+import org.opensearch.sql.executor.pagination.Cursor;
 import org.opensearch.sql.planner.PlanContext;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 
@@ -44,6 +47,18 @@ public class MicroBatchStreamingExecution {
   /** keep track the latest commit batchId. */
   private final MetadataLog<Offset> committedLog;
 
+  /**
+   * Incremental aggregation over event time windows if the batch plan aggregates by a span, until
+   * the input of a batch can't be read completely.
+   */
+  private Optional<WindowedAggregation> windowedAggregation;
+
+  /** Listener of the windows fired by each batch, or of the batch plan results after fallback. */
+  private final ResponseListener<ExecutionEngine.QueryResponse> windowListener;
+
+  /** Whether the windowed aggregation fell back to executing the batch plan for each batch. */
+  private boolean batchFallback = false;
+
   /** Constructor. */
   public MicroBatchStreamingExecution(
       StreamingSource source,
@@ -54,9 +69,34 @@ public class MicroBatchStreamingExecution {
     this.source = source;
     this.batchPlan = batchPlan;
     this.queryService = queryService;
-    // todo. add offsetLog and committedLog offset recovery.
+    // Each execution resumes from the latest entries of the logs, which are durable if the logs
+    // are persisted, e.g. in an index.
     this.offsetLog = offsetLog;
     this.committedLog = committedLog;
+    this.windowedAggregation = Optional.empty();
+    this.windowListener = null;
+  }
+
+  /**
+   * Constructor of a streaming execution that aggregates a batch plan grouped by a time span
+   * incrementally, keeping the partial state of each window across batches and emitting a window
+   * to the listener once the watermark passes its end.
+   */
+  public MicroBatchStreamingExecution(
+      StreamingSource source,
+      LogicalPlan batchPlan,
+      QueryService queryService,
+      MetadataLog<Offset> offsetLog,
+      MetadataLog<Offset> committedLog,
+      long maxOutOfOrderAllowed,
+      ResponseListener<ExecutionEngine.QueryResponse> windowListener) {
+    this.source = source;
+    this.batchPlan = batchPlan;
+    this.queryService = queryService;
+    this.offsetLog = offsetLog;
+    this.committedLog = committedLog;
+    this.windowedAggregation = WindowedAggregation.of(batchPlan, maxOutOfOrderAllowed);
+    this.windowListener = windowListener;
   }
 
   /** Pull the {@link Batch} from {@link StreamingSource} and execute the {@link Batch}. */
@@ -86,22 +126,80 @@ public class MicroBatchStreamingExecution {
     if (hasNewData(availableOffsets, committedOffset)) {
       Batch batch = source.getBatch(committedOffset, availableOffsets.get());
       offsetLog.add(currentBatchId.get(), availableOffsets.get());
-      queryService.executePlan(
-          batchPlan,
-          new PlanContext(batch.getSplit()),
-          new ResponseListener<>() {
-            @Override
-            public void onResponse(ExecutionEngine.QueryResponse response) {
-              long finalBatchId = currentBatchId.get();
-              Offset finalAvailableOffsets = availableOffsets.get();
-              committedLog.add(finalBatchId, finalAvailableOffsets);
+      PlanContext planContext = new PlanContext(batch.getSplit());
+      long finalBatchId = currentBatchId.get();
+      Offset finalAvailableOffsets = availableOffsets.get();
+      if (windowedAggregation.isPresent()) {
+        executeWindowed(
+            windowedAggregation.get(), planContext, finalBatchId, finalAvailableOffsets);
+      } else {
+        executeBatch(planContext, finalBatchId, finalAvailableOffsets);
+      }
+    }
+  }
+
+  /**
+   * Execute the input plan of the windowed aggregation for a batch. The input is capped by the
+   * query size limit, so if a batch reaches it some of its events may be missing and the windows
+   * would be silently wrong. The open windows, holding the events of the previous batches, are
+   * emitted as they are, and the batch plan, whose aggregation reads all the events, is executed
+   * for this batch and the later ones instead.
+   */
+  private void executeWindowed(
+      WindowedAggregation aggregation, PlanContext planContext, long batchId, Offset offset) {
+    Integer sizeLimit = queryService.getQuerySizeLimit();
+    queryService.executePlan(
+        aggregation.getInputPlan(),
+        planContext,
+        new ResponseListener<>() {
+          @Override
+          public void onResponse(ExecutionEngine.QueryResponse response) {
+            if (sizeLimit != null && response.getResults().size() >= sizeLimit) {
+              log.warn(
+                  "input of batch {} reached size limit {}, fall back to batch plan. source = {}",
+                  batchId,
+                  sizeLimit,
+                  source);
+              windowedAggregation = Optional.empty();
+              batchFallback = true;
+              emit(aggregation.getSchema(), aggregation.flush());
+              executeBatch(planContext, batchId, offset);
+              return;
             }
+            emit(aggregation.getSchema(), aggregation.process(response.getResults()));
+            committedLog.add(batchId, offset);
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            log.error("streaming processing failed. source = {} {}", source, e);
+          }
+        });
+  }
 
-            @Override
-            public void onFailure(Exception e) {
-              log.error("streaming processing failed. source = {} {}", source, e);
+  private void executeBatch(PlanContext planContext, long batchId, Offset offset) {
+    queryService.executePlan(
+        batchPlan,
+        planContext,
+        new ResponseListener<>() {
+          @Override
+          public void onResponse(ExecutionEngine.QueryResponse response) {
+            if (batchFallback) {
+              emit(response.getSchema(), response.getResults());
             }
-          });
+            committedLog.add(batchId, offset);
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            log.error("streaming processing failed. source = {} {}", source, e);
+          }
+        });
+  }
+
+  private void emit(ExecutionEngine.Schema schema, List<ExprValue> rows) {
+    if (!rows.isEmpty()) {
+      windowListener.onResponse(new ExecutionEngine.QueryResponse(schema, rows, Cursor.None));
     }
   }
 
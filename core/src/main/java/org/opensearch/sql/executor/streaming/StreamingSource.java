@@ -6,6 +6,7 @@
 package org.opensearch.sql.executor.streaming;
 
 import java.util.Optional;
+import org.opensearch.sql.executor.QueryId;
 
 /** Streaming source. */
 public interface StreamingSource {
@@ -24,4 +25,16 @@ public interface StreamingSource {
    * @return @link Batch}.
    */
   Batch getBatch(Optional<Offset> start, Offset end);
+
+  /**
+   * Create a log of the batch offsets of a streaming query reading this source. The log is kept in
+   * memory by default, so a restarted query reads the source from the beginning again.
+   *
+   * @param queryId id of the streaming query.
+   * @param logName name of the log in the query.
+   * @return {@link MetadataLog}.
+   */
+  default MetadataLog<Offset> createMetadataLog(QueryId queryId, String logName) {
+    return new DefaultMetadataLog<>();
+  }
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor.streaming;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.planner.logical.LogicalAggregation;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalProject;
+import org.opensearch.sql.planner.streaming.windowing.WindowedAggregator;
+
+/**
+ * Incremental execution of a batch plan that aggregates by a time span, e.g. {@code stats count()
+ * by span(@timestamp, 1m)}. Each batch only runs the input of the aggregation, whose rows are
+ * accumulated into the per-window state of a {@link WindowedAggregator} instead of aggregating the
+ * whole history again. The projections above the aggregation are applied to the fired windows.
+ */
+@RequiredArgsConstructor
+public class WindowedAggregation {
+
+  /** Plan producing the events of a batch. */
+  @Getter private final LogicalPlan inputPlan;
+
+  /** Projections above the aggregation, from the innermost one. */
+  private final List<LogicalProject> projects;
+
+  private final WindowedAggregator aggregator;
+
+  /** Schema of the rows of the fired windows. */
+  @Getter private final ExecutionEngine.Schema schema;
+
+  /**
+   * Create the windowed aggregation of a batch plan.
+   *
+   * @param plan batch plan
+   * @param maxOutOfOrderAllowed maximum out-of-order delay of events in millisecond
+   * @return windowed aggregation, or empty if the plan is not an aggregation by a time span
+   */
+  public static Optional<WindowedAggregation> of(LogicalPlan plan, long maxOutOfOrderAllowed) {
+    List<LogicalProject> projects = new ArrayList<>();
+    while (plan instanceof LogicalProject project
+        && project.getNamedParseExpressions().isEmpty()) {
+      projects.add(0, project);
+      plan = project.getChild().get(0);
+    }
+    if (!(plan instanceof LogicalAggregation aggregation)) {
+      return Optional.empty();
+    }
+    List<ExecutionEngine.Schema.Column> columns = new ArrayList<>();
+    if (projects.isEmpty()) {
+      aggregation.getGroupByList().forEach(expr -> columns.add(column(expr)));
+      aggregation
+          .getAggregatorList()
+          .forEach(
+              agg ->
+                  columns.add(new ExecutionEngine.Schema.Column(agg.getName(), null, agg.type())));
+    } else {
+      projects.get(projects.size() - 1).getProjectList().forEach(expr -> columns.add(column(expr)));
+    }
+    ExecutionEngine.Schema schema = new ExecutionEngine.Schema(columns);
+    return WindowedAggregator.create(
+            aggregation.getAggregatorList(), aggregation.getGroupByList(), maxOutOfOrderAllowed)
+        .map(
+            aggregator ->
+                new WindowedAggregation(
+                    aggregation.getChild().get(0), projects, aggregator, schema));
+  }
+
+  /**
+   * Accumulate the rows of a batch and return the windows fired after it.
+   *
+   * @param rows rows produced by the input plan for the batch
+   * @return rows of the fired windows
+   */
+  public List<ExprValue> process(List<ExprValue> rows) {
+    rows.forEach(row -> aggregator.accumulate(row.bindingTuples()));
+    return project(aggregator.fire());
+  }
+
+  /**
+   * Emit all the open windows, whether the watermark passed them or not, and drop their state.
+   *
+   * @return rows of the open windows
+   */
+  public List<ExprValue> flush() {
+    return project(aggregator.flush());
+  }
+
+  private List<ExprValue> project(List<ExprValue> results) {
+    for (LogicalProject project : projects) {
+      results = results.stream().map(row -> project(project, row)).collect(Collectors.toList());
+    }
+    return results;
+  }
+
+  private static ExecutionEngine.Schema.Column column(NamedExpression expr) {
+    return new ExecutionEngine.Schema.Column(expr.getName(), expr.getAlias(), expr.type());
+  }
+
+  private static ExprValue project(LogicalProject project, ExprValue row) {
+    ImmutableMap.Builder<String, ExprValue> builder = new ImmutableMap.Builder<>();
+    for (NamedExpression expr : project.getProjectList()) {
+      builder.put(expr.getNameOrAlias(), expr.valueOf(row.bindingTuples()));
+    }
+    return ExprTupleValue.fromExprValueMap(builder.build());
+  }
+}
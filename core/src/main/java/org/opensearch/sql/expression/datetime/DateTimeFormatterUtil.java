@@ -18,10 +18,15 @@ import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.ResolverStyle;
 import java.time.temporal.ChronoField;
 import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import org.apache.calcite.linq4j.function.Deterministic;
 import org.opensearch.sql.data.model.ExprNullValue;
 import org.opensearch.sql.data.model.ExprStringValue;
 import org.opensearch.sql.data.model.ExprTimestampValue;
@@ -194,6 +199,13 @@ public class DateTimeFormatterUtil {
           .put("%x", "u") // %x Year for week where Monday is the first day
           .build();
 
+  // Specifiers whose handlers format the datetime themselves instead of returning a pattern.
+  private static final Set<String> DATETIME_DEPENDENT_SPECIFIERS =
+      Set.of("%D", "%f", "%w", "%U", "%u", "%V", "%v", "%X", "%x");
+
+  // Characters which may change the meaning of a pattern once it is split around a specifier.
+  private static final String PATTERN_SENSITIVE_CHARACTERS = "'$\\[]{}#";
+
   private static final Pattern pattern = Pattern.compile("%.");
   private static final Pattern CHARACTERS_WITH_NO_MOD_LITERAL_BEHIND_PATTERN =
       Pattern.compile("(?<!%)[a-zA-Z&&[^aydmshiHIMYDSEL]]+");
@@ -307,6 +319,148 @@ public class DateTimeFormatterUtil {
     return getFormattedString(formatExpr, TIME_HANDLERS, time);
   }
 
+  /**
+   * Format the date using a compiled date format.
+   *
+   * @param dateExpr the date ExprValue of Date/Timestamp/String type.
+   * @param format the compiled date format.
+   * @return Date formatted using format and returned as a String.
+   */
+  public static ExprValue getFormattedDate(ExprValue dateExpr, CompiledDateFormat format) {
+    return format.format(dateExpr.timestampValue().atZone(ZoneOffset.UTC).toLocalDateTime());
+  }
+
+  public static ExprValue getFormattedDateOfToday(
+      CompiledDateFormat format, ExprValue time, Clock current) {
+    return format.format(LocalDateTime.of(LocalDate.now(current), time.timeValue()));
+  }
+
+  /**
+   * Format the time using a compiled time format.
+   *
+   * @param timeExpr the date ExprValue of Date/Datetime/Timestamp/String type.
+   * @param format the compiled time format.
+   * @return Time formatted using format and returned as a String.
+   */
+  public static ExprValue getFormattedTime(ExprValue timeExpr, CompiledDateFormat format) {
+    return format.format(LocalDateTime.of(LocalDate.now(), timeExpr.timeValue()));
+  }
+
+  /**
+   * A DATE_FORMAT or TIME_FORMAT format string compiled once, so that formatting a value does not
+   * build a DateTimeFormatter. The format is split at the specifiers depending on the datetime,
+   * e.g. %D or %f, into DateTimeFormatters of the static parts and the handlers of those
+   * specifiers. Formats which cannot be split safely, e.g. containing quotes, are formatted per
+   * value as before.
+   */
+  @Deterministic
+  public static final class CompiledDateFormat {
+    private final String format;
+    private final Map<String, DateTimeFormatHandler> handlers;
+
+    /** Parts whose outputs are concatenated, or null to format per value. */
+    private final List<Function<LocalDateTime, String>> parts;
+
+    public CompiledDateFormat(String format, boolean time) {
+      this.format = format;
+      this.handlers = time ? TIME_HANDLERS : DATE_HANDLERS;
+      this.parts = compile(format, handlers);
+    }
+
+    /**
+     * Format the datetime.
+     *
+     * @param datetime the datetime to be formatted
+     * @return the formatted string, or null if a specifier is not supported for the value
+     */
+    public ExprValue format(LocalDateTime datetime) {
+      if (parts == null) {
+        return getFormattedString(new ExprStringValue(format), handlers, datetime);
+      }
+      StringBuilder result = new StringBuilder();
+      for (Function<LocalDateTime, String> part : parts) {
+        String text = part.apply(datetime);
+        if (text == null) {
+          return ExprNullValue.of();
+        }
+        result.append(text);
+      }
+      return new ExprStringValue(result.toString());
+    }
+
+    private static List<Function<LocalDateTime, String>> compile(
+        String format, Map<String, DateTimeFormatHandler> handlers) {
+      if (format.chars().anyMatch(c -> PATTERN_SENSITIVE_CHARACTERS.indexOf(c) >= 0)) {
+        return null;
+      }
+      // Static pattern fragments at even positions, separated by datetime dependent handlers
+      List<Object> tokens = new ArrayList<>();
+      String cleanFormat = getCleanFormat(format).toString();
+      Matcher matcher = pattern.matcher(cleanFormat);
+      StringBuilder fragment = new StringBuilder();
+      int last = 0;
+      while (matcher.find()) {
+        fragment.append(cleanFormat, last, matcher.start());
+        last = matcher.end();
+        String specifier = matcher.group();
+        DateTimeFormatHandler handler = handlers.get(specifier);
+        if (handler != null && DATETIME_DEPENDENT_SPECIFIERS.contains(specifier)) {
+          tokens.add(fragment.toString());
+          tokens.add(handler);
+          fragment.setLength(0);
+        } else {
+          // The remaining handlers return a pattern regardless of the datetime
+          String replacement =
+              handler == null
+                  ? String.format("'%s'", specifier.substring(1))
+                  : handler.getFormat(null);
+          if (replacement == null) {
+            return List.of(datetime -> null);
+          }
+          fragment.append(replacement);
+        }
+      }
+      fragment.append(cleanFormat, last, cleanFormat.length());
+      tokens.add(fragment.toString());
+
+      List<Function<LocalDateTime, String>> parts = new ArrayList<>();
+      for (int i = 0; i < tokens.size(); i++) {
+        if (tokens.get(i) instanceof DateTimeFormatHandler handler) {
+          parts.add(datetime -> formatUnquoted(handler, datetime));
+          continue;
+        }
+        String fragmentPattern = (String) tokens.get(i);
+        boolean afterHandler = i > 0;
+        boolean beforeHandler = i < tokens.size() - 1;
+        // A handler output is quoted, so an adjacent quote would escape a quote in one pattern
+        if ((afterHandler && beforeHandler && fragmentPattern.isEmpty())
+            || (afterHandler && fragmentPattern.startsWith("'"))
+            || (beforeHandler && fragmentPattern.endsWith("'"))) {
+          return null;
+        }
+        if (!fragmentPattern.isEmpty()) {
+          try {
+            DateTimeFormatter formatter =
+                DateTimeFormatter.ofPattern(fragmentPattern, Locale.ENGLISH);
+            parts.add(formatter::format);
+          } catch (IllegalArgumentException e) {
+            return null;
+          }
+        }
+      }
+      return parts;
+    }
+
+    private static String formatUnquoted(DateTimeFormatHandler handler, LocalDateTime datetime) {
+      try {
+        String quoted = handler.getFormat(datetime);
+        return quoted == null ? null : quoted.substring(1, quoted.length() - 1);
+      } catch (Exception e) {
+        return null;
+      }
+    }
+  }
+
   private static boolean canGetDate(TemporalAccessor ta) {
     return (ta.isSupported(ChronoField.YEAR)
         && ta.isSupported(ChronoField.MONTH_OF_YEAR)
@@ -11,10 +11,13 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.TextStyle;
 import java.time.temporal.IsoFields;
 import java.time.temporal.WeekFields;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import org.apache.calcite.linq4j.function.Deterministic;
 import org.opensearch.sql.data.model.ExprStringValue;
 import org.opensearch.sql.data.model.ExprValue;
 
@@ -22,7 +25,6 @@ import org.opensearch.sql.data.model.ExprValue;
 public class StrftimeFormatterUtil {
 
   // Constants
-  private static final String PERCENT_PLACEHOLDER = "\u0001PERCENT\u0001";
   private static final String PERCENT_LITERAL = "%%";
   private static final int DEFAULT_NANOSECOND_PRECISION = 9;
   private static final int DEFAULT_MILLISECOND_PRECISION = 3;
@@ -45,71 +47,75 @@ public class StrftimeFormatterUtil {
   private static Map<String, StrftimeFormatHandler> buildHandlers() {
     return ImmutableMap.<String, StrftimeFormatHandler>builder()
         // Date and time combinations
-        .put(
-            "%c",
-            dt -> dt.format(DateTimeFormatter.ofPattern("EEE MMM dd HH:mm:ss yyyy", Locale.ROOT)))
-        .put(
-            "%+",
-            dt ->
-                dt.format(DateTimeFormatter.ofPattern("EEE MMM dd HH:mm:ss zzz yyyy", Locale.ROOT)))
+        .put("%c", pattern("EEE MMM dd HH:mm:ss yyyy"))
+        .put("%+", pattern("EEE MMM dd HH:mm:ss zzz yyyy"))
 
         // Time formats
         .put("%Ez", StrftimeFormatterUtil::formatTimezoneOffsetMinutes)
         .put("%f", dt -> String.format("%06d", dt.getNano() / 1000))
-        .put("%H", dt -> dt.format(DateTimeFormatter.ofPattern("HH", Locale.ROOT)))
-        .put("%I", dt -> dt.format(DateTimeFormatter.ofPattern("hh", Locale.ROOT)))
+        .put("%H", pattern("HH"))
+        .put("%I", pattern("hh"))
         .put("%k", dt -> String.format("%2d", dt.getHour()))
-        .put("%M", dt -> dt.format(DateTimeFormatter.ofPattern("mm", Locale.ROOT)))
-        .put("%p", dt -> dt.format(DateTimeFormatter.ofPattern("a", Locale.ROOT)))
-        .put("%S", dt -> dt.format(DateTimeFormatter.ofPattern("ss", Locale.ROOT)))
+        .put("%M", pattern("mm"))
+        .put("%p", pattern("a"))
+        .put("%S", pattern("ss"))
         .put("%s", dt -> String.valueOf(dt.toEpochSecond()))
-        .put("%T", dt -> dt.format(DateTimeFormatter.ofPattern("HH:mm:ss", Locale.ROOT)))
-        .put("%X", dt -> dt.format(DateTimeFormatter.ofPattern("HH:mm:ss", Locale.ROOT)))
+        .put("%T", pattern("HH:mm:ss"))
+        .put("%X", pattern("HH:mm:ss"))
 
         // Timezone formats
         .put("%Z", dt -> dt.getZone().getDisplayName(TextStyle.SHORT, Locale.ROOT))
-        .put("%z", dt -> dt.format(DateTimeFormatter.ofPattern("xx", Locale.ROOT)))
-        .put("%:z", dt -> dt.format(DateTimeFormatter.ofPattern("xxx", Locale.ROOT)))
-        .put("%::z", dt -> dt.format(DateTimeFormatter.ofPattern("xxx:ss", Locale.ROOT)))
-        .put("%:::z", dt -> dt.format(DateTimeFormatter.ofPattern("x", Locale.ROOT)))
+        .put("%z", pattern("xx"))
+        .put("%:z", pattern("xxx"))
+        .put("%::z", pattern("xxx:ss"))
+        .put("%:::z", pattern("x"))
 
         // Date formats
-        .put("%F", dt -> dt.format(DateTimeFormatter.ofPattern("yyyy-MM-dd", Locale.ROOT)))
-        .put("%x", dt -> dt.format(DateTimeFormatter.ofPattern("MM/dd/yyyy", Locale.ROOT)))
+        .put("%F", pattern("yyyy-MM-dd"))
+        .put("%x", pattern("MM/dd/yyyy"))
 
         // Weekday formats
-        .put("%A", dt -> dt.format(DateTimeFormatter.ofPattern("EEEE", Locale.ROOT)))
-        .put("%a", dt -> dt.format(DateTimeFormatter.ofPattern("EEE", Locale.ROOT)))
+        .put("%A", pattern("EEEE"))
+        .put("%a", pattern("EEE"))
         .put("%w", dt -> String.valueOf(dt.getDayOfWeek().getValue() % 7))
 
         // Day formats
-        .put("%d", dt -> dt.format(DateTimeFormatter.ofPattern("dd", Locale.ROOT)))
+        .put("%d", pattern("dd"))
         .put("%e", dt -> String.format("%2d", dt.getDayOfMonth()))
-        .put("%j", dt -> dt.format(DateTimeFormatter.ofPattern("DDD", Locale.ROOT)))
+        .put("%j", pattern("DDD"))
 
         // Week formats
         .put("%V", dt -> String.format("%02d", dt.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR)))
         .put("%U", dt -> String.format("%02d", dt.get(WeekFields.SUNDAY_START.weekOfYear()) - 1))
 
         // Month formats
-        .put("%b", dt -> dt.format(DateTimeFormatter.ofPattern("MMM", Locale.ROOT)))
-        .put("%B", dt -> dt.format(DateTimeFormatter.ofPattern("MMMM", Locale.ROOT)))
-        .put("%m", dt -> dt.format(DateTimeFormatter.ofPattern("MM", Locale.ROOT)))
+        .put("%b", pattern("MMM"))
+        .put("%B", pattern("MMMM"))
+        .put("%m", pattern("MM"))
 
         // Year formats
         .put("%C", dt -> String.format("%02d", dt.getYear() / 100))
         .put("%g", dt -> String.format("%02d", dt.get(IsoFields.WEEK_BASED_YEAR) % 100))
         .put("%G", dt -> String.format("%04d", dt.get(IsoFields.WEEK_BASED_YEAR)))
-        .put("%y", dt -> dt.format(DateTimeFormatter.ofPattern("yy", Locale.ROOT)))
-        .put("%Y", dt -> dt.format(DateTimeFormatter.ofPattern("yyyy", Locale.ROOT)))
+        .put("%y", pattern("yy"))
+        .put("%Y", pattern("yyyy"))
 
         // Literal percent
         .put(PERCENT_LITERAL, dt -> "%")
         .build();
   }
 
+  private static final int MAX_SPECIFIER_LENGTH =
+      STRFTIME_HANDLERS.keySet().stream().mapToInt(String::length).max().orElse(0);
+
   private StrftimeFormatterUtil() {}
 
+  /** Handler formatting with a pattern, compiled once since DateTimeFormatter is immutable. */
+  private static StrftimeFormatHandler pattern(String pattern) {
+    DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern, Locale.ROOT);
+    return formatter::format;
+  }
+
   /**
    * Format a ZonedDateTime using STRFTIME format specifiers.
    *
@@ -118,55 +124,96 @@ public class StrftimeFormatterUtil {
    * @return Formatted string as ExprValue, or ExprNullValue if inputs are null
    */
   public static ExprValue formatZonedDateTime(ZonedDateTime dateTime, String formatString) {
-    String result = processFormatString(formatString, dateTime);
-    return new ExprStringValue(result);
+    return new ExprStringValue(new CompiledStrftimeFormat(formatString).format(dateTime));
   }
 
-  /** Process the format string and replace all format specifiers. */
-  private static String processFormatString(String formatString, ZonedDateTime dateTime) {
-    // Handle %N and %Q with precision first
-    String result = handleSubSecondFormats(formatString, dateTime);
-
-    // Escape %% by replacing with placeholder
-    result = result.replace(PERCENT_LITERAL, PERCENT_PLACEHOLDER);
-
-    // Replace all other format specifiers
-    result = replaceFormatSpecifiers(result, dateTime);
+  /**
+   * A STRFTIME format string compiled once into a sequence of literal texts and specifier handlers,
+   * so that formatting a value only runs the handlers.
+   */
+  @Deterministic
+  public static final class CompiledStrftimeFormat {
+    private final List<StrftimeFormatHandler> parts;
 
-    // Restore literal percent signs
-    return result.replace(PERCENT_PLACEHOLDER, "%");
-  }
+    public CompiledStrftimeFormat(String formatString) {
+      this.parts = compile(formatString);
+    }
 
-  /** Replace all format specifiers in the string. */
-  private static String replaceFormatSpecifiers(String input, ZonedDateTime dateTime) {
-    String result = input;
-    for (Map.Entry<String, StrftimeFormatHandler> entry : STRFTIME_HANDLERS.entrySet()) {
-      String specifier = entry.getKey();
-      if (result.contains(specifier)) {
-        String replacement = entry.getValue().format(dateTime);
-        result = result.replace(specifier, replacement);
+    /**
+     * Format a ZonedDateTime.
+     *
+     * @param dateTime The ZonedDateTime to format
+     * @return Formatted string
+     */
+    public String format(ZonedDateTime dateTime) {
+      StringBuilder result = new StringBuilder();
+      for (StrftimeFormatHandler part : parts) {
+        result.append(part.format(dateTime));
       }
+      return result.toString();
     }
-    return result;
   }
 
-  /** Handle %N and %Q subsecond formats with optional precision. */
-  private static String handleSubSecondFormats(String format, ZonedDateTime dateTime) {
-    StringBuilder result = new StringBuilder();
-    Matcher matcher = SUBSECOND_PATTERN.matcher(format);
-
+  /** Split the format string into literal texts and the handlers of its specifiers. */
+  private static List<StrftimeFormatHandler> compile(String formatString) {
+    List<StrftimeFormatHandler> parts = new ArrayList<>();
+    // Handle %N and %Q with precision first, even if preceded by %
+    Matcher matcher = SUBSECOND_PATTERN.matcher(formatString);
+    int last = 0;
     while (matcher.find()) {
-      String precisionStr = matcher.group(1);
+      compileSpecifiers(formatString.substring(last, matcher.start()), parts);
       String type = matcher.group(2);
+      int precision = parsePrecision(matcher.group(1), type);
+      parts.add(dt -> formatSubseconds(dt, type, precision));
+      last = matcher.end();
+    }
+    compileSpecifiers(formatString.substring(last), parts);
+    return parts;
+  }
 
-      int precision = parsePrecision(precisionStr, type);
-      String replacement = formatSubseconds(dateTime, type, precision);
+  /** Compile the specifiers of a segment without subsecond formats. */
+  private static void compileSpecifiers(String segment, List<StrftimeFormatHandler> parts) {
+    StringBuilder literal = new StringBuilder();
+    int i = 0;
+    while (i < segment.length()) {
+      // Escaped %% is a literal percent sign
+      if (segment.startsWith(PERCENT_LITERAL, i)) {
+        literal.append('%');
+        i += PERCENT_LITERAL.length();
+        continue;
+      }
+      String specifier = segment.charAt(i) == '%' ? matchSpecifier(segment, i) : null;
+      if (specifier == null) {
+        literal.append(segment.charAt(i++));
+        continue;
+      }
+      addLiteral(parts, literal);
+      parts.add(STRFTIME_HANDLERS.get(specifier));
+      i += specifier.length();
+    }
+    addLiteral(parts, literal);
+  }
 
-      matcher.appendReplacement(result, replacement);
+  /** Match the specifier at the given position. No specifier is a prefix of another one. */
+  private static String matchSpecifier(String segment, int start) {
+    for (int length = 2; length <= MAX_SPECIFIER_LENGTH; length++) {
+      if (start + length > segment.length()) {
+        return null;
+      }
+      String candidate = segment.substring(start, start + length);
+      if (STRFTIME_HANDLERS.containsKey(candidate)) {
+        return candidate;
+      }
     }
-    matcher.appendTail(result);
+    return null;
+  }
 
-    return result.toString();
+  private static void addLiteral(List<StrftimeFormatHandler> parts, StringBuilder literal) {
+    if (!literal.isEmpty()) {
+      String text = literal.toString();
+      parts.add(dt -> text);
+      literal.setLength(0);
+    }
   }
 
   /** Parse precision value for subsecond formats. */
@@ -0,0 +1,93 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.function.jsonUDF;
+
+import static org.opensearch.sql.calcite.utils.OpenSearchTypeFactory.TYPE_FACTORY;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.calcite.adapter.enumerable.NotNullImplementor;
+import org.apache.calcite.adapter.enumerable.NullPolicy;
+import org.apache.calcite.adapter.enumerable.RexImpTable;
+import org.apache.calcite.adapter.enumerable.RexToLixTranslator;
+import org.apache.calcite.linq4j.tree.Expression;
+import org.apache.calcite.linq4j.tree.Expressions;
+import org.apache.calcite.linq4j.tree.Types;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.schema.impl.ScalarFunctionImpl;
+import org.apache.calcite.sql.type.ReturnTypes;
+import org.apache.calcite.sql.type.SqlReturnTypeInference;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.sql.type.SqlTypeUtil;
+import org.opensearch.sql.expression.function.ImplementorUDF;
+import org.opensearch.sql.expression.function.UDFOperandMetadata;
+
+/**
+ * Internal function json_extract_all(json, path1, path2, ...) which extracts several paths from the
+ * same JSON document with a single parse. It returns a map from each path to the value {@code
+ * json_extract(json, path)} would return. It is not exposed to users, but is planned in place of
+ * several json_extract calls on the same document.
+ */
+public class JsonExtractAllFunctionImpl extends ImplementorUDF {
+  public JsonExtractAllFunctionImpl() {
+    super(new JsonExtractAllImplementor(), NullPolicy.ANY);
+  }
+
+  @Override
+  public SqlReturnTypeInference getReturnTypeInference() {
+    return ReturnTypes.explicit(
+        SqlTypeUtil.createMapType(
+            TYPE_FACTORY,
+            TYPE_FACTORY.createSqlType(SqlTypeName.VARCHAR),
+            TYPE_FACTORY.createTypeWithNullability(
+                TYPE_FACTORY.createSqlType(SqlTypeName.VARCHAR), true),
+            true));
+  }
+
+  @Override
+  public UDFOperandMetadata getOperandMetadata() {
+    return null;
+  }
+
+  public static class JsonExtractAllImplementor implements NotNullImplementor {
+    @Override
+    public Expression implement(
+        RexToLixTranslator translator, RexCall call, List<Expression> translatedOperands) {
+      Expression extractor = JsonPathExtractor.newExtractor(call);
+      if (extractor != null) {
+        return Expressions.call(
+            JsonExtractAllFunctionImpl.class, "extract", extractor, translatedOperands.get(0));
+      }
+      ScalarFunctionImpl function =
+          (ScalarFunctionImpl)
+              ScalarFunctionImpl.create(
+                  Types.lookupMethod(JsonExtractAllFunctionImpl.class, "eval", Object[].class));
+      return function.getImplementor().implement(translator, call, RexImpTable.NullAs.NULL);
+    }
+  }
+
+  public static Map<String, String> eval(Object... args) {
+    if (args.length < 2) {
+      return null;
+    }
+    List<String> jsonPaths =
+        Arrays.asList(args).subList(1, args.length).stream().map(Object::toString).toList();
+    return extract(new JsonPathExtractor(jsonPaths), args[0]);
+  }
+
+  public static Map<String, String> extract(JsonPathExtractor extractor, Object json) {
+    String jsonStr = (String) json;
+    List<String> jsonPaths = extractor.getPaths();
+    List<Object> results = extractor.extract(jsonStr);
+    Map<String, String> extracted = new HashMap<>();
+    for (int i = 0; i < jsonPaths.size(); i++) {
+      extracted.put(jsonPaths.get(i), JsonExtractFunctionImpl.doJsonize(results.get(i)));
+    }
+    return extracted;
+  }
+}
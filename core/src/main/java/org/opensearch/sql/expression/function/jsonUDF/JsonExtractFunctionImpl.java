@@ -5,12 +5,8 @@
 
 package org.opensearch.sql.expression.function.jsonUDF;
 
-import static org.apache.calcite.sql.SqlJsonQueryEmptyOrErrorBehavior.NULL;
-import static org.apache.calcite.sql.SqlJsonQueryWrapperBehavior.WITHOUT_ARRAY;
 import static org.opensearch.sql.calcite.utils.PPLReturnTypes.STRING_FORCE_NULLABLE;
-import static org.opensearch.sql.expression.function.jsonUDF.JsonUtils.*;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
@@ -20,11 +16,11 @@ import org.apache.calcite.adapter.enumerable.NullPolicy;
 import org.apache.calcite.adapter.enumerable.RexImpTable;
 import org.apache.calcite.adapter.enumerable.RexToLixTranslator;
 import org.apache.calcite.linq4j.tree.Expression;
+import org.apache.calcite.linq4j.tree.Expressions;
 import org.apache.calcite.linq4j.tree.Types;
 import org.apache.calcite.rex.RexCall;
 import org.apache.calcite.runtime.JsonFunctions;
 import org.apache.calcite.schema.impl.ScalarFunctionImpl;
-import org.apache.calcite.sql.SqlJsonValueEmptyOrErrorBehavior;
 import org.apache.calcite.sql.type.SqlReturnTypeInference;
 import org.opensearch.sql.expression.function.ImplementorUDF;
 import org.opensearch.sql.expression.function.UDFOperandMetadata;
@@ -48,6 +44,11 @@ public class JsonExtractFunctionImpl extends ImplementorUDF {
     @Override
     public Expression implement(
         RexToLixTranslator translator, RexCall call, List<Expression> translatedOperands) {
+      Expression extractor = JsonPathExtractor.newExtractor(call);
+      if (extractor != null) {
+        return Expressions.call(
+            JsonExtractFunctionImpl.class, "extract", extractor, translatedOperands.get(0));
+      }
       ScalarFunctionImpl function =
           (ScalarFunctionImpl)
               ScalarFunctionImpl.create(
@@ -60,24 +61,15 @@ public class JsonExtractFunctionImpl extends ImplementorUDF {
     if (args.length < 2) {
       return null;
     }
-    JsonFunctions.StatefulFunction a = new JsonFunctions.StatefulFunction();
-    String jsonStr = (String) args[0];
-    List<Object> jsonPaths = Arrays.asList(args).subList(1, args.length);
-    List<String> pathSpecs =
-        jsonPaths.stream().map(Object::toString).map(JsonUtils::convertToJsonPath).toList();
-    List<Object> results = new ArrayList<>();
-    for (String pathSpec : pathSpecs) {
-      Object queryResult = a.jsonQuery(jsonStr, pathSpec, WITHOUT_ARRAY, NULL, NULL, false);
-      Object valueResult =
-          a.jsonValue(
-              jsonStr,
-              pathSpec,
-              SqlJsonValueEmptyOrErrorBehavior.NULL,
-              null,
-              SqlJsonValueEmptyOrErrorBehavior.NULL,
-              null);
-      results.add(queryResult != null ? queryResult : valueResult);
-    }
+    List<String> jsonPaths =
+        Arrays.asList(args).subList(1, args.length).stream().map(Object::toString).toList();
+    return extract(new JsonPathExtractor(jsonPaths), args[0]);
+  }
+
+  public static String extract(JsonPathExtractor extractor, Object json) {
+    String jsonStr = (String) json;
+    List<String> jsonPaths = extractor.getPaths();
+    List<Object> results = extractor.extract(jsonStr);
     if (jsonPaths.size() == 1) {
       return doJsonize(results.getFirst());
     }
@@ -92,7 +84,7 @@ public class JsonExtractFunctionImpl extends ImplementorUDF {
     }
   }
 
-  private static String doJsonize(Object candidate) {
+  static String doJsonize(Object candidate) {
     if (candidate == null) {
       return "null"; // Matches isScalarObject, but not toString-able.
     } else if (isScalarObject(candidate)) {
@@ -0,0 +1,384 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.function.jsonUDF;
+
+import static org.apache.calcite.sql.SqlJsonQueryEmptyOrErrorBehavior.NULL;
+import static org.apache.calcite.sql.SqlJsonQueryWrapperBehavior.WITHOUT_ARRAY;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.NullNode;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.calcite.linq4j.function.Deterministic;
+import org.apache.calcite.linq4j.tree.Expression;
+import org.apache.calcite.linq4j.tree.Expressions;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.runtime.JsonFunctions;
+import org.apache.calcite.sql.SqlJsonValueEmptyOrErrorBehavior;
+
+/**
+ * Extracts several paths from a JSON document with a single streaming parse. The paths are
+ * compiled into a trie once per query, so a document is walked once for all of them: subtrees not
+ * on any path are skipped without being materialized. Parsing stops at the end of the root value,
+ * so content after it is ignored, and invalid JSON within it matches nothing, as with Calcite JSON
+ * functions. A document repeating a key on a path is extracted from its tree instead, where the
+ * last value of the key wins. Paths beyond field names, array indices and wildcards, e.g. slices
+ * or filters, fall back to Calcite JSON functions.
+ */
+@Deterministic
+public final class JsonPathExtractor {
+
+  private static final JsonFunctions.StatefulFunction jsonFunctions =
+      new JsonFunctions.StatefulFunction();
+
+  /** PPL paths to extract, e.g. a.b{0}.c. */
+  private final List<String> paths;
+
+  /** Normalized json paths, e.g. $.a.b[0].c. */
+  private final List<String> pathSpecs;
+
+  /** Whether a path may match several values, in which case it yields an array. */
+  private final boolean[] indefinite;
+
+  /** Root of the trie of supported paths. */
+  private final Node root = new Node();
+
+  /** Paths which are not supported by the streaming extraction. */
+  private final List<Integer> fallbackPaths = new ArrayList<>();
+
+  public JsonPathExtractor(String... paths) {
+    this(List.of(paths));
+  }
+
+  public JsonPathExtractor(List<String> paths) {
+    this.paths = List.copyOf(paths);
+    this.pathSpecs = paths.stream().map(JsonUtils::convertToJsonPath).toList();
+    this.indefinite = new boolean[paths.size()];
+    for (int i = 0; i < pathSpecs.size(); i++) {
+      List<Segment> segments = parse(pathSpecs.get(i));
+      if (segments == null) {
+        fallbackPaths.add(i);
+        continue;
+      }
+      Node node = root;
+      for (Segment segment : segments) {
+        indefinite[i] |= segment.wildcard;
+        node = node.child(segment);
+      }
+      node.terminals.add(i);
+    }
+  }
+
+  /**
+   * Construct the extractor of the paths of a JSON function call, i.e. its operands after the
+   * document. With constant paths, the code generator hoists the deterministic constructor call
+   * into a static field, so the paths are compiled once per query instead of once per row.
+   *
+   * @param call JSON function call
+   * @return expression of the new extractor, or null if a path is not a constant
+   */
+  static Expression newExtractor(RexCall call) {
+    List<RexNode> pathOperands = call.getOperands().subList(1, call.getOperands().size());
+    if (pathOperands.isEmpty()
+        || !pathOperands.stream()
+            .allMatch(operand -> operand instanceof RexLiteral literal && !literal.isNull())) {
+      return null;
+    }
+    return Expressions.new_(
+        JsonPathExtractor.class,
+        pathOperands.stream()
+            .map(
+                operand ->
+                    (Expression)
+                        Expressions.constant(
+                            ((RexLiteral) operand).getValueAs(String.class), String.class))
+            .toList());
+  }
+
+  public List<String> getPaths() {
+    return paths;
+  }
+
+  /**
+   * Extract all paths from the JSON document. A result is null if the path is not found, a JSON
+   * string if it matches an object, an array or several values, or the scalar value otherwise.
+   *
+   * @param json JSON document
+   * @return extracted values in the order of the paths
+   */
+  public List<Object> extract(String json) {
+    Object[] results = new Object[paths.size()];
+    if (fallbackPaths.size() < paths.size()) {
+      try (JsonParser parser = JsonUtils.objectMapper.createParser(json)) {
+        if (parser.nextToken() != null) {
+          stream(parser, root, new State(results));
+        }
+      } catch (DuplicateKeyException e) {
+        extractFromTree(json, results);
+      } catch (IOException e) {
+        // Invalid JSON matches nothing, same as Calcite JSON functions
+        Arrays.fill(results, null);
+      }
+      for (int i = 0; i < results.length; i++) {
+        results[i] = toValue((JsonNode) results[i]);
+      }
+    }
+    for (int i : fallbackPaths) {
+      results[i] = extractWithJsonFunctions(json, pathSpecs.get(i));
+    }
+    return Arrays.asList(results);
+  }
+
+  /** Extract the paths from the tree of the document, which keeps the last value of a key. */
+  private void extractFromTree(String json, Object[] results) {
+    Arrays.fill(results, null);
+    try {
+      JsonNode tree = JsonUtils.objectMapper.readTree(json);
+      if (tree != null) {
+        collect(tree, root, new State(results));
+      }
+    } catch (IOException e) {
+      Arrays.fill(results, null);
+    }
+  }
+
+  private void stream(JsonParser parser, Node node, State state) throws IOException {
+    if (!node.terminals.isEmpty() || (node.wildcard != null && node.hasNamedChild())) {
+      // The value is needed as a whole, or by several branches of the trie
+      JsonNode value = parser.readValueAsTree();
+      collect(value == null ? NullNode.getInstance() : value, node, state);
+      return;
+    }
+    JsonToken token = parser.currentToken();
+    if (token == JsonToken.START_OBJECT) {
+      // Keys of this object which are on a path, to find a key repeated after its value is taken
+      Set<String> keysOnPath = null;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String name = parser.currentName();
+        Node child = node.fields.get(name);
+        parser.nextToken();
+        if (child == null) {
+          child = node.wildcard;
+        }
+        if (child != null) {
+          if (keysOnPath == null) {
+            keysOnPath = new HashSet<>();
+          }
+          if (!keysOnPath.add(name)) {
+            throw DuplicateKeyException.INSTANCE;
+          }
+          stream(parser, child, state);
+        } else {
+          parser.skipChildren();
+        }
+      }
+    } else if (token == JsonToken.START_ARRAY) {
+      int index = 0;
+      while (parser.nextToken() != JsonToken.END_ARRAY) {
+        Node child = node.indices.get(index++);
+        if (child == null) {
+          child = node.wildcard;
+        }
+        if (child != null) {
+          stream(parser, child, state);
+        } else {
+          parser.skipChildren();
+        }
+      }
+    }
+  }
+
+  private void collect(JsonNode value, Node node, State state) {
+    for (int terminal : node.terminals) {
+      state.record(terminal, value);
+    }
+    if (value.isObject()) {
+      node.fields.forEach(
+          (name, child) -> {
+            JsonNode fieldValue = value.get(name);
+            if (fieldValue != null) {
+              collect(fieldValue, child, state);
+            }
+          });
+    } else if (value.isArray()) {
+      node.indices.forEach(
+          (index, child) -> {
+            JsonNode element = value.get(index);
+            if (element != null) {
+              collect(element, child, state);
+            }
+          });
+    }
+    if (node.wildcard != null && value.isContainerNode()) {
+      Iterator<JsonNode> elements = value.elements();
+      while (elements.hasNext()) {
+        collect(elements.next(), node.wildcard, state);
+      }
+    }
+  }
+
+  private static Object toValue(JsonNode node) {
+    if (node == null || node.isNull() || node.isMissingNode()) {
+      return null;
+    } else if (node.isContainerNode()) {
+      return node.toString();
+    } else if (node.isTextual()) {
+      return node.textValue();
+    } else if (node.isNumber()) {
+      return node.numberValue();
+    } else if (node.isBoolean()) {
+      return node.booleanValue();
+    }
+    return node.toString();
+  }
+
+  private static Object extractWithJsonFunctions(String json, String pathSpec) {
+    Object queryResult = jsonFunctions.jsonQuery(json, pathSpec, WITHOUT_ARRAY, NULL, NULL, false);
+    if (queryResult != null) {
+      return queryResult;
+    }
+    return jsonFunctions.jsonValue(
+        json,
+        pathSpec,
+        SqlJsonValueEmptyOrErrorBehavior.NULL,
+        null,
+        SqlJsonValueEmptyOrErrorBehavior.NULL,
+        null);
+  }
+
+  /**
+   * Parse a normalized json path into segments.
+   *
+   * @return segments of the path, or null if the path needs the full JSON path syntax
+   */
+  private static List<Segment> parse(String pathSpec) {
+    if (!pathSpec.startsWith("$")) {
+      return null;
+    }
+    List<Segment> segments = new ArrayList<>();
+    int i = 1;
+    while (i < pathSpec.length()) {
+      char c = pathSpec.charAt(i);
+      if (c == '.') {
+        i++;
+        if (i < pathSpec.length() && pathSpec.charAt(i) == '[') {
+          continue;
+        }
+        int start = i;
+        while (i < pathSpec.length() && ".[".indexOf(pathSpec.charAt(i)) < 0) {
+          i++;
+        }
+        String name = pathSpec.substring(start, i);
+        if (name.isEmpty() || name.chars().anyMatch(ch -> "*'\"()?@,:$ ".indexOf(ch) >= 0)) {
+          return null;
+        }
+        segments.add(Segment.field(name));
+      } else if (c == '[') {
+        int end = pathSpec.indexOf(']', i);
+        if (end < 0) {
+          return null;
+        }
+        String index = pathSpec.substring(i + 1, end).trim();
+        if (index.equals("*")) {
+          segments.add(Segment.WILDCARD);
+        } else if (!index.isEmpty() && index.chars().allMatch(Character::isDigit)) {
+          segments.add(Segment.index(Integer.parseInt(index)));
+        } else {
+          return null;
+        }
+        i = end + 1;
+      } else {
+        return null;
+      }
+    }
+    return segments;
+  }
+
+  /** A step of a path: a field name, an array index or a wildcard. */
+  private record Segment(String field, int index, boolean wildcard) {
+    static final Segment WILDCARD = new Segment(null, -1, true);
+
+    static Segment field(String name) {
+      return new Segment(name, -1, false);
+    }
+
+    static Segment index(int index) {
+      return new Segment(null, index, false);
+    }
+  }
+
+  /** Trie node of the compiled paths. */
+  private static final class Node {
+    private final Map<String, Node> fields = new HashMap<>();
+    private final Map<Integer, Node> indices = new HashMap<>();
+    private final List<Integer> terminals = new ArrayList<>();
+    private Node wildcard;
+
+    private Node child(Segment segment) {
+      if (segment.wildcard) {
+        if (wildcard == null) {
+          wildcard = new Node();
+        }
+        return wildcard;
+      } else if (segment.field != null) {
+        return fields.computeIfAbsent(segment.field, key -> new Node());
+      } else {
+        return indices.computeIfAbsent(segment.index, key -> new Node());
+      }
+    }
+
+    private boolean hasNamedChild() {
+      return !fields.isEmpty() || !indices.isEmpty();
+    }
+  }
+
+  /**
+   * Thrown when a key on a path repeats in an object, whose value taken by the streaming parse may
+   * not be the last one.
+   */
+  private static final class DuplicateKeyException extends RuntimeException {
+    private static final DuplicateKeyException INSTANCE = new DuplicateKeyException();
+
+    private DuplicateKeyException() {
+      super(null, null, false, false);
+    }
+  }
+
+  /** Extraction state of a single document. */
+  private final class State {
+    private final Object[] results;
+
+    private State(Object[] results) {
+      this.results = results;
+      for (int i = 0; i < results.length; i++) {
+        if (indefinite[i]) {
+          results[i] = JsonNodeFactory.instance.arrayNode();
+        }
+      }
+    }
+
+    private void record(int path, JsonNode value) {
+      if (indefinite[path]) {
+        ((ArrayNode) results[path]).add(value);
+      } else {
+        results[path] = value;
+      }
+    }
+  }
+}
@@ -8,24 +8,23 @@ package org.opensearch.sql.expression.function.udf;
 import static org.opensearch.sql.calcite.utils.OpenSearchTypeFactory.TYPE_FACTORY;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 import org.apache.calcite.adapter.enumerable.NotNullImplementor;
 import org.apache.calcite.adapter.enumerable.NullPolicy;
 import org.apache.calcite.adapter.enumerable.RexToLixTranslator;
+import org.apache.calcite.linq4j.function.Deterministic;
 import org.apache.calcite.linq4j.tree.Expression;
 import org.apache.calcite.linq4j.tree.Expressions;
 import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexLiteral;
 import org.apache.calcite.sql.type.ReturnTypes;
 import org.apache.calcite.sql.type.SqlReturnTypeInference;
 import org.apache.calcite.sql.type.SqlTypeName;
 import org.apache.calcite.sql.type.SqlTypeUtil;
-import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.sql.calcite.utils.PPLOperandTypes;
-import org.opensearch.sql.data.model.ExprValue;
-import org.opensearch.sql.expression.DSL;
-import org.opensearch.sql.expression.LiteralExpression;
+import org.opensearch.sql.common.grok.Grok;
 import org.opensearch.sql.expression.function.ImplementorUDF;
 import org.opensearch.sql.expression.function.UDFOperandMetadata;
 import org.opensearch.sql.expression.parse.GrokExpression;
@@ -55,25 +54,45 @@ public final class GrokFunction extends ImplementorUDF {
     @Override
     public Expression implement(
         RexToLixTranslator translator, RexCall call, List<Expression> translatedOperands) {
-      return Expressions.call(GrokFunction.GrokImplementor.class, "grok", translatedOperands);
+      // With a constant pattern, the code generator hoists the deterministic constructor call into
+      // a static field, so the pattern is compiled once per query instead of once per row.
+      Expression pattern =
+          call.getOperands().get(1) instanceof RexLiteral literal
+              ? Expressions.constant(literal.getValueAs(String.class))
+              : translatedOperands.get(1);
+      Expression compiledGrok = Expressions.new_(CompiledGrok.class, pattern);
+      return Expressions.call(compiledGrok, "capture", translatedOperands.get(0));
     }
+  }
+
+  /** Compiled grok pattern which matches an input once and captures all its named fields. */
+  @Deterministic
+  public static final class CompiledGrok {
+    private final Grok grok;
+    private final List<String> namedFields;
 
-    public static Map<String, String> grok(String input, String regex) {
+    public CompiledGrok(String pattern) {
+      this.grok = GrokExpression.compile(pattern);
+      this.namedFields = GrokExpression.getNamedGroupCandidates(grok);
+    }
+
+    /**
+     * Match the input and capture all named fields. Fields not captured are set to empty string.
+     *
+     * @param input input string
+     * @return map from named field to captured value
+     */
+    public Map<String, String> capture(String input) {
       if (input == null) {
-        return Collections.EMPTY_MAP;
+        return Collections.emptyMap();
+      }
+      Map<String, Object> captures = grok.match(input).capture();
+      Map<String, String> result = new HashMap<>();
+      for (String namedField : namedFields) {
+        Object value = captures.get(namedField);
+        result.put(namedField, value == null ? "" : value.toString());
       }
-      LiteralExpression inputExpr = DSL.literal(input);
-      LiteralExpression regexExpr = DSL.literal(regex);
-      List<String> namedFields = GrokExpression.getNamedGroupCandidates(regex);
-      return namedFields.stream()
-          .map(
-              namedField -> {
-                GrokExpression grokExpression =
-                    new GrokExpression(inputExpr, regexExpr, DSL.literal(namedField));
-                ExprValue parsedValue = grokExpression.parseValue(inputExpr.valueOf());
-                return Pair.of(namedField, parsedValue.stringValue());
-              })
-          .collect(Collectors.toMap(Pair::getKey, Pair::getValue));
+      return result;
     }
   }
 }
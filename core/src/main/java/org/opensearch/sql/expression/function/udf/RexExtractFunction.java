@@ -5,9 +5,10 @@
 
 package org.opensearch.sql.expression.function.udf;
 
+import static org.opensearch.sql.calcite.utils.UserDefinedFunctionUtils.translateRegex;
+
 import java.util.List;
 import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 import org.apache.calcite.adapter.enumerable.NotNullImplementor;
 import org.apache.calcite.adapter.enumerable.NullPolicy;
@@ -20,6 +21,7 @@ import org.apache.calcite.sql.type.SqlReturnTypeInference;
 import org.opensearch.sql.calcite.utils.PPLOperandTypes;
 import org.opensearch.sql.expression.function.ImplementorUDF;
 import org.opensearch.sql.expression.function.UDFOperandMetadata;
+import org.opensearch.sql.expression.parse.RegexCommonUtils.CompiledRegex;
 
 /** Custom REX_EXTRACT function for extracting regex named capture groups. */
 public final class RexExtractFunction extends ImplementorUDF {
@@ -44,7 +46,7 @@ public final class RexExtractFunction extends ImplementorUDF {
     public Expression implement(
         RexToLixTranslator translator, RexCall call, List<Expression> translatedOperands) {
       Expression field = translatedOperands.get(0);
-      Expression pattern = translatedOperands.get(1);
+      Expression pattern = translateRegex(call.getOperands().get(1), translatedOperands.get(1));
       Expression groupIndex = translatedOperands.get(2);
 
       return Expressions.call(RexExtractFunction.class, "extractGroup", field, pattern, groupIndex);
@@ -52,9 +54,12 @@ public final class RexExtractFunction extends ImplementorUDF {
   }
 
   public static String extractGroup(String text, String pattern, int groupIndex) {
+    return extractGroup(text, CompiledRegex.of(pattern), groupIndex);
+  }
+
+  public static String extractGroup(String text, CompiledRegex pattern, int groupIndex) {
     try {
-      Pattern compiledPattern = Pattern.compile(pattern);
-      Matcher matcher = compiledPattern.matcher(text);
+      Matcher matcher = pattern.getPattern().matcher(text);
 
       if (matcher.find() && groupIndex > 0 && groupIndex <= matcher.groupCount()) {
         return matcher.group(groupIndex);
@@ -63,7 +68,7 @@ public final class RexExtractFunction extends ImplementorUDF {
     } catch (PatternSyntaxException e) {
       throw new IllegalArgumentException(
           "Error in 'rex' command: Encountered the following error while compiling the regex '"
-              + pattern
+              + pattern.getRegex()
               + "': "
               + e.getMessage());
     }
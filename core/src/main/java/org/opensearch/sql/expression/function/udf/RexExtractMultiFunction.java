@@ -5,10 +5,11 @@
 
 package org.opensearch.sql.expression.function.udf;
 
+import static org.opensearch.sql.calcite.utils.UserDefinedFunctionUtils.translateRegex;
+
 import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 import org.apache.calcite.adapter.enumerable.NotNullImplementor;
 import org.apache.calcite.adapter.enumerable.NullPolicy;
@@ -21,6 +22,7 @@ import org.apache.calcite.sql.type.SqlTypeName;
 import org.opensearch.sql.calcite.utils.PPLOperandTypes;
 import org.opensearch.sql.expression.function.ImplementorUDF;
 import org.opensearch.sql.expression.function.UDFOperandMetadata;
+import org.opensearch.sql.expression.parse.RegexCommonUtils.CompiledRegex;
 
 /** Custom REX_EXTRACT_MULTI function for extracting multiple regex matches. */
 public final class RexExtractMultiFunction extends ImplementorUDF {
@@ -49,7 +51,7 @@ public final class RexExtractMultiFunction extends ImplementorUDF {
     public Expression implement(
         RexToLixTranslator translator, RexCall call, List<Expression> translatedOperands) {
       Expression field = translatedOperands.get(0);
-      Expression pattern = translatedOperands.get(1);
+      Expression pattern = translateRegex(call.getOperands().get(1), translatedOperands.get(1));
       Expression groupIndex = translatedOperands.get(2);
       Expression maxMatch = translatedOperands.get(3);
 
@@ -65,10 +67,14 @@ public final class RexExtractMultiFunction extends ImplementorUDF {
 
   public static List<String> extractMultipleGroups(
       String text, String pattern, int groupIndex, int maxMatch) {
+    return extractMultipleGroups(text, CompiledRegex.of(pattern), groupIndex, maxMatch);
+  }
+
+  public static List<String> extractMultipleGroups(
+      String text, CompiledRegex pattern, int groupIndex, int maxMatch) {
     // Query planner already validates null inputs via NullPolicy.ARG0
     try {
-      Pattern compiledPattern = Pattern.compile(pattern);
-      Matcher matcher = compiledPattern.matcher(text);
+      Matcher matcher = pattern.getPattern().matcher(text);
       List<String> matches = new ArrayList<>();
 
       int matchCount = 0;
@@ -86,7 +92,7 @@ public final class RexExtractMultiFunction extends ImplementorUDF {
     } catch (PatternSyntaxException e) {
       throw new IllegalArgumentException(
           "Error in 'rex' command: Encountered the following error while compiling the regex '"
-              + pattern
+              + pattern.getRegex()
               + "': "
               + e.getMessage());
     }
@@ -5,6 +5,8 @@
 
 package org.opensearch.sql.expression.function.udf;
 
+import static org.opensearch.sql.calcite.utils.UserDefinedFunctionUtils.translateRegex;
+
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -20,10 +22,13 @@ import org.apache.calcite.sql.type.SqlReturnTypeInference;
 import org.opensearch.sql.calcite.utils.PPLOperandTypes;
 import org.opensearch.sql.expression.function.ImplementorUDF;
 import org.opensearch.sql.expression.function.UDFOperandMetadata;
+import org.opensearch.sql.expression.parse.RegexCommonUtils.CompiledRegex;
 
 /** Custom REX_OFFSET function for calculating regex match positions. */
 public final class RexOffsetFunction extends ImplementorUDF {
 
+  private static final Pattern NAMED_GROUP_PATTERN = Pattern.compile("\\(\\?<([^>]+)>");
+
   public RexOffsetFunction() {
     super(new RexOffsetImplementor(), NullPolicy.ARG0);
   }
@@ -44,7 +49,7 @@ public final class RexOffsetFunction extends ImplementorUDF {
     public Expression implement(
         RexToLixTranslator translator, RexCall call, List<Expression> translatedOperands) {
       Expression field = translatedOperands.get(0);
-      Expression pattern = translatedOperands.get(1);
+      Expression pattern = translateRegex(call.getOperands().get(1), translatedOperands.get(1));
 
       return Expressions.call(RexOffsetFunction.class, "calculateOffsets", field, pattern);
     }
@@ -54,10 +59,17 @@ public final class RexOffsetFunction extends ImplementorUDF {
     if (text == null || patternStr == null) {
       return null;
     }
+    return calculateOffsets(text, CompiledRegex.of(patternStr));
+  }
+
+  public static String calculateOffsets(String text, CompiledRegex regex) {
+    if (text == null || regex == null) {
+      return null;
+    }
 
     try {
-      Pattern pattern = Pattern.compile(patternStr);
-      Matcher matcher = pattern.matcher(text);
+      String patternStr = regex.getRegex();
+      Matcher matcher = regex.getPattern().matcher(text);
 
       if (!matcher.find()) {
         return null;
@@ -65,8 +77,7 @@ public final class RexOffsetFunction extends ImplementorUDF {
 
       List<String> offsetPairs = new java.util.ArrayList<>();
 
-      Pattern namedGroupPattern = Pattern.compile("\\(\\?<([^>]+)>");
-      Matcher namedGroupMatcher = namedGroupPattern.matcher(patternStr);
+      Matcher namedGroupMatcher = NAMED_GROUP_PATTERN.matcher(patternStr);
 
       int groupIndex = 1;
 
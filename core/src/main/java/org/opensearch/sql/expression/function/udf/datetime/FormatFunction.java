@@ -17,6 +17,7 @@ import org.apache.calcite.adapter.enumerable.RexToLixTranslator;
 import org.apache.calcite.linq4j.tree.Expression;
 import org.apache.calcite.linq4j.tree.Expressions;
 import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexLiteral;
 import org.apache.calcite.sql.type.SqlReturnTypeInference;
 import org.opensearch.sql.calcite.utils.OpenSearchTypeFactory;
 import org.opensearch.sql.calcite.utils.PPLOperandTypes;
@@ -27,6 +28,7 @@ import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.datetime.DateTimeFormatterUtil.CompiledDateFormat;
 import org.opensearch.sql.expression.function.FunctionProperties;
 import org.opensearch.sql.expression.function.ImplementorUDF;
 import org.opensearch.sql.expression.function.UDFOperandMetadata;
@@ -80,7 +82,16 @@ public class FormatFunction extends ImplementorUDF {
               "fromObjectValue",
               translatedOperands.get(0),
               Expressions.constant(type));
-      Expression format = Expressions.new_(ExprStringValue.class, translatedOperands.get(1));
+      // With a constant format, the code generator hoists the deterministic constructor call into a
+      // static field, so the format is compiled once per query instead of once per row.
+      Expression format =
+          call.getOperands().get(1) instanceof RexLiteral literal
+                  && literal.getValueAs(String.class) != null
+              ? Expressions.new_(
+                  CompiledDateFormat.class,
+                  Expressions.constant(literal.getValueAs(String.class)),
+                  Expressions.constant(ExprCoreType.TIME.equals(functionType)))
+              : Expressions.new_(ExprStringValue.class, translatedOperands.get(1));
 
       if (ExprCoreType.TIME.equals(functionType)) {
         return Expressions.call(DataFormatImplementor.class, "timeFormat", datetime, format);
@@ -111,5 +122,19 @@ public class FormatFunction extends ImplementorUDF {
     public static String timeFormat(ExprValue time, ExprStringValue format) {
       return getFormattedTime(time, format).stringValue();
     }
+
+    public static String dateFormat(ExprValue date, CompiledDateFormat format) {
+      return getFormattedDate(date, format).stringValue();
+    }
+
+    public static String dateFormatForTime(
+        FunctionProperties functionProperties, CompiledDateFormat format, ExprValue time) {
+      return getFormattedDateOfToday(format, time, functionProperties.getQueryStartClock())
+          .stringValue();
+    }
+
+    public static String timeFormat(ExprValue time, CompiledDateFormat format) {
+      return getFormattedTime(time, format).stringValue();
+    }
   }
 }
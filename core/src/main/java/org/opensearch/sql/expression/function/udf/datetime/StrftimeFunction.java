@@ -17,6 +17,7 @@ import org.apache.calcite.adapter.enumerable.RexToLixTranslator;
 import org.apache.calcite.linq4j.tree.Expression;
 import org.apache.calcite.linq4j.tree.Expressions;
 import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexLiteral;
 import org.apache.calcite.sql.type.*;
 import org.opensearch.sql.data.model.ExprDateValue;
 import org.opensearch.sql.data.model.ExprDoubleValue;
@@ -26,6 +27,7 @@ import org.opensearch.sql.data.model.ExprLongValue;
 import org.opensearch.sql.data.model.ExprTimestampValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.datetime.StrftimeFormatterUtil;
+import org.opensearch.sql.expression.datetime.StrftimeFormatterUtil.CompiledStrftimeFormat;
 import org.opensearch.sql.expression.function.ImplementorUDF;
 import org.opensearch.sql.expression.function.UDFOperandMetadata;
 
@@ -68,6 +70,16 @@ public class StrftimeFunction extends ImplementorUDF {
     public Expression implement(
         RexToLixTranslator rexToLixTranslator, RexCall rexCall, List<Expression> list) {
       List<Expression> operands = convertToExprValues(list, rexCall);
+      // With a constant format, the code generator hoists the deterministic constructor call into a
+      // static field, so the format is compiled once per query instead of once per row.
+      if (rexCall.getOperands().get(1) instanceof RexLiteral literal
+          && literal.getValueAs(String.class) != null) {
+        Expression format =
+            Expressions.new_(
+                CompiledStrftimeFormat.class,
+                Expressions.constant(literal.getValueAs(String.class)));
+        return Expressions.call(StrftimeFunction.class, "strftime", operands.get(0), format);
+      }
       return Expressions.call(StrftimeFunction.class, "strftime", operands);
     }
   }
@@ -83,13 +95,38 @@ public class StrftimeFunction extends ImplementorUDF {
     if (unixTime.isNull() || formatString.isNull()) {
       return null;
     }
+    ZonedDateTime dateTime = toZonedDateTime(unixTime);
+    return dateTime == null ? null : formatDateTime(dateTime, formatString.stringValue());
+  }
+
+  /**
+   * Static method for Calcite implementation with a constant format.
+   *
+   * @param unixTime The UNIX timestamp to format
+   * @param format The compiled format
+   * @return Formatted date string or null if invalid input
+   */
+  public static String strftime(ExprValue unixTime, CompiledStrftimeFormat format) {
+    if (unixTime.isNull()) {
+      return null;
+    }
+    ZonedDateTime dateTime = toZonedDateTime(unixTime);
+    return dateTime == null ? null : format.format(dateTime);
+  }
+
+  /**
+   * Convert the input to ZonedDateTime in UTC.
+   *
+   * @param unixTime The input value
+   * @return ZonedDateTime in UTC or null if invalid input
+   */
+  private static ZonedDateTime toZonedDateTime(ExprValue unixTime) {
     Double unixSecondsDouble = extractUnixSecondsWithFraction(unixTime);
     // Combine null checks and validation
     if (unixSecondsDouble == null || !isValidTimestamp(unixSecondsDouble.longValue())) {
       return null;
     }
-    ZonedDateTime dateTime = convertToZonedDateTimeWithFraction(unixSecondsDouble);
-    return formatDateTime(dateTime, formatString.stringValue());
+    return convertToZonedDateTimeWithFraction(unixSecondsDouble);
   }
 
   /**
@@ -42,7 +42,7 @@ public class GrokExpression extends ParseExpression {
    */
   public GrokExpression(Expression sourceField, Expression pattern, Expression identifier) {
     super("grok", sourceField, pattern, identifier);
-    this.grok = grokCompiler.compile(pattern.valueOf().stringValue());
+    this.grok = compile(pattern.valueOf().stringValue());
   }
 
   @Override
@@ -65,10 +65,29 @@ public class GrokExpression extends ParseExpression {
    * @return list of names of the derived fields
    */
   public static List<String> getNamedGroupCandidates(String pattern) {
-    Grok grok = grokCompiler.compile(pattern);
+    return getNamedGroupCandidates(compile(pattern));
+  }
+
+  /**
+   * Get list of derived fields of a compiled grok pattern.
+   *
+   * @param grok compiled grok pattern
+   * @return list of names of the derived fields
+   */
+  public static List<String> getNamedGroupCandidates(Grok grok) {
     return grok.namedGroups.stream()
         .map(grok::getNamedRegexCollectionById)
         .filter(group -> !group.equals("UNWANTED"))
         .collect(Collectors.toUnmodifiableList());
   }
+
+  /**
+   * Compile grok pattern with the default patterns registered.
+   *
+   * @param pattern grok pattern
+   * @return compiled grok
+   */
+  public static Grok compile(String pattern) {
+    return grokCompiler.compile(pattern);
+  }
 }
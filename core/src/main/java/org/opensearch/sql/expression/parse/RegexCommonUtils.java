@@ -5,14 +5,15 @@
 
 package org.opensearch.sql.expression.parse;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
-import java.util.Collections;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
+import lombok.Getter;
+import org.apache.calcite.linq4j.function.Deterministic;
 
 /**
  * Common utilities for regex operations. Provides pattern caching and consistent matching behavior.
@@ -24,14 +25,10 @@ public class RegexCommonUtils {
 
   private static final int MAX_CACHE_SIZE = 1000;
 
-  private static final Map<String, Pattern> patternCache =
-      Collections.synchronizedMap(
-          new LinkedHashMap<>(MAX_CACHE_SIZE + 1, 0.75f, true) {
-            @Override
-            protected boolean removeEldestEntry(Map.Entry<String, Pattern> eldest) {
-              return size() > MAX_CACHE_SIZE;
-            }
-          });
+  // Lookups of cached patterns do not lock, and compiled patterns are added under a lock of one
+  // segment only, so concurrent queries matching regexes per row do not contend on the cache.
+  private static final Cache<String, Pattern> patternCache =
+      CacheBuilder.newBuilder().maximumSize(MAX_CACHE_SIZE).build();
 
   /**
    * Get compiled pattern from cache or compile and cache it.
@@ -41,7 +38,7 @@ public class RegexCommonUtils {
    * @throws PatternSyntaxException if the regex is invalid
    */
   public static Pattern getCompiledPattern(String regex) {
-    Pattern pattern = patternCache.get(regex);
+    Pattern pattern = patternCache.getIfPresent(regex);
     if (pattern == null) {
       pattern = Pattern.compile(regex);
       patternCache.put(regex, pattern);
@@ -105,4 +102,69 @@ public class RegexCommonUtils {
 
     return null;
   }
+
+  /**
+   * Regex pattern of a function call. Generated code constructs it with a literal pattern, which
+   * the code generator hoists into a static field so that the pattern is compiled once per query.
+   * An invalid pattern is reported when it is used, as if it were compiled for every row.
+   */
+  @Deterministic
+  public static final class CompiledRegex {
+    @Getter private final String regex;
+    private final Pattern pattern;
+    private final PatternSyntaxException error;
+
+    public CompiledRegex(String regex) {
+      this(regex, null);
+    }
+
+    private CompiledRegex(String regex, Pattern cached) {
+      this.regex = regex;
+      Pattern compiled = cached;
+      PatternSyntaxException compileError = null;
+      if (compiled == null) {
+        try {
+          compiled = Pattern.compile(regex);
+        } catch (PatternSyntaxException e) {
+          compileError = e;
+        }
+      }
+      this.pattern = compiled;
+      this.error = compileError;
+    }
+
+    /**
+     * Get the regex of a pattern only known per row, compiling it through the shared cache.
+     *
+     * @param regex The regex pattern string
+     * @return CompiledRegex of the pattern, or null if the regex is null
+     */
+    public static CompiledRegex of(String regex) {
+      if (regex == null) {
+        return null;
+      }
+      Pattern cached = patternCache.getIfPresent(regex);
+      if (cached == null) {
+        CompiledRegex compiled = new CompiledRegex(regex, null);
+        if (compiled.pattern != null) {
+          patternCache.put(regex, compiled.pattern);
+        }
+        return compiled;
+      }
+      return new CompiledRegex(regex, cached);
+    }
+
+    /**
+     * Get the compiled pattern.
+     *
+     * @return Compiled Pattern object
+     * @throws PatternSyntaxException if the regex is invalid
+     */
+    public Pattern getPattern() {
+      if (error != null) {
+        throw error;
+      }
+      return pattern;
+    }
+  }
 }
@@ -5,19 +5,19 @@
 
 package org.opensearch.sql.planner.physical;
 
-import com.google.common.collect.ImmutableList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.BiFunction;
+import java.util.Objects;
 import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.monitor.AlwaysHealthyMonitor;
+import org.opensearch.sql.monitor.ResourceMonitor;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
 /**
@@ -33,14 +33,23 @@ public class DedupeOperator extends PhysicalPlan {
   @Getter private final Boolean keepEmpty;
   @Getter private final Boolean consecutive;
 
+  /** Monitor checked while the seen keys grow, as the historical deduper retains all of them. */
+  @EqualsAndHashCode.Exclude private final ResourceMonitor resourceMonitor;
+
   @EqualsAndHashCode.Exclude private final Deduper<List<ExprValue>> deduper;
   @EqualsAndHashCode.Exclude private ExprValue next;
 
+  /** Number of distinct keys retained. */
+  @EqualsAndHashCode.Exclude private long distinctKeys = 0L;
+
   private static final Integer ALL_ONE_DUPLICATION = 1;
   private static final Boolean IGNORE_EMPTY = false;
   private static final Boolean NON_CONSECUTIVE = false;
   private static final Predicate<ExprValue> NULL_OR_MISSING = v -> v.isNull() || v.isMissing();
-  private static final Integer SEEN_FIRST_TIME = 1;
+  private static final int SEEN_FIRST_TIME = 1;
+
+  /** How many distinct keys to retain to perform resource check once. */
+  public static final long NUMBER_OF_DISTINCT_KEYS_TO_CHECK = 1000;
 
   @NonNull
   public DedupeOperator(PhysicalPlan input, List<Expression> dedupeList) {
@@ -63,12 +72,43 @@ public class DedupeOperator extends PhysicalPlan {
       Integer allowedDuplication,
       Boolean keepEmpty,
       Boolean consecutive) {
+    this(
+        input,
+        dedupeList,
+        allowedDuplication,
+        keepEmpty,
+        consecutive,
+        AlwaysHealthyMonitor.ALWAYS_HEALTHY_MONITOR);
+  }
+
+  /**
+   * Dedup Constructor, with the resource monitor checked while the seen keys grow.
+   *
+   * @param input input {@link PhysicalPlan}
+   * @param dedupeList list of dedupe {@link Expression}
+   * @param allowedDuplication max allowed duplication
+   * @param keepEmpty keep empty
+   * @param consecutive consecutive mode
+   * @param resourceMonitor {@link ResourceMonitor}
+   */
+  @NonNull
+  public DedupeOperator(
+      PhysicalPlan input,
+      List<Expression> dedupeList,
+      Integer allowedDuplication,
+      Boolean keepEmpty,
+      Boolean consecutive,
+      ResourceMonitor resourceMonitor) {
     this.input = input;
     this.dedupeList = dedupeList;
     this.allowedDuplication = allowedDuplication;
     this.keepEmpty = keepEmpty;
     this.consecutive = consecutive;
-    this.deduper = this.consecutive ? Deduper.consecutiveDeduper() : Deduper.historicalDeduper();
+    this.resourceMonitor = resourceMonitor;
+    this.deduper =
+        this.consecutive
+            ? Deduper.consecutiveDeduper()
+            : Deduper.historicalDeduper(DedupeOperator::fingerprint);
   }
 
   @Override
@@ -109,37 +149,57 @@ public class DedupeOperator extends PhysicalPlan {
    */
   public boolean keep(ExprValue value) {
     BindingTuple bindingTuple = value.bindingTuples();
-    ImmutableList.Builder<ExprValue> dedupeKeyBuilder = new ImmutableList.Builder<>();
-    for (Expression expression : dedupeList) {
-      ExprValue exprValue = expression.valueOf(bindingTuple);
+    ExprValue[] dedupeKey = new ExprValue[dedupeList.size()];
+    for (int i = 0; i < dedupeKey.length; i++) {
+      ExprValue exprValue = dedupeList.get(i).valueOf(bindingTuple);
       if (NULL_OR_MISSING.test(exprValue)) {
         return keepEmpty;
       }
-      dedupeKeyBuilder.add(exprValue);
+      dedupeKey[i] = exprValue;
+    }
+    int seenTimes = deduper.seenTimes(Arrays.asList(dedupeKey));
+    if (seenTimes == SEEN_FIRST_TIME && !consecutive) {
+      checkResource();
     }
-    List<ExprValue> dedupeKey = dedupeKeyBuilder.build();
-    int seenTimes = deduper.seenTimes(dedupeKey);
     return seenTimes <= allowedDuplication;
   }
 
+  /**
+   * Check the resource once every {@link #NUMBER_OF_DISTINCT_KEYS_TO_CHECK} distinct keys retained,
+   * so the dedupe fails instead of growing the seen keys beyond the memory limit.
+   */
+  private void checkResource() {
+    boolean shouldCheck = (++distinctKeys % NUMBER_OF_DISTINCT_KEYS_TO_CHECK == 0);
+    if (shouldCheck && !resourceMonitor.isHealthy()) {
+      throw new IllegalStateException("insufficient resources to retain more dedupe keys, quit.");
+    }
+  }
+
+  /** Fingerprint of a dedupe key, mixing the hash codes of all its values into 64 bits. */
+  private static long fingerprint(List<ExprValue> dedupeKey) {
+    long hash = 0;
+    for (ExprValue value : dedupeKey) {
+      hash = Deduper.mix(hash ^ value.hashCode());
+    }
+    return hash;
+  }
+
   /**
    * Return how many times the dedupeKey has been seen before. The side effect is the seen times
    * will add 1 times after calling this function.
    *
    * @param <K> dedupe key
    */
-  @RequiredArgsConstructor
-  static class Deduper<K> {
-    private final BiFunction<Map<K, Integer>, K, Integer> seenFirstTime;
-    private final Map<K, Integer> seenMap = new ConcurrentHashMap<>();
+  abstract static class Deduper<K> {
 
     /** The Historical Deduper monitor the duplicated element with all the seen value. */
     public static <K> Deduper<K> historicalDeduper() {
-      return new Deduper<>(
-          (map, key) -> {
-            map.put(key, SEEN_FIRST_TIME);
-            return SEEN_FIRST_TIME;
-          });
+      return historicalDeduper(key -> mix(Objects.hashCode(key)));
+    }
+
+    /** The Historical Deduper with the given key fingerprint. */
+    public static <K> Deduper<K> historicalDeduper(ToLongFunction<K> fingerprint) {
+      return new HistoricalDeduper<>(fingerprint);
     }
 
     /**
@@ -147,19 +207,103 @@ public class DedupeOperator extends PhysicalPlan {
      * only the consecutive duplicated value will be counted.
      */
     public static <K> Deduper<K> consecutiveDeduper() {
-      return new Deduper<>(
-          (map, key) -> {
-            map.clear();
-            map.put(key, SEEN_FIRST_TIME);
-            return SEEN_FIRST_TIME;
-          });
+      return new ConsecutiveDeduper<>();
     }
 
+    public abstract int seenTimes(K dedupeKey);
+
+    /** Finalizer of MurmurHash3, spreading the bits of a hash over all 64 bits. */
+    static long mix(long hash) {
+      hash ^= hash >>> 33;
+      hash *= 0xff51afd7ed558ccdL;
+      hash ^= hash >>> 33;
+      hash *= 0xc4ceb9fe1a85ec53L;
+      hash ^= hash >>> 33;
+      return hash;
+    }
+  }
+
+  /** Compares each key with the previous one only, so no key is hashed or retained. */
+  private static class ConsecutiveDeduper<K> extends Deduper<K> {
+    private K previousKey;
+    private int seenTimes = 0;
+
+    @Override
     public int seenTimes(K dedupeKey) {
-      if (seenMap.containsKey(dedupeKey)) {
-        return seenMap.computeIfPresent(dedupeKey, (k, v) -> v + 1);
-      } else {
-        return seenFirstTime.apply(seenMap, dedupeKey);
+      if (seenTimes > 0 && Objects.equals(previousKey, dedupeKey)) {
+        return ++seenTimes;
+      }
+      previousKey = dedupeKey;
+      seenTimes = SEEN_FIRST_TIME;
+      return seenTimes;
+    }
+  }
+
+  /**
+   * Open addressing hash table of seen keys with linear probing. Slots are matched by the 64 bits
+   * fingerprint of a key first, and keys are compared only when fingerprints are equal, so keys
+   * with equal fingerprints are never treated as duplicates.
+   */
+  private static class HistoricalDeduper<K> extends Deduper<K> {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final ToLongFunction<K> fingerprint;
+
+    private long[] fingerprints = new long[INITIAL_CAPACITY];
+
+    /** Seen times of the key in each slot, 0 for an empty slot. */
+    private int[] counts = new int[INITIAL_CAPACITY];
+
+    /** Keys of the slots. */
+    private Object[] keys = new Object[INITIAL_CAPACITY];
+
+    private int size = 0;
+
+    HistoricalDeduper(ToLongFunction<K> fingerprint) {
+      this.fingerprint = fingerprint;
+    }
+
+    @Override
+    public int seenTimes(K dedupeKey) {
+      long hash = fingerprint.applyAsLong(dedupeKey);
+      int mask = counts.length - 1;
+      int slot = (int) hash & mask;
+      while (counts[slot] != 0) {
+        if (fingerprints[slot] == hash && Objects.equals(keys[slot], dedupeKey)) {
+          return ++counts[slot];
+        }
+        slot = (slot + 1) & mask;
+      }
+
+      fingerprints[slot] = hash;
+      counts[slot] = SEEN_FIRST_TIME;
+      keys[slot] = dedupeKey;
+      if (++size * 2 > counts.length) {
+        resize();
+      }
+      return SEEN_FIRST_TIME;
+    }
+
+    /** Double the table, placing the slots by their fingerprints without hashing keys again. */
+    private void resize() {
+      long[] oldFingerprints = fingerprints;
+      int[] oldCounts = counts;
+      Object[] oldKeys = keys;
+      int capacity = oldCounts.length * 2;
+      int mask = capacity - 1;
+      fingerprints = new long[capacity];
+      counts = new int[capacity];
+      keys = new Object[capacity];
+      for (int i = 0; i < oldCounts.length; i++) {
+        if (oldCounts[i] != 0) {
+          int slot = (int) oldFingerprints[i] & mask;
+          while (counts[slot] != 0) {
+            slot = (slot + 1) & mask;
+          }
+          fingerprints[slot] = oldFingerprints[i];
+          counts[slot] = oldCounts[i];
+          keys[slot] = oldKeys[i];
+        }
       }
     }
   }
@@ -0,0 +1,249 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.streaming.windowing;
+
+import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import org.opensearch.sql.data.model.ExprTimestampValue;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.aggregation.AggregationState;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.expression.span.SpanExpression;
+import org.opensearch.sql.planner.streaming.StreamContext;
+import org.opensearch.sql.planner.streaming.watermark.BoundedOutOfOrderWatermarkGenerator;
+import org.opensearch.sql.planner.streaming.watermark.WatermarkGenerator;
+import org.opensearch.sql.planner.streaming.windowing.assigner.TumblingWindowAssigner;
+import org.opensearch.sql.planner.streaming.windowing.assigner.WindowAssigner;
+import org.opensearch.sql.planner.streaming.windowing.trigger.AfterWatermarkWindowTrigger;
+import org.opensearch.sql.planner.streaming.windowing.trigger.TriggerResult;
+import org.opensearch.sql.planner.streaming.windowing.trigger.WindowTrigger;
+import org.opensearch.sql.storage.bindingtuple.BindingTuple;
+
+/**
+ * Windowed aggregator keeps the partial aggregation state of each open window and group across
+ * micro-batches, so that each event is aggregated only once. After a batch is accumulated, the
+ * watermark advances and the windows fired by the trigger are emitted in time order. An event
+ * whose windows have all been fired already is late and dropped.
+ */
+public class WindowedAggregator {
+
+  /** Aggregators evaluated in each window and group. */
+  private final List<NamedAggregator> aggregatorList;
+
+  /** Group by expressions in output order, including the span. */
+  private final List<NamedExpression> groupByList;
+
+  /** Position of the span in the group by expressions. */
+  private final int spanIndex;
+
+  /** Span over the event timestamp. */
+  private final SpanExpression span;
+
+  private final WindowAssigner assigner;
+
+  private final WatermarkGenerator watermarkGenerator;
+
+  private final WindowTrigger trigger;
+
+  /** Stream context with the watermark of the last fired batch. */
+  @Getter private final StreamContext context;
+
+  /** Watermark generated from the events accumulated so far. */
+  private long pendingWatermark = Long.MIN_VALUE;
+
+  /** Partial aggregation states of the open windows in time order, by group key. */
+  private final TreeMap<Window, Map<List<ExprValue>, List<AggregationState>>> windows =
+      new TreeMap<>(
+          Comparator.comparingLong(Window::getStartTime).thenComparingLong(Window::getEndTime));
+
+  /** Constructor. */
+  public WindowedAggregator(
+      List<NamedAggregator> aggregatorList,
+      List<NamedExpression> groupByList,
+      int spanIndex,
+      WindowAssigner assigner,
+      WatermarkGenerator watermarkGenerator) {
+    this.aggregatorList = aggregatorList;
+    this.groupByList = groupByList;
+    this.spanIndex = spanIndex;
+    this.span = (SpanExpression) groupByList.get(spanIndex).getDelegated();
+    this.assigner = assigner;
+    this.watermarkGenerator = watermarkGenerator;
+    this.context = new StreamContext();
+    this.context.setWatermark(Long.MIN_VALUE);
+    this.trigger = new AfterWatermarkWindowTrigger(context);
+  }
+
+  /**
+   * Create a windowed aggregator if the aggregation is grouped by a span of fixed length over a
+   * timestamp, with tumbling windows of the span and a watermark bounded by the out-of-order delay.
+   *
+   * @param aggregatorList aggregators
+   * @param groupByList group by expressions
+   * @param maxOutOfOrderAllowed maximum out-of-order delay of events in millisecond
+   * @return windowed aggregator, or empty if the aggregation has no such span
+   */
+  public static Optional<WindowedAggregator> create(
+      List<NamedAggregator> aggregatorList,
+      List<NamedExpression> groupByList,
+      long maxOutOfOrderAllowed) {
+    for (int i = 0; i < groupByList.size(); i++) {
+      if (groupByList.get(i).getDelegated() instanceof SpanExpression span
+          && TIMESTAMP.equals(span.type())) {
+        long windowSize = windowSize(span);
+        if (windowSize > 0) {
+          return Optional.of(
+              new WindowedAggregator(
+                  aggregatorList,
+                  groupByList,
+                  i,
+                  new TumblingWindowAssigner(windowSize),
+                  new BoundedOutOfOrderWatermarkGenerator(maxOutOfOrderAllowed)));
+        }
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Accumulate an event into the partial states of the open windows it belongs to.
+   *
+   * @param tuple event
+   */
+  public void accumulate(BindingTuple tuple) {
+    ExprValue time = span.getField().valueOf(tuple);
+    if (time.isNull() || time.isMissing()) {
+      return;
+    }
+    long timestamp = time.timestampValue().toEpochMilli();
+    List<ExprValue> groupKey = null;
+    for (Window window : assigner.assign(timestamp)) {
+      if (trigger.trigger(window).isFire()) {
+        continue;
+      }
+      if (groupKey == null) {
+        groupKey = groupKey(tuple);
+      }
+      List<AggregationState> states =
+          windows
+              .computeIfAbsent(window, w -> new LinkedHashMap<>())
+              .computeIfAbsent(groupKey, k -> createStates());
+      for (int i = 0; i < aggregatorList.size(); i++) {
+        aggregatorList.get(i).iterate(tuple, states.get(i));
+      }
+    }
+    pendingWatermark = Math.max(pendingWatermark, watermarkGenerator.generate(timestamp));
+  }
+
+  /**
+   * Advance the watermark to the events accumulated so far, and emit the results of the windows
+   * fired by the trigger.
+   *
+   * @return result of each group in the fired windows, in time order
+   */
+  public List<ExprValue> fire() {
+    context.setWatermark(Math.max(context.getWatermark(), pendingWatermark));
+    List<ExprValue> results = new ArrayList<>();
+    Iterator<Map.Entry<Window, Map<List<ExprValue>, List<AggregationState>>>> it =
+        windows.entrySet().iterator();
+    while (it.hasNext()) {
+      Map.Entry<Window, Map<List<ExprValue>, List<AggregationState>>> entry = it.next();
+      TriggerResult result = trigger.trigger(entry.getKey());
+      if (result.isFire()) {
+        ExprValue windowStart =
+            new ExprTimestampValue(Instant.ofEpochMilli(entry.getKey().getStartTime()));
+        entry.getValue().forEach((key, states) -> results.add(result(windowStart, key, states)));
+      }
+      if (result.isPurge()) {
+        it.remove();
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Emit the results of all the open windows regardless of the watermark and drop their state, so
+   * that the events accumulated so far are not lost once the windows can't be maintained anymore.
+   *
+   * @return result of each group in the open windows, in time order
+   */
+  public List<ExprValue> flush() {
+    List<ExprValue> results = new ArrayList<>();
+    windows.forEach(
+        (window, groups) -> {
+          ExprValue windowStart =
+              new ExprTimestampValue(Instant.ofEpochMilli(window.getStartTime()));
+          groups.forEach((key, states) -> results.add(result(windowStart, key, states)));
+        });
+    windows.clear();
+    return results;
+  }
+
+  private List<ExprValue> groupKey(BindingTuple tuple) {
+    List<ExprValue> key = new ArrayList<>(groupByList.size() - 1);
+    for (int i = 0; i < groupByList.size(); i++) {
+      if (i != spanIndex) {
+        key.add(groupByList.get(i).valueOf(tuple));
+      }
+    }
+    return key;
+  }
+
+  private List<AggregationState> createStates() {
+    return aggregatorList.stream().map(NamedAggregator::create).collect(Collectors.toList());
+  }
+
+  private ExprValue result(
+      ExprValue windowStart, List<ExprValue> groupKey, List<AggregationState> states) {
+    LinkedHashMap<String, ExprValue> map = new LinkedHashMap<>();
+    Iterator<ExprValue> keys = groupKey.iterator();
+    for (int i = 0; i < groupByList.size(); i++) {
+      map.put(groupByList.get(i).getNameOrAlias(), i == spanIndex ? windowStart : keys.next());
+    }
+    for (int i = 0; i < aggregatorList.size(); i++) {
+      map.put(aggregatorList.get(i).getName(), states.get(i).result());
+    }
+    return ExprTupleValue.fromExprValueMap(map);
+  }
+
+  /** Window size of a span in millisecond, or 0 if its length varies as months and years do. */
+  private static long windowSize(SpanExpression span) {
+    long interval = span.getValue().valueOf().longValue();
+    switch (span.getUnit()) {
+      case MILLISECOND:
+      case MS:
+        return interval;
+      case SECOND:
+      case S:
+        return TimeUnit.SECONDS.toMillis(interval);
+      case MINUTE:
+      case m:
+        return TimeUnit.MINUTES.toMillis(interval);
+      case HOUR:
+      case H:
+        return TimeUnit.HOURS.toMillis(interval);
+      case DAY:
+      case D:
+        return TimeUnit.DAYS.toMillis(interval);
+      default:
+        return 0;
+    }
+  }
+}
@@ -64,7 +64,9 @@ public class CalciteRexNodeVisitorTest {
     mockedStatic = Mockito.mockStatic(CalciteToolsHelper.class);
     mockedStatic.when(() -> CalciteToolsHelper.connect(any(), any())).thenReturn(connection);
 
-    mockedStatic.when(() -> CalciteToolsHelper.create(any(), any(), any())).thenReturn(relBuilder);
+    mockedStatic
+        .when(() -> CalciteToolsHelper.create(any(), any(), any(), any()))
+        .thenReturn(relBuilder);
 
     context = CalcitePlanContext.create(frameworkConfig, 100, QueryType.PPL);
   }
@@ -0,0 +1,77 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.calcite;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.opensearch.sql.calcite.utils.OpenSearchTypeFactory.TYPE_FACTORY;
+
+import java.util.List;
+import java.util.Set;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.hep.HepPlanner;
+import org.apache.calcite.plan.hep.HepProgramBuilder;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.logical.LogicalProject;
+import org.apache.calcite.rel.logical.LogicalValues;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.calcite.plan.JsonExtractMergeShuttle;
+import org.opensearch.sql.expression.function.PPLBuiltinOperators;
+
+public class JsonExtractMergeShuttleTest {
+  RelDataType type =
+      TYPE_FACTORY.createTypeWithNullability(TYPE_FACTORY.createSqlType(SqlTypeName.VARCHAR), true);
+  RelDataType rowType = TYPE_FACTORY.createStructType(List.of(type, type), List.of("a", "b"));
+  RexBuilder rexBuilder = new RexBuilder(TYPE_FACTORY);
+  RelNode values;
+
+  @BeforeEach
+  public void setUp() {
+    RelOptCluster cluster =
+        RelOptCluster.create(new HepPlanner(new HepProgramBuilder().build()), rexBuilder);
+    values = LogicalValues.createEmpty(cluster, rowType);
+  }
+
+  private RexNode jsonExtract(int field, String path) {
+    return rexBuilder.makeCall(
+        PPLBuiltinOperators.JSON_EXTRACT,
+        new RexInputRef(field, type),
+        rexBuilder.makeLiteral(path));
+  }
+
+  private RelNode project(RexNode... exprs) {
+    return LogicalProject.create(values, List.of(), List.of(exprs), (List<String>) null, Set.of());
+  }
+
+  @Test
+  public void testMergePathsOfSameDocument() {
+    RelNode plan =
+        project(jsonExtract(0, "level"), jsonExtract(0, "status"), jsonExtract(1, "level"));
+
+    LogicalProject merged = (LogicalProject) plan.accept(new JsonExtractMergeShuttle());
+
+    assertEquals(
+        List.of(
+            "ITEM(JSON_EXTRACT_ALL($0, 'level', 'status'), 'level')",
+            "ITEM(JSON_EXTRACT_ALL($0, 'level', 'status'), 'status')",
+            "JSON_EXTRACT($1, 'level')"),
+        merged.getProjects().stream().map(RexNode::toString).toList());
+    assertEquals(plan.getRowType(), merged.getRowType());
+  }
+
+  @Test
+  public void testSinglePathIsNotMerged() {
+    RelNode plan = project(jsonExtract(0, "level"), jsonExtract(1, "status"));
+
+    assertSame(plan, plan.accept(new JsonExtractMergeShuttle()));
+  }
+}
@@ -114,6 +114,8 @@ class StreamingQueryPlanTest {
 
     void shouldSuccess() throws InterruptedException {
       queryPlan.execute();
+      verify(streamingSource).createMetadataLog(queryId, StreamingQueryPlan.OFFSET_LOG);
+      verify(streamingSource).createMetadataLog(queryId, StreamingQueryPlan.COMMITTED_LOG);
       verify(executionStrategy).execute(any());
       verify(listener, never()).onFailure(any());
       verify(listener, never()).onResponse(any());
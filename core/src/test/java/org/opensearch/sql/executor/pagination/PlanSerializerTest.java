@@ -7,16 +7,27 @@ package org.opensearch.sql.executor.pagination;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 
+import com.google.common.hash.HashCode;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.InvalidClassException;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.Base64;
+import java.util.List;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -25,8 +36,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.opensearch.sql.exception.NoCursorException;
+import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.planner.SerializablePlan;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.planner.physical.ProjectOperator;
 import org.opensearch.sql.storage.StorageEngine;
 import org.opensearch.sql.utils.TestOperator;
 
@@ -101,9 +114,83 @@ public class PlanSerializerTest {
   void deserialize_throws() {
     assertAll(
         // from gzip - damaged header
-        () -> assertThrows(Throwable.class, () -> deserialize("00")),
+        () -> assertThrows(Throwable.class, () -> deserialize("1f8b00")),
         // from HashCode::fromString
-        () -> assertThrows(Throwable.class, () -> deserialize("000")));
+        () -> assertThrows(Throwable.class, () -> deserialize("1f8b0")),
+        // unknown version
+        () -> assertThrows(Throwable.class, () -> deserialize("Aw")),
+        // from Base64.Decoder::decode
+        () -> assertThrows(Throwable.class, () -> deserialize("A")));
+  }
+
+  @Test
+  void serialize_to_versioned_base64url() {
+    var code = serialize(new TestOperator(42));
+    assertTrue(code.matches("[A-Za-z0-9_-]+"));
+    assertEquals(PlanSerializer.CURSOR_VERSION, Base64.getUrlDecoder().decode(code)[0]);
+  }
+
+  @Test
+  @SneakyThrows
+  void deserialize_legacy_encoding() {
+    var plan = new TestOperator(42);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try (ObjectOutputStream objectOutput = new ObjectOutputStream(new GZIPOutputStream(output))) {
+      objectOutput.writeObject(plan);
+    }
+    assertEquals(plan, deserialize(HashCode.fromBytes(output.toByteArray()).toString()));
+  }
+
+  @Test
+  @SneakyThrows
+  void serialize_plan_tree_without_java_serialization() {
+    var code = serialize(new TestOperator(42));
+    byte[] bytes = Base64.getUrlDecoder().decode(code);
+    try (DataInputStream input =
+        new DataInputStream(
+            new InflaterInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1)))) {
+      assertEquals(PlanSerializer.CursorOutputStream.PLAN, input.readByte());
+      assertEquals(TestOperator.class.getName(), input.readUTF());
+      assertEquals(42, input.readInt());
+      assertEquals(-1, input.read());
+    }
+  }
+
+  @Test
+  void serialize_and_deserialize_nested_plans() {
+    var plan =
+        new ProjectOperator(
+            new TestOperator(42), List.of(DSL.named("name", DSL.ref("name", STRING))), List.of());
+    var roundTripPlan = (ProjectOperator) deserialize(serialize(plan));
+    assertEquals(plan.getProjectList(), roundTripPlan.getProjectList());
+    assertEquals(new TestOperator(42), roundTripPlan.getInput());
+  }
+
+  @Test
+  @SneakyThrows
+  void deserialize_java_serialized_cursor() {
+    var plan = new TestOperator(42);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    output.write(PlanSerializer.JAVA_SERIALIZED_CURSOR_VERSION);
+    try (ObjectOutputStream objectOutput =
+        new ObjectOutputStream(new DeflaterOutputStream(output))) {
+      objectOutput.writeObject(plan);
+    }
+    assertEquals(plan, deserialize(Base64.getUrlEncoder().encodeToString(output.toByteArray())));
+  }
+
+  @Test
+  @SneakyThrows
+  void deserialize_throws_if_class_is_not_a_plan() {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    output.write(PlanSerializer.CURSOR_VERSION);
+    try (DataOutputStream dataOutput = new DataOutputStream(new DeflaterOutputStream(output))) {
+      dataOutput.writeByte(PlanSerializer.CursorOutputStream.PLAN);
+      dataOutput.writeUTF(String.class.getName());
+    }
+    var code = Base64.getUrlEncoder().encodeToString(output.toByteArray());
+    var exception = assertThrows(IllegalStateException.class, () -> deserialize(code));
+    assertInstanceOf(InvalidClassException.class, exception.getCause());
   }
 
   @Test
@@ -164,6 +251,7 @@ public class PlanSerializerTest {
     var cds =
         planCache.getCursorDeserializationStream(new ByteArrayInputStream(output.toByteArray()));
     assertEquals(storageEngine, cds.resolveObject("engine"));
+    assertEquals(storageEngine, cds.getEngine());
     var object = new Object();
     assertSame(object, cds.resolveObject(object));
   }
@@ -9,11 +9,20 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
 
+import com.google.common.collect.ImmutableMap;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
@@ -21,13 +30,19 @@ import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.sql.common.response.ResponseListener;
+import org.opensearch.sql.data.model.ExprTimestampValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.QueryService;
 import org.opensearch.sql.executor.pagination.Cursor;
+import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.planner.PlanContext;
+import org.opensearch.sql.planner.logical.LogicalAggregation;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.storage.split.Split;
 
@@ -110,6 +125,198 @@ class MicroBatchStreamingExecutionTest {
         .latestCommittedLogShouldBe(0L);
   }
 
+  @Test
+  void windowedAggregationExecutesInputPlanAndEmitsFiredWindows() {
+    LogicalPlan input = Mockito.mock(LogicalPlan.class);
+    LogicalPlan aggregation =
+        new LogicalAggregation(
+            input,
+            List.of(DSL.named("count", DSL.count(DSL.ref("@timestamp", TIMESTAMP)))),
+            List.of(
+                DSL.named("span", DSL.span(DSL.ref("@timestamp", TIMESTAMP), DSL.literal(1), "m"))),
+            true);
+    TestStreamingSource source = new TestStreamingSource();
+    QueryService queryService = Mockito.mock(QueryService.class);
+    @SuppressWarnings("unchecked")
+    ResponseListener<ExecutionEngine.QueryResponse> windowListener =
+        Mockito.mock(ResponseListener.class);
+    MetadataLog<Offset> committedLog = new DefaultMetadataLog<>();
+    MicroBatchStreamingExecution execution =
+        new MicroBatchStreamingExecution(
+            source,
+            aggregation,
+            queryService,
+            new DefaultMetadataLog<>(),
+            committedLog,
+            0L,
+            windowListener);
+    Iterator<List<ExprValue>> batches =
+        List.of(
+                List.of(event("2021-01-01 00:00:10"), event("2021-01-01 00:00:20")),
+                List.of(event("2021-01-01 00:00:50"), event("2021-01-01 00:01:05")))
+            .iterator();
+    doAnswer(
+            invocation -> {
+              assertEquals(input, invocation.getArgument(0));
+              ResponseListener<ExecutionEngine.QueryResponse> listener =
+                  invocation.getArgument(2);
+              listener.onResponse(
+                  new ExecutionEngine.QueryResponse(null, batches.next(), Cursor.None));
+              return null;
+            })
+        .when(queryService)
+        .executePlan(any(), any(), any());
+
+    source.addData();
+    execution.execute();
+    verify(windowListener, never()).onResponse(any());
+
+    source.addData();
+    execution.execute();
+    ArgumentCaptor<ExecutionEngine.QueryResponse> response =
+        ArgumentCaptor.forClass(ExecutionEngine.QueryResponse.class);
+    verify(windowListener).onResponse(response.capture());
+    assertEquals(
+        List.of(
+            ExprValueUtils.tupleValue(
+                ImmutableMap.of(
+                    "span", new ExprTimestampValue("2021-01-01 00:00:00"), "count", 3))),
+        response.getValue().getResults());
+    assertEquals(1L, committedLog.getLatest().get().getLeft());
+  }
+
+  @Test
+  void windowedAggregationFallsBackToBatchPlanIfInputReachesSizeLimit() {
+    LogicalPlan input = Mockito.mock(LogicalPlan.class);
+    LogicalPlan aggregation =
+        new LogicalAggregation(
+            input,
+            List.of(DSL.named("count", DSL.count(DSL.ref("@timestamp", TIMESTAMP)))),
+            List.of(
+                DSL.named("span", DSL.span(DSL.ref("@timestamp", TIMESTAMP), DSL.literal(1), "m"))),
+            true);
+    TestStreamingSource source = new TestStreamingSource();
+    QueryService queryService = Mockito.mock(QueryService.class);
+    @SuppressWarnings("unchecked")
+    ResponseListener<ExecutionEngine.QueryResponse> windowListener =
+        Mockito.mock(ResponseListener.class);
+    MetadataLog<Offset> committedLog = new DefaultMetadataLog<>();
+    MicroBatchStreamingExecution execution =
+        new MicroBatchStreamingExecution(
+            source,
+            aggregation,
+            queryService,
+            new DefaultMetadataLog<>(),
+            committedLog,
+            0L,
+            windowListener);
+    ExprValue window =
+        ExprValueUtils.tupleValue(
+            ImmutableMap.of("span", new ExprTimestampValue("2021-01-01 00:00:00"), "count", 5));
+    when(queryService.getQuerySizeLimit()).thenReturn(2);
+    doAnswer(
+            invocation -> {
+              ResponseListener<ExecutionEngine.QueryResponse> listener =
+                  invocation.getArgument(2);
+              List<ExprValue> rows =
+                  invocation.getArgument(0) == input
+                      ? List.of(event("2021-01-01 00:00:10"), event("2021-01-01 00:00:20"))
+                      : List.of(window);
+              listener.onResponse(new ExecutionEngine.QueryResponse(null, rows, Cursor.None));
+              return null;
+            })
+        .when(queryService)
+        .executePlan(any(), any(), any());
+
+    source.addData();
+    execution.execute();
+    source.addData();
+    execution.execute();
+
+    // Input plan runs for the first batch only, then the batch plan for every batch
+    verify(queryService).executePlan(eq(input), any(), any());
+    verify(queryService, times(2)).executePlan(eq(aggregation), any(), any());
+    ArgumentCaptor<ExecutionEngine.QueryResponse> response =
+        ArgumentCaptor.forClass(ExecutionEngine.QueryResponse.class);
+    verify(windowListener, times(2)).onResponse(response.capture());
+    assertEquals(List.of(window), response.getValue().getResults());
+    assertEquals(1L, committedLog.getLatest().get().getLeft());
+  }
+
+  @Test
+  void windowedAggregationEmitsOpenWindowsBeforeFallingBackToBatchPlan() {
+    LogicalPlan input = Mockito.mock(LogicalPlan.class);
+    LogicalPlan aggregation =
+        new LogicalAggregation(
+            input,
+            List.of(DSL.named("count", DSL.count(DSL.ref("@timestamp", TIMESTAMP)))),
+            List.of(
+                DSL.named("span", DSL.span(DSL.ref("@timestamp", TIMESTAMP), DSL.literal(1), "m"))),
+            true);
+    TestStreamingSource source = new TestStreamingSource();
+    QueryService queryService = Mockito.mock(QueryService.class);
+    @SuppressWarnings("unchecked")
+    ResponseListener<ExecutionEngine.QueryResponse> windowListener =
+        Mockito.mock(ResponseListener.class);
+    MicroBatchStreamingExecution execution =
+        new MicroBatchStreamingExecution(
+            source,
+            aggregation,
+            queryService,
+            new DefaultMetadataLog<>(),
+            new DefaultMetadataLog<>(),
+            0L,
+            windowListener);
+    ExprValue window =
+        ExprValueUtils.tupleValue(
+            ImmutableMap.of("span", new ExprTimestampValue("2021-01-01 00:01:00"), "count", 2));
+    Iterator<List<ExprValue>> inputs =
+        List.of(
+                List.of(event("2021-01-01 00:00:10"), event("2021-01-01 00:00:20")),
+                List.of(
+                    event("2021-01-01 00:01:10"),
+                    event("2021-01-01 00:01:20"),
+                    event("2021-01-01 00:01:30")))
+            .iterator();
+    when(queryService.getQuerySizeLimit()).thenReturn(3);
+    doAnswer(
+            invocation -> {
+              ResponseListener<ExecutionEngine.QueryResponse> listener =
+                  invocation.getArgument(2);
+              List<ExprValue> rows =
+                  invocation.getArgument(0) == input ? inputs.next() : List.of(window);
+              listener.onResponse(new ExecutionEngine.QueryResponse(null, rows, Cursor.None));
+              return null;
+            })
+        .when(queryService)
+        .executePlan(any(), any(), any());
+
+    source.addData();
+    execution.execute();
+    verify(windowListener, never()).onResponse(any());
+
+    source.addData();
+    execution.execute();
+    ArgumentCaptor<ExecutionEngine.QueryResponse> response =
+        ArgumentCaptor.forClass(ExecutionEngine.QueryResponse.class);
+    verify(windowListener, times(2)).onResponse(response.capture());
+    assertEquals(
+        List.of(
+            List.of(
+                ExprValueUtils.tupleValue(
+                    ImmutableMap.of(
+                        "span", new ExprTimestampValue("2021-01-01 00:00:00"), "count", 2))),
+            List.of(window)),
+        response.getAllValues().stream()
+            .map(ExecutionEngine.QueryResponse::getResults)
+            .collect(Collectors.toList()));
+  }
+
+  private static ExprValue event(String timestamp) {
+    return ExprValueUtils.tupleValue(
+        ImmutableMap.of("@timestamp", new ExprTimestampValue(timestamp)));
+  }
+
   Helper streamingQuery() {
     return new Helper();
   }
@@ -10,6 +10,7 @@ import static java.time.temporal.TemporalAdjusters.nextOrSame;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
 import static org.opensearch.sql.data.model.ExprValueUtils.longValue;
 import static org.opensearch.sql.data.model.ExprValueUtils.nullValue;
@@ -1415,6 +1416,56 @@ class DateTimeFunctionTest extends ExpressionTestBase {
     assertEquals(timestampFormatted, eval(expr).stringValue());
   }
 
+  @Test
+  public void date_format_with_compiled_format() {
+    dateFormatTesters.forEach(
+        dft ->
+            assertEquals(
+                dft.getFormatted(),
+                DateTimeFormatterUtil.getFormattedDate(
+                        new ExprStringValue(dft.date),
+                        new DateTimeFormatterUtil.CompiledDateFormat(dft.getFormatter(), false))
+                    .stringValue()));
+
+    ExprValue timestamp = new ExprStringValue("1998-01-31 13:14:15.012345");
+    assertEquals(
+        "Sat Jan 01 31st 31 31 012345 13 01 01 14 031 13 1 "
+            + "January 01 PM 01:14:15 PM 15 15 13:14:15 % P",
+        DateTimeFormatterUtil.getFormattedDate(
+                timestamp,
+                new DateTimeFormatterUtil.CompiledDateFormat(
+                    "%a %b %c %D %d %e %f %H %h %I %i %j %k %l %M %m %p %r %S %s %T %% %P", false))
+            .stringValue());
+    // Formats which cannot be split around %D or %f are formatted as a single pattern
+    for (String format : List.of("%D%f", "T%f", "%f'%Y'", "%Y-%m-%d [%T]")) {
+      assertEquals(
+          DateTimeFormatterUtil.getFormattedDate(timestamp, new ExprStringValue(format)),
+          DateTimeFormatterUtil.getFormattedDate(
+              timestamp, new DateTimeFormatterUtil.CompiledDateFormat(format, false)),
+          format);
+    }
+  }
+
+  @Test
+  public void time_format_with_compiled_format() {
+    ExprValue timestamp = new ExprStringValue("1998-01-31 13:14:15.012345");
+    assertEquals(
+        "012345 13 01 01 14 13 1 PM 01:14:15 PM 15 15 13:14:15",
+        DateTimeFormatterUtil.getFormattedTime(
+                timestamp,
+                new DateTimeFormatterUtil.CompiledDateFormat(
+                    "%f %H %h %I %i %k %l %p %r %S %s %T", true))
+            .stringValue());
+    assertTrue(
+        DateTimeFormatterUtil.getFormattedTime(
+                timestamp, new DateTimeFormatterUtil.CompiledDateFormat("%H %a", true))
+            .isNull());
+    assertTrue(
+        DateTimeFormatterUtil.getFormattedTime(
+                timestamp, new DateTimeFormatterUtil.CompiledDateFormat("%f %U", true))
+            .isNull());
+  }
+
   void testDateFormat(DateFormatTester dft) {
     FunctionExpression expr = dft.getDateFormatExpression();
     assertEquals(STRING, expr.type());
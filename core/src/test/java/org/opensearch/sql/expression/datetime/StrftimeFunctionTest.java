@@ -532,4 +532,29 @@ public class StrftimeFunctionTest {
             new ExprDoubleValue(32536771200L), new ExprStringValue("%Y-%m-%d"));
     assertNull(result);
   }
+
+  @Test
+  public void testStrftimeWithCompiledFormat() {
+    ExprValue unixTime = new ExprLongValue(1521467703L);
+    String[][] cases = {
+      {"%F %T", "2018-03-19 13:55:03"},
+      {"%Y-%m-%dT%H:%M:%S.%3N", "2018-03-19T13:55:03.000"},
+      {"%:z %:::z %Ez", "+00:00 +00 +0"},
+      {"100%% %%Y %%N", "100% %Y %000000000"},
+      {"literal %q %", "literal %q %"},
+      {"", ""}
+    };
+    for (String[] testCase : cases) {
+      StrftimeFormatterUtil.CompiledStrftimeFormat format =
+          new StrftimeFormatterUtil.CompiledStrftimeFormat(testCase[0]);
+      assertEquals(testCase[1], StrftimeFunction.strftime(unixTime, format), testCase[0]);
+      assertEquals(
+          testCase[1],
+          StrftimeFunction.strftime(unixTime, new ExprStringValue(testCase[0])),
+          testCase[0]);
+    }
+    assertNull(
+        StrftimeFunction.strftime(
+            ExprNullValue.of(), new StrftimeFormatterUtil.CompiledStrftimeFormat("%F")));
+  }
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.function.jsonUDF;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class JsonPathExtractorTest {
+
+  private static final String LOG =
+      "{\"level\":\"ERROR\",\"status\":503,\"latency\":1.5,\"retry\":true,"
+          + "\"request\":{\"method\":\"GET\",\"headers\":{\"host\":\"opensearch.org\"}},"
+          + "\"tags\":[\"a\",\"b\"],"
+          + "\"spans\":[{\"name\":\"db\",\"ms\":3},{\"name\":\"cache\",\"ms\":1}],"
+          + "\"error\":null}";
+
+  private static List<Object> extract(String json, String... paths) {
+    return new JsonPathExtractor(paths).extract(json);
+  }
+
+  @Test
+  public void testExtractScalars() {
+    assertEquals(
+        List.of("ERROR", 503, 1.5, true), extract(LOG, "level", "status", "latency", "retry"));
+  }
+
+  @Test
+  public void testExtractNestedFieldsAndContainers() {
+    assertEquals(
+        List.of("GET", "opensearch.org", "{\"host\":\"opensearch.org\"}"),
+        extract(LOG, "request.method", "request.headers.host", "request.headers"));
+  }
+
+  @Test
+  public void testExtractArrayIndexAndWildcard() {
+    assertEquals(
+        List.of("b", "cache", "[\"db\",\"cache\"]", "[\"a\",\"b\"]"),
+        extract(LOG, "tags{1}", "spans{1}.name", "spans{}.name", "tags"));
+  }
+
+  @Test
+  public void testPathsSharingPrefix() {
+    assertEquals(
+        List.of("[{\"name\":\"db\",\"ms\":3},{\"name\":\"cache\",\"ms\":1}]", "[3,1]", "db"),
+        extract(LOG, "spans", "spans{}.ms", "spans{0}.name"));
+  }
+
+  @Test
+  public void testMissingAndNullPaths() {
+    assertEquals(
+        Arrays.asList(null, null, null, "ERROR"),
+        extract(LOG, "missing", "request.missing.deeper", "error", "level"));
+  }
+
+  @Test
+  public void testInvalidJson() {
+    assertEquals(Arrays.asList(null, null), extract("{\"level\":", "level", "status"));
+  }
+
+  @Test
+  public void testUnsupportedPathFallsBack() {
+    assertEquals(List.of("b", "ERROR"), extract(LOG, "tags{-1}", "level"));
+  }
+
+  @Test
+  public void testInvalidJsonAfterFoundPaths() {
+    // The root value is parsed to its end, even once all paths are found
+    assertEquals(
+        Arrays.asList((Object) null), extract("{\"level\":\"ERROR\", garbage", "level"));
+    assertEquals(Arrays.asList((Object) null), extract("{\"level\":\"ERROR\",", "level"));
+    // Content after the root value is not parsed
+    assertEquals(List.of("ERROR"), extract("{\"level\":\"ERROR\"} garbage", "level"));
+  }
+
+  @Test
+  public void testDuplicateKeysResolveToLastValue() {
+    assertEquals(
+        List.of("ERROR", 503),
+        extract("{\"level\":\"INFO\",\"status\":503,\"level\":\"ERROR\"}", "level", "status"));
+    assertEquals(
+        Arrays.asList((Object) null),
+        extract("{\"request\":{\"method\":\"GET\"},\"request\":{}}", "request.method"));
+    assertEquals(
+        List.of("[\"b\",\"c\"]"),
+        extract("{\"tags\":[\"a\"],\"tags\":[\"b\",\"c\"]}", "tags{}"));
+  }
+
+  @Test
+  public void testExtractWithCompiledPaths() {
+    JsonPathExtractor extractor = new JsonPathExtractor("level", "status");
+    assertEquals("[\"ERROR\",503]", JsonExtractFunctionImpl.extract(extractor, LOG));
+    assertEquals(
+        Map.of("level", "ERROR", "status", "503"),
+        JsonExtractAllFunctionImpl.extract(extractor, LOG));
+  }
+
+  @Test
+  public void testJsonExtractMultiplePaths() {
+    assertEquals(
+        "[\"ERROR\",503,null]", JsonExtractFunctionImpl.eval(LOG, "level", "status", "missing"));
+    assertEquals("GET", JsonExtractFunctionImpl.eval(LOG, "request.method"));
+  }
+
+  @Test
+  public void testJsonExtractAll() {
+    assertEquals(
+        Map.of("level", "ERROR", "status", "503", "error", "null"),
+        JsonExtractAllFunctionImpl.eval(LOG, "level", "status", "error"));
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.function.udf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.expression.function.udf.GrokFunction.CompiledGrok;
+
+public class GrokFunctionTest {
+
+  @Test
+  public void testCaptureAllNamedFields() {
+    CompiledGrok grok = new CompiledGrok("%{IPV4:ip} %{WORD:method} %{URIPATH:path}");
+    assertEquals(
+        Map.of("ip", "10.0.0.1", "method", "GET", "path", "/index.html"),
+        grok.capture("10.0.0.1 GET /index.html"));
+  }
+
+  @Test
+  public void testCompiledGrokIsReusedAcrossInputs() {
+    CompiledGrok grok = new CompiledGrok(".+@%{HOSTNAME:host}");
+    assertEquals(Map.of("host", "opensearch.org"), grok.capture("user@opensearch.org"));
+    assertEquals(Map.of("host", "example.com"), grok.capture("admin@example.com"));
+  }
+
+  @Test
+  public void testUnmatchedFieldsAreEmpty() {
+    CompiledGrok grok = new CompiledGrok("%{NUMBER:num} %{WORD:word}");
+    assertEquals(Map.of("num", "", "word", ""), grok.capture("no numbers here"));
+  }
+
+  @Test
+  public void testNullInput() {
+    assertEquals(Map.of(), new CompiledGrok("%{WORD:word}").capture(null));
+  }
+}
@@ -9,8 +9,10 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
+import org.opensearch.sql.expression.parse.RegexCommonUtils.CompiledRegex;
 
 public class RexExtractFunctionTest {
 
@@ -90,7 +92,7 @@ public class RexExtractFunctionTest {
     String expectedMessage =
         "Error in 'rex' command: Encountered the following error while compiling the regex"
             + " '(?<invalid>[':";
-    assertEquals(true, exception.getMessage().startsWith(expectedMessage));
+    assertTrue(exception.getMessage().startsWith(expectedMessage));
   }
 
   @Test
@@ -176,8 +178,7 @@ public class RexExtractFunctionTest {
 
       String expectedPrefix =
           "Error in 'rex' command: Encountered the following error while compiling the regex";
-      assertEquals(
-          true,
+      assertTrue(
           exception.getMessage().startsWith(expectedPrefix),
           "Error message should start with SPL-style prefix for pattern: " + invalidPattern);
     }
@@ -213,4 +214,30 @@ public class RexExtractFunctionTest {
     RexExtractFunction testFunction = new RexExtractFunction();
     assertNotNull(testFunction, "Function should be properly initialized");
   }
+
+  @Test
+  public void testExtractGroup_CompiledRegex() {
+    CompiledRegex pattern = new CompiledRegex("(?<name>\\w+)@(?<domain>\\w+)");
+
+    assertEquals("user", RexExtractFunction.extractGroup("user@domain", pattern, 1));
+    assertEquals("admin", RexExtractFunction.extractGroup("admin@example", pattern, 1));
+    assertEquals("example", RexExtractFunction.extractGroup("admin@example", pattern, 2));
+    assertNull(RexExtractFunction.extractGroup("no match", pattern, 1));
+  }
+
+  @Test
+  public void testExtractGroup_InvalidCompiledRegex() {
+    CompiledRegex pattern = new CompiledRegex("(?<invalid>[");
+
+    IllegalArgumentException exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> RexExtractFunction.extractGroup("text", pattern, 1));
+    assertTrue(
+        exception
+            .getMessage()
+            .startsWith(
+                "Error in 'rex' command: Encountered the following error while compiling the"
+                    + " regex '(?<invalid>[':"));
+  }
 }
@@ -211,4 +211,37 @@ public class RegexCommonUtilsTest {
     assertEquals("groupA", groups.get(0));
     assertEquals("group2B", groups.get(1));
   }
+
+  @Test
+  public void testCompiledRegex() {
+    RegexCommonUtils.CompiledRegex regex = new RegexCommonUtils.CompiledRegex("(?<host>[a-z.]+)");
+
+    assertEquals("(?<host>[a-z.]+)", regex.getRegex());
+    assertEquals("(?<host>[a-z.]+)", regex.getPattern().pattern());
+    assertSame(regex.getPattern(), regex.getPattern());
+  }
+
+  @Test
+  public void testCompiledRegexWithInvalidRegexFailsOnUse() {
+    RegexCommonUtils.CompiledRegex regex = new RegexCommonUtils.CompiledRegex("[invalid");
+
+    assertEquals("[invalid", regex.getRegex());
+    assertThrows(PatternSyntaxException.class, regex::getPattern);
+  }
+
+  @Test
+  public void testCompiledRegexOfSharesCachedPattern() {
+    String regex = "shared.*pattern";
+
+    assertSame(
+        RegexCommonUtils.getCompiledPattern(regex),
+        RegexCommonUtils.CompiledRegex.of(regex).getPattern());
+    assertSame(
+        RegexCommonUtils.CompiledRegex.of(regex).getPattern(),
+        RegexCommonUtils.CompiledRegex.of(regex).getPattern());
+    assertThrows(
+        PatternSyntaxException.class,
+        () -> RegexCommonUtils.CompiledRegex.of("[invalid").getPattern());
+    assertNull(RegexCommonUtils.CompiledRegex.of(null));
+  }
 }
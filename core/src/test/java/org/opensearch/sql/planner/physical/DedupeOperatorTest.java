@@ -8,25 +8,33 @@ package org.opensearch.sql.planner.physical;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.dedupe;
 
 import com.google.common.collect.ImmutableMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.monitor.ResourceMonitor;
 import org.opensearch.sql.planner.physical.DedupeOperator.Deduper;
 
 @ExtendWith(MockitoExtension.class)
 class DedupeOperatorTest extends PhysicalPlanTestBase {
   @Mock private PhysicalPlan inputPlan;
 
+  @Mock private ResourceMonitor resourceMonitor;
+
   /**
    * construct the map which contain null value, because {@link ImmutableMap} doesn't support null
    * value.
@@ -227,6 +235,39 @@ class DedupeOperatorTest extends PhysicalPlanTestBase {
             tupleValue(ImmutableMap.of("region", "us-east-1", "action", "GET", "response", 200))));
   }
 
+  @Test
+  public void dedupe_fails_if_resource_is_unhealthy_while_keys_grow() {
+    when(resourceMonitor.isHealthy()).thenReturn(false);
+    when(inputPlan.hasNext()).thenReturn(true);
+    AtomicInteger id = new AtomicInteger();
+    when(inputPlan.next())
+        .thenAnswer(invocation -> tupleValue(ImmutableMap.of("id", id.getAndIncrement())));
+
+    DedupeOperator dedupe =
+        new DedupeOperator(
+            inputPlan, List.of(DSL.ref("id", INTEGER)), 1, false, false, resourceMonitor);
+    IllegalStateException exception =
+        assertThrows(IllegalStateException.class, () -> execute(dedupe));
+    assertEquals(
+        "insufficient resources to retain more dedupe keys, quit.", exception.getMessage());
+    assertEquals(DedupeOperator.NUMBER_OF_DISTINCT_KEYS_TO_CHECK, id.get());
+  }
+
+  @Test
+  public void dedupe_in_consecutive_mode_does_not_check_resource() {
+    AtomicInteger id = new AtomicInteger();
+    when(inputPlan.hasNext())
+        .thenAnswer(invocation -> id.get() < 2 * DedupeOperator.NUMBER_OF_DISTINCT_KEYS_TO_CHECK);
+    when(inputPlan.next())
+        .thenAnswer(invocation -> tupleValue(ImmutableMap.of("id", id.getAndIncrement())));
+
+    DedupeOperator dedupe =
+        new DedupeOperator(
+            inputPlan, List.of(DSL.ref("id", INTEGER)), 1, false, true, resourceMonitor);
+    assertEquals(2 * DedupeOperator.NUMBER_OF_DISTINCT_KEYS_TO_CHECK, execute(dedupe).size());
+    verifyNoInteractions(resourceMonitor);
+  }
+
   @Test
   public void historical_deduper() {
     Deduper<Integer> deduper = Deduper.historicalDeduper();
@@ -254,4 +295,26 @@ class DedupeOperatorTest extends PhysicalPlanTestBase {
     // first time seen 1
     assertEquals(1, deduper.seenTimes(1));
   }
+
+  @Test
+  public void historical_deduper_grows_beyond_initial_capacity() {
+    Deduper<Integer> deduper = Deduper.historicalDeduper();
+
+    for (int i = 0; i < 1000; i++) {
+      assertEquals(1, deduper.seenTimes(i));
+    }
+    for (int i = 0; i < 1000; i++) {
+      assertEquals(2, deduper.seenTimes(i));
+    }
+  }
+
+  @Test
+  public void historical_deduper_verifies_keys_with_same_fingerprint() {
+    Deduper<String> deduper = Deduper.historicalDeduper(key -> 0L);
+
+    assertEquals(1, deduper.seenTimes("a"));
+    assertEquals(1, deduper.seenTimes("b"));
+    assertEquals(2, deduper.seenTimes("a"));
+    assertEquals(2, deduper.seenTimes("b"));
+  }
 }
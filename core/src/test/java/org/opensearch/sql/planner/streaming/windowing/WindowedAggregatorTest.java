@@ -0,0 +1,122 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.streaming.windowing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprTimestampValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.storage.bindingtuple.BindingTuple;
+
+class WindowedAggregatorTest {
+
+  private final List<NamedAggregator> aggregators =
+      List.of(
+          DSL.named("count", DSL.count(DSL.ref("@timestamp", TIMESTAMP))),
+          DSL.named("sum", DSL.sum(DSL.ref("bytes", INTEGER))));
+
+  private final List<NamedExpression> groupBy =
+      List.of(
+          DSL.named("span", DSL.span(DSL.ref("@timestamp", TIMESTAMP), DSL.literal(1), "m")),
+          DSL.named("host", DSL.ref("host", STRING)));
+
+  private final WindowedAggregator aggregator =
+      WindowedAggregator.create(aggregators, groupBy, 0).orElseThrow();
+
+  @Test
+  void shouldKeepWindowStateAcrossBatchesUntilWatermarkPassesIt() {
+    accumulate("2021-01-01 00:00:10", "a", 10);
+    accumulate("2021-01-01 00:00:20", "b", 20);
+    accumulate("2021-01-01 00:00:50", "a", 30);
+    assertTrue(aggregator.fire().isEmpty());
+
+    accumulate("2021-01-01 00:00:55", "a", 40);
+    accumulate("2021-01-01 00:01:05", "a", 50);
+    assertEquals(
+        List.of(row("2021-01-01 00:00:00", "a", 3, 80), row("2021-01-01 00:00:00", "b", 1, 20)),
+        aggregator.fire());
+  }
+
+  @Test
+  void shouldDropEventsOfFiredWindows() {
+    accumulate("2021-01-01 00:00:10", "a", 10);
+    accumulate("2021-01-01 00:01:05", "a", 20);
+    assertEquals(List.of(row("2021-01-01 00:00:00", "a", 1, 10)), aggregator.fire());
+
+    accumulate("2021-01-01 00:00:30", "a", 30);
+    accumulate("2021-01-01 00:02:01", "a", 40);
+    assertEquals(List.of(row("2021-01-01 00:01:00", "a", 1, 20)), aggregator.fire());
+  }
+
+  @Test
+  void shouldAllowOutOfOrderEventsWithinDelay() {
+    WindowedAggregator delayed = WindowedAggregator.create(aggregators, groupBy, 10_000).get();
+    delayed.accumulate(event("2021-01-01 00:01:05", "a", 10));
+    assertTrue(delayed.fire().isEmpty());
+
+    delayed.accumulate(event("2021-01-01 00:00:59", "a", 20));
+    delayed.accumulate(event("2021-01-01 00:01:11", "a", 30));
+    assertEquals(List.of(row("2021-01-01 00:00:00", "a", 1, 20)), delayed.fire());
+  }
+
+  @Test
+  void shouldFlushOpenWindowsRegardlessOfWatermark() {
+    accumulate("2021-01-01 00:00:10", "a", 10);
+    accumulate("2021-01-01 00:01:05", "b", 20);
+    assertEquals(List.of(row("2021-01-01 00:00:00", "a", 1, 10)), aggregator.fire());
+
+    accumulate("2021-01-01 00:01:30", "b", 30);
+    accumulate("2021-01-01 00:02:01", "a", 40);
+    assertEquals(
+        List.of(row("2021-01-01 00:01:00", "b", 2, 50), row("2021-01-01 00:02:00", "a", 1, 40)),
+        aggregator.flush());
+    assertTrue(aggregator.fire().isEmpty());
+    assertTrue(aggregator.flush().isEmpty());
+  }
+
+  @Test
+  void shouldNotCreateWithoutFixedLengthTimeSpan() {
+    List<NamedExpression> byHost = List.of(DSL.named("host", DSL.ref("host", STRING)));
+    assertTrue(WindowedAggregator.create(aggregators, byHost, 0).isEmpty());
+    assertTrue(
+        WindowedAggregator.create(
+                aggregators,
+                List.of(
+                    DSL.named(
+                        "span", DSL.span(DSL.ref("@timestamp", TIMESTAMP), DSL.literal(1), "M"))),
+                0)
+            .isEmpty());
+  }
+
+  private void accumulate(String timestamp, String host, int bytes) {
+    aggregator.accumulate(event(timestamp, host, bytes));
+  }
+
+  private static BindingTuple event(
+      String timestamp, String host, int bytes) {
+    return ExprValueUtils.tupleValue(
+            ImmutableMap.of(
+                "@timestamp", new ExprTimestampValue(timestamp), "host", host, "bytes", bytes))
+        .bindingTuples();
+  }
+
+  private static ExprValue row(String span, String host, int count, int sum) {
+    return ExprValueUtils.tupleValue(
+        ImmutableMap.of(
+            "span", new ExprTimestampValue(span), "host", host, "count", count, "sum", sum));
+  }
+}
@@ -5,7 +5,6 @@
 
 package org.opensearch.sql.calcite.remote;
 
-import java.io.IOException;
 import org.opensearch.sql.ppl.DedupCommandIT;
 
 public class CalciteDedupCommandIT extends DedupCommandIT {
@@ -14,17 +13,4 @@ public class CalciteDedupCommandIT extends DedupCommandIT {
     super.init();
     enableCalcite();
   }
-
-  @Override
-  public void testConsecutiveDedup() throws IOException {
-    withFallbackEnabled(
-        () -> {
-          try {
-            super.testConsecutiveDedup();
-          } catch (IOException e) {
-            throw new RuntimeException(e);
-          }
-        },
-        "https://github.com/opensearch-project/sql/issues/3415");
-  }
 }
@@ -93,39 +93,67 @@ public class CalcitePPLDedupIT extends PPLIntegTestCase {
   }
 
   @Test
-  @SuppressWarnings("ThrowableNotThrown")
-  public void testConsecutiveThrowException() {
-    assertThrowsWithReplace(
-        UnsupportedOperationException.class,
-        () ->
-            executeQuery(
-                String.format(
-                    "source = %s | dedup 1 name CONSECUTIVE=true | fields name",
-                    TEST_INDEX_DUPLICATION_NULLABLE)));
-
-    assertThrowsWithReplace(
-        UnsupportedOperationException.class,
-        () ->
-            executeQuery(
-                String.format(
-                    "source = %s | dedup 1 name KEEPEMPTY=true CONSECUTIVE=true | fields name",
-                    TEST_INDEX_DUPLICATION_NULLABLE)));
+  public void testConsecutiveDedup() throws IOException {
+    JSONObject actual =
+        executeQuery(
+            String.format(
+                "source = %s | dedup 1 name CONSECUTIVE=true | fields name",
+                TEST_INDEX_DUPLICATION_NULLABLE));
+    verifyDataRowsInOrder(
+        actual,
+        rows("A"),
+        rows("B"),
+        rows("C"),
+        rows("D"),
+        rows("E"),
+        rows("A"),
+        rows("B"),
+        rows("C"));
+  }
 
-    assertThrowsWithReplace(
-        UnsupportedOperationException.class,
-        () ->
-            executeQuery(
-                String.format(
-                    "source = %s | dedup 2 name CONSECUTIVE=true | fields name",
-                    TEST_INDEX_DUPLICATION_NULLABLE)));
+  @Test
+  public void testConsecutiveDedupKeepEmpty() throws IOException {
+    JSONObject actual =
+        executeQuery(
+            String.format(
+                "source = %s | dedup 1 name KEEPEMPTY=true CONSECUTIVE=true | fields name",
+                TEST_INDEX_DUPLICATION_NULLABLE));
+    verifyDataRowsInOrder(
+        actual,
+        rows("A"),
+        rows("B"),
+        rows("C"),
+        rows((Object) null),
+        rows("D"),
+        rows("E"),
+        rows("A"),
+        rows((Object) null),
+        rows("B"),
+        rows((Object) null),
+        rows("C"),
+        rows((Object) null));
+  }
 
-    assertThrowsWithReplace(
-        UnsupportedOperationException.class,
-        () ->
-            executeQuery(
-                String.format(
-                    "source = %s | dedup 2 name KEEPEMPTY=true CONSECUTIVE=true | fields name",
-                    TEST_INDEX_DUPLICATION_NULLABLE)));
+  @Test
+  public void testConsecutiveDedup2() throws IOException {
+    JSONObject actual =
+        executeQuery(
+            String.format(
+                "source = %s | dedup 2 name, category CONSECUTIVE=true | fields name, category",
+                TEST_INDEX_DUPLICATION_NULLABLE));
+    verifyDataRowsInOrder(
+        actual,
+        rows("A", "X"),
+        rows("A", "Y"),
+        rows("A", "Y"),
+        rows("B", "Z"),
+        rows("B", "Z"),
+        rows("C", "X"),
+        rows("D", "Z"),
+        rows("A", "X"),
+        rows("A", "Y"),
+        rows("B", "Y"),
+        rows("C", "X"));
   }
 
   @Test
@@ -139,6 +167,26 @@ public class CalcitePPLDedupIT extends PPLIntegTestCase {
         rows("E"));
   }
 
+  @Test
+  public void testDedup2WithHead() throws IOException {
+    JSONObject actual =
+        executeQuery(
+            String.format(
+                "source=%s | dedup 2 name | head 3 | fields name",
+                TEST_INDEX_DUPLICATION_NULLABLE));
+    verifyNumOfRows(actual, 3);
+  }
+
+  @Test
+  public void testDedup2WithHeadFrom() throws IOException {
+    JSONObject actual =
+        executeQuery(
+            String.format(
+                "source=%s | dedup 2 name | head 3 from 5 | fields name",
+                TEST_INDEX_DUPLICATION_NULLABLE));
+    verifyNumOfRows(actual, 3);
+  }
+
   @Test
   public void testDedupMultipleFields2() throws IOException {
     JSONObject actual =
@@ -0,0 +1,90 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.ppl;
+
+import static org.opensearch.sql.legacy.TestUtils.createIndexByRestClient;
+import static org.opensearch.sql.legacy.TestUtils.isIndexExist;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Test;
+import org.opensearch.client.Request;
+import org.opensearch.sql.common.setting.Settings;
+
+/**
+ * Large unsorted scans of a multi-shard index, which are split into partitions fetched concurrently
+ * once the query size limit is above the max result window.
+ */
+public class ParallelScanIT extends PPLIntegTestCase {
+
+  private static final String INDEX = "parallel_scan";
+
+  private static final int SHARDS = 3;
+
+  private static final int DOCS = 100;
+
+  @Override
+  public void init() throws Exception {
+    super.init();
+    if (!isIndexExist(client(), INDEX)) {
+      createIndexByRestClient(
+          client(),
+          INDEX,
+          String.format(
+              "{\"settings\": {\"number_of_shards\": %d, \"max_result_window\": 10},"
+                  + " \"mappings\": {\"properties\": {\"id\": {\"type\": \"integer\"}}}}",
+              SHARDS));
+      StringBuilder bulk = new StringBuilder();
+      for (int id = 0; id < DOCS; id++) {
+        bulk.append("{\"index\": {\"_id\": \"").append(id).append("\"}}\n");
+        bulk.append("{\"id\": ").append(id).append("}\n");
+      }
+      Request request = new Request("POST", "/" + INDEX + "/_bulk?refresh=true");
+      request.setJsonEntity(bulk.toString());
+      client().performRequest(request);
+    }
+  }
+
+  @After
+  public void resetScanSettings() throws IOException {
+    updateClusterSettings(
+        new ClusterSetting("transient", Settings.Key.QUERY_SCAN_SLICES.getKeyValue(), null));
+    updateClusterSettings(
+        new ClusterSetting(
+            "transient", Settings.Key.QUERY_SCAN_SHARD_ROUTING.getKeyValue(), null));
+  }
+
+  @Test
+  public void testShardRoutedScanReturnsEveryRowOnce() throws IOException {
+    updateClusterSettings(
+        new ClusterSetting(
+            "transient", Settings.Key.QUERY_SCAN_SHARD_ROUTING.getKeyValue(), "true"));
+
+    assertEveryRowOnce(executeQuery(String.format("source=%s | fields id", INDEX)));
+  }
+
+  @Test
+  public void testSlicedScanReturnsEveryRowOnce() throws IOException {
+    updateClusterSettings(
+        new ClusterSetting("transient", Settings.Key.QUERY_SCAN_SLICES.getKeyValue(), "2"));
+
+    assertEveryRowOnce(executeQuery(String.format("source=%s | fields id", INDEX)));
+  }
+
+  private static void assertEveryRowOnce(JSONObject result) {
+    JSONArray rows = result.getJSONArray("datarows");
+    Set<Integer> ids = new HashSet<>();
+    for (int i = 0; i < rows.length(); i++) {
+      ids.add(rows.getJSONArray(i).getInt(0));
+    }
+    assertEquals(DOCS, rows.length());
+    assertEquals(DOCS, ids.size());
+  }
+}
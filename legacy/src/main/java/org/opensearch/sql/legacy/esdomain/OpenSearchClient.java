@@ -7,12 +7,14 @@ package org.opensearch.sql.legacy.esdomain;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.action.search.MultiSearchRequest;
 import org.opensearch.action.search.MultiSearchResponse;
+import org.opensearch.common.action.ActionFuture;
 import org.opensearch.sql.legacy.query.join.BackOffRetryStrategy;
 import org.opensearch.transport.client.Client;
 
@@ -27,17 +29,33 @@ public class OpenSearchClient {
   }
 
   public MultiSearchResponse.Item[] multiSearch(MultiSearchRequest multiSearchRequest) {
-    MultiSearchResponse.Item[] responses =
-        new MultiSearchResponse.Item[multiSearchRequest.requests().size()];
-    multiSearchRetry(
-        responses,
-        multiSearchRequest,
-        IntStream.range(0, multiSearchRequest.requests().size())
-            .boxed()
-            .collect(Collectors.toList()),
-        0);
+    return multiSearchAsync(multiSearchRequest).get();
+  }
 
-    return responses;
+  /**
+   * Sends the multi search request without waiting for its responses. The returned supplier waits
+   * for them and retries the failed ones the same way as {@link #multiSearch}, so the caller can
+   * keep working on an earlier batch while this one is in flight.
+   *
+   * @param multiSearchRequest multi search request
+   * @return supplier of the responses, in the order of the requests
+   */
+  public Supplier<MultiSearchResponse.Item[]> multiSearchAsync(
+      MultiSearchRequest multiSearchRequest) {
+    ActionFuture<MultiSearchResponse> pending = client.multiSearch(multiSearchRequest);
+    return () -> {
+      MultiSearchResponse.Item[] responses =
+          new MultiSearchResponse.Item[multiSearchRequest.requests().size()];
+      collectResponses(
+          responses,
+          multiSearchRequest,
+          IntStream.range(0, multiSearchRequest.requests().size())
+              .boxed()
+              .collect(Collectors.toList()),
+          pending.actionGet().getResponses(),
+          0);
+      return responses;
+    };
   }
 
   private void multiSearchRetry(
@@ -51,6 +69,15 @@ public class OpenSearchClient {
     }
     MultiSearchResponse.Item[] res =
         client.multiSearch(multiSearchRequestRetry).actionGet().getResponses();
+    collectResponses(responses, multiSearchRequest, indices, res, retry);
+  }
+
+  private void collectResponses(
+      MultiSearchResponse.Item[] responses,
+      MultiSearchRequest multiSearchRequest,
+      List<Integer> indices,
+      MultiSearchResponse.Item[] res,
+      int retry) {
     List<Integer> indicesFailure = new ArrayList<>();
     // Could get EsRejectedExecutionException and OpenSearchException as getCause
     for (int i = 0; i < res.length; i++) {
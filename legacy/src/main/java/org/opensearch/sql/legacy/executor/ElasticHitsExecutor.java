@@ -14,6 +14,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.action.search.SearchRequestBuilder;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.action.ActionFuture;
 import org.opensearch.search.SearchHits;
 import org.opensearch.search.builder.PointInTimeBuilder;
 import org.opensearch.search.sort.SortOrder;
@@ -59,9 +60,28 @@ public abstract class ElasticHitsExecutor {
       int size,
       SearchResponse previousResponse,
       PointInTimeHandler pit) {
+    return getResponseWithHitsAsync(request, select, size, previousResponse, pit).actionGet();
+  }
+
+  /**
+   * Send search request with pit/scroll without waiting for its response, so the hits of the
+   * previous response can be processed while the next page is fetched.
+   *
+   * @param request search request
+   * @param select sql select
+   * @param size fetch size
+   * @param previousResponse response for previous request
+   * @param pit point in time
+   * @return future of the search response for subsequent request
+   */
+  public ActionFuture<SearchResponse> getResponseWithHitsAsync(
+      SearchRequestBuilder request,
+      Select select,
+      int size,
+      SearchResponse previousResponse,
+      PointInTimeHandler pit) {
     // Set Size
     request.setSize(size);
-    SearchResponse responseWithHits;
 
     // Set sort field for search_after
     boolean ordered = select.isOrderdSelect();
@@ -76,8 +96,6 @@ public abstract class ElasticHitsExecutor {
     if (previousResponse != null && select.getFrom().isEmpty()) {
       request.searchAfter(previousResponse.getHits().getSortFields());
     }
-    responseWithHits = request.get();
-
-    return responseWithHits;
+    return request.execute();
   }
 }
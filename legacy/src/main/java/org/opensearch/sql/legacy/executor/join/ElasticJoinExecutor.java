@@ -16,6 +16,7 @@ import java.util.stream.Stream;
 import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.search.TotalHits.Relation;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.action.ActionFuture;
 import org.opensearch.common.document.DocumentField;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.XContentBuilder;
@@ -155,11 +156,10 @@ public abstract class ElasticJoinExecutor extends ElasticHitsExecutor {
 
   protected void onlyReturnedFields(
       Map<String, Object> fieldsMap, List<Field> required, boolean allRequired) {
-    HashMap<String, Object> filteredMap = new HashMap<>();
     if (allFieldsReturn || allRequired) {
-      filteredMap.putAll(fieldsMap);
       return;
     }
+    HashMap<String, Object> filteredMap = new HashMap<>();
     for (Field field : required) {
       String name = field.getName();
       String returnName = name;
@@ -281,6 +281,17 @@ public abstract class ElasticJoinExecutor extends ElasticHitsExecutor {
         pit);
   }
 
+  public ActionFuture<SearchResponse> getResponseWithHitsAsync(
+      TableInJoinRequestBuilder tableRequest, int size, SearchResponse previousResponse) {
+
+    return getResponseWithHitsAsync(
+        tableRequest.getRequestBuilder(),
+        tableRequest.getOriginalSelect(),
+        size,
+        previousResponse,
+        pit);
+  }
+
   public String[] getIndices(JoinRequestBuilder joinRequestBuilder) {
     return Stream.concat(
             Stream.of(joinRequestBuilder.getFirstTable().getOriginalSelect().getIndexArr()),
@@ -18,6 +18,7 @@ import java.util.Map;
 import java.util.Set;
 import org.opensearch.action.search.SearchRequestBuilder;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.action.ActionFuture;
 import org.opensearch.common.document.DocumentField;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.query.BoolQueryBuilder;
@@ -134,13 +135,25 @@ public class HashJoinElasticExecutor extends ElasticJoinExecutor {
 
     boolean limitReached = false;
     int fetchedSoFarFromSecondTable = 0;
+    String t1Alias = requestBuilder.getFirstTable().getAlias();
+    String t2Alias = requestBuilder.getSecondTable().getAlias();
     while (!limitReached) {
       SearchHit[] secondTableHits = searchResponse.getHits().getHits();
       fetchedSoFarFromSecondTable += secondTableHits.length;
+      // fetch the next page while the hits of this one are matched
+      ActionFuture<SearchResponse> nextResponse = null;
+      if (!finishedScrolling
+          && secondTableHits.length > 0
+          && (hintLimit == null || fetchedSoFarFromSecondTable >= hintLimit)) {
+        nextResponse =
+            getResponseWithHitsAsync(secondTableRequest, MAX_RESULTS_ON_ONE_FETCH, searchResponse);
+      }
       for (SearchHit secondTableHit : secondTableHits) {
         if (limitReached) {
           break;
         }
+        // returned fields of the second table hit, shared by all the hits it is combined with
+        Map<String, Object> secondTableSource = null;
         // todo: need to run on comparisons. for each comparison check if exists and add.
         HashMap<String, List<Map.Entry<Field, Field>>> comparisons =
             this.hashJoinComparisonStructure.getComparisons();
@@ -165,12 +178,13 @@ public class HashJoinElasticExecutor extends ElasticJoinExecutor {
                 this.alreadyMatched.add(combinedId);
               }
 
-              Map<String, Object> copiedSource = new HashMap<String, Object>();
-              copyMaps(copiedSource, secondTableHit.getSourceAsMap());
-              onlyReturnedFields(
-                  copiedSource,
-                  secondTableRequest.getReturnedFields(),
-                  secondTableRequest.getOriginalSelect().isSelectAll());
+              if (secondTableSource == null) {
+                secondTableSource = new HashMap<>(secondTableHit.getSourceAsMap());
+                onlyReturnedFields(
+                    secondTableSource,
+                    secondTableRequest.getReturnedFields(),
+                    secondTableRequest.getOriginalSelect().isSelectAll());
+              }
 
               Map<String, DocumentField> documentFields = new HashMap<>();
               Map<String, DocumentField> metaFields = new HashMap<>();
@@ -187,9 +201,7 @@ public class HashJoinElasticExecutor extends ElasticJoinExecutor {
               searchHit.sourceRef(matchingHit.getSourceRef());
               searchHit.getSourceAsMap().clear();
               searchHit.getSourceAsMap().putAll(matchingHit.getSourceAsMap());
-              String t1Alias = requestBuilder.getFirstTable().getAlias();
-              String t2Alias = requestBuilder.getSecondTable().getAlias();
-              mergeSourceAndAddAliases(copiedSource, searchHit, t1Alias, t2Alias);
+              mergeSourceAndAddAliases(secondTableSource, searchHit, t1Alias, t2Alias);
 
               combinedResult.add(searchHit);
               resultIds++;
@@ -201,27 +213,14 @@ public class HashJoinElasticExecutor extends ElasticJoinExecutor {
           }
         }
       }
-      if (!finishedScrolling) {
-        if (secondTableHits.length > 0
-            && (hintLimit == null || fetchedSoFarFromSecondTable >= hintLimit)) {
-          searchResponse =
-              getResponseWithHits(secondTableRequest, MAX_RESULTS_ON_ONE_FETCH, searchResponse);
-        } else {
-          break;
-        }
-      } else {
+      if (nextResponse == null) {
         break;
       }
+      searchResponse = nextResponse.actionGet();
     }
     return combinedResult;
   }
 
-  private void copyMaps(Map<String, Object> into, Map<String, Object> from) {
-    for (Map.Entry<String, Object> keyAndValue : from.entrySet()) {
-      into.put(keyAndValue.getKey(), keyAndValue.getValue());
-    }
-  }
-
   private void createKeyToResultsAndFillOptimizationStructure(
       Map<String, Map<String, List<Object>>> optimizationTermsFilterStructure,
       TableInJoinRequestBuilder firstTableRequest) {
@@ -6,10 +6,13 @@
 package org.opensearch.sql.legacy.executor.join;
 
 import com.alibaba.druid.sql.ast.statement.SQLJoinTableSource;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.action.search.MultiSearchRequest;
@@ -37,6 +40,9 @@ public class NestedLoopsElasticExecutor extends ElasticJoinExecutor {
 
   private static final Logger LOG = LogManager.getLogger();
 
+  /** Multi search batches sent ahead of the one being combined, including that one. */
+  private static final int MAX_IN_FLIGHT_MULTI_SEARCHES = 2;
+
   private final NestedLoopsElasticRequestBuilder nestedLoopsRequest;
 
   public NestedLoopsElasticExecutor(Client client, NestedLoopsElasticRequestBuilder nestedLoops) {
@@ -51,6 +57,7 @@ public class NestedLoopsElasticExecutor extends ElasticJoinExecutor {
     int multiSearchMaxSize = nestedLoopsRequest.getMultiSearchMaxSize();
     Select secondTableSelect = nestedLoopsRequest.getSecondTable().getOriginalSelect();
     Where originalSecondTableWhere = secondTableSelect.getWhere();
+    OpenSearchClient openSearchClient = new OpenSearchClient(client);
 
     orderConditions(
         nestedLoopsRequest.getFirstTable().getAlias(),
@@ -70,33 +77,40 @@ public class NestedLoopsElasticExecutor extends ElasticJoinExecutor {
     while (totalLimit > currentCombinedResults && !finishedWithFirstTable) {
 
       SearchHit[] hits = firstTableResponse.getHits().getHits();
+      Deque<PendingMultiSearch> inFlight = new ArrayDeque<>();
+      int nextHitsIndex = 0;
       boolean finishedMultiSearches = hits.length == 0;
-      int currentHitsIndex = 0;
 
       while (!finishedMultiSearches) {
-        MultiSearchRequest multiSearchRequest =
-            createMultiSearchRequest(
-                multiSearchMaxSize,
-                nestedLoopsRequest.getConnectedWhere(),
-                hits,
-                secondTableSelect,
-                originalSecondTableWhere,
-                currentHitsIndex);
-        int multiSearchSize = multiSearchRequest.requests().size();
-        if (!BackOffRetryStrategy.isHealthy()) {
-          throw new IllegalStateException("Memory circuit is broken");
+        // Keep the next batches in flight while the responses of the current one are combined
+        while (inFlight.size() < MAX_IN_FLIGHT_MULTI_SEARCHES
+            && (inFlight.isEmpty() || nextHitsIndex < hits.length - 1)) {
+          MultiSearchRequest multiSearchRequest =
+              createMultiSearchRequest(
+                  multiSearchMaxSize,
+                  nestedLoopsRequest.getConnectedWhere(),
+                  hits,
+                  secondTableSelect,
+                  originalSecondTableWhere,
+                  nextHitsIndex);
+          if (!BackOffRetryStrategy.isHealthy()) {
+            throw new IllegalStateException("Memory circuit is broken");
+          }
+          inFlight.add(
+              new PendingMultiSearch(
+                  nextHitsIndex, openSearchClient.multiSearchAsync(multiSearchRequest)));
+          nextHitsIndex += multiSearchRequest.requests().size();
         }
+        PendingMultiSearch current = inFlight.poll();
         currentCombinedResults =
             combineResultsFromMultiResponses(
                 combinedResults,
                 totalLimit,
                 currentCombinedResults,
                 hits,
-                currentHitsIndex,
-                multiSearchRequest);
-        currentHitsIndex += multiSearchSize;
-        finishedMultiSearches =
-            currentHitsIndex >= hits.length - 1 || currentCombinedResults >= totalLimit;
+                current.hitsIndex,
+                current.responses.get());
+        finishedMultiSearches = inFlight.isEmpty() || currentCombinedResults >= totalLimit;
       }
 
       if (hits.length < MAX_RESULTS_ON_ONE_FETCH) {
@@ -142,9 +156,7 @@ public class NestedLoopsElasticExecutor extends ElasticJoinExecutor {
       int currentCombinedResults,
       SearchHit[] hits,
       int currentIndex,
-      MultiSearchRequest multiSearchRequest) {
-    MultiSearchResponse.Item[] responses =
-        new OpenSearchClient(client).multiSearch(multiSearchRequest);
+      MultiSearchResponse.Item[] responses) {
     String t1Alias = nestedLoopsRequest.getFirstTable().getAlias();
     String t2Alias = nestedLoopsRequest.getSecondTable().getAlias();
 
@@ -377,6 +389,17 @@ public class NestedLoopsElasticExecutor extends ElasticJoinExecutor {
     cond.setValue(name.replaceFirst(t1Alias + ".", ""));
   }
 
+  /** Multi search batch in flight for the first table hits starting at {@code hitsIndex}. */
+  private static class PendingMultiSearch {
+    private final int hitsIndex;
+    private final Supplier<MultiSearchResponse.Item[]> responses;
+
+    private PendingMultiSearch(int hitsIndex, Supplier<MultiSearchResponse.Item[]> responses) {
+      this.hitsIndex = hitsIndex;
+      this.responses = responses;
+    }
+  }
+
   private class FetchWithScrollResponse {
     private final SearchResponse response;
     private final boolean needScrollForFirstTable;
@@ -13,6 +13,7 @@ import org.opensearch.sql.legacy.query.planner.resource.blocksize.BlockSize.Fixe
 public class Config {
 
   public static final int DEFAULT_BLOCK_SIZE = 10000;
+  public static final int MAX_ADAPTIVE_BLOCK_SIZE = 100000;
   public static final int DEFAULT_SCROLL_PAGE_SIZE = 10000;
   public static final int DEFAULT_CIRCUIT_BREAK_LIMIT = 85;
   public static final double[] DEFAULT_BACK_OFF_RETRY_INTERVALS = {4, 8 + 4, 16 + 4};
@@ -54,7 +55,7 @@ public class Config {
       if (size > 0) {
         blockSize = new FixedBlockSize(size);
       } else {
-        blockSize = new AdaptiveBlockSize(0);
+        blockSize = new AdaptiveBlockSize(MAX_ADAPTIVE_BLOCK_SIZE);
       }
     }
   }
@@ -6,6 +6,7 @@
 package org.opensearch.sql.legacy.query.planner.physical.node.join;
 
 import static java.util.Collections.emptyList;
+import static org.opensearch.sql.legacy.query.planner.core.ExecuteParams.ExecuteParamType.RESOURCE_MANAGER;
 
 import com.alibaba.druid.sql.ast.statement.SQLJoinTableSource.JoinType;
 import com.google.common.collect.Sets;
@@ -21,6 +22,7 @@ import org.opensearch.sql.legacy.query.planner.logical.node.Join.JoinCondition;
 import org.opensearch.sql.legacy.query.planner.physical.PhysicalOperator;
 import org.opensearch.sql.legacy.query.planner.physical.Row;
 import org.opensearch.sql.legacy.query.planner.physical.node.BatchPhysicalOperator;
+import org.opensearch.sql.legacy.query.planner.resource.ResourceManager;
 import org.opensearch.sql.legacy.query.planner.resource.blocksize.BlockSize;
 
 /**
@@ -56,6 +58,9 @@ public abstract class JoinAlgorithm<T> extends BatchPhysicalOperator<T> {
   /** Execute params to reset right side for each left block */
   protected ExecuteParams params;
 
+  /** Resource manager to measure memory taken by each left block */
+  private ResourceManager resourceMgr;
+
   JoinAlgorithm(
       PhysicalOperator<T> left,
       PhysicalOperator<T> right,
@@ -81,6 +86,8 @@ public abstract class JoinAlgorithm<T> extends BatchPhysicalOperator<T> {
     super.open(params);
     left.open(params);
     this.params = params;
+    this.resourceMgr = params.get(RESOURCE_MANAGER);
+    blockSize.bind(resourceMgr);
   }
 
   @Override
@@ -203,6 +210,7 @@ public abstract class JoinAlgorithm<T> extends BatchPhysicalOperator<T> {
 
   /** Building phase: Build hash table from data block. */
   private void buildHashTableByNextBlock() {
+    long memoryBefore = usedMemory();
     List<Row<T>> block = loadNextBlockFromLeft(blockSize.size());
     if (LOG.isTraceEnabled()) {
       LOG.trace("Build hash table on conditions with block: {}, {}", condition, block);
@@ -215,6 +223,11 @@ public abstract class JoinAlgorithm<T> extends BatchPhysicalOperator<T> {
     if (type == JoinType.LEFT_OUTER_JOIN) {
       leftMismatch.addAll(block);
     }
+    blockSize.record(block.size(), usedMemory() - memoryBefore);
+  }
+
+  private long usedMemory() {
+    return resourceMgr == null ? 0 : resourceMgr.usedMemory();
   }
 
   private void cleanUpAndCloseRight() {
@@ -25,6 +25,9 @@ public class ResourceManager {
   /** Actual resource monitor list */
   private final List<Monitor> monitors = new ArrayList<>();
 
+  /** Total memory monitor which is also consulted for memory left */
+  private final TotalMemoryMonitor memoryMonitor;
+
   /** Time out for the execution */
   private final int timeout;
 
@@ -34,7 +37,8 @@ public class ResourceManager {
   private final MetaSearchResult metaResult;
 
   public ResourceManager(Stats stats, Config config) {
-    this.monitors.add(new TotalMemoryMonitor(stats, config));
+    this.memoryMonitor = new TotalMemoryMonitor(stats, config);
+    this.monitors.add(memoryMonitor);
     this.timeout = config.timeout();
     this.startTime = Instant.now();
     this.metaResult = new MetaSearchResult();
@@ -58,6 +62,24 @@ public class ResourceManager {
     return Duration.between(startTime, Instant.now()).getSeconds() >= timeout;
   }
 
+  /**
+   * Memory that can still be used before the circuit breaker limit is reached.
+   *
+   * @return memory in bytes
+   */
+  public long remainingMemory() {
+    return memoryMonitor.remainingMemory();
+  }
+
+  /**
+   * Memory being used currently.
+   *
+   * @return memory in bytes
+   */
+  public long usedMemory() {
+    return memoryMonitor.usedMemory();
+  }
+
   public MetaSearchResult getMetaResult() {
     return metaResult;
   }
@@ -5,19 +5,57 @@
 
 package org.opensearch.sql.legacy.query.planner.resource.blocksize;
 
-/** Adaptive block size calculator based on resource usage dynamically. */
+import org.opensearch.sql.legacy.query.planner.resource.ResourceManager;
+
+/**
+ * Adaptive block size calculator based on resource usage dynamically. On each call, block size is
+ * the number of rows fitting into a share of the memory left before circuit breaker limit, given
+ * the memory per row measured on the previous block. Memory in use includes garbage not collected
+ * yet, so block size never goes below a minimum, as the right side is scanned again per block.
+ */
 public class AdaptiveBlockSize implements BlockSize {
 
+  /** Memory per row assumed before the first block is measured */
+  static final long DEFAULT_ROW_MEMORY = 1024;
+
+  /** Share of the memory left that a block can take */
+  static final double MEMORY_SHARE = 0.5;
+
+  /** Minimum block size unless upper limit is lower */
+  static final int MIN_SIZE = 1000;
+
   private final int upperLimit;
 
+  /** Resource manager of current execution, unknown until join algorithm is opened */
+  private ResourceManager resourceManager;
+
+  /** Memory per row measured on the previous block */
+  private long rowMemory = DEFAULT_ROW_MEMORY;
+
   public AdaptiveBlockSize(int upperLimit) {
     this.upperLimit = upperLimit;
   }
 
   @Override
   public int size() {
-    // TODO: calculate dynamically on each call
-    return upperLimit;
+    if (resourceManager == null) {
+      return upperLimit;
+    }
+    long rows = (long) (resourceManager.remainingMemory() * MEMORY_SHARE) / rowMemory;
+    return (int) Math.min(upperLimit, Math.max(MIN_SIZE, rows));
+  }
+
+  @Override
+  public void bind(ResourceManager resourceManager) {
+    this.resourceManager = resourceManager;
+  }
+
+  @Override
+  public void record(int rows, long memory) {
+    // Garbage collection in between may make the memory measured meaningless
+    if (rows > 0 && memory > 0) {
+      rowMemory = Math.max(1, memory / rows);
+    }
   }
 
   @Override
@@ -5,6 +5,8 @@
 
 package org.opensearch.sql.legacy.query.planner.resource.blocksize;
 
+import org.opensearch.sql.legacy.query.planner.resource.ResourceManager;
+
 /** Block size calculating logic. */
 public interface BlockSize {
 
@@ -15,6 +17,21 @@ public interface BlockSize {
    */
   int size();
 
+  /**
+   * Bind the resource manager of current execution to calculate block size from.
+   *
+   * @param resourceManager resource manager
+   */
+  default void bind(ResourceManager resourceManager) {}
+
+  /**
+   * Record a block loaded, which later block size may be calculated from.
+   *
+   * @param rows number of rows in the block
+   * @param memory memory in bytes taken by the block
+   */
+  default void record(int rows, long memory) {}
+
   /** Default implementation with fixed block size */
   class FixedBlockSize implements BlockSize {
 
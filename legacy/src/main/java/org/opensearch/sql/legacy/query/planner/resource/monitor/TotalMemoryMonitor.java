@@ -39,11 +39,34 @@ public class TotalMemoryMonitor implements Monitor {
     return usage < limit;
   }
 
+  /**
+   * Memory that can still be used before usage reaches the limit.
+   *
+   * @return memory in bytes, negative if the limit is exceeded already
+   */
+  public long remainingMemory() {
+    MemStats memStats = stats.collectMemStats();
+    return memStats.getTotal() * limit / 100 - usedMemory(memStats);
+  }
+
+  /**
+   * Memory being used currently.
+   *
+   * @return memory in bytes
+   */
+  public long usedMemory() {
+    return usedMemory(stats.collectMemStats());
+  }
+
+  private long usedMemory(MemStats memStats) {
+    return memStats.getTotal() - memStats.getFree();
+  }
+
   private int percentage(double usage) {
     return (int) Math.round(usage * 100);
   }
 
   private double memUsage(MemStats memStats) {
-    return (1.0 * (memStats.getTotal() - memStats.getFree())) / memStats.getTotal();
+    return (1.0 * usedMemory(memStats)) / memStats.getTotal();
   }
 }
@@ -7,8 +7,11 @@ package org.opensearch.sql.legacy.unittest;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.function.Supplier;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -64,4 +67,18 @@ public class OpenSearchClientTest {
     Assert.assertFalse(res[0].isFailure());
     Assert.assertFalse(res[1].isFailure());
   }
+
+  @Test
+  public void multiSearchAsyncSendsBeforeWaiting() {
+    OpenSearchClient openSearchClient = new OpenSearchClient(client);
+    Supplier<MultiSearchResponse.Item[]> pending =
+        openSearchClient.multiSearchAsync(
+            new MultiSearchRequest().add(new SearchRequest()).add(new SearchRequest()));
+    verify(client, times(1)).multiSearch(any());
+
+    MultiSearchResponse.Item[] res = pending.get();
+    Assert.assertEquals(res.length, 2);
+    Assert.assertFalse(res[0].isFailure());
+    Assert.assertFalse(res[1].isFailure());
+  }
 }
@@ -0,0 +1,100 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.legacy.unittest.planner.resource;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.Test;
+import org.opensearch.sql.legacy.query.planner.core.Config;
+import org.opensearch.sql.legacy.query.planner.resource.ResourceManager;
+import org.opensearch.sql.legacy.query.planner.resource.Stats;
+import org.opensearch.sql.legacy.query.planner.resource.Stats.MemStats;
+import org.opensearch.sql.legacy.query.planner.resource.blocksize.AdaptiveBlockSize;
+import org.opensearch.sql.legacy.query.planner.resource.blocksize.BlockSize.FixedBlockSize;
+
+public class AdaptiveBlockSizeTest {
+
+  @Test
+  public void upperLimitIfNoResourceManagerBound() {
+    assertEquals(10000, new AdaptiveBlockSize(10000).size());
+  }
+
+  @Test
+  public void sizeByDefaultRowMemoryBeforeFirstBlock() {
+    AdaptiveBlockSize blockSize = new AdaptiveBlockSize(10000);
+    blockSize.bind(resourceManager(16384 * 1024L));
+
+    // Half of 16MB left for 1KB per row
+    assertEquals(8192, blockSize.size());
+  }
+
+  @Test
+  public void sizeByRowMemoryMeasuredOnPreviousBlock() {
+    AdaptiveBlockSize blockSize = new AdaptiveBlockSize(10000);
+    blockSize.bind(resourceManager(16384 * 1024L));
+    blockSize.record(100, 100 * 4096L);
+
+    assertEquals(2048, blockSize.size());
+  }
+
+  @Test
+  public void ignoreMeasurementDisturbedByGarbageCollection() {
+    AdaptiveBlockSize blockSize = new AdaptiveBlockSize(10000);
+    blockSize.bind(resourceManager(16384 * 1024L));
+    blockSize.record(100, -1024L);
+
+    assertEquals(8192, blockSize.size());
+  }
+
+  @Test
+  public void limitedByUpperLimitIfMemoryIsEnough() {
+    AdaptiveBlockSize blockSize = new AdaptiveBlockSize(100);
+    blockSize.bind(resourceManager(4096 * 1024L));
+
+    assertEquals(100, blockSize.size());
+  }
+
+  @Test
+  public void shrinkToMinimumIfNoMemoryLeft() {
+    AdaptiveBlockSize blockSize = new AdaptiveBlockSize(10000);
+    blockSize.bind(resourceManager(-1024L));
+
+    assertEquals(1000, blockSize.size());
+  }
+
+  @Test
+  public void fixedBlockSizeByDefault() {
+    assertEquals(new FixedBlockSize(10000).toString(), new Config().blockSize().toString());
+  }
+
+  @Test
+  public void adaptiveBlockSizeIfRequestedByHint() {
+    Config config = new Config();
+    config.configureBlockSize(new Object[] {0});
+
+    assertEquals(new AdaptiveBlockSize(100000).toString(), config.blockSize().toString());
+  }
+
+  @Test
+  public void remainingMemoryBeforeCircuitBreakLimit() {
+    Stats stats = mock(Stats.class);
+    when(stats.collectMemStats()).thenReturn(new MemStats(60, 100));
+    Config config = new Config();
+    config.configureCircuitBreakLimit(new Object[] {85});
+
+    ResourceManager resourceManager = new ResourceManager(stats, config);
+    assertEquals(45, resourceManager.remainingMemory());
+    assertEquals(40, resourceManager.usedMemory());
+  }
+
+  private ResourceManager resourceManager(long remainingMemory) {
+    ResourceManager resourceManager = mock(ResourceManager.class);
+    when(resourceManager.remainingMemory()).thenReturn(remainingMemory);
+    return resourceManager;
+  }
+}
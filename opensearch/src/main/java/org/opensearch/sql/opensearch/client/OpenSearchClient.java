@@ -10,6 +10,7 @@ import java.util.Map;
 import org.opensearch.action.search.CreatePitRequest;
 import org.opensearch.action.search.DeletePitRequest;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
+import org.opensearch.sql.opensearch.request.IndexTimeRange;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
 import org.opensearch.transport.client.node.NodeClient;
@@ -54,6 +55,42 @@ public interface OpenSearchClient {
    */
   Map<String, Integer> getIndexMaxResultWindows(String... indexExpression);
 
+  /**
+   * Fetch index.number_of_shards settings according to index expression given.
+   *
+   * @param indexExpression index expression
+   * @return map from index name to its number of primary shards
+   */
+  Map<String, Integer> getIndexShardCounts(String... indexExpression);
+
+  /**
+   * Fetch the indices whose writes are blocked, e.g. after rollover, according to index expression
+   * given. Documents of such an index don't change while its version stays the same.
+   *
+   * @param indexExpression index expression
+   * @return map from index name to its version, which changes if the index is recreated or its
+   *     settings are updated
+   */
+  Map<String, String> getWriteBlockedIndexVersions(String... indexExpression);
+
+  /**
+   * Fetch the minimum and maximum values of a date field in each index.
+   *
+   * @param field date field
+   * @param indexNames concrete index names
+   * @return map from index name to its time range, without the indices having no value
+   * @throws IllegalStateException if the search of some shards failed or timed out
+   */
+  Map<String, IndexTimeRange> getIndexTimeRanges(String field, String... indexNames);
+
+  /**
+   * Get the user of the current request, which results computed under its permissions and cached
+   * are bound to.
+   *
+   * @return identity of the user, or an empty string if all requests have the same permissions
+   */
+  String getCurrentUser();
+
   /**
    * Perform search query in the search request.
    *
@@ -62,6 +99,14 @@ public interface OpenSearchClient {
    */
   OpenSearchResponse search(OpenSearchRequest request);
 
+  /**
+   * Start fetching the next batch of the search request in the background, for the next cursor
+   * request of the same search.
+   *
+   * @param request search request
+   */
+  void prefetch(OpenSearchRequest request);
+
   /**
    * Get the combination of the indices and the alias.
    *
@@ -17,6 +17,7 @@ import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.opensearch.OpenSearchSecurityException;
+import org.opensearch.action.admin.cluster.state.ClusterStateResponse;
 import org.opensearch.action.admin.indices.create.CreateIndexRequest;
 import org.opensearch.action.admin.indices.exists.indices.IndicesExistsRequest;
 import org.opensearch.action.admin.indices.exists.indices.IndicesExistsResponse;
@@ -25,14 +26,18 @@ import org.opensearch.action.admin.indices.mapping.get.GetMappingsResponse;
 import org.opensearch.action.admin.indices.settings.get.GetSettingsResponse;
 import org.opensearch.action.search.*;
 import org.opensearch.cluster.metadata.AliasMetadata;
+import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.common.action.ActionFuture;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
+import org.opensearch.sql.opensearch.request.IndexTimeRange;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
+import org.opensearch.sql.opensearch.request.PrefetchedPages;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+import org.opensearch.sql.opensearch.security.SecurityUser;
 import org.opensearch.transport.client.node.NodeClient;
 
 /** OpenSearch connection by node client. */
@@ -89,10 +94,7 @@ public class OpenSearchNodeClient implements OpenSearchClient {
     try {
       GetMappingsResponse mappingsResponse =
           client.admin().indices().prepareGetMappings(indexExpression).setLocal(true).get();
-      return mappingsResponse.mappings().entrySet().stream()
-          .collect(
-              Collectors.toUnmodifiableMap(
-                  Map.Entry::getKey, cursor -> new IndexMapping(cursor.getValue())));
+      return IndexMapping.of(mappingsResponse.mappings());
     } catch (IndexNotFoundException | OpenSearchSecurityException e) {
       // Re-throw directly to be treated as client error finally
       throw e;
@@ -132,11 +134,88 @@ public class OpenSearchNodeClient implements OpenSearchClient {
     }
   }
 
+  @Override
+  public Map<String, Integer> getIndexShardCounts(String... indexExpression) {
+    try {
+      GetSettingsResponse settingsResponse =
+          client.admin().indices().prepareGetSettings(indexExpression).setLocal(true).get();
+      ImmutableMap.Builder<String, Integer> result = ImmutableMap.builder();
+      for (Map.Entry<String, Settings> indexToSetting :
+          settingsResponse.getIndexToSettings().entrySet()) {
+        result.put(
+            indexToSetting.getKey(),
+            indexToSetting.getValue().getAsInt(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1));
+      }
+      return result.build();
+    } catch (OpenSearchSecurityException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new IllegalStateException(
+          "Failed to read setting for index pattern [" + String.join(",", indexExpression) + "]",
+          e);
+    }
+  }
+
+  @Override
+  public Map<String, String> getWriteBlockedIndexVersions(String... indexExpression) {
+    try {
+      ClusterStateResponse stateResponse =
+          client
+              .admin()
+              .cluster()
+              .prepareState()
+              .clear()
+              .setMetadata(true)
+              .setIndices(indexExpression)
+              .setLocal(true)
+              .get();
+      ImmutableMap.Builder<String, String> result = ImmutableMap.builder();
+      for (IndexMetadata index : stateResponse.getState().metadata().indices().values()) {
+        Settings settings = index.getSettings();
+        if (IndexMetadata.INDEX_BLOCKS_WRITE_SETTING.get(settings)
+            || IndexMetadata.INDEX_READ_ONLY_SETTING.get(settings)) {
+          result.put(
+              index.getIndex().getName(),
+              index.getIndexUUID() + ":" + index.getSettingsVersion());
+        }
+      }
+      return result.build();
+    } catch (OpenSearchSecurityException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new IllegalStateException(
+          "Failed to read metadata for index pattern [" + String.join(",", indexExpression) + "]",
+          e);
+    }
+  }
+
+  @Override
+  public Map<String, IndexTimeRange> getIndexTimeRanges(String field, String... indexNames) {
+    SearchRequest request = IndexTimeRange.searchRequest(field, indexNames);
+    return IndexTimeRange.parse(client.search(request).actionGet());
+  }
+
   /** TODO: Scroll doesn't work for aggregation. Support aggregation later. */
   @Override
   public OpenSearchResponse search(OpenSearchRequest request) {
     return request.search(
-        req -> client.search(req).actionGet(), req -> client.searchScroll(req).actionGet());
+        req -> {
+          SearchResponse prefetched = PrefetchedPages.take(getCurrentUser(), req);
+          return prefetched != null ? prefetched : client.search(req).actionGet();
+        },
+        req -> client.searchScroll(req).actionGet(),
+        req -> client.multiSearch(req).actionGet());
+  }
+
+  @Override
+  public void prefetch(OpenSearchRequest request) {
+    String user = getCurrentUser();
+    request.prefetch(req -> client.search(req, PrefetchedPages.listener(user, req)));
+  }
+
+  @Override
+  public String getCurrentUser() {
+    return SecurityUser.current(client.threadPool().getThreadContext());
   }
 
   /**
@@ -30,8 +30,10 @@ import org.opensearch.client.indices.GetMappingsResponse;
 import org.opensearch.cluster.metadata.AliasMetadata;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
+import org.opensearch.sql.opensearch.request.IndexTimeRange;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
+import org.opensearch.sql.opensearch.request.PrefetchedPages;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
 import org.opensearch.transport.client.node.NodeClient;
 
@@ -71,8 +73,7 @@ public class OpenSearchRestClient implements OpenSearchClient {
     GetMappingsRequest request = new GetMappingsRequest().indices(indexExpression);
     try {
       GetMappingsResponse response = client.indices().getMapping(request, RequestOptions.DEFAULT);
-      return response.mappings().entrySet().stream()
-          .collect(Collectors.toMap(Map.Entry::getKey, e -> new IndexMapping(e.getValue())));
+      return IndexMapping.of(response.mappings());
     } catch (IOException e) {
       throw new IllegalStateException("Failed to get index mappings for " + indexExpression, e);
     }
@@ -110,6 +111,41 @@ public class OpenSearchRestClient implements OpenSearchClient {
     }
   }
 
+  @Override
+  public Map<String, Integer> getIndexShardCounts(String... indexExpression) {
+    GetSettingsRequest request = new GetSettingsRequest().indices(indexExpression);
+    try {
+      GetSettingsResponse response = client.indices().getSettings(request, RequestOptions.DEFAULT);
+      Map<String, Integer> result = new HashMap<>();
+      response
+          .getIndexToSettings()
+          .forEach((key, value) -> result.put(key, value.getAsInt("index.number_of_shards", 1)));
+      return result;
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to get number of shards for " + indexExpression, e);
+    }
+  }
+
+  /**
+   * Settings versions are not exposed by the REST API, so no index is reported and indices are
+   * never pruned by their time range.
+   */
+  @Override
+  public Map<String, String> getWriteBlockedIndexVersions(String... indexExpression) {
+    return Map.of();
+  }
+
+  @Override
+  public Map<String, IndexTimeRange> getIndexTimeRanges(String field, String... indexNames) {
+    SearchRequest request = IndexTimeRange.searchRequest(field, indexNames);
+    try {
+      return IndexTimeRange.parse(client.search(request, RequestOptions.DEFAULT));
+    } catch (IOException e) {
+      throw new IllegalStateException(
+          "Failed to get time ranges of " + String.join(",", indexNames), e);
+    }
+  }
+
   @Override
   public OpenSearchResponse search(OpenSearchRequest request) {
     return request.search(
@@ -118,6 +154,10 @@ public class OpenSearchRestClient implements OpenSearchClient {
             // For RestClient with PIT: remove indices to avoid validation error
             // "indices cannot be used with point in time"
             if (req.source() != null && req.source().pointInTimeBuilder() != null) {
+              SearchResponse prefetched = PrefetchedPages.take(getCurrentUser(), req);
+              if (prefetched != null) {
+                return prefetched;
+              }
               req = new SearchRequest().source(req.source());
             }
             return client.search(req, RequestOptions.DEFAULT);
@@ -133,9 +173,43 @@ public class OpenSearchRestClient implements OpenSearchClient {
             throw new IllegalStateException(
                 "Failed to perform scroll operation with request " + req, e);
           }
+        },
+        req -> {
+          try {
+            // Same as single search: PIT requests must not carry indices
+            MultiSearchRequest multiSearchRequest = new MultiSearchRequest();
+            for (SearchRequest searchRequest : req.requests()) {
+              if (searchRequest.source() != null
+                  && searchRequest.source().pointInTimeBuilder() != null) {
+                searchRequest = new SearchRequest().source(searchRequest.source());
+              }
+              multiSearchRequest.add(searchRequest);
+            }
+            return client.msearch(multiSearchRequest, RequestOptions.DEFAULT);
+          } catch (IOException e) {
+            throw new IllegalStateException(
+                "Failed to perform multi-search operation with request " + req, e);
+          }
         });
   }
 
+  /** All requests of the REST client are sent with the same credentials. */
+  @Override
+  public String getCurrentUser() {
+    return "";
+  }
+
+  @Override
+  public void prefetch(OpenSearchRequest request) {
+    request.prefetch(
+        req ->
+            client.searchAsync(
+                // Same as search: PIT requests must not carry indices
+                new SearchRequest().source(req.source()),
+                RequestOptions.DEFAULT,
+                PrefetchedPages.listener(getCurrentUser(), req)));
+  }
+
   /**
    * Get the combination of the indices and the alias.
    *
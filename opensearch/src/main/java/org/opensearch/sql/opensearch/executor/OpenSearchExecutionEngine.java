@@ -15,10 +15,12 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import org.apache.calcite.plan.RelOptUtil;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.RelRoot;
+import org.apache.calcite.rel.core.Aggregate;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rel.type.RelDataTypeField;
 import org.apache.calcite.runtime.Hook;
@@ -43,6 +45,7 @@ import org.opensearch.sql.executor.ExecutionContext;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.ExecutionEngine.Schema.Column;
 import org.opensearch.sql.executor.Explain;
+import org.opensearch.sql.executor.pagination.Cursor;
 import org.opensearch.sql.executor.pagination.PlanSerializer;
 import org.opensearch.sql.expression.function.BuiltinFunctionName;
 import org.opensearch.sql.expression.function.PPLFuncImpTable;
@@ -51,8 +54,10 @@ import org.opensearch.sql.opensearch.client.OpenSearchNodeClient;
 import org.opensearch.sql.opensearch.executor.protector.ExecutionProtector;
 import org.opensearch.sql.opensearch.functions.DistinctCountApproxAggFunction;
 import org.opensearch.sql.opensearch.functions.GeoIpFunction;
+import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScan;
 import org.opensearch.sql.opensearch.util.JdbcOpenSearchDataTypeConvertor;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.planner.physical.PhysicalPlanNodeVisitor;
 import org.opensearch.sql.storage.TableScanOperator;
 
 /** OpenSearch execution engine implementation. */
@@ -98,9 +103,12 @@ public class OpenSearchExecutionEngine implements ExecutionEngine {
               result.add(plan.next());
             }
 
-            QueryResponse response =
-                new QueryResponse(
-                    physicalPlan.schema(), result, planSerializer.convertToCursor(plan));
+            Cursor cursor = planSerializer.convertToCursor(plan);
+            if (!cursor.equals(Cursor.None)) {
+              // Fetch the next page while this one is returned, for the next request of the cursor
+              prefetchNextPage(plan);
+            }
+            QueryResponse response = new QueryResponse(physicalPlan.schema(), result, cursor);
             listener.onResponse(response);
           } catch (Exception e) {
             listener.onFailure(e);
@@ -110,6 +118,27 @@ public class OpenSearchExecutionEngine implements ExecutionEngine {
         });
   }
 
+  /** Fetch the next batch of the index scans of a paged plan in the background. */
+  private static void prefetchNextPage(PhysicalPlan plan) {
+    plan.accept(
+        new PhysicalPlanNodeVisitor<Void, Object>() {
+          @Override
+          protected Void visitNode(PhysicalPlan node, Object context) {
+            node.getChild().forEach(child -> child.accept(this, context));
+            return null;
+          }
+
+          @Override
+          public Void visitTableScan(TableScanOperator node, Object context) {
+            if (node instanceof OpenSearchIndexScan indexScan) {
+              indexScan.prefetch();
+            }
+            return null;
+          }
+        },
+        null);
+  }
+
   @Override
   public void explain(PhysicalPlan plan, ResponseListener<ExplainResponse> listener) {
     client.schedule(
@@ -136,12 +165,11 @@ public class OpenSearchExecutionEngine implements ExecutionEngine {
         });
   }
 
-  private Hook.Closeable getPhysicalPlanInHook(
-      AtomicReference<String> physical, SqlExplainLevel level) {
+  private Hook.Closeable getPhysicalPlanInHook(AtomicReference<RelNode> physical) {
     return Hook.PLAN_BEFORE_IMPLEMENTATION.addThread(
         obj -> {
           RelRoot relRoot = (RelRoot) obj;
-          physical.set(RelOptUtil.toString(relRoot.rel, level));
+          physical.set(relRoot.rel);
         });
   }
 
@@ -171,9 +199,9 @@ public class OpenSearchExecutionEngine implements ExecutionEngine {
                       ? SqlExplainLevel.ALL_ATTRIBUTES
                       : SqlExplainLevel.EXPPLAN_ATTRIBUTES;
               String logical = RelOptUtil.toString(rel, level);
-              AtomicReference<String> physical = new AtomicReference<>();
+              AtomicReference<RelNode> physical = new AtomicReference<>();
               AtomicReference<String> javaCode = new AtomicReference<>();
-              try (Hook.Closeable closeable = getPhysicalPlanInHook(physical, level)) {
+              try (Hook.Closeable closeable = getPhysicalPlanInHook(physical)) {
                 if (format == ExplainFormat.EXTENDED) {
                   getCodegenInHook(javaCode);
                   CalcitePlanContext.skipEncoding.set(true);
@@ -185,7 +213,11 @@ public class OpenSearchExecutionEngine implements ExecutionEngine {
               }
               listener.onResponse(
                   new ExplainResponse(
-                      new ExplainResponseNodeV2(logical, physical.get(), javaCode.get())));
+                      new ExplainResponseNodeV2(
+                          logical,
+                          withPushDownFallbacks(
+                              physical.get(), level, context.getPushDownFallbacks()),
+                          javaCode.get())));
             }
           } catch (Exception e) {
             listener.onFailure(e);
@@ -195,6 +227,33 @@ public class OpenSearchExecutionEngine implements ExecutionEngine {
         });
   }
 
+  /**
+   * Explain the physical plan with the reasons of push down failures. They are only reported if the
+   * operator is still executed by the coordinator in the chosen plan, e.g. an aggregate which
+   * cannot be converted to an OpenSearch aggregation is reported with the cause instead of silently
+   * collecting rows.
+   */
+  private static String withPushDownFallbacks(
+      RelNode physical, SqlExplainLevel level, Set<String> fallbacks) {
+    if (physical == null) {
+      return null;
+    }
+    String explained = RelOptUtil.toString(physical, level);
+    if (fallbacks.isEmpty() || !hasAggregate(physical)) {
+      return explained;
+    }
+    StringBuilder builder = new StringBuilder(explained);
+    fallbacks.forEach(
+        fallback -> builder.append("PushDownFallback: ").append(fallback).append('\n'));
+    return builder.toString();
+  }
+
+  /** Whether an aggregate is left in the plan, as pushed down aggregates are part of the scan. */
+  private static boolean hasAggregate(RelNode rel) {
+    return rel instanceof Aggregate
+        || rel.getInputs().stream().anyMatch(OpenSearchExecutionEngine::hasAggregate);
+  }
+
   @Override
   public void execute(
       RelNode rel, CalcitePlanContext context, ResponseListener<QueryResponse> listener) {
@@ -123,7 +123,8 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
         node.getDedupeList(),
         node.getAllowedDuplication(),
         node.getKeepEmpty(),
-        node.getConsecutive());
+        node.getConsecutive(),
+        resourceMonitor);
   }
 
   @Override
@@ -0,0 +1,66 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.functions;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import lombok.experimental.UtilityClass;
+import org.opensearch.geospatial.action.IpEnrichmentActionClient;
+import org.opensearch.sql.opensearch.security.SecurityUser;
+import org.opensearch.transport.client.node.NodeClient;
+
+/**
+ * Per-node cache of the IP enrichment lookups of the geospatial plugin, keyed by user, datasource
+ * and IP address. Client IPs repeat heavily across rows, so most rows of a geoip evaluation are
+ * enriched without a transport call, and concurrent lookups of the same IP share a single call.
+ * Lookups are only shared by the requests of the same user, who passed the permission checks of
+ * the enrichment action when it was cached. Entries expire so that updates of a GeoIP datasource,
+ * or of the permissions, are picked up.
+ */
+@UtilityClass
+public class GeoIpCache {
+  static final int MAX_ENTRIES = 10_000;
+  static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(10);
+
+  private static final Cache<CacheKey, Map<String, Object>> cache =
+      CacheBuilder.newBuilder()
+          .maximumSize(MAX_ENTRIES)
+          .expireAfterWrite(EXPIRE_AFTER_WRITE)
+          .build();
+
+  /**
+   * Get the geo location data of an IP address, from the cache or from the geospatial plugin.
+   *
+   * @param nodeClient node client to call the geospatial plugin with
+   * @param dataSource GeoIP datasource name
+   * @param ipAddress IP address
+   * @return geo location fields of the IP address
+   * @throws Exception if the lookup failed, which is not cached
+   */
+  public static Map<String, Object> getGeoLocationData(
+      NodeClient nodeClient, String dataSource, String ipAddress) throws Exception {
+    try {
+      String user = SecurityUser.current(nodeClient.threadPool().getThreadContext());
+      return cache.get(
+          new CacheKey(user, dataSource, ipAddress),
+          () -> new IpEnrichmentActionClient(nodeClient).getGeoLocationData(ipAddress, dataSource));
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      throw e.getCause() instanceof Exception cause ? cause : e;
+    }
+  }
+
+  @VisibleForTesting
+  static void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  private record CacheKey(String user, String dataSource, String ipAddress) {}
+}
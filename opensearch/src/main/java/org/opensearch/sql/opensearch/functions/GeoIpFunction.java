@@ -11,17 +11,18 @@ import lombok.Getter;
 import org.apache.calcite.adapter.enumerable.NotNullImplementor;
 import org.apache.calcite.adapter.enumerable.NullPolicy;
 import org.apache.calcite.adapter.enumerable.RexToLixTranslator;
+import org.apache.calcite.linq4j.function.Deterministic;
 import org.apache.calcite.linq4j.tree.Expression;
 import org.apache.calcite.linq4j.tree.Expressions;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rel.type.RelDataTypeFactory;
 import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexLiteral;
 import org.apache.calcite.sql.type.CompositeOperandTypeChecker;
 import org.apache.calcite.sql.type.OperandTypes;
 import org.apache.calcite.sql.type.SqlReturnTypeInference;
 import org.apache.calcite.sql.type.SqlTypeFamily;
 import org.apache.calcite.sql.type.SqlTypeName;
-import org.opensearch.geospatial.action.IpEnrichmentActionClient;
 import org.opensearch.sql.common.utils.StringUtils;
 import org.opensearch.sql.data.model.ExprStringValue;
 import org.opensearch.sql.data.model.ExprTupleValue;
@@ -80,6 +81,16 @@ public class GeoIpFunction extends ImplementorUDF {
         throw new IllegalStateException("nodeClient is null.");
       }
       List<Expression> operandsWithClient = new ArrayList<>(translatedOperands);
+      // With literal options, the code generator hoists the deterministic options constructor into
+      // a static field, so the options are parsed once per query instead of once per row.
+      if (call.getOperands().size() == 3
+          && call.getOperands().get(2) instanceof RexLiteral literal
+          && literal.getValueAs(String.class) != null) {
+        operandsWithClient.set(
+            2,
+            Expressions.new_(
+                GeoIpOptions.class, Expressions.constant(literal.getValueAs(String.class))));
+      }
       // Since a NodeClient cannot be passed as a parameter using Expressions.constant,
       // it is instead provided through a function call.
       operandsWithClient.add(Expressions.call(GeoIPImplementor.class, "getNodeClient"));
@@ -88,36 +99,67 @@ public class GeoIpFunction extends ImplementorUDF {
 
     public static Map<String, ?> fetchIpEnrichment(
         String dataSource, String ipAddress, NodeClient nodeClient) {
-      return fetchIpEnrichment(dataSource, ipAddress, Collections.emptySet(), nodeClient);
+      return fetchIpEnrichment(dataSource, ipAddress, GeoIpOptions.ALL, nodeClient);
     }
 
     public static Map<String, ?> fetchIpEnrichment(
         String dataSource, String ipAddress, String commaSeparatedOptions, NodeClient nodeClient) {
-      String unquotedOptions = StringUtils.unquoteText(commaSeparatedOptions);
-      final Set<String> options =
-          Arrays.stream(unquotedOptions.split(",")).map(String::trim).collect(Collectors.toSet());
-      return fetchIpEnrichment(dataSource, ipAddress, options, nodeClient);
+      return fetchIpEnrichment(
+          dataSource, ipAddress, new GeoIpOptions(commaSeparatedOptions), nodeClient);
     }
 
-    private static Map<String, ?> fetchIpEnrichment(
-        String dataSource, String ipAddress, Set<String> options, NodeClient nodeClient) {
-      IpEnrichmentActionClient ipClient = new IpEnrichmentActionClient(nodeClient);
+    public static Map<String, ?> fetchIpEnrichment(
+        String dataSource, String ipAddress, GeoIpOptions options, NodeClient nodeClient) {
       dataSource = StringUtils.unquoteText(dataSource);
       try {
-        Map<String, Object> geoLocationData = ipClient.getGeoLocationData(ipAddress, dataSource);
-        Map<String, ExprValue> enrichmentResult =
-            geoLocationData.entrySet().stream()
-                .filter(entry -> options.isEmpty() || options.contains(entry.getKey()))
-                .collect(
-                    Collectors.toMap(
-                        Map.Entry::getKey, v -> new ExprStringValue(v.getValue().toString())));
+        Map<String, Object> geoLocationData =
+            GeoIpCache.getGeoLocationData(nodeClient, dataSource, ipAddress);
         @SuppressWarnings("unchecked")
         Map<String, ?> result =
-            (Map<String, ?>) ExprTupleValue.fromExprValueMap(enrichmentResult).valueForCalcite();
+            (Map<String, ?>)
+                ExprTupleValue.fromExprValueMap(options.select(geoLocationData))
+                    .valueForCalcite();
         return result;
       } catch (Exception e) {
         throw new RuntimeException(e);
       }
     }
   }
+
+  /**
+   * The fields of the geo location data to be returned, parsed once from the comma-separated
+   * options. It is deterministic, so the code generator hoists it into a static field when the
+   * options are a literal.
+   */
+  @Deterministic
+  public static final class GeoIpOptions {
+    public static final GeoIpOptions ALL = new GeoIpOptions(Collections.emptySet());
+
+    private final Set<String> fields;
+
+    public GeoIpOptions(String commaSeparatedOptions) {
+      this(
+          Arrays.stream(StringUtils.unquoteText(commaSeparatedOptions).split(","))
+              .map(String::trim)
+              .collect(Collectors.toSet()));
+    }
+
+    private GeoIpOptions(Set<String> fields) {
+      this.fields = fields;
+    }
+
+    /**
+     * Select the fields to be returned from the geo location data.
+     *
+     * @param geoLocationData geo location data of an IP address
+     * @return selected fields as string values, or all of them if no option was given
+     */
+    public Map<String, ExprValue> select(Map<String, Object> geoLocationData) {
+      return geoLocationData.entrySet().stream()
+          .filter(entry -> fields.isEmpty() || fields.contains(entry.getKey()))
+          .collect(
+              Collectors.toMap(
+                  Map.Entry::getKey, v -> new ExprStringValue(v.getValue().toString())));
+    }
+  }
 }
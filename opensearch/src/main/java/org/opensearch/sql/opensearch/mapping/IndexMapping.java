@@ -5,22 +5,29 @@
 
 package org.opensearch.sql.opensearch.mapping;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.Getter;
 import lombok.ToString;
 import org.opensearch.cluster.metadata.MappingMetadata;
+import org.opensearch.common.compress.CompressedXContent;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
 
 /**
  * OpenSearch index mapping. Because there is no specific behavior for different field types, string
- * is used to represent field types.
+ * is used to represent field types. Two index mappings are equal if they are parsed from the same
+ * mapping source, e.g. indices created from the same template.
  */
-@ToString
+@ToString(exclude = "source")
 public class IndexMapping {
 
   /** Field mappings from field name to field type in OpenSearch date type system. */
   @Getter private final Map<String, OpenSearchDataType> fieldMappings;
 
+  /** Mapping source this index mapping is parsed from. */
+  private final CompressedXContent source;
+
   /**
    * Maps each column in the index definition to an OpenSearchSQL datatype.
    *
@@ -31,6 +38,22 @@ public class IndexMapping {
     this.fieldMappings =
         OpenSearchDataType.parseMapping(
             (Map<String, Object>) metaData.getSourceAsMap().getOrDefault("properties", null));
+    this.source = metaData.source();
+  }
+
+  /**
+   * Parse the mappings of indices. Indices sharing the same mapping source, e.g. daily indices
+   * created from one template, share a single parsed index mapping.
+   *
+   * @param mappings mapping metadata by index name
+   * @return index mapping by index name
+   */
+  public static Map<String, IndexMapping> of(Map<String, MappingMetadata> mappings) {
+    Map<MappingMetadata, IndexMapping> parsed = new HashMap<>();
+    return mappings.entrySet().stream()
+        .collect(
+            Collectors.toUnmodifiableMap(
+                Map.Entry::getKey, e -> parsed.computeIfAbsent(e.getValue(), IndexMapping::new)));
   }
 
   /**
@@ -41,4 +64,17 @@ public class IndexMapping {
   public int size() {
     return fieldMappings.size();
   }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    return o instanceof IndexMapping other && source != null && source.equals(other.source);
+  }
+
+  @Override
+  public int hashCode() {
+    return source != null ? source.hashCode() : System.identityHashCode(this);
+  }
 }
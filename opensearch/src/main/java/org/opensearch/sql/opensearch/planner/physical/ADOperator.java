@@ -18,11 +18,12 @@ import static org.opensearch.sql.utils.MLCommonsConstants.TIME_FIELD;
 import static org.opensearch.sql.utils.MLCommonsConstants.TIME_ZONE;
 import static org.opensearch.sql.utils.MLCommonsConstants.TRAINING_DATA_SIZE;
 
+import com.google.common.collect.Iterators;
+import java.util.ArrayDeque;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -33,6 +34,7 @@ import org.opensearch.ml.common.dataframe.Row;
 import org.opensearch.ml.common.input.parameter.MLAlgoParams;
 import org.opensearch.ml.common.input.parameter.rcf.BatchRCFParams;
 import org.opensearch.ml.common.input.parameter.rcf.FitRCFParams;
+import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.output.MLPredictionOutput;
 import org.opensearch.sql.ast.expression.Literal;
 import org.opensearch.sql.data.model.ExprValue;
@@ -53,6 +55,9 @@ public class ADOperator extends MLCommonsOperatorActions {
 
   @EqualsAndHashCode.Exclude private Iterator<ExprValue> iterator;
 
+  @EqualsAndHashCode.Exclude
+  private MLRequestPipeline<Pair<DataFrame, DataFrame>, MLOutput> pipeline;
+
   private FunctionName rcfType;
 
   @Override
@@ -66,13 +71,12 @@ public class ADOperator extends MLCommonsOperatorActions {
         generateCategorizedInputDataset(input, categoryField);
     MLAlgoParams mlAlgoParams = convertArgumentToMLParameter(arguments);
 
-    List<MLPredictionOutput> predictionResults =
-        inputDataFrames.stream()
-            .map(pair -> getMLPredictionResult(rcfType, mlAlgoParams, pair.getRight(), nodeClient))
-            .collect(Collectors.toList());
-
-    Iterator<Pair<DataFrame, DataFrame>> inputDataFramesIter = inputDataFrames.iterator();
-    Iterator<MLPredictionOutput> predictionResultIter = predictionResults.iterator();
+    // Categories are predicted concurrently and released once their results are emitted
+    pipeline =
+        MLRequestPipeline.start(
+            Iterators.consumingIterator(new ArrayDeque<>(inputDataFrames).iterator()),
+            pair -> sendMLPredictionRequest(rcfType, mlAlgoParams, pair.getRight(), nodeClient),
+            MAX_IN_FLIGHT_REQUESTS);
     iterator =
         new Iterator<ExprValue>() {
           private DataFrame inputDataFrame = null;
@@ -82,15 +86,16 @@ public class ADOperator extends MLCommonsOperatorActions {
 
           @Override
           public boolean hasNext() {
-            return inputRowIter != null && inputRowIter.hasNext() || inputDataFramesIter.hasNext();
+            return inputRowIter != null && inputRowIter.hasNext() || pipeline.hasNext();
           }
 
           @Override
           public ExprValue next() {
             if (inputRowIter == null || !inputRowIter.hasNext()) {
-              inputDataFrame = inputDataFramesIter.next().getLeft();
+              Pair<Pair<DataFrame, DataFrame>, MLOutput> category = pipeline.next();
+              inputDataFrame = category.getLeft().getLeft();
               inputRowIter = inputDataFrame.iterator();
-              predictionResult = predictionResultIter.next();
+              predictionResult = (MLPredictionOutput) category.getRight();
               resultRowIter = predictionResult.getPredictionResult().iterator();
             }
             return buildResult(inputRowIter, inputDataFrame, predictionResult, resultRowIter);
@@ -98,6 +103,14 @@ public class ADOperator extends MLCommonsOperatorActions {
         };
   }
 
+  @Override
+  public void close() {
+    if (pipeline != null) {
+      pipeline.abandon();
+    }
+    super.close();
+  }
+
   @Override
   public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
     return visitor.visitAD(this, context);
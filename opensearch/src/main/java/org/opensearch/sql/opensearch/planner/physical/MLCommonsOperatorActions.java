@@ -15,11 +15,13 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.common.action.ActionFuture;
 import org.opensearch.ml.client.MachineLearningNodeClient;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.dataframe.ColumnMeta;
@@ -50,6 +52,12 @@ import org.opensearch.transport.client.node.NodeClient;
 /** Common method actions for ml-commons related operators. */
 public abstract class MLCommonsOperatorActions extends PhysicalPlan {
 
+  /** Maximum number of ml-commons requests in flight for an operator. */
+  protected static final int MAX_IN_FLIGHT_REQUESTS = 4;
+
+  /** Maximum number of rows of a prediction request, if the input can be split. */
+  protected static final int PREDICT_BATCH_SIZE = 10_000;
+
   /**
    * generate ml-commons request input dataset.
    *
@@ -65,6 +73,44 @@ public abstract class MLCommonsOperatorActions extends PhysicalPlan {
     return inputData.toDataFrame();
   }
 
+  /**
+   * generate ml-commons request input datasets of at most the given number of rows, reading the
+   * input lazily. Rows with null values are skipped, so there is no empty dataset.
+   *
+   * @param input physical input
+   * @param batchSize maximum number of rows of a dataset
+   * @return iterator of ml-commons dataframes
+   */
+  protected Iterator<DataFrame> generateInputBatches(PhysicalPlan input, int batchSize) {
+    return new Iterator<>() {
+      private MLInputRows batch = null;
+
+      @Override
+      public boolean hasNext() {
+        while (batch == null && input.hasNext()) {
+          batch = new MLInputRows();
+          while (batch.size() < batchSize && input.hasNext()) {
+            batch.addTupleValue(input.next().tupleValue());
+          }
+          if (batch.isEmpty()) {
+            batch = null;
+          }
+        }
+        return batch != null;
+      }
+
+      @Override
+      public DataFrame next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        DataFrame dataFrame = batch.toDataFrame();
+        batch = null;
+        return dataFrame;
+      }
+    };
+  }
+
   /**
    * Generate ml-commons request input dataset per each category based on a given category field.
    * Each category value will be a {@link DataFrame} pair, where the left one contains all fields
@@ -217,6 +263,25 @@ public abstract class MLCommonsOperatorActions extends PhysicalPlan {
       MLAlgoParams mlAlgoParams,
       DataFrame inputDataFrame,
       NodeClient nodeClient) {
+    return (MLPredictionOutput)
+        sendMLPredictionRequest(functionName, mlAlgoParams, inputDataFrame, nodeClient)
+            .actionGet(MLRequestPipeline.REQUEST_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+  }
+
+  /**
+   * send ml-commons train and predict request without waiting for its result.
+   *
+   * @param functionName ml-commons algorithm name
+   * @param mlAlgoParams ml-commons algorithm parameters
+   * @param inputDataFrame input data frame
+   * @param nodeClient node client
+   * @return future of ml-commons train and predict result
+   */
+  protected ActionFuture<MLOutput> sendMLPredictionRequest(
+      FunctionName functionName,
+      MLAlgoParams mlAlgoParams,
+      DataFrame inputDataFrame,
+      NodeClient nodeClient) {
     MLInput mlinput =
         MLInput.builder()
             .algorithm(functionName)
@@ -226,8 +291,7 @@ public abstract class MLCommonsOperatorActions extends PhysicalPlan {
 
     MachineLearningNodeClient machineLearningClient = MLClient.getMLClient(nodeClient);
 
-    return (MLPredictionOutput)
-        machineLearningClient.trainAndPredict(mlinput).actionGet(30, TimeUnit.SECONDS);
+    return machineLearningClient.trainAndPredict(mlinput);
   }
 
   /**
@@ -240,6 +304,20 @@ public abstract class MLCommonsOperatorActions extends PhysicalPlan {
    */
   protected MLOutput getMLOutput(
       DataFrame inputDataFrame, Map<String, Object> arguments, NodeClient nodeClient) {
+    return sendMLRequest(inputDataFrame, arguments, nodeClient)
+        .actionGet(MLRequestPipeline.REQUEST_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+  }
+
+  /**
+   * send ml-commons train, predict or trainandpredict request without waiting for its result.
+   *
+   * @param inputDataFrame input data frame
+   * @param arguments ml parameters
+   * @param nodeClient node client
+   * @return future of ml-commons result
+   */
+  protected ActionFuture<MLOutput> sendMLRequest(
+      DataFrame inputDataFrame, Map<String, Object> arguments, NodeClient nodeClient) {
     MLInput mlinput =
         MLInput.builder()
             .inputDataset(new DataFrameInputDataset(inputDataFrame))
@@ -251,7 +329,7 @@ public abstract class MLCommonsOperatorActions extends PhysicalPlan {
 
     MachineLearningNodeClient machineLearningClient = MLClient.getMLClient(nodeClient);
 
-    return machineLearningClient.run(mlinput, arguments).actionGet(30, TimeUnit.SECONDS);
+    return machineLearningClient.run(mlinput, arguments);
   }
 
   /**
@@ -5,15 +5,24 @@
 
 package org.opensearch.sql.opensearch.planner.physical;
 
+import static org.opensearch.sql.utils.MLCommonsConstants.ACTION;
+import static org.opensearch.sql.utils.MLCommonsConstants.ALGO;
+import static org.opensearch.sql.utils.MLCommonsConstants.KMEANS;
+import static org.opensearch.sql.utils.MLCommonsConstants.LIR;
+import static org.opensearch.sql.utils.MLCommonsConstants.PREDICT;
+
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.ml.common.dataframe.DataFrame;
 import org.opensearch.ml.common.dataframe.Row;
 import org.opensearch.ml.common.output.MLOutput;
@@ -31,6 +40,9 @@ import org.opensearch.transport.client.node.NodeClient;
 @RequiredArgsConstructor
 @EqualsAndHashCode(callSuper = false)
 public class MLOperator extends MLCommonsOperatorActions {
+  /** Algorithms predicting each row independently, whose input can be split in batches. */
+  private static final Set<String> BATCHED_PREDICT_ALGORITHMS = Set.of(KMEANS, LIR);
+
   @Getter private final PhysicalPlan input;
 
   @Getter private final Map<String, Literal> arguments;
@@ -39,11 +51,17 @@ public class MLOperator extends MLCommonsOperatorActions {
 
   @EqualsAndHashCode.Exclude private Iterator<ExprValue> iterator;
 
+  @EqualsAndHashCode.Exclude private MLRequestPipeline<DataFrame, MLOutput> pipeline;
+
   @Override
   public void open() {
     super.open();
-    DataFrame inputDataFrame = generateInputDataset(input);
     Map<String, Object> args = processArgs(arguments);
+    if (isBatchedPrediction(args)) {
+      openBatchedPrediction(args);
+      return;
+    }
+    DataFrame inputDataFrame = generateInputDataset(input);
 
     MLOutput mlOutput = getMLOutput(inputDataFrame, args, nodeClient);
     final Iterator<Row> inputRowIter = inputDataFrame.iterator();
@@ -81,6 +99,57 @@ public class MLOperator extends MLCommonsOperatorActions {
         };
   }
 
+  /**
+   * Predict with a trained model whose prediction of a row doesn't depend on the other rows. The
+   * input is sent in bounded batches, and the next batches are read while the earliest one is
+   * predicted.
+   */
+  private void openBatchedPrediction(Map<String, Object> args) {
+    pipeline =
+        MLRequestPipeline.start(
+            generateInputBatches(input, PREDICT_BATCH_SIZE),
+            batch -> sendMLRequest(batch, args, nodeClient),
+            MAX_IN_FLIGHT_REQUESTS);
+    iterator =
+        new Iterator<ExprValue>() {
+          private DataFrame inputDataFrame = null;
+          private Iterator<Row> inputRowIter = null;
+          private MLOutput mlOutput = null;
+          private Iterator<Row> resultRowIter = null;
+
+          @Override
+          public boolean hasNext() {
+            return inputRowIter != null && inputRowIter.hasNext() || pipeline.hasNext();
+          }
+
+          @Override
+          public ExprValue next() {
+            if (inputRowIter == null || !inputRowIter.hasNext()) {
+              Pair<DataFrame, MLOutput> batch = pipeline.next();
+              inputDataFrame = batch.getLeft();
+              inputRowIter = inputDataFrame.iterator();
+              mlOutput = batch.getRight();
+              resultRowIter = ((MLPredictionOutput) mlOutput).getPredictionResult().iterator();
+            }
+            return buildPPLResult(true, inputRowIter, inputDataFrame, mlOutput, resultRowIter);
+          }
+        };
+  }
+
+  private boolean isBatchedPrediction(Map<String, Object> args) {
+    return PREDICT.equals(args.get(ACTION))
+        && args.get(ALGO) != null
+        && BATCHED_PREDICT_ALGORITHMS.contains(args.get(ALGO).toString().toLowerCase(Locale.ROOT));
+  }
+
+  @Override
+  public void close() {
+    if (pipeline != null) {
+      pipeline.abandon();
+    }
+    super.close();
+  }
+
   @Override
   public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
     return visitor.visitML(this, context);
@@ -0,0 +1,96 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.planner.physical;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.common.action.ActionFuture;
+
+/**
+ * Pipeline of asynchronous ml-commons requests, one per input. At most a bounded number of
+ * requests, including the earliest one being waited for, are in flight, so that the later requests
+ * run while the output of the earliest one is consumed, and only the inputs of the requests in
+ * flight are held in memory. Outputs are returned in the order of the inputs.
+ *
+ * @param <I> input of a request
+ * @param <O> output of a request
+ */
+class MLRequestPipeline<I, O> implements Iterator<Pair<I, O>> {
+
+  /** Timeout of waiting for each ml-commons request. */
+  static final long REQUEST_TIMEOUT_SECONDS = 30;
+
+  private final Iterator<I> inputs;
+
+  private final Function<I, ActionFuture<O>> request;
+
+  private final int maxInFlight;
+
+  private final Deque<Pair<I, ActionFuture<O>>> inFlight = new ArrayDeque<>();
+
+  private MLRequestPipeline(
+      Iterator<I> inputs, Function<I, ActionFuture<O>> request, int maxInFlight) {
+    this.inputs = inputs;
+    this.request = request;
+    this.maxInFlight = maxInFlight;
+  }
+
+  /**
+   * Create a pipeline and send the first requests.
+   *
+   * @param inputs inputs, read lazily
+   * @param request function sending the request of an input
+   * @param maxInFlight maximum number of requests in flight
+   * @return pipeline of the outputs with their inputs
+   */
+  static <I, O> MLRequestPipeline<I, O> start(
+      Iterator<I> inputs, Function<I, ActionFuture<O>> request, int maxInFlight) {
+    MLRequestPipeline<I, O> pipeline = new MLRequestPipeline<>(inputs, request, maxInFlight);
+    pipeline.fill();
+    return pipeline;
+  }
+
+  @Override
+  public boolean hasNext() {
+    fill();
+    return !inFlight.isEmpty();
+  }
+
+  @Override
+  public Pair<I, O> next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    // The head stays in flight while waiting, the next request is sent once it completes
+    Pair<I, ActionFuture<O>> head = inFlight.peek();
+    O output = head.getRight().actionGet(REQUEST_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    inFlight.poll();
+    fill();
+    return Pair.of(head.getLeft(), output);
+  }
+
+  /**
+   * Stop waiting for the requests in flight, whose outputs are not consumed any more. This only
+   * releases their inputs and outputs: the ml-commons tasks already sent keep running on their
+   * nodes until they complete.
+   */
+  void abandon() {
+    inFlight.forEach(pair -> pair.getRight().cancel(true));
+    inFlight.clear();
+  }
+
+  private void fill() {
+    while (inFlight.size() < maxInFlight && inputs.hasNext()) {
+      I input = inputs.next();
+      inFlight.add(Pair.of(input, request.apply(input)));
+    }
+  }
+}
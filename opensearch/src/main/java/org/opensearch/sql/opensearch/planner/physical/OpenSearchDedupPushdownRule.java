@@ -28,6 +28,12 @@ import org.opensearch.sql.opensearch.storage.scan.CalciteLogicalIndexScan;
 public class OpenSearchDedupPushdownRule extends RelRule<OpenSearchDedupPushdownRule.Config> {
   private static final Logger LOG = LogManager.getLogger();
 
+  /**
+   * More than one event of each group are returned as inner hits of the collapsed hit, which are
+   * limited by the default index.max_inner_result_window of the index.
+   */
+  private static final int MAX_INNER_HITS = 100;
+
   protected OpenSearchDedupPushdownRule(Config config) {
     super(config);
   }
@@ -35,13 +41,14 @@ public class OpenSearchDedupPushdownRule extends RelRule<OpenSearchDedupPushdown
   @Override
   public void onMatch(RelOptRuleCall call) {
     final LogicalProject finalOutput = call.rel(0);
-    // TODO Used when number of duplication is more than 1
     final LogicalFilter numOfDedupFilter = call.rel(1);
     final LogicalProject projectWithWindow = call.rel(2);
     final CalciteLogicalIndexScan scan = call.rel(3);
     List<RexWindow> windows = PlanUtils.getRexWindowFromProject(projectWithWindow);
     if (windows.isEmpty() || windows.stream().anyMatch(w -> w.partitionKeys.size() > 1)) {
-      // TODO leverage inner_hits for multiple partition keys
+      // Collapse groups on a single field only. A composite aggregation with top_hits could group
+      // on several fields, but composite buckets aren't paged in the scan, so groups beyond the
+      // bucket size would be dropped silently. Such dedup keeps the window plan until they are.
       if (LOG.isDebugEnabled()) {
         LOG.debug("Cannot pushdown the dedup with multiple fields");
       }
@@ -51,7 +58,10 @@ public class OpenSearchDedupPushdownRule extends RelRule<OpenSearchDedupPushdown
     List<Integer> selectColumns = PlanUtils.getSelectColumns(windows.getFirst().partitionKeys);
     String fieldName = fieldNameList.get(selectColumns.getFirst());
 
-    CalciteLogicalIndexScan newScan = scan.pushDownCollapse(finalOutput, fieldName);
+    int allowedDuplication = numOfDedup(numOfDedupFilter);
+
+    CalciteLogicalIndexScan newScan =
+        scan.pushDownCollapse(finalOutput, fieldName, allowedDuplication);
     if (newScan != null) {
       call.transformTo(newScan);
     }
@@ -86,16 +96,22 @@ public class OpenSearchDedupPushdownRule extends RelRule<OpenSearchDedupPushdown
       return false;
     }
     Integer num = numLiteral.getValueAs(Integer.class);
-    if (num == null || num > 1) {
-      // TODO leverage inner_hits for num > 1
+    if (num == null || num > MAX_INNER_HITS) {
       if (LOG.isDebugEnabled()) {
-        LOG.debug("Cannot pushdown the dedup since number of duplicate events is larger than 1");
+        LOG.debug(
+            "Cannot pushdown the dedup since number of duplicate events is larger than {}",
+            MAX_INNER_HITS);
       }
       return false;
     }
     return true;
   }
 
+  private static int numOfDedup(LogicalFilter filter) {
+    RexLiteral numLiteral = (RexLiteral) ((RexCall) filter.getCondition()).getOperands().getLast();
+    return numLiteral.getValueAs(Integer.class);
+  }
+
   /**
    * Match fixed pattern:<br>
    * LogicalProject(remove _row_number_dedup_) <br>
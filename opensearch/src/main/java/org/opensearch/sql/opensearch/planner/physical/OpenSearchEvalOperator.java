@@ -9,6 +9,7 @@ package org.opensearch.sql.opensearch.planner.physical;
 
 import static org.opensearch.sql.expression.env.Environment.extendEnv;
 
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,12 +32,21 @@ public class OpenSearchEvalOperator extends EvalOperator {
 
   @Getter private final NodeClient nodeClient;
 
+  /** Processors of the OpenSearch specific expressions, built once for all the rows. */
+  private final Map<Expression, OpenSearchEvalProcessor> processors = new IdentityHashMap<>();
+
   public OpenSearchEvalOperator(
       PhysicalPlan input,
       List<Pair<ReferenceExpression, Expression>> expressionList,
       NodeClient nodeClient) {
     super(input, expressionList);
     this.nodeClient = nodeClient;
+    for (Pair<ReferenceExpression, Expression> pair : expressionList) {
+      if (pair.getValue()
+          instanceof OpenSearchFunctions.OpenSearchExecutableFunction openSearchExpr) {
+        processors.put(openSearchExpr, new OpenSearchEvalProcessor(openSearchExpr, nodeClient));
+      }
+    }
   }
 
   /**
@@ -49,13 +59,8 @@ public class OpenSearchEvalOperator extends EvalOperator {
   protected Map<String, ExprValue> eval(Environment<Expression, ExprValue> env) {
     Map<String, ExprValue> evalResultMap = new LinkedHashMap<>();
     for (Pair<ReferenceExpression, Expression> pair : this.getExpressionList()) {
-      ExprValue value;
-      if (pair.getValue()
-          instanceof OpenSearchFunctions.OpenSearchExecutableFunction openSearchExpr) {
-        value = OpenSearchEvalProcessor.process(openSearchExpr, env, nodeClient);
-      } else {
-        value = pair.getValue().valueOf(env);
-      }
+      OpenSearchEvalProcessor processor = processors.get(pair.getValue());
+      ExprValue value = processor != null ? processor.process(env) : pair.getValue().valueOf(env);
       ReferenceExpression var = pair.getKey();
       env = extendEnv(env, var, value);
       evalResultMap.put(var.toString(), value);
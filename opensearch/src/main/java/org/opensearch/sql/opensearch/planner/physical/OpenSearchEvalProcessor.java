@@ -7,68 +7,68 @@
 
 package org.opensearch.sql.opensearch.planner.physical;
 
-import java.util.Arrays;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
-import org.opensearch.geospatial.action.IpEnrichmentActionClient;
 import org.opensearch.sql.common.utils.StringUtils;
-import org.opensearch.sql.data.model.ExprStringValue;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.env.Environment;
 import org.opensearch.sql.expression.function.BuiltinFunctionName;
 import org.opensearch.sql.expression.function.OpenSearchFunctions;
+import org.opensearch.sql.opensearch.functions.GeoIpCache;
+import org.opensearch.sql.opensearch.functions.GeoIpFunction.GeoIpOptions;
 import org.opensearch.transport.client.node.NodeClient;
 
-/** Class to centralise all OpenSearch specific eval operations. */
+/**
+ * Class to centralise all OpenSearch specific eval operations. A processor is built once per
+ * OpenSearchFunction of an eval operator, so that the constant arguments of the function are
+ * resolved once rather than for every row.
+ */
 public class OpenSearchEvalProcessor {
 
+  private final Expression ipAddress;
+
+  private final String dataSource;
+
+  private final GeoIpOptions options;
+
+  private final NodeClient nodeClient;
+
   /**
-   * Static method to read an incoming OpenSearchFunction evaluation instruction, process it
-   * accordingly with nodeClient and return the result.
+   * Read an incoming OpenSearchFunction evaluation instruction and prepare its processing.
    *
    * @param funcExpression Eval operation which is OpenSearch storage engine specific.
-   * @param env {@link Environment}
    * @param nodeClient NodeClient for OpenSearch cluster RPC.
-   * @return evaluation result.
    */
-  public static ExprValue process(
-      OpenSearchFunctions.OpenSearchExecutableFunction funcExpression,
-      Environment<Expression, ExprValue> env,
-      NodeClient nodeClient) {
-
-    if (BuiltinFunctionName.GEOIP.getName().equals(funcExpression.getFunctionName())) {
-      return fetchIpEnrichment(funcExpression.getArguments(), env, nodeClient);
-    } else {
+  public OpenSearchEvalProcessor(
+      OpenSearchFunctions.OpenSearchExecutableFunction funcExpression, NodeClient nodeClient) {
+    if (!BuiltinFunctionName.GEOIP.getName().equals(funcExpression.getFunctionName())) {
       throw new IllegalArgumentException("Unsupported OpenSearch specific expression.");
     }
+    List<Expression> arguments = funcExpression.getArguments();
+    this.dataSource = StringUtils.unquoteText(arguments.get(0).toString());
+    this.ipAddress = arguments.get(1);
+    this.options =
+        arguments.size() > 2 ? new GeoIpOptions(arguments.get(2).toString()) : GeoIpOptions.ALL;
+    this.nodeClient = nodeClient;
   }
 
-  private static ExprValue fetchIpEnrichment(
-      List<Expression> arguments, Environment<Expression, ExprValue> env, NodeClient nodeClient) {
-    IpEnrichmentActionClient ipClient = new IpEnrichmentActionClient(nodeClient);
-    String dataSource = StringUtils.unquoteText(arguments.get(0).toString());
-    String ipAddress = arguments.get(1).valueOf(env).stringValue();
-    final Set<String> options = new HashSet<>();
-    if (arguments.size() > 2) {
-      String option = StringUtils.unquoteText(arguments.get(2).toString());
-      // Convert the option into a set.
-      options.addAll(
-          Arrays.stream(option.split(",")).map(String::trim).collect(Collectors.toSet()));
-    }
+  /**
+   * Process the OpenSearchFunction with nodeClient and return the result.
+   *
+   * @param env {@link Environment}
+   * @return evaluation result.
+   */
+  public ExprValue process(Environment<Expression, ExprValue> env) {
+    return fetchIpEnrichment(ipAddress.valueOf(env).stringValue());
+  }
+
+  private ExprValue fetchIpEnrichment(String ipAddress) {
     try {
-      Map<String, Object> geoLocationData = ipClient.getGeoLocationData(ipAddress, dataSource);
-      Map<String, ExprValue> enrichmentResult =
-          geoLocationData.entrySet().stream()
-              .filter(entry -> options.isEmpty() || options.contains(entry.getKey()))
-              .collect(
-                  Collectors.toMap(
-                      Map.Entry::getKey, v -> new ExprStringValue(v.getValue().toString())));
-      return ExprTupleValue.fromExprValueMap(enrichmentResult);
+      Map<String, Object> geoLocationData =
+          GeoIpCache.getGeoLocationData(nodeClient, dataSource, ipAddress);
+      return ExprTupleValue.fromExprValueMap(options.select(geoLocationData));
     } catch (Exception e) {
       throw new RuntimeException(e);
     }
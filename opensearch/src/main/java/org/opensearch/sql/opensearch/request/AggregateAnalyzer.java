@@ -48,6 +48,7 @@ import org.apache.calcite.rex.RexCall;
 import org.apache.calcite.rex.RexInputRef;
 import org.apache.calcite.rex.RexLiteral;
 import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexUtil;
 import org.apache.calcite.sql.SqlKind;
 import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.script.Script;
@@ -145,6 +146,12 @@ public class AggregateAnalyzer {
             new NamedFieldExpression(ref.getIndex(), rowType.getFieldNames(), fieldTypes)
                 .getReferenceForTermQuery());
       } else if (node instanceof RexCall || node instanceof RexLiteral) {
+        // Scripts are evaluated independently on every shard, so the expression must yield the
+        // same value for the same document wherever it runs.
+        if (!RexUtil.isDeterministic(node)) {
+          throw new AggregateAnalyzerException(
+              String.format("Non-deterministic expression %s cannot be evaluated on shards", node));
+        }
         return scriptBuilder.apply(
             (new PredicateAnalyzer.ScriptQueryExpression(node, rowType, fieldTypes, cluster))
                 .getScript());
@@ -300,46 +307,8 @@ public class AggregateAnalyzer {
           helper.build(
               !args.isEmpty() ? args.getFirst() : null, AggregationBuilders.count(aggFieldName)),
           new SingleValueParser(aggFieldName));
-      case MIN -> {
-        String fieldName = helper.inferNamedField(args.getFirst()).getRootName();
-        ExprType fieldType = helper.fieldTypes.get(fieldName);
-
-        if (supportsMaxMinAggregation(fieldType)) {
-          yield Pair.of(
-              helper.build(args.getFirst(), AggregationBuilders.min(aggFieldName)),
-              new SingleValueParser(aggFieldName));
-        } else {
-          yield Pair.of(
-              AggregationBuilders.topHits(aggFieldName)
-                  .fetchSource(helper.inferNamedField(args.getFirst()).getRootName(), null)
-                  .size(1)
-                  .from(0)
-                  .sort(
-                      helper.inferNamedField(args.getFirst()).getReferenceForTermQuery(),
-                      SortOrder.ASC),
-              new TopHitsParser(aggFieldName, true));
-        }
-      }
-      case MAX -> {
-        String fieldName = helper.inferNamedField(args.getFirst()).getRootName();
-        ExprType fieldType = helper.fieldTypes.get(fieldName);
-
-        if (supportsMaxMinAggregation(fieldType)) {
-          yield Pair.of(
-              helper.build(args.getFirst(), AggregationBuilders.max(aggFieldName)),
-              new SingleValueParser(aggFieldName));
-        } else {
-          yield Pair.of(
-              AggregationBuilders.topHits(aggFieldName)
-                  .fetchSource(helper.inferNamedField(args.getFirst()).getRootName(), null)
-                  .size(1)
-                  .from(0)
-                  .sort(
-                      helper.inferNamedField(args.getFirst()).getReferenceForTermQuery(),
-                      SortOrder.DESC),
-              new TopHitsParser(aggFieldName, true));
-        }
-      }
+      case MIN -> createMinMaxAggregation(args.getFirst(), aggFieldName, SortOrder.ASC, helper);
+      case MAX -> createMinMaxAggregation(args.getFirst(), aggFieldName, SortOrder.DESC, helper);
       case VAR_SAMP -> Pair.of(
           helper.build(args.getFirst(), AggregationBuilders.extendedStats(aggFieldName)),
           new StatsParser(ExtendedStats::getVarianceSampling, aggFieldName));
@@ -419,6 +388,44 @@ public class AggregateAnalyzer {
     };
   }
 
+  /**
+   * Create MIN (ascending order) or MAX (descending order) aggregation. Fields and numeric
+   * expressions are computed by min/max metric aggregations on shards, while non-numeric fields
+   * fall back to a top_hits aggregation sorted on the field.
+   */
+  private static Pair<AggregationBuilder, MetricParser> createMinMaxAggregation(
+      RexNode arg, String aggFieldName, SortOrder order, AggregateBuilderHelper helper) {
+    boolean isField = arg instanceof RexInputRef;
+    // min/max metric aggregations only accept numeric script values
+    boolean metricSupported =
+        isField
+            ? supportsMaxMinAggregation(
+                helper.fieldTypes.get(helper.inferNamedField(arg).getRootName()))
+            : ExprCoreType.numberTypes()
+                .contains(OpenSearchTypeFactory.convertRelDataTypeToExprType(arg.getType()));
+    if (metricSupported) {
+      return Pair.of(
+          order == SortOrder.ASC
+              ? helper.build(arg, AggregationBuilders.min(aggFieldName))
+              : helper.build(arg, AggregationBuilders.max(aggFieldName)),
+          new SingleValueParser(aggFieldName));
+    }
+    if (!isField) {
+      throw new AggregateAnalyzerException(
+          String.format(
+              "Cannot push down %s on non-numeric expression %s",
+              order == SortOrder.ASC ? "MIN" : "MAX", arg));
+    }
+    NamedFieldExpression namedField = helper.inferNamedField(arg);
+    return Pair.of(
+        AggregationBuilders.topHits(aggFieldName)
+            .fetchSource(namedField.getRootName(), null)
+            .size(1)
+            .from(0)
+            .sort(namedField.getReferenceForTermQuery(), order),
+        new TopHitsParser(aggFieldName, true));
+  }
+
   private static boolean supportsMaxMinAggregation(ExprType fieldType) {
     ExprType coreType =
         (fieldType instanceof OpenSearchDataType)
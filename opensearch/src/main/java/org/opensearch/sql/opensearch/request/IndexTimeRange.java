@@ -0,0 +1,103 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.request;
+
+import com.google.common.collect.Range;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Value;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.bucket.terms.Terms;
+import org.opensearch.search.aggregations.metrics.Max;
+import org.opensearch.search.aggregations.metrics.Min;
+import org.opensearch.search.builder.SearchSourceBuilder;
+
+/** Minimum and maximum epoch millis of a date field in an index. */
+@Value
+public class IndexTimeRange {
+
+  /** Range of an index without any value of the field. */
+  public static final IndexTimeRange EMPTY = new IndexTimeRange(Long.MAX_VALUE, Long.MIN_VALUE);
+
+  private static final String INDEX_AGG = "index";
+  private static final String MIN_AGG = "min";
+  private static final String MAX_AGG = "max";
+
+  long min;
+
+  long max;
+
+  /**
+   * Whether any value of the field in the index falls in the given range.
+   *
+   * @param range range of epoch millis
+   * @return true if the index may have a value in the range
+   */
+  public boolean overlaps(Range<Long> range) {
+    if (min > max) {
+      return false;
+    }
+    Range<Long> bounds = Range.closed(min, max);
+    return bounds.isConnected(range) && !bounds.intersection(range).isEmpty();
+  }
+
+  /**
+   * Search request of the minimum and maximum values of a date field per index. It fails rather
+   * than return partial results, in which an index could be missing.
+   *
+   * @param field date field
+   * @param indexNames concrete index names
+   * @return search request
+   */
+  public static SearchRequest searchRequest(String field, String... indexNames) {
+    return new SearchRequest(indexNames)
+        .allowPartialSearchResults(false)
+        .source(
+            new SearchSourceBuilder()
+                .size(0)
+                .aggregation(
+                    AggregationBuilders.terms(INDEX_AGG)
+                        .field("_index")
+                        .size(indexNames.length)
+                        .subAggregation(AggregationBuilders.min(MIN_AGG).field(field))
+                        .subAggregation(AggregationBuilders.max(MAX_AGG).field(field))));
+  }
+
+  /**
+   * Parse the response of {@link #searchRequest(String, String...)}. Indices without any value of
+   * the field are absent, which is only conclusive if every shard has been searched in time.
+   *
+   * @param response search response
+   * @return map from index name to its time range
+   * @throws IllegalStateException if the response is incomplete
+   */
+  public static Map<String, IndexTimeRange> parse(SearchResponse response) {
+    if (response.isTimedOut()
+        || response.getFailedShards() > 0
+        || response.getAggregations() == null) {
+      throw new IllegalStateException(
+          String.format(
+              "Incomplete time ranges of %d shards: %d failed, timed out: %s",
+              response.getTotalShards(), response.getFailedShards(), response.isTimedOut()));
+    }
+    Map<String, IndexTimeRange> result = new HashMap<>();
+    Terms terms = response.getAggregations().get(INDEX_AGG);
+    for (Terms.Bucket bucket : terms.getBuckets()) {
+      Min min = bucket.getAggregations().get(MIN_AGG);
+      Max max = bucket.getAggregations().get(MAX_AGG);
+      if (Double.isInfinite(min.getValue()) || Double.isInfinite(max.getValue())) {
+        continue;
+      }
+      // Round outwards, date nanos are aggregated as fractional millis
+      result.put(
+          bucket.getKeyAsString(),
+          new IndexTimeRange((long) Math.floor(min.getValue()), (long) Math.ceil(max.getValue())));
+    }
+    return result;
+  }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.request;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Range;
+import java.time.DateTimeException;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.experimental.UtilityClass;
+import lombok.extern.log4j.Log4j2;
+import org.opensearch.common.regex.Regex;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.RangeQueryBuilder;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+
+/**
+ * Prune the indices of a wildcard index pattern whose {@code @timestamp} values can't match the
+ * time range of the pushed down filter, so that the search is not sent to their shards at all.
+ * Only indices whose writes are blocked are pruned, e.g. indices rolled over by a retention policy,
+ * because their time ranges can't change and are cached per node. Time ranges are searched with
+ * the permissions of the user, e.g. document level security, so they are only reused for the same
+ * user, and an index is cached as having no value only from a response of all its shards.
+ */
+@Log4j2
+@UtilityClass
+public class IndexTimeRangePruner {
+
+  /** Time field of the indices. */
+  public static final String TIMESTAMP_FIELD = "@timestamp";
+
+  /** Default format of the timestamp range pushed down. */
+  private static final String DATE_TIME_FORMAT = "date_time";
+
+  static final int MAX_ENTRIES = 10_000;
+
+  /** Time ranges of write blocked indices by user and index version. */
+  private static final Cache<RangeKey, IndexTimeRange> cache =
+      CacheBuilder.newBuilder().maximumSize(MAX_ENTRIES).build();
+
+  /**
+   * Prune the indices of an index pattern by the time range of a query.
+   *
+   * @param indexName index pattern, kept if it is not only made of local wildcard expressions
+   * @param query query pushed down
+   * @param client OpenSearch client
+   * @return concrete indices which may have a match, or the index pattern if none is pruned
+   */
+  public static OpenSearchRequest.IndexName prune(
+      OpenSearchRequest.IndexName indexName, QueryBuilder query, OpenSearchClient client) {
+    String[] patterns = indexName.getIndexNames();
+    if (!Arrays.stream(patterns).allMatch(p -> p.contains("*") && !p.contains(":"))) {
+      return indexName;
+    }
+    Range<Long> range = timeRange(query);
+    if (range.equals(Range.all())) {
+      return indexName;
+    }
+    try {
+      return prune(indexName, patterns, range, client);
+    } catch (RuntimeException e) {
+      // Pruning is only an optimization, search all the indices instead
+      log.warn("Failed to prune indices of [{}] by time range", indexName, e);
+      return indexName;
+    }
+  }
+
+  private static OpenSearchRequest.IndexName prune(
+      OpenSearchRequest.IndexName indexName,
+      String[] patterns,
+      Range<Long> range,
+      OpenSearchClient client) {
+    Map<String, String> versions = client.getWriteBlockedIndexVersions(patterns);
+    if (versions.isEmpty()) {
+      return indexName;
+    }
+    Set<String> indices = client.getIndexShardCounts(patterns).keySet();
+    // An index not matching the patterns by name is resolved from an alias, maybe filtered
+    if (!indices.stream().allMatch(index -> Regex.simpleMatch(patterns, index))) {
+      return indexName;
+    }
+    String user = client.getCurrentUser();
+    loadTimeRanges(user, versions, client);
+
+    List<String> kept =
+        indices.stream()
+            .filter(
+                index -> {
+                  IndexTimeRange timeRange =
+                      versions.containsKey(index)
+                          ? cache.getIfPresent(new RangeKey(user, versions.get(index)))
+                          : null;
+                  return timeRange == null || timeRange.overlaps(range);
+                })
+            .sorted()
+            .collect(Collectors.toList());
+    if (kept.size() == indices.size()) {
+      return indexName;
+    }
+    if (kept.isEmpty()) {
+      // Search a single index to return an empty response
+      kept = List.of(indices.stream().sorted().findFirst().orElseThrow());
+    }
+    return new OpenSearchRequest.IndexName(String.join(",", kept));
+  }
+
+  private static void loadTimeRanges(
+      String user, Map<String, String> versions, OpenSearchClient client) {
+    String[] uncached =
+        versions.entrySet().stream()
+            .filter(entry -> cache.getIfPresent(new RangeKey(user, entry.getValue())) == null)
+            .map(Map.Entry::getKey)
+            .toArray(String[]::new);
+    if (uncached.length == 0) {
+      return;
+    }
+    // Fails unless all the shards respond, so an index missing from the response has no value
+    Map<String, IndexTimeRange> timeRanges = client.getIndexTimeRanges(TIMESTAMP_FIELD, uncached);
+    for (String index : uncached) {
+      cache.put(
+          new RangeKey(user, versions.get(index)),
+          timeRanges.getOrDefault(index, IndexTimeRange.EMPTY));
+    }
+  }
+
+  /**
+   * Time range of the documents matching a query, from the ranges on the time field which all the
+   * documents have to match. Bounds are always closed, which only keeps more indices.
+   *
+   * @param query query
+   * @return time range in epoch millis, or all if the query doesn't limit the time field
+   */
+  @VisibleForTesting
+  static Range<Long> timeRange(QueryBuilder query) {
+    if (query instanceof RangeQueryBuilder rangeQuery
+        && TIMESTAMP_FIELD.equals(rangeQuery.fieldName())) {
+      return timeRange(rangeQuery);
+    }
+    Range<Long> range = Range.all();
+    if (query instanceof BoolQueryBuilder boolQuery) {
+      for (QueryBuilder clause : boolQuery.filter()) {
+        range = intersect(range, timeRange(clause));
+      }
+      for (QueryBuilder clause : boolQuery.must()) {
+        range = intersect(range, timeRange(clause));
+      }
+    }
+    return range;
+  }
+
+  private static Range<Long> timeRange(RangeQueryBuilder rangeQuery) {
+    if (rangeQuery.timeZone() != null
+        || (rangeQuery.format() != null && !DATE_TIME_FORMAT.equals(rangeQuery.format()))) {
+      return Range.all();
+    }
+    try {
+      Long from = epochMillis(rangeQuery.from());
+      Long to = epochMillis(rangeQuery.to());
+      if (from != null && to != null) {
+        return from <= to ? Range.closed(from, to) : Range.closedOpen(from, from);
+      } else if (from != null) {
+        return Range.atLeast(from);
+      } else if (to != null) {
+        return Range.atMost(to);
+      }
+    } catch (IllegalArgumentException | DateTimeException e) {
+      // Date math like now-1h, left to the shards
+    }
+    return Range.all();
+  }
+
+  private static Long epochMillis(Object value) {
+    if (value == null) {
+      return null;
+    } else if (value instanceof Number number) {
+      return number.longValue();
+    } else if (value instanceof Calendar calendar) {
+      return calendar.getTimeInMillis();
+    }
+    return DateFieldMapper.getDefaultDateTimeFormatter().parseMillis(value.toString());
+  }
+
+  private static Range<Long> intersect(Range<Long> left, Range<Long> right) {
+    return left.isConnected(right) ? left.intersection(right) : Range.closedOpen(0L, 0L);
+  }
+
+  @VisibleForTesting
+  static void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  private record RangeKey(String user, String indexVersion) {}
+}
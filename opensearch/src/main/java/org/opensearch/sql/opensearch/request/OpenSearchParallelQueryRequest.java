@@ -0,0 +1,159 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.request;
+
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.action.search.MultiSearchRequest;
+import org.opensearch.action.search.MultiSearchResponse;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchScrollRequest;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+
+/**
+ * OpenSearch search request which scans several partitions of the same PIT concurrently. Each
+ * partition is an {@link OpenSearchQueryRequest} paging with search_after on its own. A batch
+ * sends the next page of every unfinished partition within one multi-search request and returns
+ * the concatenated hits.
+ */
+@EqualsAndHashCode
+@Getter
+@ToString
+public class OpenSearchParallelQueryRequest implements OpenSearchRequest {
+
+  /** Partitions of the scan, sharing the same PIT. */
+  private final List<OpenSearchQueryRequest> partitions;
+
+  /** OpenSearchExprValueFactory. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude
+  private final OpenSearchExprValueFactory exprValueFactory;
+
+  /** List of includes expected in the response. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude private final List<String> includes;
+
+  private String pitId;
+
+  /** Constructor of OpenSearchParallelQueryRequest. */
+  public OpenSearchParallelQueryRequest(
+      List<OpenSearchQueryRequest> partitions,
+      OpenSearchExprValueFactory exprValueFactory,
+      List<String> includes,
+      String pitId) {
+    this.partitions = partitions;
+    this.exprValueFactory = exprValueFactory;
+    this.includes = includes;
+    this.pitId = pitId;
+  }
+
+  /** Fetch the partitions one after another when no multi-search action is provided. */
+  @Override
+  public OpenSearchResponse search(
+      Function<SearchRequest, SearchResponse> searchAction,
+      Function<SearchScrollRequest, SearchResponse> scrollAction) {
+    List<SearchHit> hits = new ArrayList<>();
+    for (OpenSearchQueryRequest partition : partitions) {
+      if (!partition.isSearchDone()) {
+        partition.searchWithPIT(searchAction);
+        addHits(hits, partition.getSearchResponse());
+      }
+    }
+    return toResponse(hits);
+  }
+
+  @Override
+  public OpenSearchResponse search(
+      Function<SearchRequest, SearchResponse> searchAction,
+      Function<SearchScrollRequest, SearchResponse> scrollAction,
+      Function<MultiSearchRequest, MultiSearchResponse> multiSearchAction) {
+    List<OpenSearchQueryRequest> pending = new ArrayList<>();
+    MultiSearchRequest multiSearchRequest = new MultiSearchRequest();
+    for (OpenSearchQueryRequest partition : partitions) {
+      if (!partition.isSearchDone()) {
+        pending.add(partition);
+        multiSearchRequest.add(partition.nextPitRequest());
+      }
+    }
+    List<SearchHit> hits = new ArrayList<>();
+    if (pending.isEmpty()) {
+      return toResponse(hits);
+    }
+
+    MultiSearchResponse.Item[] items = multiSearchAction.apply(multiSearchRequest).getResponses();
+    for (int i = 0; i < items.length; i++) {
+      if (items[i].isFailure()) {
+        throw new IllegalStateException(
+            "Failed to search partition " + i + " of PIT " + pitId, items[i].getFailure());
+      }
+      pending.get(i).onPitResponse(items[i].getResponse());
+      addHits(hits, items[i].getResponse());
+    }
+    return toResponse(hits);
+  }
+
+  private static void addHits(List<SearchHit> hits, SearchResponse response) {
+    SearchHit[] searchHits = response.getHits().getHits();
+    if (searchHits != null) {
+      hits.addAll(Arrays.asList(searchHits));
+    }
+  }
+
+  private OpenSearchResponse toResponse(List<SearchHit> hits) {
+    return new OpenSearchResponse(
+        new SearchHits(
+            hits.toArray(SearchHit[]::new),
+            new TotalHits(hits.size(), TotalHits.Relation.EQUAL_TO),
+            Float.NaN),
+        exprValueFactory,
+        includes);
+  }
+
+  @Override
+  public void addFilter(QueryBuilder filter) {
+    partitions.forEach(partition -> partition.addFilter(filter));
+  }
+
+  /** All partitions share one PIT, so it is deleted once here instead of by the partitions. */
+  @Override
+  public void clean(Consumer<String> cleanAction) {
+    try {
+      if (this.pitId != null) {
+        cleanAction.accept(this.pitId);
+      }
+    } finally {
+      this.pitId = null;
+    }
+  }
+
+  @Override
+  public boolean hasAnotherBatch() {
+    return pitId != null && partitions.stream().anyMatch(OpenSearchQueryRequest::hasAnotherBatch);
+  }
+
+  /**
+   * Parallel scans are only built for requests without pagination, which are never continued by a
+   * cursor. The plan serializer turns this exception into no cursor, instead of failing the query
+   * when the scan stops at the query size limit before all its partitions are done.
+   */
+  @Override
+  public void writeTo(StreamOutput out) throws IOException {
+    throw new NotSerializableException(OpenSearchParallelQueryRequest.class.getName());
+  }
+}
@@ -26,6 +26,7 @@ import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.opensearch.search.SearchModule;
@@ -179,45 +180,76 @@ public class OpenSearchQueryRequest implements OpenSearchRequest {
   }
 
   public OpenSearchResponse searchWithPIT(Function<SearchRequest, SearchResponse> searchAction) {
-    OpenSearchResponse openSearchResponse;
     if (searchDone) {
-      openSearchResponse = new OpenSearchResponse(SearchHits.empty(), exprValueFactory, includes);
-    } else {
-      this.sourceBuilder.pointInTimeBuilder(new PointInTimeBuilder(this.pitId));
-      this.sourceBuilder.timeout(cursorKeepAlive);
-      // check for search after
-      if (searchAfter != null) {
-        this.sourceBuilder.searchAfter(searchAfter);
-      }
-      // Set sort field for search_after
-      if (this.sourceBuilder.sorts() == null) {
-        this.sourceBuilder.sort(DOC_FIELD_NAME, ASC);
-        // Workaround to preserve sort location more exactly,
-        // see https://github.com/opensearch-project/sql/pull/3061
-        this.sourceBuilder.sort(METADATA_FIELD_ID, ASC);
-      }
-      SearchRequest searchRequest =
-          new SearchRequest().indices(indexName.getIndexNames()).source(this.sourceBuilder);
-      this.searchResponse = searchAction.apply(searchRequest);
-
-      openSearchResponse = new OpenSearchResponse(this.searchResponse, exprValueFactory, includes);
-
-      needClean = openSearchResponse.isEmpty();
-      searchDone = openSearchResponse.isEmpty();
-      SearchHit[] searchHits = this.searchResponse.getHits().getHits();
-      if (searchHits != null && searchHits.length > 0) {
-        searchAfter = searchHits[searchHits.length - 1].getSortValues();
-        this.sourceBuilder.searchAfter(searchAfter);
-      }
+      return new OpenSearchResponse(SearchHits.empty(), exprValueFactory, includes);
+    }
+    return onPitResponse(searchAction.apply(nextPitRequest()));
+  }
+
+  /** Prefetch the next page with PIT, which is the same whenever it is searched. */
+  @Override
+  public void prefetch(Consumer<SearchRequest> prefetchAction) {
+    if (hasAnotherBatch()) {
+      prefetchAction.accept(nextPitRequest());
+    }
+  }
+
+  /**
+   * Build the search request of the next page with PIT and search_after.
+   *
+   * @return search request of the next page
+   */
+  SearchRequest nextPitRequest() {
+    this.sourceBuilder.pointInTimeBuilder(new PointInTimeBuilder(this.pitId));
+    this.sourceBuilder.timeout(cursorKeepAlive);
+    // check for search after
+    if (searchAfter != null) {
+      this.sourceBuilder.searchAfter(searchAfter);
+    }
+    // Set sort field for search_after
+    if (this.sourceBuilder.sorts() == null) {
+      this.sourceBuilder.sort(DOC_FIELD_NAME, ASC);
+      // Workaround to preserve sort location more exactly,
+      // see https://github.com/opensearch-project/sql/pull/3061
+      this.sourceBuilder.sort(METADATA_FIELD_ID, ASC);
+    }
+    return new SearchRequest().indices(indexName.getIndexNames()).source(this.sourceBuilder);
+  }
+
+  /**
+   * Consume the response of the page requested by {@link #nextPitRequest()} and record the
+   * search_after position of the next page.
+   *
+   * @param response search response of the page
+   * @return OpenSearchResponse
+   */
+  OpenSearchResponse onPitResponse(SearchResponse response) {
+    this.searchResponse = response;
+
+    OpenSearchResponse openSearchResponse =
+        new OpenSearchResponse(this.searchResponse, exprValueFactory, includes);
+
+    needClean = openSearchResponse.isEmpty();
+    searchDone = openSearchResponse.isEmpty();
+    SearchHit[] searchHits = this.searchResponse.getHits().getHits();
+    if (searchHits != null && searchHits.length > 0) {
+      searchAfter = searchHits[searchHits.length - 1].getSortValues();
+      this.sourceBuilder.searchAfter(searchAfter);
     }
     return openSearchResponse;
   }
 
+  @Override
+  public void addFilter(QueryBuilder filter) {
+    sourceBuilder.query(OpenSearchRequest.filtered(sourceBuilder.query(), filter));
+  }
+
   @Override
   public void clean(Consumer<String> cleanAction) {
     try {
       // clean on the last page only, to prevent deleting the PitId in the middle of paging.
       if (this.pitId != null && needClean) {
+        PrefetchedPages.discard(this.pitId);
         cleanAction.accept(this.pitId);
         searchDone = true;
       }
@@ -9,6 +9,8 @@ import java.io.IOException;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import lombok.EqualsAndHashCode;
+import org.opensearch.action.search.MultiSearchRequest;
+import org.opensearch.action.search.MultiSearchResponse;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchScrollRequest;
@@ -16,6 +18,9 @@ import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
 
@@ -36,6 +41,52 @@ public interface OpenSearchRequest extends Writeable {
       Function<SearchRequest, SearchResponse> searchAction,
       Function<SearchScrollRequest, SearchResponse> scrollAction);
 
+  /**
+   * Apply the search action, scroll action or multi-search action on request based on context.
+   * Requests which don't fan out into several searches ignore the multi-search action.
+   *
+   * @param searchAction search action.
+   * @param scrollAction scroll search action.
+   * @param multiSearchAction multi-search action.
+   * @return OpenSearchResponse.
+   */
+  default OpenSearchResponse search(
+      Function<SearchRequest, SearchResponse> searchAction,
+      Function<SearchScrollRequest, SearchResponse> scrollAction,
+      Function<MultiSearchRequest, MultiSearchResponse> multiSearchAction) {
+    return search(searchAction, scrollAction);
+  }
+
+  /**
+   * Apply the prefetch action on the search request of the next batch, whose response is returned
+   * by the search of the same request deserialized from the cursor of the current batch. Requests
+   * whose next batch can't be fetched twice, e.g. scroll requests which move the scroll context,
+   * don't prefetch.
+   *
+   * @param prefetchAction action searching in the background.
+   */
+  default void prefetch(Consumer<SearchRequest> prefetchAction) {}
+
+  /**
+   * Restrict the documents searched to those matching a filter, e.g. the range of a streaming
+   * batch. It must be applied before the first search.
+   *
+   * @param filter filter query.
+   */
+  void addFilter(QueryBuilder filter);
+
+  /**
+   * Combine a query with a filter that restricts the documents it matches.
+   *
+   * @param query query, null to match all documents.
+   * @param filter filter query.
+   * @return combined query.
+   */
+  static QueryBuilder filtered(QueryBuilder query, QueryBuilder filter) {
+    BoolQueryBuilder bool = QueryBuilders.boolQuery().filter(filter);
+    return query == null ? bool : bool.must(query);
+  }
+
   /**
    * Apply the cleanAction on request.
    *
@@ -38,6 +38,7 @@ import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.collapse.CollapseBuilder;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.search.fetch.subphase.highlight.HighlightBuilder;
+import org.opensearch.search.slice.SliceBuilder;
 import org.opensearch.search.sort.SortBuilder;
 import org.opensearch.search.sort.SortBuilders;
 import org.opensearch.sql.ast.expression.Literal;
@@ -56,6 +57,9 @@ import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseP
 @ToString
 public class OpenSearchRequestBuilder {
 
+  /** Name of the inner hits returning the events of a collapsed hit. */
+  public static final String COLLAPSE_INNER_HITS_NAME = "_collapsed_";
+
   /** Search request source builder. */
   private final SearchSourceBuilder sourceBuilder;
 
@@ -113,6 +117,7 @@ public class OpenSearchRequestBuilder {
      * 1. If the size of source is 0. It means this is an aggregation request and no need to use pit.
      * 2. If mapping is empty. It means no data in the index. PIT search relies on `_id` fields to do sort, thus it will fail if using PIT search in this case.
      */
+    indexName = IndexTimeRangePruner.prune(indexName, sourceBuilder.query(), client);
     if (sourceBuilder.size() == 0 || isMappingEmpty) {
       return new OpenSearchQueryRequest(indexName, sourceBuilder, exprValueFactory, List.of());
     }
@@ -127,6 +132,13 @@ public class OpenSearchRequestBuilder {
 
     if (pageSize == null) {
       if (startFrom + size > maxResultWindow) {
+        if (isParallelScanApplicable()) {
+          OpenSearchRequest parallelRequest =
+              buildParallelRequestWithPit(indexName, cursorKeepAlive, client, includes);
+          if (parallelRequest != null) {
+            return parallelRequest;
+          }
+        }
         sourceBuilder.size(maxResultWindow - startFrom);
         // Search with PIT request
         String pitId = createPit(indexName, cursorKeepAlive, client);
@@ -150,6 +162,73 @@ public class OpenSearchRequestBuilder {
     }
   }
 
+  /**
+   * Split the PIT search into slices which are fetched concurrently. Each slice pages with
+   * search_after on its own, so a batch returns up to max result window hits in total. With shard
+   * routing enabled, there is one slice per shard of the PIT. OpenSearch then assigns whole shards
+   * to slices instead of filtering the documents of every shard, so no shard is asked for hits
+   * which end up dropped by the coordinator reduce. Otherwise the scan is split into {@link
+   * Settings.Key#QUERY_SCAN_SLICES} slices.
+   *
+   * @return the parallel request, or null if the scan is not worth splitting
+   */
+  private OpenSearchRequest buildParallelRequestWithPit(
+      OpenSearchRequest.IndexName indexName,
+      TimeValue cursorKeepAlive,
+      OpenSearchClient client,
+      List<String> includes) {
+    boolean shardRouted = isShardRoutedScanEnabled(indexName);
+    int partitionCount =
+        shardRouted ? shardCount(indexName, client) : settingValue(Settings.Key.QUERY_SCAN_SLICES);
+    if (partitionCount <= 1) {
+      return null;
+    }
+
+    int partitionSize = (maxResultWindow + partitionCount - 1) / partitionCount;
+    String pitId = createPit(indexName, cursorKeepAlive, client);
+    List<OpenSearchQueryRequest> partitions = new ArrayList<>(partitionCount);
+    for (int i = 0; i < partitionCount; i++) {
+      SearchSourceBuilder partitionSource =
+          sourceBuilder
+              .shallowCopy()
+              .size(partitionSize)
+              .slice(new SliceBuilder(i, partitionCount));
+      partitions.add(
+          new OpenSearchQueryRequest(
+              indexName, partitionSource, exprValueFactory, includes, cursorKeepAlive, pitId));
+    }
+    return new OpenSearchParallelQueryRequest(partitions, exprValueFactory, includes, pitId);
+  }
+
+  /**
+   * A large scan can be split only when it starts from the first row and its order doesn't matter,
+   * i.e. hits are sorted by _doc or not sorted at all.
+   */
+  private boolean isParallelScanApplicable() {
+    if (settings == null || startFrom != 0 || sourceBuilder.collapse() != null) {
+      return false;
+    }
+    return sourceBuilder.sorts() == null || isSortByDocOnly();
+  }
+
+  /** Shard routing needs the shard count, which is unknown for remote cluster indices. */
+  private boolean isShardRoutedScanEnabled(OpenSearchRequest.IndexName indexName) {
+    return Boolean.TRUE.equals(settings.getSettingValue(Settings.Key.QUERY_SCAN_SHARD_ROUTING))
+        && Arrays.stream(indexName.getIndexNames()).noneMatch(name -> name.contains(":"));
+  }
+
+  /** Number of shards of the PIT, over all the indices of the pattern. */
+  private int shardCount(OpenSearchRequest.IndexName indexName, OpenSearchClient client) {
+    return client.getIndexShardCounts(indexName.getIndexNames()).values().stream()
+        .mapToInt(Integer::intValue)
+        .sum();
+  }
+
+  private int settingValue(Settings.Key key) {
+    Integer value = settings.getSettingValue(key);
+    return value == null ? 1 : value;
+  }
+
   private String createPit(
       OpenSearchRequest.IndexName indexName, TimeValue cursorKeepAlive, OpenSearchClient client) {
     // Create PIT ID for request
@@ -296,14 +375,34 @@ public class OpenSearchRequestBuilder {
 
   public void pushDownProjectStream(Stream<String> projects) {
     sourceBuilder.fetchSource(projects.distinct().toArray(String[]::new), new String[0]);
+    if (sourceBuilder.collapse() != null && sourceBuilder.collapse().getInnerHits() != null) {
+      sourceBuilder
+          .collapse()
+          .getInnerHits()
+          .forEach(innerHit -> innerHit.setFetchSourceContext(sourceBuilder.fetchSource()));
+    }
   }
 
   public void pushTypeMapping(Map<String, OpenSearchDataType> typeMapping) {
     exprValueFactory.extendTypeMapping(typeMapping);
   }
 
-  public void pushDownCollapse(String field) {
-    sourceBuilder.collapse(new CollapseBuilder(field));
+  /**
+   * Push down collapse to DSL request. Only the top hit of each group is returned by collapse, so
+   * when more events of a group are allowed, they are returned as inner hits of the top hit.
+   *
+   * @param field field to collapse on
+   * @param allowedDuplication max number of events returned for each group
+   */
+  public void pushDownCollapse(String field, int allowedDuplication) {
+    CollapseBuilder collapse = new CollapseBuilder(field);
+    if (allowedDuplication > 1) {
+      collapse.setInnerHits(
+          new InnerHitBuilder(COLLAPSE_INNER_HITS_NAME)
+              .setSize(allowedDuplication)
+              .setFetchSourceContext(sourceBuilder.fetchSource()));
+    }
+    sourceBuilder.collapse(collapse);
   }
 
   private boolean isSortByDocOnly() {
@@ -20,6 +20,7 @@ import org.opensearch.action.search.SearchScrollRequest;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
@@ -110,6 +111,15 @@ public class OpenSearchScrollRequest implements OpenSearchRequest {
     return response;
   }
 
+  @Override
+  public void addFilter(QueryBuilder filter) {
+    if (initialSearchRequest == null) {
+      throw new UnsupportedOperationException("Misuse of OpenSearchScrollRequest");
+    }
+    SearchSourceBuilder source = initialSearchRequest.source();
+    source.query(OpenSearchRequest.filtered(source.query(), filter));
+  }
+
   @Override
   public void clean(Consumer<String> cleanAction) {
     try {
@@ -0,0 +1,121 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.request;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.experimental.UtilityClass;
+import lombok.extern.log4j.Log4j2;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.SearchSourceBuilder;
+
+/**
+ * Pages of PIT searches fetched ahead of the next cursor request, per node. Cursors are stateless,
+ * so the page prefetched while the current page is returned is looked up by the user, the PIT id
+ * and the search_after position of the search. The next cursor request only finds it if it comes
+ * from the same user and arrives on the same node after the page is fetched and before it is
+ * evicted; otherwise the page is searched again, with the same hits because the PIT doesn't change.
+ */
+@Log4j2
+@UtilityClass
+public class PrefetchedPages {
+
+  /** Bound of the estimated heap held by the pages, beyond which the oldest are evicted. */
+  static final long MAX_BYTES = 32L * 1024 * 1024;
+
+  /** Same as the default cursor keep alive, after which the PIT may be gone anyway. */
+  static final long EXPIRE_AFTER_MINUTES = 1;
+
+  /** Estimated heap of a hit besides its source. */
+  private static final int HIT_OVERHEAD_BYTES = 256;
+
+  private static final Cache<PageKey, SearchResponse> pages =
+      CacheBuilder.newBuilder()
+          .maximumWeight(MAX_BYTES)
+          .<PageKey, SearchResponse>weigher(PrefetchedPages::weigh)
+          .expireAfterWrite(EXPIRE_AFTER_MINUTES, TimeUnit.MINUTES)
+          .build();
+
+  /**
+   * Listener keeping the response of a page prefetched in the background.
+   *
+   * @param user user of the search, see {@link
+   *     org.opensearch.sql.opensearch.security.SecurityUser}
+   * @param request PIT search request of the page
+   * @return listener of the search response
+   */
+  public static ActionListener<SearchResponse> listener(String user, SearchRequest request) {
+    // The key is built before the search, as the source of the request is reused for next pages
+    PageKey key = PageKey.of(user, request.source());
+    return ActionListener.wrap(
+        response -> pages.put(key, response),
+        e -> log.debug("Failed to prefetch the page of PIT search {}", request, e));
+  }
+
+  /**
+   * Remove and return the page prefetched for a search.
+   *
+   * @param user user of the search
+   * @param request search request of the page
+   * @return response of the page, or null if it is not prefetched on this node for the user
+   */
+  public static SearchResponse take(String user, SearchRequest request) {
+    if (request.source() == null || request.source().pointInTimeBuilder() == null) {
+      return null;
+    }
+    return pages.asMap().remove(PageKey.of(user, request.source()));
+  }
+
+  /**
+   * Remove the pages of a PIT which is deleted.
+   *
+   * @param pitId PIT id
+   */
+  static void discard(String pitId) {
+    pages.asMap().keySet().removeIf(key -> key.pitId().equals(pitId));
+  }
+
+  private static int weigh(PageKey key, SearchResponse page) {
+    long bytes = 0;
+    SearchHit[] hits = page.getHits() == null ? null : page.getHits().getHits();
+    if (hits != null) {
+      for (SearchHit hit : hits) {
+        bytes += HIT_OVERHEAD_BYTES;
+        if (hit.getSourceRef() != null) {
+          bytes += hit.getSourceRef().length();
+        }
+      }
+    }
+    return (int) Math.min(bytes, Integer.MAX_VALUE);
+  }
+
+  @VisibleForTesting
+  static void invalidateAll() {
+    pages.invalidateAll();
+  }
+
+  private record PageKey(String user, String pitId, List<String> searchAfter) {
+
+    /** Sort values are compared as strings, whose numeric types may differ once deserialized. */
+    static PageKey of(String user, SearchSourceBuilder source) {
+      Object[] searchAfter = source.searchAfter();
+      return new PageKey(
+          user,
+          source.pointInTimeBuilder().getId(),
+          searchAfter == null
+              ? List.of()
+              : Arrays.stream(searchAfter).map(String::valueOf).collect(Collectors.toList()));
+    }
+  }
+}
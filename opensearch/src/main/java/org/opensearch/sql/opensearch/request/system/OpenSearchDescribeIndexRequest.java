@@ -8,13 +8,18 @@ package org.opensearch.sql.opensearch.request.system;
 import static org.opensearch.sql.data.model.ExprValueUtils.*;
 import static org.opensearch.sql.opensearch.client.OpenSearchClient.META_CLUSTER_NAME;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import lombok.extern.log4j.Log4j2;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
@@ -38,6 +43,16 @@ public class OpenSearchDescribeIndexRequest implements OpenSearchSystemRequest {
 
   private static final String DEFAULT_IS_AUTOINCREMENT = "NO";
 
+  /** Maximum number of merged schemas kept per node. */
+  static final int MAX_MERGED_SCHEMAS = 100;
+
+  /**
+   * Merged field types by index pattern and distinct mappings. A mapping change yields a different
+   * key, so entries never go stale and are only evicted by size.
+   */
+  private static final Cache<MergeKey, Map<String, OpenSearchDataType>> MERGED_SCHEMAS =
+      CacheBuilder.newBuilder().maximumSize(MAX_MERGED_SCHEMAS).build();
+
   /** OpenSearch client connection. */
   private final OpenSearchClient client;
 
@@ -93,27 +108,46 @@ public class OpenSearchDescribeIndexRequest implements OpenSearchSystemRequest {
   }
 
   /**
-   * Get the mapping of field and type.
+   * Get the mapping of field and type. Indices created from the same template share the same
+   * mapping, so only the distinct mappings are merged, and the merged result is memoized for the
+   * index pattern.
    *
    * @return mapping of field and type.
    */
   // TODO possible collision if two indices have fields with the same name and different mappings
   public Map<String, OpenSearchDataType> getFieldTypes() {
-    Map<String, OpenSearchDataType> fieldTypes = new HashMap<>();
     Map<String, IndexMapping> indexMappings =
         client.getIndexMappings(getLocalIndexNames(indexName.getIndexNames()));
-    if (indexMappings.size() <= 1) {
-      for (IndexMapping indexMapping : indexMappings.values()) {
+    Set<IndexMapping> distinctMappings = new LinkedHashSet<>(indexMappings.values());
+    if (distinctMappings.size() <= 1) {
+      Map<String, OpenSearchDataType> fieldTypes = new HashMap<>();
+      for (IndexMapping indexMapping : distinctMappings) {
         fieldTypes.putAll(indexMapping.getFieldMappings());
       }
-    } else {
-      for (IndexMapping indexMapping : indexMappings.values()) {
-        MergeRuleHelper.merge(fieldTypes, indexMapping.getFieldMappings());
-      }
+      return fieldTypes;
+    }
+    MergeKey key = new MergeKey(indexName.toString(), distinctMappings);
+    Map<String, OpenSearchDataType> merged = MERGED_SCHEMAS.getIfPresent(key);
+    if (merged == null) {
+      merged = merge(distinctMappings);
+      MERGED_SCHEMAS.put(key, merged);
+    }
+    return new HashMap<>(merged);
+  }
+
+  private static Map<String, OpenSearchDataType> merge(Set<IndexMapping> mappings) {
+    Map<String, OpenSearchDataType> fieldTypes = new HashMap<>();
+    for (IndexMapping indexMapping : mappings) {
+      MergeRuleHelper.merge(fieldTypes, indexMapping.getFieldMappings());
     }
     return fieldTypes;
   }
 
+  @VisibleForTesting
+  static void invalidateMergedSchemas() {
+    MERGED_SCHEMAS.invalidateAll();
+  }
+
   /**
    * Get the minimum of the max result windows of the indices.
    *
@@ -169,4 +203,6 @@ public class OpenSearchDescribeIndexRequest implements OpenSearchSystemRequest {
   public String toString() {
     return "OpenSearchDescribeIndexRequest{indexName='" + indexName + "\'}";
   }
+
+  private record MergeKey(String indexPattern, Set<IndexMapping> mappings) {}
 }
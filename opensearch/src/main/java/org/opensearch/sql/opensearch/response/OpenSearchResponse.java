@@ -5,6 +5,7 @@
 
 package org.opensearch.sql.opensearch.response;
 
+import static org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder.COLLAPSE_INNER_HITS_NAME;
 import static org.opensearch.sql.opensearch.storage.OpenSearchIndex.METADATAFIELD_TYPE_MAP;
 import static org.opensearch.sql.opensearch.storage.OpenSearchIndex.METADATA_FIELD_ID;
 import static org.opensearch.sql.opensearch.storage.OpenSearchIndex.METADATA_FIELD_INDEX;
@@ -19,6 +20,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.opensearch.action.search.SearchResponse;
@@ -95,6 +97,7 @@ public class OpenSearchResponse implements Iterable<ExprValue> {
       return handleAggregationResponse();
     } else {
       return Arrays.stream(hits.getHits())
+          .flatMap(OpenSearchResponse::expandCollapsedHit)
           .map(
               hit -> {
                 ImmutableMap.Builder<String, ExprValue> builder = new ImmutableMap.Builder<>();
@@ -107,6 +110,16 @@ public class OpenSearchResponse implements Iterable<ExprValue> {
     }
   }
 
+  /**
+   * A collapsed hit carries all the events of its group as inner hits if more than one event is
+   * required, otherwise it is the only event of its group.
+   */
+  private static Stream<SearchHit> expandCollapsedHit(SearchHit hit) {
+    SearchHits collapsed =
+        hit.getInnerHits() == null ? null : hit.getInnerHits().get(COLLAPSE_INNER_HITS_NAME);
+    return collapsed == null ? Stream.of(hit) : Arrays.stream(collapsed.getHits());
+  }
+
   /**
    * Parse response for all hits to add to builder. Inner_hits supports arrays of objects with
    * nested type.
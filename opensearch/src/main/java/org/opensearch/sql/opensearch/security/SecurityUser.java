@@ -0,0 +1,33 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.security;
+
+import lombok.experimental.UtilityClass;
+import org.opensearch.common.util.concurrent.ThreadContext;
+
+/**
+ * User of the current request, as set in the thread context by the security plugin. Results cached
+ * per node which were computed under the permissions of a user, e.g. with document level security,
+ * are keyed by it so that they are only served to requests of the same user.
+ */
+@UtilityClass
+public class SecurityUser {
+
+  /** Same as {@code ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT}. */
+  public static final String USER_INFO_TRANSIENT = "_opendistro_security_user_info";
+
+  /**
+   * Identity of the user of the current request.
+   *
+   * @param threadContext thread context of the request
+   * @return name, backend roles, roles and tenant of the user, or an empty string without the
+   *     security plugin
+   */
+  public static String current(ThreadContext threadContext) {
+    Object userInfo = threadContext.getTransient(USER_INFO_TRANSIENT);
+    return userInfo == null ? "" : userInfo.toString();
+  }
+}
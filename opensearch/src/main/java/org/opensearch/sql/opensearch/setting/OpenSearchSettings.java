@@ -305,6 +305,21 @@ public class OpenSearchSettings extends Settings {
           Setting.Property.NodeScope,
           Setting.Property.Dynamic);
 
+  public static final Setting<?> QUERY_SCAN_SLICES_SETTING =
+      Setting.intSetting(
+          Key.QUERY_SCAN_SLICES.getKeyValue(),
+          1,
+          1,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_SCAN_SHARD_ROUTING_SETTING =
+      Setting.boolSetting(
+          Key.QUERY_SCAN_SHARD_ROUTING.getKeyValue(),
+          false,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
   /** Construct OpenSearchSetting. The OpenSearchSetting must be singleton. */
   @SuppressWarnings("unchecked")
   public OpenSearchSettings(ClusterSettings clusterSettings) {
@@ -521,6 +536,18 @@ public class OpenSearchSettings extends Settings {
         Key.FIELD_TYPE_TOLERANCE,
         FIELD_TYPE_TOLERANCE_SETTING,
         new Updater(Key.FIELD_TYPE_TOLERANCE));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_SCAN_SLICES,
+        QUERY_SCAN_SLICES_SETTING,
+        new Updater(Key.QUERY_SCAN_SLICES));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_SCAN_SHARD_ROUTING,
+        QUERY_SCAN_SHARD_ROUTING_SETTING,
+        new Updater(Key.QUERY_SCAN_SHARD_ROUTING));
     defaultSettings = settingBuilder.build();
   }
 
@@ -608,6 +635,8 @@ public class OpenSearchSettings extends Settings {
         .add(SESSION_INACTIVITY_TIMEOUT_MILLIS_SETTING)
         .add(STREAMING_JOB_HOUSEKEEPER_INTERVAL_SETTING)
         .add(FIELD_TYPE_TOLERANCE_SETTING)
+        .add(QUERY_SCAN_SLICES_SETTING)
+        .add(QUERY_SCAN_SHARD_ROUTING_SETTING)
         .build();
   }
 
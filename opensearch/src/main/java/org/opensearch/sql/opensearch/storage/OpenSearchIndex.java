@@ -22,6 +22,7 @@ import org.opensearch.sql.calcite.plan.AbstractOpenSearchTable;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.executor.streaming.StreamingSource;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
@@ -37,6 +38,7 @@ import org.opensearch.sql.opensearch.request.system.OpenSearchDescribeIndexReque
 import org.opensearch.sql.opensearch.storage.scan.CalciteLogicalIndexScan;
 import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScan;
 import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScanBuilder;
+import org.opensearch.sql.opensearch.storage.streaming.OpenSearchIndexStreamingSource;
 import org.opensearch.sql.planner.DefaultImplementor;
 import org.opensearch.sql.planner.logical.LogicalAD;
 import org.opensearch.sql.planner.logical.LogicalEval;
@@ -190,6 +192,36 @@ public class OpenSearchIndex extends AbstractOpenSearchTable {
     return cachedMaxResultWindow;
   }
 
+  /**
+   * Tail the index by {@code @timestamp}, or by {@code _seq_no} if it resolves to a single index of
+   * a single shard and has no timestamp, as sequence numbers of different shards are unrelated.
+   * The offsets are searched and persisted through the node client, so the index can't be tailed
+   * through the REST client.
+   */
+  @Override
+  public StreamingSource asStreamingSource() {
+    try {
+      client.getNodeClient();
+    } catch (UnsupportedOperationException e) {
+      throw new UnsupportedOperationException(
+          String.format("index %s could only be tailed by the node client", indexName), e);
+    }
+    if (getFieldTypes().containsKey(OpenSearchIndexStreamingSource.TIMESTAMP_FIELD)) {
+      return new OpenSearchIndexStreamingSource(
+          client, indexName, OpenSearchIndexStreamingSource.TIMESTAMP_FIELD);
+    }
+    Map<String, Integer> shardCounts = client.getIndexShardCounts(indexName.getIndexNames());
+    boolean singleShard = shardCounts.size() == 1 && shardCounts.values().iterator().next() == 1;
+    if (!singleShard) {
+      throw new UnsupportedOperationException(
+          String.format(
+              "index %s could not be tailed without %s as it has multiple shards or indices",
+              indexName, OpenSearchIndexStreamingSource.TIMESTAMP_FIELD));
+    }
+    return new OpenSearchIndexStreamingSource(
+        client, indexName, OpenSearchIndexStreamingSource.SEQ_NO_FIELD);
+  }
+
   /** TODO: Push down operations to index scan operator as much as possible in future. */
   @Override
   public PhysicalPlan implement(LogicalPlan plan) {
@@ -171,6 +171,7 @@ public abstract class AbstractCalciteIndexScan extends TableScan {
     @Getter private AggPushDownAction aggPushDownAction;
     @Getter private boolean isLimitPushed = false;
     @Getter private boolean isProjectPushed = false;
+    @Getter private boolean isCollapseExpanded = false;
 
     @Override
     public PushDownContext clone() {
@@ -189,6 +190,10 @@ public abstract class AbstractCalciteIndexScan extends TableScan {
       if (pushDownAction.type == PushDownType.PROJECT) {
         isProjectPushed = true;
       }
+      if (pushDownAction.digest instanceof CollapseDigest collapse
+          && collapse.allowedDuplication() > 1) {
+        isCollapseExpanded = true;
+      }
       return super.add(pushDownAction);
     }
   }
@@ -373,6 +378,18 @@ public abstract class AbstractCalciteIndexScan extends TableScan {
     }
   }
 
+  /**
+   * Digest of a pushed down collapse. When more than one event of each group is allowed, the
+   * events are expanded from the inner hits of the collapsed hits, so that the size and from of the
+   * request count groups instead of rows.
+   */
+  public record CollapseDigest(String field, int allowedDuplication) {
+    @Override
+    public String toString() {
+      return field;
+    }
+  }
+
   public static class AggPushDownAction implements AbstractAction {
 
     private Pair<List<AggregationBuilder>, OpenSearchAggregationResponseParser> aggregationBuilder;
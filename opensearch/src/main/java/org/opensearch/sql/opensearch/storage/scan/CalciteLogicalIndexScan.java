@@ -5,6 +5,7 @@
 
 package org.opensearch.sql.opensearch.storage.scan;
 
+import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableList;
 import java.util.List;
 import java.util.Map;
@@ -36,6 +37,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.sql.calcite.CalcitePlanContext;
 import org.opensearch.sql.calcite.utils.OpenSearchTypeFactory;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.data.type.ExprCoreType;
@@ -160,7 +162,8 @@ public class CalciteLogicalIndexScan extends AbstractCalciteIndexScan {
         : conditions.get(0);
   }
 
-  public CalciteLogicalIndexScan pushDownCollapse(Project finalOutput, String fieldName) {
+  public CalciteLogicalIndexScan pushDownCollapse(
+      Project finalOutput, String fieldName, int allowedDuplication) {
     ExprType fieldType = osIndex.getFieldTypes().get(fieldName);
     if (fieldType == null) {
       // the fieldName must be one of index fields
@@ -193,8 +196,8 @@ public class CalciteLogicalIndexScan extends AbstractCalciteIndexScan {
     newScan.pushDownContext.add(
         PushDownAction.of(
             PushDownType.COLLAPSE,
-            fieldName,
-            requestBuilder -> requestBuilder.pushDownCollapse(field)));
+            new CollapseDigest(fieldName, allowedDuplication),
+            requestBuilder -> requestBuilder.pushDownCollapse(field, allowedDuplication)));
     return newScan;
   }
 
@@ -292,11 +295,29 @@ public class CalciteLogicalIndexScan extends AbstractCalciteIndexScan {
       if (LOG.isDebugEnabled()) {
         LOG.debug("Cannot pushdown the aggregate {}", aggregate, e);
       }
+      recordPushDownFallback(PushDownType.AGGREGATION, e);
     }
     return null;
   }
 
+  /** Record why an operator stays on the coordinator, so that explain could show it. */
+  private void recordPushDownFallback(PushDownType type, Exception e) {
+    CalcitePlanContext.unwrap(getCluster())
+        .ifPresent(
+            context ->
+                context
+                    .getPushDownFallbacks()
+                    .add(type + "->" + Throwables.getRootCause(e).getMessage()));
+  }
+
   public AbstractRelNode pushDownLimit(LogicalSort sort, Integer limit, Integer offset) {
+    if (pushDownContext.isCollapseExpanded()) {
+      // The size and from would count the collapsed groups instead of the rows expanded from them
+      if (LOG.isDebugEnabled()) {
+        LOG.debug("Cannot pushdown limit {} with offset {} after dedup N > 1", limit, offset);
+      }
+      return null;
+    }
     try {
       if (pushDownContext.isAggregatePushed()) {
         // Push down the limit into the aggregation bucket
@@ -23,8 +23,10 @@ import org.opensearch.sql.opensearch.request.OpenSearchQueryRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
 import org.opensearch.sql.opensearch.storage.OpenSearchStorageEngine;
+import org.opensearch.sql.opensearch.storage.streaming.OpenSearchIndexSplit;
 import org.opensearch.sql.planner.SerializablePlan;
 import org.opensearch.sql.storage.TableScanOperator;
+import org.opensearch.sql.storage.split.Split;
 
 /** OpenSearch index scan operator. */
 @EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = false)
@@ -93,6 +95,14 @@ public class OpenSearchIndexScan extends TableScanOperator implements Serializab
     }
   }
 
+  /** Restrict the scan to the documents of a streaming batch. */
+  @Override
+  public void add(Split split) {
+    if (split instanceof OpenSearchIndexSplit indexSplit) {
+      request.addFilter(indexSplit.toQuery());
+    }
+  }
+
   @Override
   public void close() {
     super.close();
@@ -105,6 +115,11 @@ public class OpenSearchIndexScan extends TableScanOperator implements Serializab
     return request.toString();
   }
 
+  /** Fetch the next batch in the background, for the next request of the cursor issued. */
+  public void prefetch() {
+    client.prefetch(request);
+  }
+
   /**
    * No-args constructor.
    *
@@ -126,9 +141,7 @@ public class OpenSearchIndexScan extends TableScanOperator implements Serializab
       read += currentRead;
     } while (read < reqSize);
 
-    var engine =
-        (OpenSearchStorageEngine)
-            ((PlanSerializer.CursorDeserializationStream) in).resolveObject("engine");
+    var engine = (OpenSearchStorageEngine) ((PlanSerializer.CursorInput) in).getEngine();
 
     client = engine.getClient();
     try (BytesStreamInput bsi = new BytesStreamInput(requestStream)) {
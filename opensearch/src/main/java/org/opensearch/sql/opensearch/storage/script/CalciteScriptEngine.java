@@ -34,12 +34,14 @@ import static org.opensearch.sql.data.type.ExprCoreType.SHORT;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
 import java.lang.reflect.Type;
 import java.time.chrono.ChronoZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.function.BiFunction;
 import lombok.RequiredArgsConstructor;
 import org.apache.calcite.DataContext;
 import org.apache.calcite.adapter.enumerable.EnumUtils;
@@ -104,15 +106,18 @@ public class CalciteScriptEngine implements ScriptEngine {
   public static final String EXPRESSION_LANG_NAME = "opensearch_calcite_expression";
 
   /** All supported script contexts and function to create factory from expression. */
-  private static final Map<
-          ScriptContext<?>, BiFunction<Function1<DataContext, Object[]>, RelDataType, Object>>
-      CONTEXTS =
-          new ImmutableMap.Builder<
-                  ScriptContext<?>,
-                  BiFunction<Function1<DataContext, Object[]>, RelDataType, Object>>()
-              .put(FilterScript.CONTEXT, CalciteFilterScriptFactory::new)
-              .put(AggregationScript.CONTEXT, CalciteAggregationScriptFactory::new)
-              .build();
+  private static final Map<ScriptContext<?>, ScriptFactoryCreator> CONTEXTS =
+      new ImmutableMap.Builder<ScriptContext<?>, ScriptFactoryCreator>()
+          .put(FilterScript.CONTEXT, CalciteFilterScriptFactory::new)
+          .put(AggregationScript.CONTEXT, CalciteAggregationScriptFactory::new)
+          .build();
+
+  /** Function to create script factory from the generated code. */
+  @FunctionalInterface
+  private interface ScriptFactoryCreator {
+    Object create(
+        Function1<DataContext, Object[]> function, RelDataType type, List<String> docValueFields);
+  }
 
   @Override
   public String getType() {
@@ -130,7 +135,7 @@ public class CalciteScriptEngine implements ScriptEngine {
 
     JavaTypeFactoryImpl typeFactory =
         new JavaTypeFactoryImpl(relJsonSerializer.getCluster().getTypeFactory().getTypeSystem());
-    RexToLixTranslator.InputGetter getter = new ScriptInputGetter(typeFactory, rowType, fieldTypes);
+    ScriptInputGetter getter = new ScriptInputGetter(typeFactory, rowType, fieldTypes);
     String code =
         CalciteScriptEngine.translate(
             relJsonSerializer.getCluster().getRexBuilder(), List.of(rexNode), getter, rowType);
@@ -139,7 +144,8 @@ public class CalciteScriptEngine implements ScriptEngine {
         new RexExecutable(code, "generated Rex code").getFunction();
 
     if (CONTEXTS.containsKey(context)) {
-      return context.factoryClazz.cast(CONTEXTS.get(context).apply(function, rexNode.getType()));
+      return context.factoryClazz.cast(
+          CONTEXTS.get(context).create(function, rexNode.getType(), getter.getDocValueFields()));
     }
     throw new IllegalStateException(
         String.format(
@@ -167,12 +173,14 @@ public class CalciteScriptEngine implements ScriptEngine {
   /**
    * Implementation of {@link org.apache.calcite.adapter.enumerable.RexToLixTranslator.InputGetter}
    * that reads the values of input fields by calling <code>
-   * {@link org.apache.calcite.DataContext#get}("inputRecord")</code>.
+   * {@link ScriptDataContext#getFromDocValue}(slot)</code>. Each referenced doc value field gets a
+   * slot, so the generated code doesn't look up fields by name on every document.
    */
   public static class ScriptInputGetter implements InputGetter {
     private final RelDataTypeFactory typeFactory;
     private final RelDataType rowType;
     private final Map<String, ExprType> fieldTypes;
+    private final List<String> docValueFields = new ArrayList<>();
 
     public ScriptInputGetter(
         RelDataTypeFactory typeFactory, RelDataType rowType, Map<String, ExprType> fieldTypes) {
@@ -195,9 +203,9 @@ public class CalciteScriptEngine implements ScriptEngine {
                   Types.lookupMethod(ScriptDataContext.class, "getFromSource", String.class),
                   Expressions.constant(fieldName))
               : Expressions.call(
-                  DataContext.ROOT,
-                  BuiltInMethod.DATA_CONTEXT_GET.method,
-                  Expressions.constant(referenceField));
+                  EnumUtils.convert(DataContext.ROOT, ScriptDataContext.class),
+                  Types.lookupMethod(ScriptDataContext.class, "getFromDocValue", int.class),
+                  Expressions.constant(docValueSlot(referenceField)));
       if (storageType == null) {
         final RelDataType fieldType = rowType.getFieldList().get(index).getType();
         storageType = ((JavaTypeFactory) typeFactory).getJavaClass(fieldType);
@@ -205,6 +213,20 @@ public class CalciteScriptEngine implements ScriptEngine {
       return EnumUtils.convert(tryConvertDocValue(fieldValueExpr, exprType), storageType);
     }
 
+    /** Get the doc value fields referenced by the generated code, indexed by slot. */
+    public List<String> getDocValueFields() {
+      return docValueFields;
+    }
+
+    private int docValueSlot(String field) {
+      int slot = docValueFields.indexOf(field);
+      if (slot < 0) {
+        docValueFields.add(field);
+        slot = docValueFields.size() - 1;
+      }
+      return slot;
+    }
+
     /**
      * DocValue only support long and double for integer and float, cast to the related type first
      */
@@ -223,13 +245,34 @@ public class CalciteScriptEngine implements ScriptEngine {
     private final SourceLookup sourceLookup;
     private final Map<String, Object> params;
 
+    /** Doc value fields referenced by the generated code, indexed by slot. */
+    private final List<String> docValueFields;
+
+    /** Doc values of each slot, resolved from the doc provider once per leaf. */
+    private final ScriptDocValues<?>[] docValues;
+
+    /** Document each slot's doc values is positioned on. */
+    private final int[] positions;
+
+    private int docId;
+
     public ScriptDataContext(
         Map<String, ScriptDocValues<?>> docProvider,
         SourceLookup sourceLookup,
-        Map<String, Object> params) {
+        Map<String, Object> params,
+        List<String> docValueFields) {
       this.docProvider = docProvider;
       this.sourceLookup = sourceLookup;
       this.params = params;
+      this.docValueFields = docValueFields;
+      this.docValues = new ScriptDocValues<?>[docValueFields.size()];
+      this.positions = new int[docValueFields.size()];
+      Arrays.fill(this.positions, -1);
+    }
+
+    /** Set the current document of the leaf. */
+    public void setDocument(int docId) {
+      this.docId = docId;
     }
 
     @Override
@@ -253,7 +296,32 @@ public class CalciteScriptEngine implements ScriptEngine {
       if (Variable.UTC_TIMESTAMP.camelName.equals(name))
         return params.get(Variable.UTC_TIMESTAMP.camelName);
 
-      ScriptDocValues<?> docValue = this.docProvider.get(name);
+      return valueOf(this.docProvider.get(name));
+    }
+
+    /**
+     * Get the value of the doc value field in the given slot. Doc values are resolved by name only
+     * on the first access in the leaf, and then advanced to the current document directly.
+     */
+    public Object getFromDocValue(int slot) {
+      ScriptDocValues<?> docValue = docValues[slot];
+      if (docValue == null) {
+        // The doc provider positions the doc values on the current document
+        docValue = this.docProvider.get(docValueFields.get(slot));
+        docValues[slot] = docValue;
+      } else if (positions[slot] != docId) {
+        try {
+          docValue.setNextDocId(docId);
+        } catch (IOException e) {
+          throw new IllegalStateException(
+              "Failed to read doc values of field " + docValueFields.get(slot), e);
+        }
+      }
+      positions[slot] = docId;
+      return valueOf(docValue);
+    }
+
+    private static Object valueOf(ScriptDocValues<?> docValue) {
       if (docValue == null || docValue.isEmpty()) {
         return null; // No way to differentiate null and missing from doc value
       }
@@ -11,6 +11,7 @@ import static org.opensearch.sql.data.type.ExprCoreType.TIME;
 import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
 
 import java.time.LocalTime;
+import java.util.List;
 import java.util.Map;
 import lombok.EqualsAndHashCode;
 import org.apache.calcite.DataContext;
@@ -33,25 +34,31 @@ class CalciteAggregationScript extends AggregationScript {
   /** Calcite Script. */
   private final CalciteScript calciteScript;
 
-  private final SourceLookup sourceLookup;
-
   private final RelDataType type;
 
   public CalciteAggregationScript(
       Function1<DataContext, Object[]> function,
       RelDataType type,
+      List<String> docValueFields,
       SearchLookup lookup,
       LeafReaderContext context,
       Map<String, Object> params) {
     super(params, lookup, context);
-    this.calciteScript = new CalciteScript(function, params);
-    this.sourceLookup = lookup.getLeafSearchLookup(context).source();
+    SourceLookup sourceLookup = lookup.getLeafSearchLookup(context).source();
+    this.calciteScript =
+        new CalciteScript(function, params, this.getDoc(), sourceLookup, docValueFields);
     this.type = type;
   }
 
+  @Override
+  public void setDocument(int docid) {
+    super.setDocument(docid);
+    calciteScript.setDocument(docid);
+  }
+
   @Override
   public Object execute() {
-    Object value = calciteScript.execute(this.getDoc(), this.sourceLookup)[0];
+    Object value = calciteScript.execute()[0];
     ExprType exprType = OpenSearchTypeFactory.convertRelDataTypeToExprType(type);
     // See logic in {@link ExpressionAggregationScript::execute}
     return switch ((ExprCoreType) exprType) {
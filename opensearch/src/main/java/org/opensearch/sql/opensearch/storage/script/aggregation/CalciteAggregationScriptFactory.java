@@ -5,6 +5,7 @@
 
 package org.opensearch.sql.opensearch.storage.script.aggregation;
 
+import java.util.List;
 import java.util.Map;
 import lombok.EqualsAndHashCode;
 import org.apache.calcite.DataContext;
@@ -22,10 +23,14 @@ public class CalciteAggregationScriptFactory implements AggregationScript.Factor
 
   private final RelDataType type;
 
+  /** Doc value fields referenced by the generated code. */
+  private final List<String> docValueFields;
+
   public CalciteAggregationScriptFactory(
-      Function1<DataContext, Object[]> function, RelDataType type) {
+      Function1<DataContext, Object[]> function, RelDataType type, List<String> docValueFields) {
     this.function = function;
     this.type = type;
+    this.docValueFields = docValueFields;
   }
 
   @Override
@@ -36,6 +41,6 @@ public class CalciteAggregationScriptFactory implements AggregationScript.Factor
 
   @Override
   public AggregationScript.LeafFactory newFactory(Map<String, Object> params, SearchLookup lookup) {
-    return new CalciteAggregationScriptLeafFactory(function, type, params, lookup);
+    return new CalciteAggregationScriptLeafFactory(function, type, docValueFields, params, lookup);
   }
 }
@@ -5,6 +5,7 @@
 
 package org.opensearch.sql.opensearch.storage.script.aggregation;
 
+import java.util.List;
 import java.util.Map;
 import org.apache.calcite.DataContext;
 import org.apache.calcite.linq4j.function.Function1;
@@ -19,6 +20,9 @@ class CalciteAggregationScriptLeafFactory implements AggregationScript.LeafFacto
   private final Function1<DataContext, Object[]> function;
   private final RelDataType type;
 
+  /** Doc value fields referenced by the function. */
+  private final List<String> docValueFields;
+
   /** Parameters for the calcite script. */
   private final Map<String, Object> params;
 
@@ -28,17 +32,19 @@ class CalciteAggregationScriptLeafFactory implements AggregationScript.LeafFacto
   public CalciteAggregationScriptLeafFactory(
       Function1<DataContext, Object[]> function,
       RelDataType type,
+      List<String> docValueFields,
       Map<String, Object> params,
       SearchLookup lookup) {
     this.function = function;
     this.type = type;
+    this.docValueFields = docValueFields;
     this.params = params;
     this.lookup = lookup;
   }
 
   @Override
   public AggregationScript newInstance(LeafReaderContext ctx) {
-    return new CalciteAggregationScript(function, type, lookup, ctx, params);
+    return new CalciteAggregationScript(function, type, docValueFields, lookup, ctx, params);
   }
 
   @Override
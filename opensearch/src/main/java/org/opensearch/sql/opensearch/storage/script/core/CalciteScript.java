@@ -7,6 +7,7 @@ package org.opensearch.sql.opensearch.storage.script.core;
 
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.List;
 import java.util.Map;
 import lombok.EqualsAndHashCode;
 import org.apache.calcite.DataContext;
@@ -18,6 +19,10 @@ import org.opensearch.sql.opensearch.storage.script.CalciteScriptEngine.ScriptDa
 /**
  * Calcite script executor that executes the generated code on each document and determine if the
  * document is supposed to be filtered out or not.
+ *
+ * <p>The script is bound to the doc lookup and source lookup of a single leaf. Both of them are
+ * positioned on the current document by OpenSearch, so the data context and the privileged action
+ * are created once per leaf and reused for every document in it.
  */
 @EqualsAndHashCode(callSuper = false)
 public class CalciteScript {
@@ -27,22 +32,48 @@ public class CalciteScript {
 
   private final Map<String, Object> params;
 
-  /** Expression constructor. */
-  public CalciteScript(Function1<DataContext, Object[]> function, Map<String, Object> params) {
+  /** Data context of the leaf. */
+  @EqualsAndHashCode.Exclude private final ScriptDataContext dataContext;
+
+  /** Privileged action evaluating the function on the data context of the leaf. */
+  @EqualsAndHashCode.Exclude private final PrivilegedAction<Object[]> evaluation;
+
+  /**
+   * Expression constructor.
+   *
+   * @param function generated code to execute
+   * @param params script parameters
+   * @param docProvider doc look up of the leaf
+   * @param sourceLookup source look up of the leaf
+   * @param docValueFields doc value fields referenced by the function, indexed by slot
+   */
+  public CalciteScript(
+      Function1<DataContext, Object[]> function,
+      Map<String, Object> params,
+      Map<String, ScriptDocValues<?>> docProvider,
+      SourceLookup sourceLookup,
+      List<String> docValueFields) {
     this.function = function;
     this.params = params;
+    this.dataContext = new ScriptDataContext(docProvider, sourceLookup, params, docValueFields);
+    this.evaluation = () -> function.apply(dataContext);
+  }
+
+  /**
+   * Move to the document to evaluate next.
+   *
+   * @param docId document id in the leaf
+   */
+  public void setDocument(int docId) {
+    dataContext.setDocument(docId);
   }
 
   /**
-   * Evaluate on the doc generate by the doc provider.
+   * Evaluate on the current doc of the bound doc provider.
    *
-   * @param docProvider doc look up
-   * @param sourceLookup source look up
    * @return expr value
    */
-  public Object[] execute(Map<String, ScriptDocValues<?>> docProvider, SourceLookup sourceLookup) {
-    return AccessController.doPrivileged(
-        (PrivilegedAction<Object[]>)
-            () -> function.apply(new ScriptDataContext(docProvider, sourceLookup, params)));
+  public Object[] execute() {
+    return AccessController.doPrivileged(evaluation);
   }
 }
@@ -5,6 +5,7 @@
 
 package org.opensearch.sql.opensearch.storage.script.filter;
 
+import java.util.List;
 import java.util.Map;
 import lombok.EqualsAndHashCode;
 import org.apache.calcite.DataContext;
@@ -25,22 +26,28 @@ class CalciteFilterScript extends FilterScript {
   /** Calcite Script. */
   private final CalciteScript calciteScript;
 
-  private final SourceLookup sourceLookup;
-
   public CalciteFilterScript(
       Function1<DataContext, Object[]> function,
+      List<String> docValueFields,
       SearchLookup lookup,
       LeafReaderContext context,
       Map<String, Object> params) {
     super(params, lookup, context);
-    this.calciteScript = new CalciteScript(function, params);
     // TODO: we'd better get source from the leafLookup of super once it's available
-    this.sourceLookup = lookup.getLeafSearchLookup(context).source();
+    SourceLookup sourceLookup = lookup.getLeafSearchLookup(context).source();
+    this.calciteScript =
+        new CalciteScript(function, params, this.getDoc(), sourceLookup, docValueFields);
+  }
+
+  @Override
+  public void setDocument(int docid) {
+    super.setDocument(docid);
+    calciteScript.setDocument(docid);
   }
 
   @Override
   public boolean execute() {
-    Object result = calciteScript.execute(this.getDoc(), this.sourceLookup)[0];
+    Object result = calciteScript.execute()[0];
     // The result should be type of BOOLEAN_NULLABLE. Treat it as false if null
     return result != null && (boolean) result;
   }
@@ -5,6 +5,7 @@
 
 package org.opensearch.sql.opensearch.storage.script.filter;
 
+import java.util.List;
 import java.util.Map;
 import lombok.EqualsAndHashCode;
 import org.apache.calcite.DataContext;
@@ -20,8 +21,13 @@ public class CalciteFilterScriptFactory implements FilterScript.Factory {
   /** Generated code of calcite to execute. */
   private final Function1<DataContext, Object[]> function;
 
-  public CalciteFilterScriptFactory(Function1<DataContext, Object[]> function, RelDataType type) {
+  /** Doc value fields referenced by the generated code. */
+  private final List<String> docValueFields;
+
+  public CalciteFilterScriptFactory(
+      Function1<DataContext, Object[]> function, RelDataType type, List<String> docValueFields) {
     this.function = function;
+    this.docValueFields = docValueFields;
   }
 
   @Override
@@ -32,6 +38,6 @@ public class CalciteFilterScriptFactory implements FilterScript.Factory {
 
   @Override
   public FilterScript.LeafFactory newFactory(Map<String, Object> params, SearchLookup lookup) {
-    return new CalciteFilterScriptLeafFactory(function, params, lookup);
+    return new CalciteFilterScriptLeafFactory(function, docValueFields, params, lookup);
   }
 }
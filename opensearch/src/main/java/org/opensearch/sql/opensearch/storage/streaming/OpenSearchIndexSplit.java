@@ -0,0 +1,52 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.streaming;
+
+import static org.opensearch.sql.opensearch.storage.streaming.OpenSearchIndexStreamingSource.SEQ_NO_FIELD;
+
+import lombok.Data;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.index.query.RangeQueryBuilder;
+import org.opensearch.sql.storage.split.Split;
+
+/**
+ * Split of a streaming batch over an OpenSearch index, which covers the documents whose tracking
+ * field is in the range of (start, end].
+ */
+@Data
+public class OpenSearchIndexSplit implements Split {
+
+  /** Index tailed by the stream. */
+  private final String indexName;
+
+  /** Field tracking the progress of the stream, either a date field or {@code _seq_no}. */
+  private final String trackingField;
+
+  /** Exclusive start of the batch, or null for the first batch. */
+  private final Long start;
+
+  /** Inclusive end of the batch. */
+  private final long end;
+
+  @Override
+  public String getSplitId() {
+    return String.format("%s[%s](%s,%d]", indexName, trackingField, start, end);
+  }
+
+  /** Filter matching the documents of the batch. */
+  public QueryBuilder toQuery() {
+    RangeQueryBuilder range = QueryBuilders.rangeQuery(trackingField).lte(end);
+    if (start != null) {
+      range.gt(start);
+    }
+    if (!SEQ_NO_FIELD.equals(trackingField)) {
+      // Offsets of a date field are in epoch millis regardless of the format in its mapping
+      range.format("epoch_millis");
+    }
+    return range;
+  }
+}
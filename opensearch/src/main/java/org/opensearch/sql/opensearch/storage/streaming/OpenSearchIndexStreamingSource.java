@@ -0,0 +1,83 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.streaming;
+
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.metrics.Max;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.sql.executor.QueryId;
+import org.opensearch.sql.executor.streaming.Batch;
+import org.opensearch.sql.executor.streaming.MetadataLog;
+import org.opensearch.sql.executor.streaming.Offset;
+import org.opensearch.sql.executor.streaming.StreamingSource;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+
+/**
+ * Streaming source tailing an OpenSearch index. The offset of the stream is the maximum value of a
+ * tracking field, {@code @timestamp} in epoch millis or {@code _seq_no}, and each batch covers the
+ * documents between the last committed offset and the latest one.
+ *
+ * <p>Documents are expected to arrive in the order of the tracking field: a document indexed with
+ * a value below the committed offset is not processed. As {@code _seq_no} is only ordered within a
+ * shard, it can only track indices of a single shard.
+ */
+@ToString(onlyExplicitlyIncluded = true)
+@RequiredArgsConstructor
+public class OpenSearchIndexStreamingSource implements StreamingSource {
+
+  public static final String TIMESTAMP_FIELD = "@timestamp";
+
+  public static final String SEQ_NO_FIELD = "_seq_no";
+
+  private static final String MAX_OFFSET = "max_offset";
+
+  private final OpenSearchClient client;
+
+  @ToString.Include private final OpenSearchRequest.IndexName indexName;
+
+  @ToString.Include private final String trackingField;
+
+  @Override
+  public Optional<Offset> getLatestOffset() {
+    SearchSourceBuilder source =
+        new SearchSourceBuilder()
+            .size(0)
+            .trackTotalHits(false)
+            .aggregation(AggregationBuilders.max(MAX_OFFSET).field(trackingField));
+    SearchResponse response =
+        client
+            .getNodeClient()
+            .search(new SearchRequest(indexName.getIndexNames()).source(source))
+            .actionGet();
+    Max max = response.getAggregations().get(MAX_OFFSET);
+    // Max of no document is negative infinity
+    return Double.isInfinite(max.getValue())
+        ? Optional.empty()
+        : Optional.of(new Offset((long) max.getValue()));
+  }
+
+  /** The offsets are persisted in a system index, so a restarted query resumes from them. */
+  @Override
+  public MetadataLog<Offset> createMetadataLog(QueryId queryId, String logName) {
+    return new OpenSearchMetadataLog(client, queryId.getQueryId(), logName);
+  }
+
+  @Override
+  public Batch getBatch(Optional<Offset> start, Offset end) {
+    return new Batch(
+        new OpenSearchIndexSplit(
+            indexName.toString(),
+            trackingField,
+            start.map(Offset::getOffset).orElse(null),
+            end.getOffset()));
+  }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.streaming;
+
+import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.delete.DeleteRequest;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.WriteRequest;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.index.engine.VersionConflictEngineException;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.SortOrder;
+import org.opensearch.sql.executor.streaming.MetadataLog;
+import org.opensearch.sql.executor.streaming.Offset;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.transport.client.node.NodeClient;
+
+/**
+ * {@link MetadataLog} of stream offsets persisted in a system index, so that a streaming query
+ * resumes from its last batch instead of rescanning its source after a restart. The latest entries
+ * of the log are recovered from the index on creation and then served from memory, because the
+ * streaming query is the only writer of its log. Entries are refreshed as soon as written, so that
+ * a query restarted right after a batch recovers it.
+ */
+public class OpenSearchMetadataLog implements MetadataLog<Offset> {
+
+  /** System index of the offset logs of all the streaming queries. */
+  public static final String METADATA_INDEX = ".opensearch-sql-streaming-metadata";
+
+  /** Entries recovered on creation, more than the few latest batches a streaming query reads. */
+  static final int MAX_RECOVERED_ENTRIES = 1000;
+
+  private static final long MIN_ACCEPTABLE_ID = 0L;
+
+  private static final String QUERY_ID = "queryId";
+  private static final String LOG_NAME = "logName";
+  private static final String BATCH_ID = "batchId";
+  private static final String OFFSET = "offset";
+
+  private static final Map<String, Object> MAPPING =
+      Map.of(
+          "dynamic",
+          "strict",
+          "properties",
+          Map.of(
+              QUERY_ID, Map.of("type", "keyword"),
+              LOG_NAME, Map.of("type", "keyword"),
+              BATCH_ID, Map.of("type", "long"),
+              OFFSET, Map.of("type", "long")));
+
+  private final OpenSearchClient client;
+
+  private final NodeClient nodeClient;
+
+  private final String queryId;
+
+  private final String logName;
+
+  private final SortedMap<Long, Offset> metadataMap = new TreeMap<>();
+
+  /**
+   * Open the log of a streaming query, creating the system index if absent.
+   *
+   * @param client OpenSearch client
+   * @param queryId id of the streaming query, stable across restarts
+   * @param logName name of the log in the query, e.g. offsets or commits
+   */
+  public OpenSearchMetadataLog(OpenSearchClient client, String queryId, String logName) {
+    this.client = client;
+    this.nodeClient = client.getNodeClient();
+    this.queryId = queryId;
+    this.logName = logName;
+    createIndexIfAbsent();
+    recover();
+  }
+
+  @Override
+  public boolean add(Long batchId, Offset metadata) {
+    Preconditions.checkArgument(batchId >= MIN_ACCEPTABLE_ID, "batch id must large or equal 0");
+
+    if (metadataMap.containsKey(batchId)) {
+      return false;
+    }
+    IndexRequest request =
+        new IndexRequest(METADATA_INDEX)
+            .id(docId(batchId))
+            .opType(DocWriteRequest.OpType.CREATE)
+            .setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE)
+            .source(
+                Map.of(
+                    QUERY_ID, queryId,
+                    LOG_NAME, logName,
+                    BATCH_ID, batchId,
+                    OFFSET, metadata.getOffset()));
+    try {
+      asPlugin(() -> nodeClient.index(request).actionGet());
+    } catch (VersionConflictEngineException e) {
+      // Added by a previous run whose entries were not all recovered
+      return false;
+    }
+    metadataMap.put(batchId, metadata);
+    return true;
+  }
+
+  @Override
+  public Optional<Offset> get(Long batchId) {
+    return Optional.ofNullable(metadataMap.get(batchId));
+  }
+
+  @Override
+  public List<Offset> get(Optional<Long> startBatchId, Optional<Long> endBatchId) {
+    Long s = startBatchId.orElse(MIN_ACCEPTABLE_ID);
+    Long e = endBatchId.map(i -> i + 1).orElse(Long.MAX_VALUE);
+    return new ArrayList<>(metadataMap.subMap(s, e).values());
+  }
+
+  @Override
+  public Optional<Pair<Long, Offset>> getLatest() {
+    if (metadataMap.isEmpty()) {
+      return Optional.empty();
+    }
+    Long latestId = metadataMap.lastKey();
+    return Optional.of(Pair.of(latestId, metadataMap.get(latestId)));
+  }
+
+  @Override
+  public void purge(Long batchId) {
+    SortedMap<Long, Offset> purged = metadataMap.headMap(batchId);
+    if (purged.isEmpty()) {
+      return;
+    }
+    BulkRequest bulk = new BulkRequest().setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
+    purged.keySet().forEach(id -> bulk.add(new DeleteRequest(METADATA_INDEX, docId(id))));
+    BulkResponse response = asPlugin(() -> nodeClient.bulk(bulk).actionGet());
+    if (response.hasFailures()) {
+      throw new IllegalStateException(
+          String.format(
+              "Failed to purge streaming metadata of query [%s]: %s",
+              queryId, response.buildFailureMessage()));
+    }
+    purged.clear();
+  }
+
+  private String docId(long batchId) {
+    return String.format("%s_%s_%d", queryId, logName, batchId);
+  }
+
+  /** Access the system index as the plugin, whatever the permissions of the user of the query. */
+  private <T> T asPlugin(Supplier<T> action) {
+    try (ThreadContext.StoredContext ignored =
+        nodeClient.threadPool().getThreadContext().stashContext()) {
+      return action.get();
+    }
+  }
+
+  private void createIndexIfAbsent() {
+    if (asPlugin(() -> client.exists(METADATA_INDEX))) {
+      return;
+    }
+    try {
+      asPlugin(
+          () -> {
+            client.createIndex(METADATA_INDEX, MAPPING);
+            return null;
+          });
+    } catch (IllegalStateException e) {
+      // Created concurrently by another streaming query
+      if (!asPlugin(() -> client.exists(METADATA_INDEX))) {
+        throw e;
+      }
+    }
+  }
+
+  private void recover() {
+    SearchSourceBuilder source =
+        new SearchSourceBuilder()
+            .query(
+                QueryBuilders.boolQuery()
+                    .filter(QueryBuilders.termQuery(QUERY_ID, queryId))
+                    .filter(QueryBuilders.termQuery(LOG_NAME, logName)))
+            .sort(BATCH_ID, SortOrder.DESC)
+            .size(MAX_RECOVERED_ENTRIES);
+    SearchResponse response =
+        asPlugin(
+            () -> nodeClient.search(new SearchRequest(METADATA_INDEX).source(source)).actionGet());
+    for (SearchHit hit : response.getHits().getHits()) {
+      Map<String, Object> entry = hit.getSourceAsMap();
+      metadataMap.put(
+          ((Number) entry.get(BATCH_ID)).longValue(),
+          new Offset(((Number) entry.get(OFFSET)).longValue()));
+    }
+  }
+}
@@ -285,6 +285,23 @@ class OpenSearchNodeClientTest {
     assertThrows(IllegalStateException.class, () -> client.getIndexMaxResultWindows(indexName));
   }
 
+  @Test
+  void get_index_shard_counts() throws IOException {
+    URL url = Resources.getResource(TEST_MAPPING_SETTINGS_FILE);
+    String indexMetadata = Resources.toString(url, Charsets.UTF_8);
+    String indexName = "accounts";
+    mockNodeClientSettings(indexName, indexMetadata);
+
+    assertEquals(Map.of(indexName, 5), client.getIndexShardCounts(indexName));
+  }
+
+  @Test
+  void get_index_shard_counts_with_exception() {
+    when(nodeClient.admin().indices()).thenThrow(RuntimeException.class);
+
+    assertThrows(IllegalStateException.class, () -> client.getIndexShardCounts("test"));
+  }
+
   /** Jacoco enforce this constant lambda be tested. */
   @Test
   void test_all_fields_predicate() {
@@ -281,6 +281,24 @@ class OpenSearchRestClientTest {
     assertThrows(IllegalStateException.class, () -> client.getIndexMaxResultWindows("test"));
   }
 
+  @Test
+  void get_index_shard_counts() throws IOException {
+    GetSettingsResponse response = mock(GetSettingsResponse.class);
+    Settings shardSettings = Settings.builder().put("index.number_of_shards", 3).build();
+    when(response.getIndexToSettings()).thenReturn(mockSettings("test", shardSettings));
+    when(restClient.indices().getSettings(any(GetSettingsRequest.class), any()))
+        .thenReturn(response);
+
+    assertEquals(Map.of("test", 3), client.getIndexShardCounts("test"));
+  }
+
+  @Test
+  void get_index_shard_counts_with_IOException() throws IOException {
+    when(restClient.indices().getSettings(any(GetSettingsRequest.class), any()))
+        .thenThrow(new IOException());
+    assertThrows(IllegalStateException.class, () -> client.getIndexShardCounts("test"));
+  }
+
   @Test
   void search() throws IOException {
     // Mock first scroll request
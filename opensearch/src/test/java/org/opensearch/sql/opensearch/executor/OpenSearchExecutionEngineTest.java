@@ -12,8 +12,11 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.common.setting.Settings.Key.SQL_CURSOR_KEEP_ALIVE;
@@ -34,6 +37,7 @@ import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.common.unit.TimeValue;
@@ -43,12 +47,14 @@ import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.executor.ExecutionContext;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
+import org.opensearch.sql.executor.pagination.Cursor;
 import org.opensearch.sql.executor.pagination.PlanSerializer;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.executor.protector.OpenSearchExecutionProtector;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
 import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScan;
 import org.opensearch.sql.planner.SerializablePlan;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
@@ -141,6 +147,66 @@ class OpenSearchExecutionEngineTest {
     assertEquals(expected, actual);
   }
 
+  @Test
+  void execute_with_cursor_prefetches_next_page_of_index_scan() {
+    OpenSearchRequest request = mock(OpenSearchRequest.class);
+    when(request.hasAnotherBatch()).thenReturn(true);
+    when(client.search(request)).thenReturn(mock(OpenSearchResponse.class, RETURNS_DEEP_STUBS));
+    var plan = new OpenSearchIndexScan(client, request);
+    when(protector.protect(plan)).thenReturn(plan);
+
+    OpenSearchExecutionEngine executor =
+        new OpenSearchExecutionEngine(client, protector, new PlanSerializer(null));
+    AtomicReference<QueryResponse> result = new AtomicReference<>();
+    executor.execute(
+        plan,
+        new ResponseListener<>() {
+          @Override
+          public void onResponse(QueryResponse response) {
+            result.set(response);
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            fail("Error occurred during execution", e);
+          }
+        });
+
+    assertTrue(result.get().getCursor().toString().startsWith("n:"));
+    InOrder inOrder = inOrder(request, client);
+    inOrder.verify(request).hasAnotherBatch();
+    inOrder.verify(client).prefetch(request);
+    inOrder.verify(client).cleanup(request);
+  }
+
+  @Test
+  void execute_without_cursor_does_not_prefetch() {
+    OpenSearchRequest request = mock(OpenSearchRequest.class);
+    when(client.search(request)).thenReturn(mock(OpenSearchResponse.class, RETURNS_DEEP_STUBS));
+    var plan = new OpenSearchIndexScan(client, request);
+    when(protector.protect(plan)).thenReturn(plan);
+
+    OpenSearchExecutionEngine executor =
+        new OpenSearchExecutionEngine(client, protector, new PlanSerializer(null));
+    AtomicReference<QueryResponse> result = new AtomicReference<>();
+    executor.execute(
+        plan,
+        new ResponseListener<>() {
+          @Override
+          public void onResponse(QueryResponse response) {
+            result.set(response);
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            fail("Error occurred during execution", e);
+          }
+        });
+
+    assertEquals(Cursor.None, result.get().getCursor());
+    verify(client, never()).prefetch(any());
+  }
+
   @Test
   void execute_with_failure() {
     PhysicalPlan plan = mock(PhysicalPlan.class);
@@ -69,6 +69,7 @@ import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
 import org.opensearch.sql.opensearch.setting.OpenSearchSettings;
 import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScan;
 import org.opensearch.sql.planner.physical.CursorCloseOperator;
+import org.opensearch.sql.planner.physical.DedupeOperator;
 import org.opensearch.sql.planner.physical.NestedOperator;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlanDSL;
@@ -299,6 +300,17 @@ class OpenSearchExecutionProtectorTest {
         executionProtector.visitNested(nestedOperator, values(emptyList())));
   }
 
+  @Test
+  void test_visitDedupe() {
+    DedupeOperator dedupeOperator =
+        PhysicalPlanDSL.dedupe(PhysicalPlanDSL.values(emptyList()), ref("name", STRING));
+
+    DedupeOperator protectedDedupe =
+        (DedupeOperator) executionProtector.visitDedupe(dedupeOperator, null);
+    assertEquals(dedupeOperator, protectedDedupe);
+    assertSame(resourceMonitor, protectedDedupe.getResourceMonitor());
+  }
+
   @Test
   void do_nothing_with_CursorCloseOperator_and_children() {
     var child = mock(PhysicalPlan.class);
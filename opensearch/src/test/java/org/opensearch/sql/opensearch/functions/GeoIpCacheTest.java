@@ -0,0 +1,118 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.functions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.common.action.ActionFuture;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionResponse;
+import org.opensearch.geospatial.action.IpEnrichmentAction;
+import org.opensearch.geospatial.action.IpEnrichmentRequest;
+import org.opensearch.geospatial.action.IpEnrichmentResponse;
+import org.opensearch.sql.data.model.ExprStringValue;
+import org.opensearch.sql.opensearch.functions.GeoIpFunction.GeoIpOptions;
+import org.opensearch.sql.opensearch.security.SecurityUser;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.client.node.NodeClient;
+
+@ExtendWith(MockitoExtension.class)
+class GeoIpCacheTest {
+  @Mock private NodeClient nodeClient;
+
+  @Mock private ActionFuture<ActionResponse> actionFuture;
+
+  @Mock private ThreadPool threadPool;
+
+  private final ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+
+  @BeforeEach
+  void setUp() {
+    GeoIpCache.invalidateAll();
+  }
+
+  @SneakyThrows
+  @Test
+  void repeatedIpIsLookedUpOnce() {
+    mockThreadContext();
+    when(nodeClient.execute(eq(IpEnrichmentAction.INSTANCE), any())).thenReturn(actionFuture);
+    when(actionFuture.get())
+        .thenReturn(new IpEnrichmentResponse(Map.of("country_name", "Canada")));
+
+    for (int i = 0; i < 3; i++) {
+      assertEquals(
+          Map.of("country_name", "Canada"),
+          GeoIpCache.getGeoLocationData(nodeClient, "my-datasource", "192.168.1.1"));
+    }
+    verify(nodeClient, times(1)).execute(eq(IpEnrichmentAction.INSTANCE), any());
+  }
+
+  @SneakyThrows
+  @Test
+  void lookupsAreKeyedByDatasourceAndIp() {
+    mockThreadContext();
+    when(nodeClient.execute(eq(IpEnrichmentAction.INSTANCE), any())).thenReturn(actionFuture);
+    when(actionFuture.get())
+        .thenReturn(new IpEnrichmentResponse(Map.of("country_name", "Canada")));
+
+    GeoIpCache.getGeoLocationData(nodeClient, "my-datasource", "192.168.1.1");
+    GeoIpCache.getGeoLocationData(nodeClient, "my-datasource", "192.168.1.2");
+    GeoIpCache.getGeoLocationData(nodeClient, "other-datasource", "192.168.1.1");
+    verify(nodeClient, times(3)).execute(eq(IpEnrichmentAction.INSTANCE), any());
+    verify(nodeClient, times(2))
+        .execute(
+            eq(IpEnrichmentAction.INSTANCE),
+            argThat(
+                request ->
+                    "192.168.1.1".equals(((IpEnrichmentRequest) request).getIpString())));
+  }
+
+  @SneakyThrows
+  @Test
+  void lookupsAreNotSharedAcrossUsers() {
+    mockThreadContext();
+    when(nodeClient.execute(eq(IpEnrichmentAction.INSTANCE), any())).thenReturn(actionFuture);
+    when(actionFuture.get())
+        .thenReturn(new IpEnrichmentResponse(Map.of("country_name", "Canada")));
+
+    for (String user : new String[] {"alice||role1|", "bob||role2|", "alice||role1|"}) {
+      try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+        threadContext.putTransient(SecurityUser.USER_INFO_TRANSIENT, user);
+        GeoIpCache.getGeoLocationData(nodeClient, "my-datasource", "192.168.1.1");
+      }
+    }
+    verify(nodeClient, times(2)).execute(eq(IpEnrichmentAction.INSTANCE), any());
+  }
+
+  @Test
+  void optionsSelectFields() {
+    Map<String, Object> geoLocationData = Map.of("country_name", "Canada", "city_name", "Ottawa");
+
+    assertEquals(
+        Map.of("city_name", new ExprStringValue("Ottawa")),
+        new GeoIpOptions("'city_name, location'").select(geoLocationData));
+    assertEquals(2, GeoIpOptions.ALL.select(geoLocationData).size());
+  }
+
+  private void mockThreadContext() {
+    when(nodeClient.threadPool()).thenReturn(threadPool);
+    when(threadPool.getThreadContext()).thenReturn(threadContext);
+  }
+}
@@ -5,6 +5,7 @@
 
 package org.opensearch.sql.opensearch.planner.physical;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -12,6 +13,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.utils.MLCommonsConstants.ACTION;
 import static org.opensearch.sql.utils.MLCommonsConstants.ALGO;
@@ -24,6 +27,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.runner.RunWith;
@@ -144,6 +148,35 @@ public class MLOperatorTest {
     }
   }
 
+  @Test
+  public void testOpenPredictInBatches() {
+    setUpPredict();
+    int rows = MLCommonsOperatorActions.PREDICT_BATCH_SIZE + 1;
+    AtomicInteger remaining = new AtomicInteger(rows);
+    when(input.hasNext()).thenAnswer(invocation -> remaining.get() > 0);
+    when(input.next())
+        .thenAnswer(
+            invocation -> {
+              remaining.decrementAndGet();
+              return ExprTupleValue.fromExprValueMap(
+                  ImmutableMap.of("k1", new ExprIntegerValue(2)));
+            });
+    when(actionFuture.actionGet(anyLong(), eq(TimeUnit.SECONDS)))
+        .thenReturn(predictionOutput(MLCommonsOperatorActions.PREDICT_BATCH_SIZE))
+        .thenReturn(predictionOutput(1));
+    try (MockedStatic<MLClient> mlClientMockedStatic = Mockito.mockStatic(MLClient.class)) {
+      when(MLClient.getMLClient(any(NodeClient.class))).thenReturn(machineLearningNodeClient);
+      mlOperator.open();
+      int results = 0;
+      while (mlOperator.hasNext()) {
+        assertNotNull(mlOperator.next());
+        results++;
+      }
+      assertEquals(rows, results);
+      verify(machineLearningNodeClient, times(2)).run(any(MLInput.class), any());
+    }
+  }
+
   @Test
   public void testOpenTrain() {
     setUpTrain();
@@ -156,6 +189,16 @@ public class MLOperatorTest {
     }
   }
 
+  private MLOutput predictionOutput(int rows) {
+    return MLPredictionOutput.builder()
+        .taskId("test_task_id")
+        .status("test_status")
+        .predictionResult(
+            DataFrameBuilder.load(
+                Collections.nCopies(rows, ImmutableMap.<String, Object>of("ClusterID", 1))))
+        .build();
+  }
+
   @Test
   public void testAccept() {
     setUpPredict();
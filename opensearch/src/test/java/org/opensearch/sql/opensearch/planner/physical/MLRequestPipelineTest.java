@@ -0,0 +1,102 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.planner.physical;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.common.action.ActionFuture;
+
+class MLRequestPipelineTest {
+
+  private final List<PlainActionFuture<String>> requests = new ArrayList<>();
+
+  private boolean respond = true;
+
+  @Test
+  void keep_bounded_requests_in_flight_and_return_outputs_in_input_order() {
+    MLRequestPipeline<Integer, String> pipeline =
+        MLRequestPipeline.start(IntStream.range(0, 5).iterator(), this::send, 2);
+    assertEquals(2, requests.size());
+
+    assertEquals(Pair.of(0, "output0"), pipeline.next());
+    // Next request is sent once the earliest one completes
+    assertEquals(3, requests.size());
+
+    List<Pair<Integer, String>> outputs = new ArrayList<>();
+    while (pipeline.hasNext()) {
+      outputs.add(pipeline.next());
+    }
+    assertEquals(
+        List.of(
+            Pair.of(1, "output1"),
+            Pair.of(2, "output2"),
+            Pair.of(3, "output3"),
+            Pair.of(4, "output4")),
+        outputs);
+    assertThrows(NoSuchElementException.class, pipeline::next);
+  }
+
+  @Test
+  void count_the_request_waited_for_as_in_flight() {
+    List<Integer> sentWhileWaiting = new ArrayList<>();
+    MLRequestPipeline<Integer, String> pipeline =
+        MLRequestPipeline.start(
+            IntStream.range(0, 3).iterator(),
+            input -> {
+              ActionFuture<String> request = mock();
+              when(request.actionGet(anyLong(), any(TimeUnit.class)))
+                  .thenAnswer(
+                      invocation -> {
+                        sentWhileWaiting.add(requests.size());
+                        return "output" + input;
+                      });
+              requests.add(null);
+              return request;
+            },
+            2);
+
+    while (pipeline.hasNext()) {
+      pipeline.next();
+    }
+    // At most 2 requests are sent and not consumed yet while waiting for the earliest one
+    assertEquals(List.of(2, 3, 3), sentWhileWaiting);
+  }
+
+  @Test
+  void abandon_requests_in_flight() {
+    respond = false;
+    MLRequestPipeline<Integer, String> pipeline =
+        MLRequestPipeline.start(IntStream.range(0, 5).iterator(), this::send, 3);
+
+    pipeline.abandon();
+
+    assertEquals(3, requests.size());
+    assertTrue(requests.stream().allMatch(PlainActionFuture::isCancelled));
+  }
+
+  private PlainActionFuture<String> send(int input) {
+    PlainActionFuture<String> request = PlainActionFuture.newFuture();
+    if (respond) {
+      request.onResponse("output" + input);
+    }
+    requests.add(request);
+    return request;
+  }
+}
@@ -5,6 +5,7 @@
 
 package org.opensearch.sql.opensearch.planner.physical;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
@@ -32,6 +33,7 @@ import org.opensearch.geospatial.action.IpEnrichmentAction;
 import org.opensearch.geospatial.action.IpEnrichmentRequest;
 import org.opensearch.geospatial.action.IpEnrichmentResponse;
 import org.opensearch.sql.data.model.ExprLongValue;
+import org.opensearch.sql.data.model.ExprStringValue;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.type.ExprCoreType;
@@ -134,4 +136,47 @@ public class OpenSearchEvalOperatorTest {
         evalOperator.next().keyValue("ipEnrichmentResult").tupleValue();
     assertSame("Canada", ipEnrichmentResult.get("country_name").stringValue());
   }
+
+  /**
+   * The test-case aim to assert OpenSearchEvalOperator behaviour when evaluating
+   * geoipFunctionExpression with options, which select the geo location fields of every row.
+   */
+  @SneakyThrows
+  @Test
+  public void testEvalOperatorOnGeoIpExpressionWithOptions() {
+
+    // The input dataset
+    when(input.next()).thenReturn(DATE_ROW);
+    when(nodeClient.execute(eq(IpEnrichmentAction.INSTANCE), argThat(request -> true)))
+        .thenReturn(actionFuture);
+    when(actionFuture.get())
+        .thenReturn(
+            new IpEnrichmentResponse(
+                Map.of("country_name", "Canada", "city_name", "Toronto", "location", "1,2")));
+
+    // Expression to be evaluated
+    List<Pair<ReferenceExpression, Expression>> ipAddress =
+        List.of(
+            ImmutablePair.of(
+                new ReferenceExpression("ipEnrichmentResult", OpenSearchTextType.of()),
+                new OpenSearchFunctions.OpenSearchExecutableFunction(
+                    BuiltinFunctionName.GEOIP.getName(),
+                    List.of(
+                        DSL.literal("my-options-datasource"),
+                        new ReferenceExpression("ipInStr", OpenSearchTextType.of()),
+                        DSL.literal("city_name, location")),
+                    BOOLEAN)));
+
+    OpenSearchEvalOperator evalOperator = new OpenSearchEvalOperator(input, ipAddress, nodeClient);
+
+    // The options parsed with the operator apply to every row.
+    for (int row = 0; row < 2; row++) {
+      Map<String, ExprValue> ipEnrichmentResult =
+          evalOperator.next().keyValue("ipEnrichmentResult").tupleValue();
+      assertEquals(
+          Map.of(
+              "city_name", new ExprStringValue("Toronto"), "location", new ExprStringValue("1,2")),
+          ipEnrichmentResult);
+    }
+  }
 }
@@ -575,6 +575,33 @@ class AggregateAnalyzerTest {
         .verify();
   }
 
+  @Test
+  void analyze_aggCall_minMaxOnExpression() throws ExpressionNotAnalyzableException {
+    buildAggregation("min_expr", "max_expr")
+        .withAggCall(
+            b ->
+                b.min(
+                    "min_expr", b.call(SqlStdOperatorTable.PLUS, b.field("a"), b.literal(1))))
+        .withAggCall(
+            b ->
+                b.max(
+                    "max_expr", b.call(SqlStdOperatorTable.PLUS, b.field("a"), b.literal(1))))
+        .expectDslTemplate(
+            "[{\"min_expr\":{\"min\":{\"script\":{\"source\":\"{\\\"langType\\\":\\\"calcite\\\",\\\"script\\\":\\\"*\\\"}\","
+                + "\"lang\":\"opensearch_compounded_script\",\"params\":{\"utcTimestamp\":0}}}}},"
+                + " {\"max_expr\":{\"max\":{\"script\":{\"source\":\"{\\\"langType\\\":\\\"calcite\\\",\\\"script\\\":\\\"*\\\"}\","
+                + "\"lang\":\"opensearch_compounded_script\",\"params\":{\"utcTimestamp\":0}}}}}]")
+        .verify();
+  }
+
+  @Test
+  void analyze_aggCall_nonDeterministicExpression() {
+    AggregationTestBuilder builder =
+        buildAggregation("sum_rand")
+            .withAggCall(b -> b.sum(false, "sum_rand", b.call(SqlStdOperatorTable.RAND)));
+    assertThrows(ExpressionNotAnalyzableException.class, builder::verify);
+  }
+
   private Aggregate createMockAggregate(List<AggregateCall> calls, ImmutableBitSet groups) {
     Aggregate agg = mock(Aggregate.class);
     when(agg.getGroupSet()).thenReturn(groups);
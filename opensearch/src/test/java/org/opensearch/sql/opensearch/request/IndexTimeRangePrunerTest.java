@@ -0,0 +1,180 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.request;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.opensearch.index.query.QueryBuilders.boolQuery;
+import static org.opensearch.index.query.QueryBuilders.rangeQuery;
+import static org.opensearch.index.query.QueryBuilders.termQuery;
+import static org.opensearch.sql.opensearch.request.IndexTimeRangePruner.TIMESTAMP_FIELD;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Range;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+
+@ExtendWith(MockitoExtension.class)
+class IndexTimeRangePrunerTest {
+
+  private static final long JAN_1 = 1704067200000L;
+
+  private static final long JAN_2 = 1704153600000L;
+
+  private static final long DAY = 86400000L;
+
+  @Mock private OpenSearchClient client;
+
+  @BeforeEach
+  void setUp() {
+    IndexTimeRangePruner.invalidateAll();
+  }
+
+  @Test
+  void prune_write_blocked_indices_out_of_time_range() {
+    when(client.getWriteBlockedIndexVersions("logs-*"))
+        .thenReturn(ImmutableMap.of("logs-1", "uuid1:1", "logs-2", "uuid2:1"));
+    when(client.getIndexShardCounts("logs-*"))
+        .thenReturn(Map.of("logs-1", 1, "logs-2", 1, "logs-3", 1));
+    when(client.getIndexTimeRanges(TIMESTAMP_FIELD, "logs-1", "logs-2"))
+        .thenReturn(
+            Map.of(
+                "logs-1", new IndexTimeRange(JAN_1, JAN_1 + DAY - 1),
+                "logs-2", new IndexTimeRange(JAN_2, JAN_2 + DAY - 1)));
+    QueryBuilder query =
+        boolQuery()
+            .filter(termQuery("level", "error"))
+            .filter(rangeQuery(TIMESTAMP_FIELD).gt("2024-01-02T12:00:00.000Z"));
+
+    assertEquals("logs-2,logs-3", prune("logs-*", query));
+    // Time ranges of write blocked indices are fetched once
+    assertEquals("logs-2,logs-3", prune("logs-*", query));
+    verify(client, times(1)).getIndexTimeRanges(TIMESTAMP_FIELD, "logs-1", "logs-2");
+  }
+
+  @Test
+  void keep_single_index_if_all_indices_are_pruned() {
+    when(client.getWriteBlockedIndexVersions("logs-*"))
+        .thenReturn(ImmutableMap.of("logs-1", "uuid1:1", "logs-2", "uuid2:1"));
+    when(client.getIndexShardCounts("logs-*")).thenReturn(Map.of("logs-1", 1, "logs-2", 1));
+    when(client.getIndexTimeRanges(TIMESTAMP_FIELD, "logs-1", "logs-2"))
+        .thenReturn(Map.of("logs-1", new IndexTimeRange(JAN_1, JAN_1 + DAY - 1)));
+
+    assertEquals("logs-1", prune("logs-*", rangeQuery(TIMESTAMP_FIELD).lt(JAN_1 - DAY)));
+  }
+
+  @Test
+  void fetch_time_ranges_per_user() {
+    when(client.getWriteBlockedIndexVersions("logs-*")).thenReturn(Map.of("logs-1", "uuid1:1"));
+    when(client.getIndexShardCounts("logs-*")).thenReturn(Map.of("logs-1", 1, "logs-2", 1));
+    when(client.getCurrentUser()).thenReturn("alice", "bob");
+    // Documents of logs-1 are hidden from alice by document level security
+    when(client.getIndexTimeRanges(TIMESTAMP_FIELD, "logs-1"))
+        .thenReturn(Map.of(), Map.of("logs-1", new IndexTimeRange(JAN_2, JAN_2 + DAY - 1)));
+    QueryBuilder query = rangeQuery(TIMESTAMP_FIELD).gte(JAN_2);
+
+    assertEquals("logs-2", prune("logs-*", query));
+    assertEquals("logs-*", prune("logs-*", query));
+    verify(client, times(2)).getIndexTimeRanges(TIMESTAMP_FIELD, "logs-1");
+  }
+
+  @Test
+  void keep_index_pattern_if_time_ranges_are_incomplete() {
+    when(client.getWriteBlockedIndexVersions("logs-*")).thenReturn(Map.of("logs-1", "uuid1:1"));
+    when(client.getIndexShardCounts("logs-*")).thenReturn(Map.of("logs-1", 1, "logs-2", 1));
+    when(client.getIndexTimeRanges(TIMESTAMP_FIELD, "logs-1"))
+        .thenThrow(new IllegalStateException("Incomplete time ranges"))
+        .thenReturn(Map.of());
+    QueryBuilder query = rangeQuery(TIMESTAMP_FIELD).gte(JAN_2);
+
+    assertEquals("logs-*", prune("logs-*", query));
+    // Nothing is cached from the failed search
+    assertEquals("logs-2", prune("logs-*", query));
+  }
+
+  @Test
+  void fail_to_parse_response_of_failed_shards() {
+    SearchResponse response = mock(SearchResponse.class);
+    when(response.getTotalShards()).thenReturn(2);
+    when(response.getFailedShards()).thenReturn(1);
+
+    assertThrows(IllegalStateException.class, () -> IndexTimeRange.parse(response));
+  }
+
+  @Test
+  void search_time_ranges_without_partial_results() {
+    assertFalse(
+        IndexTimeRange.searchRequest(TIMESTAMP_FIELD, "logs-1").allowPartialSearchResults());
+  }
+
+  @Test
+  void keep_index_pattern_without_time_range() {
+    assertEquals("logs-*", prune("logs-*", termQuery("level", "error")));
+    assertEquals("logs-*", prune("logs-*", rangeQuery(TIMESTAMP_FIELD).gt("now-1h")));
+    verifyNoInteractions(client);
+  }
+
+  @Test
+  void keep_index_names_without_wildcard() {
+    assertEquals("logs-1", prune("logs-1", rangeQuery(TIMESTAMP_FIELD).gt(JAN_2)));
+    assertEquals("remote:logs-*", prune("remote:logs-*", rangeQuery(TIMESTAMP_FIELD).gt(JAN_2)));
+    verifyNoInteractions(client);
+  }
+
+  @Test
+  void keep_index_pattern_resolved_from_alias() {
+    when(client.getWriteBlockedIndexVersions("logs-*")).thenReturn(Map.of("logs-1", "uuid1:1"));
+    when(client.getIndexShardCounts("logs-*")).thenReturn(Map.of("logs-1", 1, "archive", 1));
+
+    assertEquals("logs-*", prune("logs-*", rangeQuery(TIMESTAMP_FIELD).gt(JAN_2)));
+  }
+
+  @Test
+  void time_range_of_conjunction() {
+    assertEquals(
+        Range.closed(JAN_1, JAN_2),
+        IndexTimeRangePruner.timeRange(
+            boolQuery()
+                .must(rangeQuery(TIMESTAMP_FIELD).gte("2024-01-01T00:00:00.000Z"))
+                .must(rangeQuery(TIMESTAMP_FIELD).lte(JAN_2))
+                .should(rangeQuery(TIMESTAMP_FIELD).gt(JAN_2 + DAY))));
+    assertTrue(
+        IndexTimeRangePruner.timeRange(
+                boolQuery()
+                    .filter(rangeQuery(TIMESTAMP_FIELD).gt(JAN_2))
+                    .filter(rangeQuery(TIMESTAMP_FIELD).lt(JAN_1)))
+            .isEmpty());
+    assertEquals(
+        Range.all(),
+        IndexTimeRangePruner.timeRange(rangeQuery(TIMESTAMP_FIELD).gt("2024").timeZone("+01:00")));
+  }
+
+  @Test
+  void empty_time_range_never_overlaps() {
+    assertFalse(IndexTimeRange.EMPTY.overlaps(Range.all()));
+    assertTrue(new IndexTimeRange(JAN_1, JAN_2).overlaps(Range.atLeast(JAN_2)));
+  }
+
+  private String prune(String indexName, QueryBuilder query) {
+    OpenSearchRequest.IndexName pruned =
+        IndexTimeRangePruner.prune(new OpenSearchRequest.IndexName(indexName), query, client);
+    return pruned.toString();
+  }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.request;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.NotSerializableException;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.apache.lucene.search.TotalHits;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.action.search.MultiSearchRequest;
+import org.opensearch.action.search.MultiSearchResponse;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchScrollRequest;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.slice.SliceBuilder;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+
+@ExtendWith(MockitoExtension.class)
+public class OpenSearchParallelQueryRequestTest {
+
+  @Mock private Function<SearchRequest, SearchResponse> searchAction;
+
+  @Mock private Function<SearchScrollRequest, SearchResponse> scrollAction;
+
+  @Mock private Function<MultiSearchRequest, MultiSearchResponse> multiSearchAction;
+
+  @Mock private Consumer<String> cleanAction;
+
+  @Mock private SearchResponse searchResponse;
+
+  @Mock private SearchResponse emptyResponse;
+
+  @Mock private OpenSearchExprValueFactory factory;
+
+  private OpenSearchParallelQueryRequest request;
+
+  @BeforeEach
+  void setup() {
+    request =
+        new OpenSearchParallelQueryRequest(
+            List.of(partition(0), partition(1)), factory, List.of(), "samplePITId");
+  }
+
+  private OpenSearchQueryRequest partition(int id) {
+    return new OpenSearchQueryRequest(
+        new OpenSearchRequest.IndexName("test"),
+        new SearchSourceBuilder().size(5).slice(new SliceBuilder(id, 2)),
+        factory,
+        List.of(),
+        TimeValue.timeValueMinutes(1),
+        "samplePITId");
+  }
+
+  private static SearchHits hits(int count) {
+    SearchHit[] hits = new SearchHit[count];
+    for (int i = 0; i < count; i++) {
+      hits[i] = new SearchHit(i);
+      hits[i].sortValues(new Object[] {i}, new DocValueFormat[] {DocValueFormat.RAW});
+    }
+    return new SearchHits(hits, new TotalHits(count, TotalHits.Relation.EQUAL_TO), 1.0F);
+  }
+
+  private static MultiSearchResponse multiSearchResponse(SearchResponse... responses) {
+    MultiSearchResponse.Item[] items = new MultiSearchResponse.Item[responses.length];
+    for (int i = 0; i < responses.length; i++) {
+      items[i] = new MultiSearchResponse.Item(responses[i], null);
+    }
+    return new MultiSearchResponse(items, 1L);
+  }
+
+  private OpenSearchResponse concat(SearchHits hits, int times) {
+    SearchHit[] all = new SearchHit[hits.getHits().length * times];
+    for (int i = 0; i < times; i++) {
+      System.arraycopy(hits.getHits(), 0, all, i * hits.getHits().length, hits.getHits().length);
+    }
+    return new OpenSearchResponse(
+        new SearchHits(all, new TotalHits(all.length, TotalHits.Relation.EQUAL_TO), Float.NaN),
+        factory,
+        List.of());
+  }
+
+  @Test
+  void search_all_partitions_in_one_multi_search() {
+    SearchHits hits = hits(2);
+    when(searchResponse.getHits()).thenReturn(hits);
+    when(multiSearchAction.apply(any()))
+        .thenReturn(multiSearchResponse(searchResponse, searchResponse));
+
+    OpenSearchResponse response = request.search(searchAction, scrollAction, multiSearchAction);
+
+    ArgumentCaptor<MultiSearchRequest> captor = ArgumentCaptor.forClass(MultiSearchRequest.class);
+    verify(multiSearchAction).apply(captor.capture());
+    List<SearchRequest> requests = captor.getValue().requests();
+    assertEquals(2, requests.size());
+    assertEquals(0, requests.get(0).source().slice().getId());
+    assertEquals(1, requests.get(1).source().slice().getId());
+    assertEquals("samplePITId", requests.get(0).source().pointInTimeBuilder().getId());
+    assertEquals(concat(hits, 2), response);
+    assertTrue(request.hasAnotherBatch());
+  }
+
+  @Test
+  void search_skips_finished_partitions() {
+    when(searchResponse.getHits()).thenReturn(hits(2));
+    when(emptyResponse.getHits()).thenReturn(SearchHits.empty());
+    when(multiSearchAction.apply(any()))
+        .thenReturn(multiSearchResponse(searchResponse, emptyResponse))
+        .thenReturn(multiSearchResponse(emptyResponse));
+
+    request.search(searchAction, scrollAction, multiSearchAction);
+    OpenSearchResponse response = request.search(searchAction, scrollAction, multiSearchAction);
+
+    ArgumentCaptor<MultiSearchRequest> captor = ArgumentCaptor.forClass(MultiSearchRequest.class);
+    verify(multiSearchAction, times(2)).apply(captor.capture());
+    assertEquals(1, captor.getAllValues().get(1).requests().size());
+    assertTrue(response.isEmpty());
+    assertFalse(request.hasAnotherBatch());
+  }
+
+  @Test
+  void search_without_multi_search_fetches_partitions_sequentially() {
+    SearchHits hits = hits(2);
+    when(searchResponse.getHits()).thenReturn(hits);
+    when(searchAction.apply(any())).thenReturn(searchResponse);
+
+    OpenSearchResponse response = request.search(searchAction, scrollAction);
+
+    verify(searchAction, times(2)).apply(any());
+    assertEquals(concat(hits, 2), response);
+  }
+
+  @Test
+  void search_failure_is_rethrown() {
+    when(multiSearchAction.apply(any()))
+        .thenReturn(
+            new MultiSearchResponse(
+                new MultiSearchResponse.Item[] {
+                  new MultiSearchResponse.Item(null, new RuntimeException("boom")),
+                  new MultiSearchResponse.Item(null, new RuntimeException("boom"))
+                },
+                1L));
+
+    IllegalStateException e =
+        assertThrows(
+            IllegalStateException.class,
+            () -> request.search(searchAction, scrollAction, multiSearchAction));
+    assertEquals("boom", e.getCause().getMessage());
+  }
+
+  @Test
+  void clean_deletes_shared_pit_once() {
+    request.clean(cleanAction);
+    request.clean(cleanAction);
+
+    verify(cleanAction, times(1)).accept("samplePITId");
+    assertFalse(request.hasAnotherBatch());
+  }
+
+  @Test
+  void writeTo_fails_as_not_serializable() {
+    assertThrows(NotSerializableException.class, () -> request.writeTo(null));
+  }
+}
@@ -11,6 +11,7 @@ import static org.opensearch.sql.opensearch.request.OpenSearchRequest.DEFAULT_QU
 
 import java.io.IOException;
 import java.lang.reflect.Field;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -264,6 +265,35 @@ public class OpenSearchQueryRequestTest {
     assertFalse(openSearchResponse.isEmpty());
   }
 
+  @Test
+  void prefetch_next_page_with_pit() {
+    OpenSearchQueryRequest request = pitRequest("prefetchPid");
+
+    when(searchAction.apply(any())).thenReturn(searchResponse);
+    when(searchResponse.getHits()).thenReturn(searchHits);
+    when(searchHits.getHits()).thenReturn(new SearchHit[] {searchHit});
+    when(searchHit.getSortValues()).thenReturn(new String[] {"sortedValue"});
+    request.searchWithPIT(searchAction);
+
+    Consumer<SearchRequest> prefetchAction = mock();
+    request.prefetch(prefetchAction);
+    verify(prefetchAction)
+        .accept(
+            argThat(
+                req ->
+                    "prefetchPid".equals(req.source().pointInTimeBuilder().getId())
+                        && Arrays.equals(
+                            new Object[] {"sortedValue"}, req.source().searchAfter())));
+  }
+
+  @Test
+  void prefetch_without_another_batch() {
+    Consumer<SearchRequest> prefetchAction = mock();
+    pitRequest("prefetchPid").prefetch(prefetchAction);
+    request.prefetch(prefetchAction);
+    verifyNoInteractions(prefetchAction);
+  }
+
   @Test
   void has_another_batch() {
     OpenSearchQueryRequest request =
@@ -462,6 +492,16 @@ public class OpenSearchQueryRequestTest {
     assertNotNull(request);
   }
 
+  private OpenSearchQueryRequest pitRequest(String pitId) {
+    return new OpenSearchQueryRequest(
+        new OpenSearchRequest.IndexName("test"),
+        new SearchSourceBuilder(),
+        factory,
+        List.of(),
+        new TimeValue(1000),
+        pitId);
+  }
+
   private void assertSearchRequest(SearchRequest expected, OpenSearchQueryRequest request) {
     Function<SearchRequest, SearchResponse> querySearch =
         searchRequest -> {
@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.stream.Stream;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.search.join.ScoreMode;
@@ -42,6 +43,7 @@ import org.opensearch.search.builder.PointInTimeBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.search.fetch.subphase.highlight.HighlightBuilder;
+import org.opensearch.search.slice.SliceBuilder;
 import org.opensearch.search.sort.FieldSortBuilder;
 import org.opensearch.search.sort.ScoreSortBuilder;
 import org.opensearch.search.sort.SortBuilders;
@@ -161,6 +163,101 @@ class OpenSearchRequestBuilderTest {
         requestBuilder.build(indexName, DEFAULT_QUERY_TIMEOUT, client));
   }
 
+  @Test
+  void buildRequestWithPit_pageSizeNull_sizeGreaterThanMaxResultWindow_sliced() {
+    when(client.createPit(any(CreatePitRequest.class))).thenReturn("samplePITId");
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_SLICES)).thenReturn(2);
+    requestBuilder.pushDownLimit(600, 0);
+
+    Function<Integer, OpenSearchQueryRequest> partition =
+        id ->
+            new OpenSearchQueryRequest(
+                new OpenSearchRequest.IndexName("test"),
+                new SearchSourceBuilder()
+                    .from(0)
+                    .size(MAX_RESULT_WINDOW / 2)
+                    .timeout(DEFAULT_QUERY_TIMEOUT)
+                    .slice(new SliceBuilder(id, 2)),
+                exprValueFactory,
+                List.of(),
+                TimeValue.timeValueMinutes(1),
+                "samplePITId");
+    assertEquals(
+        new OpenSearchParallelQueryRequest(
+            List.of(partition.apply(0), partition.apply(1)),
+            exprValueFactory,
+            List.of(),
+            "samplePITId"),
+        requestBuilder.build(indexName, DEFAULT_QUERY_TIMEOUT, client));
+  }
+
+  @Test
+  void buildRequestWithPit_pageSizeNull_sizeGreaterThanMaxResultWindow_shardRouted() {
+    when(client.createPit(any(CreatePitRequest.class))).thenReturn("samplePITId");
+    when(client.getIndexShardCounts("test")).thenReturn(Map.of("test-1", 1, "test-2", 2));
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_SHARD_ROUTING)).thenReturn(true);
+    requestBuilder.pushDownLimit(600, 0);
+
+    // One slice per shard of all the indices, sliced within the PIT rather than routed
+    Function<Integer, OpenSearchQueryRequest> partition =
+        id ->
+            new OpenSearchQueryRequest(
+                new OpenSearchRequest.IndexName("test"),
+                new SearchSourceBuilder()
+                    .from(0)
+                    .size((MAX_RESULT_WINDOW + 2) / 3)
+                    .timeout(DEFAULT_QUERY_TIMEOUT)
+                    .slice(new SliceBuilder(id, 3)),
+                exprValueFactory,
+                List.of(),
+                TimeValue.timeValueMinutes(1),
+                "samplePITId");
+    assertEquals(
+        new OpenSearchParallelQueryRequest(
+            List.of(partition.apply(0), partition.apply(1), partition.apply(2)),
+            exprValueFactory,
+            List.of(),
+            "samplePITId"),
+        requestBuilder.build(indexName, DEFAULT_QUERY_TIMEOUT, client));
+  }
+
+  @Test
+  void buildRequestWithPit_sliced_notApplied_whenSortedByField() {
+    when(client.createPit(any(CreatePitRequest.class))).thenReturn("samplePITId");
+    lenient().when(settings.getSettingValue(Settings.Key.QUERY_SCAN_SLICES)).thenReturn(2);
+    requestBuilder.pushDownSort(List.of(SortBuilders.fieldSort("intA")));
+    requestBuilder.pushDownLimit(600, 0);
+
+    assertTrue(
+        requestBuilder.build(indexName, DEFAULT_QUERY_TIMEOUT, client)
+            instanceof OpenSearchQueryRequest);
+  }
+
+  @Test
+  void buildRequestWithPit_sliced_notApplied_whenSortedByDocThenField() {
+    when(client.createPit(any(CreatePitRequest.class))).thenReturn("samplePITId");
+    lenient().when(settings.getSettingValue(Settings.Key.QUERY_SCAN_SLICES)).thenReturn(2);
+    requestBuilder.pushDownSort(
+        List.of(SortBuilders.fieldSort(DOC_FIELD_NAME), SortBuilders.fieldSort("intA")));
+    requestBuilder.pushDownLimit(600, 0);
+
+    assertTrue(
+        requestBuilder.build(indexName, DEFAULT_QUERY_TIMEOUT, client)
+            instanceof OpenSearchQueryRequest);
+  }
+
+  @Test
+  void buildRequestWithPit_sliced_notApplied_whenCollapsed() {
+    when(client.createPit(any(CreatePitRequest.class))).thenReturn("samplePITId");
+    lenient().when(settings.getSettingValue(Settings.Key.QUERY_SCAN_SLICES)).thenReturn(2);
+    requestBuilder.pushDownCollapse("intA", 1);
+    requestBuilder.pushDownLimit(600, 0);
+
+    assertTrue(
+        requestBuilder.build(indexName, DEFAULT_QUERY_TIMEOUT, client)
+            instanceof OpenSearchQueryRequest);
+  }
+
   @Test
   void buildRequestWithPit_pageSizeNull_sizeLessThanMaxResultWindow() {
     Integer limit = 400;
@@ -292,6 +389,24 @@ class OpenSearchRequestBuilderTest {
         requestBuilder);
   }
 
+  @Test
+  void test_push_down_collapse() {
+    requestBuilder.pushDownCollapse("intA", 1);
+
+    assertNull(requestBuilder.getSourceBuilder().collapse().getInnerHits());
+  }
+
+  @Test
+  void test_push_down_collapse_with_inner_hits() {
+    requestBuilder.pushDownCollapse("intA", 3);
+    requestBuilder.pushDownProjectStream(Stream.of("intA", "strA"));
+
+    InnerHitBuilder innerHit = requestBuilder.getSourceBuilder().collapse().getInnerHits().get(0);
+    assertEquals(OpenSearchRequestBuilder.COLLAPSE_INNER_HITS_NAME, innerHit.getName());
+    assertEquals(3, innerHit.getSize());
+    assertArrayEquals(new String[] {"intA", "strA"}, innerHit.getFetchSourceContext().includes());
+  }
+
   @Test
   void test_push_down_query_not_null() {
     SearchSourceBuilder sourceBuilder = requestBuilder.getSourceBuilder();
@@ -0,0 +1,75 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.request;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.search.builder.PointInTimeBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+
+class PrefetchedPagesTest {
+
+  private final SearchResponse page = mock(SearchResponse.class);
+
+  @BeforeEach
+  void setUp() {
+    PrefetchedPages.invalidateAll();
+  }
+
+  @Test
+  void take_page_prefetched_by_the_same_user_once() {
+    PrefetchedPages.listener("alice", pitSearch("pit", 10L)).onResponse(page);
+
+    assertNull(PrefetchedPages.take("bob", pitSearch("pit", 10L)));
+    assertNull(PrefetchedPages.take("alice", pitSearch("pit", 20L)));
+    // Sort values deserialized from a cursor may have another numeric type
+    assertSame(page, PrefetchedPages.take("alice", pitSearch("pit", 10)));
+    assertNull(PrefetchedPages.take("alice", pitSearch("pit", 10L)));
+  }
+
+  @Test
+  void keep_no_page_of_failed_prefetch() {
+    PrefetchedPages.listener("alice", pitSearch("pit", 10L)).onFailure(new RuntimeException());
+
+    assertNull(PrefetchedPages.take("alice", pitSearch("pit", 10L)));
+  }
+
+  @Test
+  void take_nothing_without_pit() {
+    assertNull(PrefetchedPages.take("alice", new SearchRequest("test")));
+  }
+
+  @Test
+  void discard_pages_when_pit_is_deleted() {
+    PrefetchedPages.listener("alice", pitSearch("pit", 10L)).onResponse(page);
+
+    new OpenSearchQueryRequest(
+            new OpenSearchRequest.IndexName("test"),
+            new SearchSourceBuilder(),
+            null,
+            List.of(),
+            new TimeValue(1000),
+            "pit")
+        .clean(pitId -> {});
+    assertNull(PrefetchedPages.take("alice", pitSearch("pit", 10L)));
+  }
+
+  private static SearchRequest pitSearch(String pitId, Object searchAfter) {
+    return new SearchRequest()
+        .source(
+            new SearchSourceBuilder()
+                .pointInTimeBuilder(new PointInTimeBuilder(pitId))
+                .searchAfter(new Object[] {searchAfter}));
+  }
+}
@@ -8,6 +8,8 @@ package org.opensearch.sql.opensearch.request.system;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
 import static org.opensearch.sql.lang.PPLLangSpec.PPL_SPEC;
@@ -139,6 +141,25 @@ class OpenSearchDescribeIndexRequestTest {
             Map.of("type", "object", "properties", Map.of("attr", Map.of("type", "integer")))));
   }
 
+  @Test
+  void testMergeDistinctMappingsOnceForIndexPattern() {
+    OpenSearchDescribeIndexRequest.invalidateMergedSchemas();
+    when(mapping.getFieldMappings()).thenReturn(prepareMap1());
+    when(mapping2.getFieldMappings()).thenReturn(prepareMap2());
+    when(client.getIndexMappings("logs-*"))
+        .thenReturn(ImmutableMap.of("logs-1", mapping, "logs-2", mapping, "logs-3", mapping2));
+
+    Map<String, OpenSearchDataType> result =
+        new OpenSearchDescribeIndexRequest(client, "logs-*").getFieldTypes();
+    Map<String, OpenSearchDataType> memoized =
+        new OpenSearchDescribeIndexRequest(client, "logs-*").getFieldTypes();
+
+    assertEquals(prepareMapResult().get("name"), result.get("name"));
+    assertEquals(result, memoized);
+    verify(mapping, times(1)).getFieldMappings();
+    verify(mapping2, times(1)).getFieldMappings();
+  }
+
   private Map<String, OpenSearchDataType> prepareMap1() {
     Map<String, OpenSearchDataType> map = new HashMap<>();
     Map<String, Object> innerMap = new LinkedHashMap<>();
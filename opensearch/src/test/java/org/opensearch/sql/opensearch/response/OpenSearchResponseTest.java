@@ -18,6 +18,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -45,6 +46,7 @@ import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
 import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
 
 @ExtendWith(MockitoExtension.class)
@@ -268,6 +270,34 @@ class OpenSearchResponseTest {
     }
   }
 
+  @Test
+  void iterator_with_collapsed_inner_hits() {
+    SearchHit innerHit1 = mock(SearchHit.class);
+    SearchHit innerHit2 = mock(SearchHit.class);
+    when(innerHit1.getSourceAsString()).thenReturn("{\"id1\": 1}");
+    when(innerHit2.getSourceAsString()).thenReturn("{\"id2\": 2}");
+    when(searchHit1.getInnerHits())
+        .thenReturn(
+            Map.of(
+                OpenSearchRequestBuilder.COLLAPSE_INNER_HITS_NAME,
+                new SearchHits(
+                    new SearchHit[] {innerHit1, innerHit2},
+                    new TotalHits(2L, TotalHits.Relation.EQUAL_TO),
+                    1.0F)));
+    when(searchResponse.getHits())
+        .thenReturn(
+            new SearchHits(
+                new SearchHit[] {searchHit1},
+                new TotalHits(1L, TotalHits.Relation.EQUAL_TO),
+                1.0F));
+    when(factory.construct("{\"id1\": 1}", false)).thenReturn(exprTupleValue1);
+    when(factory.construct("{\"id2\": 2}", false)).thenReturn(exprTupleValue2);
+
+    List<ExprValue> hits = new ArrayList<>();
+    new OpenSearchResponse(searchResponse, factory, includes).forEach(hits::add);
+    assertEquals(List.of(exprTupleValue1, exprTupleValue2), hits);
+  }
+
   @Test
   void response_is_aggregation_when_aggregation_not_empty() {
     when(searchResponse.getAggregations()).thenReturn(aggregations);
@@ -11,6 +11,7 @@ import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
@@ -111,6 +112,39 @@ class OpenSearchIndexTest {
     verify(client).createIndex(any(), any());
   }
 
+  @Test
+  void asStreamingSourceBySeqNoOfSingleShardIndex() {
+    when(mapping.getFieldMappings())
+        .thenReturn(Map.of("name", OpenSearchDataType.of(MappingType.Keyword)));
+    when(client.getIndexMappings("test")).thenReturn(ImmutableMap.of("test", mapping));
+    when(client.getIndexShardCounts("test")).thenReturn(Map.of("test", 1));
+
+    assertEquals(
+        "OpenSearchIndexStreamingSource(indexName=test, trackingField=_seq_no)",
+        index.asStreamingSource().toString());
+  }
+
+  @Test
+  void asStreamingSourceRejectsSeqNoOfMultipleIndices() {
+    index = new OpenSearchIndex(client, settings, "test-*");
+    when(mapping.getFieldMappings())
+        .thenReturn(Map.of("name", OpenSearchDataType.of(MappingType.Keyword)));
+    when(client.getIndexMappings("test-*")).thenReturn(ImmutableMap.of("test-1", mapping));
+    when(client.getIndexShardCounts("test-*")).thenReturn(Map.of("test-1", 1, "test-2", 1));
+
+    assertThrows(UnsupportedOperationException.class, () -> index.asStreamingSource());
+  }
+
+  @Test
+  void asStreamingSourceRejectsRestClient() {
+    when(client.getNodeClient())
+        .thenThrow(new UnsupportedOperationException("Unsupported method."));
+
+    UnsupportedOperationException e =
+        assertThrows(UnsupportedOperationException.class, () -> index.asStreamingSource());
+    assertEquals("index test could only be tailed by the node client", e.getMessage());
+  }
+
   @Test
   void getFieldTypes() {
     when(mapping.getFieldMappings())
@@ -60,6 +60,7 @@ import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
 import org.opensearch.sql.opensearch.storage.OpenSearchIndex;
 import org.opensearch.sql.opensearch.storage.OpenSearchStorageEngine;
+import org.opensearch.sql.opensearch.storage.streaming.OpenSearchIndexSplit;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
@@ -92,6 +93,16 @@ class OpenSearchIndexScanTest {
     }
   }
 
+  @Test
+  void add_streaming_split_filters_request() {
+    var request = mock(OpenSearchRequest.class);
+    var split = new OpenSearchIndexSplit("test", "@timestamp", 100L, 200L);
+    try (var indexScan = new OpenSearchIndexScan(client, request)) {
+      indexScan.add(split);
+    }
+    verify(request).addFilter(split.toQuery());
+  }
+
   @Test
   @SneakyThrows
   void throws_no_cursor_exception() {
@@ -136,6 +147,7 @@ class OpenSearchIndexScanTest {
     try (var indexScan = new OpenSearchIndexScan(client, request)) {
       var planSerializer = new PlanSerializer(engine);
       var cursor = planSerializer.convertToCursor(indexScan);
+      verify(client, never()).prefetch(any());
       var newPlan = planSerializer.convertToPlan(cursor.toString());
       assertNotNull(newPlan);
     }
@@ -157,6 +169,15 @@ class OpenSearchIndexScanTest {
     }
   }
 
+  @Test
+  void prefetch_next_batch_of_request() {
+    var request = mock(OpenSearchRequest.class);
+    try (var indexScan = new OpenSearchIndexScan(client, request)) {
+      indexScan.prefetch();
+    }
+    verify(client).prefetch(request);
+  }
+
   @Test
   void plan_for_serialization() {
     var request = mock(OpenSearchRequest.class);
@@ -0,0 +1,178 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.script;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.calcite.jdbc.JavaTypeFactoryImpl;
+import org.apache.calcite.linq4j.tree.BlockBuilder;
+import org.apache.calcite.linq4j.tree.Expressions;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.index.fielddata.ScriptDocValues;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
+import org.opensearch.sql.opensearch.storage.script.CalciteScriptEngine.ScriptDataContext;
+import org.opensearch.sql.opensearch.storage.script.CalciteScriptEngine.ScriptInputGetter;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CalciteScriptEngineTest {
+
+  private final JavaTypeFactoryImpl typeFactory = new JavaTypeFactoryImpl();
+
+  @Test
+  void input_getter_assigns_a_slot_per_doc_value_field() {
+    RelDataType rowType =
+        typeFactory
+            .builder()
+            .add("age", SqlTypeName.INTEGER)
+            .add("name", SqlTypeName.VARCHAR)
+            .add("title", SqlTypeName.VARCHAR)
+            .add("body", SqlTypeName.VARCHAR)
+            .build();
+    Map<String, ExprType> fieldTypes =
+        Map.of(
+            "age",
+            INTEGER,
+            "name",
+            STRING,
+            "title",
+            OpenSearchTextType.of(
+                Map.of("raw", OpenSearchDataType.of(OpenSearchDataType.MappingType.Keyword))),
+            "body",
+            OpenSearchTextType.of());
+    ScriptInputGetter getter = new ScriptInputGetter(typeFactory, rowType, fieldTypes);
+
+    assertTrue(field(getter, 1).contains("getFromDocValue(0)"));
+    assertTrue(field(getter, 0).contains("getFromDocValue(1)"));
+    assertTrue(field(getter, 2).contains("getFromDocValue(2)"));
+    assertTrue(field(getter, 1).contains("getFromDocValue(0)"));
+    assertTrue(field(getter, 3).contains("getFromSource(\"body\")"));
+    assertEquals(List.of("name", "age", "title.raw"), getter.getDocValueFields());
+  }
+
+  @Test
+  void data_context_reads_doc_values_by_slot() {
+    LeafDocs docs = new LeafDocs();
+    docs.put("age", new FakeDocValues(Map.of(0, List.of(30L), 1, List.of(40L))));
+    docs.put("name", new FakeDocValues(Map.of(0, List.of(1L), 1, List.of(2L))));
+    ScriptDataContext dataContext =
+        new ScriptDataContext(docs, null, Map.of(), List.of("name", "age"));
+
+    setDocument(docs, dataContext, 0);
+    assertEquals(30L, dataContext.getFromDocValue(1));
+    assertEquals(1L, dataContext.getFromDocValue(0));
+    setDocument(docs, dataContext, 1);
+    assertEquals(40L, dataContext.getFromDocValue(1));
+    assertEquals(2L, dataContext.getFromDocValue(0));
+  }
+
+  @Test
+  void data_context_resolves_doc_values_once_and_advances_them_once_per_document() {
+    LeafDocs docs = new LeafDocs();
+    FakeDocValues age =
+        new FakeDocValues(Map.of(0, List.of(30L), 1, List.of(40L), 3, List.of(50L)));
+    docs.put("age", age);
+    ScriptDataContext dataContext = new ScriptDataContext(docs, null, Map.of(), List.of("age"));
+
+    for (int docId : new int[] {0, 1, 3}) {
+      setDocument(docs, dataContext, docId);
+      dataContext.getFromDocValue(0);
+      dataContext.getFromDocValue(0);
+    }
+    assertEquals(1, docs.lookups);
+    assertEquals(List.of(0, 1, 3), age.positions);
+    assertEquals(50L, dataContext.getFromDocValue(0));
+  }
+
+  @Test
+  void data_context_returns_null_for_document_without_doc_values() {
+    LeafDocs docs = new LeafDocs();
+    docs.put("age", new FakeDocValues(Map.of(1, List.of(40L))));
+    ScriptDataContext dataContext = new ScriptDataContext(docs, null, Map.of(), List.of("age"));
+
+    setDocument(docs, dataContext, 0);
+    assertNull(dataContext.getFromDocValue(0));
+    setDocument(docs, dataContext, 1);
+    assertEquals(40L, dataContext.getFromDocValue(0));
+    setDocument(docs, dataContext, 2);
+    assertNull(dataContext.getFromDocValue(0));
+  }
+
+  @Test
+  void data_context_returns_first_value_of_multi_valued_field() {
+    LeafDocs docs = new LeafDocs();
+    docs.put("tags", new FakeDocValues(Map.of(0, List.of(3L, 1L, 2L), 1, List.of(7L, 5L))));
+    ScriptDataContext dataContext = new ScriptDataContext(docs, null, Map.of(), List.of("tags"));
+
+    setDocument(docs, dataContext, 0);
+    assertEquals(3L, dataContext.getFromDocValue(0));
+    setDocument(docs, dataContext, 1);
+    assertEquals(7L, dataContext.getFromDocValue(0));
+  }
+
+  private static String field(ScriptInputGetter getter, int index) {
+    return Expressions.toString(getter.field(new BlockBuilder(), index, null));
+  }
+
+  private static void setDocument(LeafDocs docs, ScriptDataContext dataContext, int docId) {
+    docs.docId = docId;
+    dataContext.setDocument(docId);
+  }
+
+  /** Doc lookup of a leaf, which positions the doc values on the current document when got. */
+  private static class LeafDocs extends HashMap<String, ScriptDocValues<?>> {
+    private int docId;
+    private int lookups = 0;
+
+    @Override
+    public ScriptDocValues<?> get(Object field) {
+      lookups++;
+      FakeDocValues docValues = (FakeDocValues) super.get(field);
+      docValues.setNextDocId(docId);
+      return docValues;
+    }
+  }
+
+  /** Doc values of a field, with the values of each document. */
+  private static class FakeDocValues extends ScriptDocValues<Long> {
+    private final Map<Integer, List<Long>> values;
+    private final List<Integer> positions = new ArrayList<>();
+    private List<Long> current = List.of();
+
+    FakeDocValues(Map<Integer, List<Long>> values) {
+      this.values = values;
+    }
+
+    @Override
+    public void setNextDocId(int docId) {
+      positions.add(docId);
+      current = values.getOrDefault(docId, List.of());
+    }
+
+    @Override
+    public Long get(int index) {
+      return current.get(index);
+    }
+
+    @Override
+    public int size() {
+      return current.size();
+    }
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.script.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.apache.calcite.DataContext;
+import org.apache.calcite.linq4j.function.Function1;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.index.fielddata.ScriptDocValues;
+import org.opensearch.sql.opensearch.storage.script.CalciteScriptEngine.ScriptDataContext;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ExtendWith(MockitoExtension.class)
+class CalciteScriptTest {
+
+  @Mock private Map<String, ScriptDocValues<?>> firstLeafDocs;
+
+  @Mock private Map<String, ScriptDocValues<?>> secondLeafDocs;
+
+  @Mock private ScriptDocValues<Long> firstLeafAge;
+
+  @Mock private ScriptDocValues<Long> secondLeafAge;
+
+  /** Data contexts the function is evaluated on, in the order of evaluation. */
+  private final List<DataContext> dataContexts = new ArrayList<>();
+
+  private final Function1<DataContext, Object[]> function =
+      dataContext -> {
+        dataContexts.add(dataContext);
+        return new Object[] {((ScriptDataContext) dataContext).getFromDocValue(0)};
+      };
+
+  @Test
+  void reuse_data_context_for_documents_of_a_leaf_only() throws IOException {
+    doReturn(firstLeafAge).when(firstLeafDocs).get("age");
+    doReturn(secondLeafAge).when(secondLeafDocs).get("age");
+    when(firstLeafAge.get(0)).thenReturn(10L, 11L, 12L);
+    when(secondLeafAge.get(0)).thenReturn(20L, 21L);
+
+    CalciteScript firstLeaf = newScript(firstLeafDocs);
+    assertEquals(10L, evaluate(firstLeaf, 0));
+    assertEquals(11L, evaluate(firstLeaf, 1));
+    assertEquals(12L, evaluate(firstLeaf, 4));
+    CalciteScript secondLeaf = newScript(secondLeafDocs);
+    assertEquals(20L, evaluate(secondLeaf, 0));
+    assertEquals(21L, evaluate(secondLeaf, 2));
+
+    assertSame(dataContexts.get(0), dataContexts.get(1));
+    assertSame(dataContexts.get(0), dataContexts.get(2));
+    assertSame(dataContexts.get(3), dataContexts.get(4));
+    assertNotSame(dataContexts.get(0), dataContexts.get(3));
+
+    verify(firstLeafDocs, times(1)).get("age");
+    verify(firstLeafAge).setNextDocId(1);
+    verify(firstLeafAge).setNextDocId(4);
+    verify(firstLeafAge, never()).setNextDocId(0);
+    verify(firstLeafAge, never()).setNextDocId(2);
+    verify(secondLeafDocs, times(1)).get("age");
+    verify(secondLeafAge).setNextDocId(2);
+    verify(secondLeafAge, never()).setNextDocId(0);
+  }
+
+  private CalciteScript newScript(Map<String, ScriptDocValues<?>> docProvider) {
+    return new CalciteScript(function, Map.of(), docProvider, null, List.of("age"));
+  }
+
+  private static Object evaluate(CalciteScript script, int docId) {
+    script.setDocument(docId);
+    return script.execute()[0];
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.streaming;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Answers.RETURNS_DEEP_STUBS;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.aggregations.metrics.Max;
+import org.opensearch.sql.executor.streaming.Offset;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+import org.opensearch.transport.client.node.NodeClient;
+
+@ExtendWith(MockitoExtension.class)
+class OpenSearchIndexStreamingSourceTest {
+
+  @Mock private OpenSearchClient client;
+
+  @Mock(answer = RETURNS_DEEP_STUBS)
+  private NodeClient nodeClient;
+
+  private OpenSearchIndexStreamingSource source;
+
+  @BeforeEach
+  void setUp() {
+    source =
+        new OpenSearchIndexStreamingSource(
+            client, new OpenSearchRequest.IndexName("logs"), "@timestamp");
+  }
+
+  @Test
+  void latestOffsetIsMaxOfTrackingField() {
+    mockMax(1_700_000_000_000.0);
+    assertEquals(Optional.of(new Offset(1_700_000_000_000L)), source.getLatestOffset());
+  }
+
+  @Test
+  void noOffsetForEmptyIndex() {
+    mockMax(Double.NEGATIVE_INFINITY);
+    assertEquals(Optional.empty(), source.getLatestOffset());
+  }
+
+  @Test
+  void batchCoversDocumentsAfterStartUntilEnd() {
+    OpenSearchIndexSplit split =
+        (OpenSearchIndexSplit)
+            source.getBatch(Optional.of(new Offset(100L)), new Offset(200L)).getSplit();
+    assertEquals(
+        QueryBuilders.rangeQuery("@timestamp").gt(100L).lte(200L).format("epoch_millis"),
+        split.toQuery());
+  }
+
+  @Test
+  void firstBatchCoversDocumentsUntilEnd() {
+    OpenSearchIndexSplit split =
+        new OpenSearchIndexSplit("logs", OpenSearchIndexStreamingSource.SEQ_NO_FIELD, null, 7L);
+    assertEquals(QueryBuilders.rangeQuery("_seq_no").lte(7L), split.toQuery());
+  }
+
+  private void mockMax(double value) {
+    Max max = mock(Max.class);
+    when(max.getValue()).thenReturn(value);
+    when(client.getNodeClient()).thenReturn(nodeClient);
+    when(nodeClient.search(any()).actionGet().getAggregations().get("max_offset")).thenReturn(max);
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.streaming;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Answers.RETURNS_DEEP_STUBS;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.opensearch.storage.streaming.OpenSearchMetadataLog.METADATA_INDEX;
+
+import java.util.List;
+import java.util.Optional;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.lucene.search.TotalHits;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.support.WriteRequest;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.index.engine.VersionConflictEngineException;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.sql.executor.streaming.Offset;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.transport.client.node.NodeClient;
+
+@ExtendWith(MockitoExtension.class)
+class OpenSearchMetadataLogTest {
+
+  @Mock private OpenSearchClient client;
+
+  @Mock(answer = RETURNS_DEEP_STUBS)
+  private NodeClient nodeClient;
+
+  @BeforeEach
+  void setUp() {
+    when(client.getNodeClient()).thenReturn(nodeClient);
+  }
+
+  @Test
+  void createIndexAndStartEmpty() {
+    when(client.exists(METADATA_INDEX)).thenReturn(false);
+    mockRecoveredHits();
+
+    OpenSearchMetadataLog log = new OpenSearchMetadataLog(client, "query", "offsets");
+
+    verify(client).createIndex(eq(METADATA_INDEX), anyMap());
+    assertTrue(log.getLatest().isEmpty());
+  }
+
+  @Test
+  void recoverLatestEntriesOfTheQuery() {
+    when(client.exists(METADATA_INDEX)).thenReturn(true);
+    mockRecoveredHits(hit(1L, 20L), hit(0L, 10L));
+
+    OpenSearchMetadataLog log = new OpenSearchMetadataLog(client, "query", "offsets");
+
+    verify(client, never()).createIndex(any(), any());
+    assertEquals(Optional.of(Pair.of(1L, new Offset(20L))), log.getLatest());
+    assertEquals(Optional.of(new Offset(10L)), log.get(0L));
+    assertEquals(
+        List.of(new Offset(10L), new Offset(20L)), log.get(Optional.empty(), Optional.empty()));
+  }
+
+  @Test
+  void addPersistsEntryOnce() {
+    when(client.exists(METADATA_INDEX)).thenReturn(true);
+    mockRecoveredHits();
+    OpenSearchMetadataLog log = new OpenSearchMetadataLog(client, "query", "offsets");
+
+    assertTrue(log.add(0L, new Offset(10L)));
+    assertFalse(log.add(0L, new Offset(11L)));
+
+    ArgumentCaptor<IndexRequest> request = ArgumentCaptor.forClass(IndexRequest.class);
+    verify(nodeClient).index(request.capture());
+    assertEquals("query_offsets_0", request.getValue().id());
+    assertEquals(DocWriteRequest.OpType.CREATE, request.getValue().opType());
+    assertEquals(WriteRequest.RefreshPolicy.IMMEDIATE, request.getValue().getRefreshPolicy());
+    assertEquals(Optional.of(Pair.of(0L, new Offset(10L))), log.getLatest());
+  }
+
+  @Test
+  void addIgnoresEntryPersistedBefore() {
+    when(client.exists(METADATA_INDEX)).thenReturn(true);
+    mockRecoveredHits();
+    when(nodeClient.index(any()).actionGet())
+        .thenThrow(
+            new VersionConflictEngineException(
+                new ShardId(METADATA_INDEX, "uuid", 0), "query_offsets_0", "exists"));
+    OpenSearchMetadataLog log = new OpenSearchMetadataLog(client, "query", "offsets");
+
+    assertFalse(log.add(0L, new Offset(10L)));
+  }
+
+  @Test
+  void purgeDeletesEntriesBeforeBatch() {
+    when(client.exists(METADATA_INDEX)).thenReturn(true);
+    mockRecoveredHits(hit(2L, 30L), hit(1L, 20L), hit(0L, 10L));
+    OpenSearchMetadataLog log = new OpenSearchMetadataLog(client, "query", "offsets");
+
+    log.purge(2L);
+
+    ArgumentCaptor<BulkRequest> request = ArgumentCaptor.forClass(BulkRequest.class);
+    verify(nodeClient).bulk(request.capture());
+    assertEquals(2, request.getValue().numberOfActions());
+    assertEquals(List.of(new Offset(30L)), log.get(Optional.empty(), Optional.empty()));
+  }
+
+  private void mockRecoveredHits(SearchHit... hits) {
+    when(nodeClient.search(any()).actionGet().getHits())
+        .thenReturn(
+            new SearchHits(hits, new TotalHits(hits.length, TotalHits.Relation.EQUAL_TO), 1.0F));
+  }
+
+  private static SearchHit hit(long batchId, long offset) {
+    SearchHit hit = new SearchHit((int) batchId);
+    hit.sourceRef(
+        new BytesArray(
+            String.format(
+                "{\"queryId\":\"query\",\"logName\":\"offsets\",\"batchId\":%d,\"offset\":%d}",
+                batchId, offset)));
+    return hit;
+  }
+}
@@ -82,6 +82,7 @@ import org.opensearch.sql.opensearch.client.OpenSearchNodeClient;
 import org.opensearch.sql.opensearch.setting.OpenSearchSettings;
 import org.opensearch.sql.opensearch.storage.OpenSearchDataSourceFactory;
 import org.opensearch.sql.opensearch.storage.script.CompoundedScriptEngine;
+import org.opensearch.sql.opensearch.storage.streaming.OpenSearchMetadataLog;
 import org.opensearch.sql.plugin.config.OpenSearchPluginModule;
 import org.opensearch.sql.plugin.rest.RestPPLQueryAction;
 import org.opensearch.sql.plugin.rest.RestPPLStatsAction;
@@ -341,6 +342,9 @@ public class SQLPlugin extends Plugin
     systemIndexDescriptors.add(
         new SystemIndexDescriptor(
             SPARK_REQUEST_BUFFER_INDEX_NAME + "*", "SQL Spark Request Buffer index pattern"));
+    systemIndexDescriptors.add(
+        new SystemIndexDescriptor(
+            OpenSearchMetadataLog.METADATA_INDEX, "SQL streaming query metadata index"));
     return systemIndexDescriptors;
   }
 }
@@ -7,6 +7,8 @@ package org.opensearch.sql.ppl.calcite;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.fail;
 
@@ -14,6 +16,7 @@ import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.test.CalciteAssert;
 import org.junit.Ignore;
 import org.junit.Test;
+import org.opensearch.sql.calcite.CalcitePlanContext;
 
 public class CalcitePPLBasicTest extends CalcitePPLAbstractTest {
 
@@ -32,6 +35,17 @@ public class CalcitePPLBasicTest extends CalcitePPLAbstractTest {
     }
   }
 
+  @Test
+  public void testPlanContextIsReachableFromItsPlan() {
+    CalcitePlanContext context = createBuilderContext();
+    RelNode root = context.relBuilder.scan("scott", "products_temporal").build();
+    CalcitePlanContext another = createBuilderContext();
+
+    assertSame(context, CalcitePlanContext.unwrap(root.getCluster()).orElseThrow());
+    assertNotSame(
+        context, CalcitePlanContext.unwrap(another.relBuilder.getCluster()).orElseThrow());
+  }
+
   @Test
   public void testScanTable() {
     String ppl = "source=products_temporal";
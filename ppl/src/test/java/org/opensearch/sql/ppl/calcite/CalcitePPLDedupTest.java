@@ -184,4 +184,43 @@ public class CalcitePPLDedupTest extends CalcitePPLAbstractTest {
             + "WHERE `DEPTNO` IS NULL OR `JOB` IS NULL OR `_row_number_dedup_` <= 2";
     verifyPPLToSparkSQL(root, expectedSparkSql);
   }
+
+  @Test
+  public void testDedupConsecutive() {
+    String ppl = "source=EMP | dedup 1 DEPTNO consecutive=true | fields EMPNO, DEPTNO";
+    RelNode root = getRelNode(ppl);
+    String expectedLogical =
+        "LogicalProject(EMPNO=[$0], DEPTNO=[$7])\n"
+            + "  LogicalConsecutiveDedup(keys=[[7]], allowedDuplication=[1], keepEmpty=[false])\n"
+            + "    LogicalFilter(condition=[IS NOT NULL($7)])\n"
+            + "      LogicalTableScan(table=[[scott, EMP]])\n";
+    verifyLogical(root, expectedLogical);
+    String expectedResult =
+        "EMPNO=7369; DEPTNO=20\n"
+            + "EMPNO=7499; DEPTNO=30\n"
+            + "EMPNO=7566; DEPTNO=20\n"
+            + "EMPNO=7654; DEPTNO=30\n"
+            + "EMPNO=7782; DEPTNO=10\n"
+            + "EMPNO=7788; DEPTNO=20\n"
+            + "EMPNO=7839; DEPTNO=10\n"
+            + "EMPNO=7844; DEPTNO=30\n"
+            + "EMPNO=7876; DEPTNO=20\n"
+            + "EMPNO=7900; DEPTNO=30\n"
+            + "EMPNO=7902; DEPTNO=20\n"
+            + "EMPNO=7934; DEPTNO=10\n";
+    verifyResult(root, expectedResult);
+  }
+
+  @Test
+  public void testDedupConsecutiveKeepEmpty() {
+    String ppl =
+        "source=EMP | dedup 2 DEPTNO, COMM keepempty=true consecutive=true | fields EMPNO, COMM";
+    RelNode root = getRelNode(ppl);
+    String expectedLogical =
+        "LogicalProject(EMPNO=[$0], COMM=[$6])\n"
+            + "  LogicalConsecutiveDedup(keys=[[7, 6]], allowedDuplication=[2], keepEmpty=[true])\n"
+            + "    LogicalTableScan(table=[[scott, EMP]])\n";
+    verifyLogical(root, expectedLogical);
+    verifyResultCount(root, 14);
+  }
 }